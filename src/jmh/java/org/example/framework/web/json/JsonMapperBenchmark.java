@@ -0,0 +1,70 @@
+package org.example.framework.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반환값 직렬화 방식별 비용을 비교한다.
+ *
+ * <ul>
+ *     <li>{@code toStringBytes} - 기존 방식: {@link Map#toString()} 후 UTF-8 인코딩 (JSON이 아님, 기준선)</li>
+ *     <li>{@code jackson} - Jackson {@link ObjectMapper#writeValueAsBytes}</li>
+ *     <li>{@code jsonMapper} - {@link JsonMapper}: 캐시된 직렬화기와 UTF-8 직접 기록</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMapperBenchmark {
+
+    public record Item(long id, String name, double price, boolean available, List<String> tags) {}
+
+    public record Page(int page, int total, List<Item> items) {}
+
+    private Page page;
+    private Map<String, Object> map;
+    private ObjectMapper jackson;
+    private JsonMapper jsonMapper;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = new ArrayList<>();
+        for(int i = 0; i < 20; i++)
+            items.add(new Item(i, "상품-" + i, i * 1.25, i % 2 == 0, List.of("new", "sale")));
+        page = new Page(1, 20, items);
+
+        map = new LinkedHashMap<>();
+        map.put("page", 1);
+        map.put("total", 20);
+        map.put("items", items);
+
+        jackson = new ObjectMapper();
+        jsonMapper = JsonMapper.getInstance();
+    }
+
+    @Benchmark
+    public byte[] toStringBytes() {
+        return map.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws Exception {
+        return jackson.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public int jsonMapper() {
+        JsonWriter out = new JsonWriter();
+        jsonMapper.write(out, page);
+        return out.size();
+    }
+}
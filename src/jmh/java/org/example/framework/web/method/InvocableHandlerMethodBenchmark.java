@@ -0,0 +1,83 @@
+package org.example.framework.web.method;
+
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.method.support.HttpRequestMethodArgumentResolver;
+import org.example.framework.web.method.support.HttpResponseMethodArgumentResolver;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드 호출 방식별 비용을 비교한다.
+ *
+ * <ul>
+ *     <li>{@code direct} - 컨트롤러 메서드 직접 호출 (기준선)</li>
+ *     <li>{@code reflective} - 기존 방식: 요청마다 파라미터 타입 비교, {@code setAccessible}, {@link Method#invoke}</li>
+ *     <li>{@code invocable} - {@link InvocableHandlerMethod}: 미리 결정된 resolver 배열과 {@code MethodHandle}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocableHandlerMethodBenchmark {
+
+    public static class BenchmarkController {
+        public String handle(HttpRequest request, HttpResponse response) {
+            return request.getPath();
+        }
+    }
+
+    private BenchmarkController controller;
+    private Method method;
+    private InvocableHandlerMethod invocable;
+    private HttpRequest request;
+    private HttpResponse response;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        controller = new BenchmarkController();
+        method = BenchmarkController.class.getMethod("handle", HttpRequest.class, HttpResponse.class);
+        invocable = new InvocableHandlerMethod(
+                new HandlerMethod(controller, method),
+                List.of(new HttpRequestMethodArgumentResolver(), new HttpResponseMethodArgumentResolver()),
+                List.of(new StringReturnValueHandler())
+        );
+        request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/bench");
+        response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return controller.handle(request, response);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        Object[] args = new Object[paramTypes.length];
+
+        for(int i = 0; i < paramTypes.length; i++) {
+            Class<?> type = paramTypes[i];
+            if(type.equals(HttpRequest.class))
+                args[i] = request;
+            else if(type.equals(HttpResponse.class))
+                args[i] = response;
+        }
+
+        method.setAccessible(true);
+        return method.invoke(controller, args);
+    }
+
+    @Benchmark
+    public Object invocable() throws Exception {
+        return invocable.invokeForRequest(request, response);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.app.chat;
+
+import org.example.framework.annotation.OnClose;
+import org.example.framework.annotation.OnMessage;
+import org.example.framework.annotation.OnOpen;
+import org.example.framework.annotation.WebSocketEndpoint;
+import org.example.framework.web.websocket.PreparedFrame;
+import org.example.framework.web.websocket.WebSocketSession;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@WebSocketEndpoint("/ws/chat")
+public class ChatEndpoint {
+
+    private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+
+    @OnOpen
+    public void onOpen(WebSocketSession session) {
+        sessions.add(session);
+    }
+
+    @OnMessage
+    public void onMessage(WebSocketSession session, String message) {
+        // 메시지는 한 번만 인코딩하고 모든 세션이 같은 프레임을 공유한다.
+        PreparedFrame frame = PreparedFrame.text(message);
+        for(WebSocketSession s : sessions)
+            s.sendAsync(frame);
+    }
+
+    @OnClose
+    public void onClose(WebSocketSession session) {
+        sessions.remove(session);
+    }
+}
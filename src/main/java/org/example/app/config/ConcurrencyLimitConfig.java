@@ -0,0 +1,15 @@
+package org.example.app.config;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.limit.ConcurrencyLimitInterceptor;
+import org.example.framework.web.limit.Gradient2Limit;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor() {
+        return ConcurrencyLimitInterceptor.perRoute(Gradient2Limit::new);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.app.config;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.schedule.PriorityRequestScheduler;
+import org.example.framework.web.schedule.PrioritySchedulingInterceptor;
+
+@Configuration
+public class RequestSchedulingConfig {
+
+    @Bean
+    public PrioritySchedulingInterceptor prioritySchedulingInterceptor() {
+        // 기본 워커 10개 중 2개는 새 요청을 읽어 등급을 매기는 데 남겨 둔다.
+        // 클라이언트가 보낸 헤더는 믿지 않고 라우트의 @RequestPriority로만 등급을 정한다.
+        return new PrioritySchedulingInterceptor(new PriorityRequestScheduler(8, 2000));
+    }
+}
@@ -1,21 +1,48 @@
 package org.example.app.config;
 
 import org.example.framework.annotation.Component;
+import org.example.framework.web.bulkhead.BulkheadRegistry;
 import org.example.framework.web.config.WebMvcConfigurer;
 import org.example.framework.web.interceptor.InterceptorRegistry;
+import org.example.framework.web.limit.ConcurrencyLimitInterceptor;
+import org.example.framework.web.resource.ResourceHandlerRegistry;
+import org.example.framework.web.schedule.PrioritySchedulingInterceptor;
 import org.example.app.interceptor.LoggingInterceptor;
 
 @Component
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final PrioritySchedulingInterceptor prioritySchedulingInterceptor;
 
-    public WebConfig(LoggingInterceptor loggingInterceptor) {
+    public WebConfig(LoggingInterceptor loggingInterceptor,
+                     ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                     PrioritySchedulingInterceptor prioritySchedulingInterceptor) {
         this.loggingInterceptor = loggingInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.prioritySchedulingInterceptor = prioritySchedulingInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(prioritySchedulingInterceptor);
         registry.addInterceptor(loggingInterceptor);
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/health/**");
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/static/**")
+                .addResourceLocations("classpath:static/")
+                .setCachePeriod(3600);
+    }
+
+    @Override
+    public void configureBulkheads(BulkheadRegistry registry) {
+        registry.addBulkhead("slow")
+                .threads(4)
+                .queueCapacity(16);
     }
 }
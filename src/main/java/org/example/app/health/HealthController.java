@@ -1,9 +1,12 @@
 package org.example.app.health;
 
+import org.example.framework.annotation.Bulkhead;
 import org.example.framework.annotation.Controller;
 import org.example.framework.annotation.Lazy;
 import org.example.framework.annotation.RequestMapping;
+import org.example.framework.annotation.RequestPriority;
 import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.web.schedule.PriorityClass;
 
 @Controller
 @Lazy
@@ -15,6 +18,7 @@ public class HealthController {
         this.service = service;
     }
 
+    @RequestPriority(PriorityClass.CRITICAL)
     @RequestMapping(value = "/health", method = HttpMethod.GET)
     public String healthCheck() throws InterruptedException {
         Thread.sleep(50);
@@ -31,6 +35,8 @@ public class HealthController {
         return service.benchPress();
     }
 
+    @Bulkhead("slow")
+    @RequestPriority(PriorityClass.LOW)
     @RequestMapping(value = "/health/slowPushUp", method = HttpMethod.GET)
     public String slowPushUp() {
         return service.slowPushUp();
@@ -3,8 +3,11 @@ package org.example.app.holiday;
 import org.example.framework.annotation.Autowired;
 import org.example.framework.annotation.Controller;
 import org.example.framework.annotation.RequestMapping;
+import org.example.framework.annotation.ResponseCache;
 import org.example.framework.was.protocol.model.HttpMethod;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 public class HolidayController {
 
@@ -16,7 +19,9 @@ public class HolidayController {
     }
 
     @RequestMapping(value = "/holiday", method = HttpMethod.GET)
-    public String getHoliday() {
-        return service.getHoliday();
+    @ResponseCache(ttlMs = 60_000)
+    public CompletableFuture<String> getHoliday() {
+        // 외부 API 응답을 기다리는 동안 워커 스레드를 점유하지 않는다.
+        return service.getHolidayAsync();
     }
 }
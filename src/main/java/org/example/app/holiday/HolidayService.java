@@ -1,5 +1,9 @@
 package org.example.app.holiday;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface HolidayService {
     String getHoliday();
+
+    CompletableFuture<String> getHolidayAsync();
 }
\ No newline at end of file
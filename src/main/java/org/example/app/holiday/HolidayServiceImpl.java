@@ -7,6 +7,7 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @LazyProxy
@@ -19,13 +20,8 @@ public class HolidayServiceImpl implements HolidayService {
     @Override
     public String getHoliday() {
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(URL))
-                    .GET()
-                    .build();
-
             HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    httpClient.send(newRequest(), HttpResponse.BodyHandlers.ofString());
 
             return response.body();
 
@@ -33,4 +29,17 @@ public class HolidayServiceImpl implements HolidayService {
             throw new RuntimeException("Failed to call holiday API", e);
         }
     }
+
+    @Override
+    public CompletableFuture<String> getHolidayAsync() {
+        return httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(HttpResponse::body);
+    }
+
+    private HttpRequest newRequest() {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(URL))
+                .GET()
+                .build();
+    }
 }
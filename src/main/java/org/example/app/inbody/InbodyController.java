@@ -5,15 +5,26 @@ import org.example.framework.annotation.RequestMapping;
 import org.example.framework.aop.profile.MethodProfile;
 import org.example.framework.aop.profile.ProfileRepository;
 import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.web.sse.SseBroadcaster;
+import org.example.framework.web.sse.SseEmitter;
+import org.example.framework.web.sse.SseEvent;
 
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Controller
 public class InbodyController {
 
+    private static final long PUBLISH_INTERVAL_MS = 1_000;
+
+    private final SseBroadcaster broadcaster = new SseBroadcaster();
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
     @RequestMapping(value = "/inbody", method = HttpMethod.GET)
     public Map<String, Object> getInbody() {
         Map<Method, MethodProfile> snapshot = ProfileRepository.snapshot();
@@ -35,4 +46,30 @@ public class InbodyController {
 
         return results;
     }
+
+    /**
+     * 폴링 대신 연결을 유지한 채 1초마다 프로파일 스냅샷을 전송한다.
+     * 스냅샷은 구독자 수와 관계없이 한 번만 만들고 인코딩한다.
+     */
+    @RequestMapping(value = "/inbody/stream", method = HttpMethod.GET)
+    public SseEmitter streamInbody() {
+        SseEmitter emitter = broadcaster.add(new SseEmitter(0));
+        startPublisher();
+        return emitter;
+    }
+
+    private void startPublisher() {
+        if(!publishing.compareAndSet(false, true))
+            return;
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "inbody-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            if(broadcaster.size() > 0)
+                broadcaster.broadcast(SseEvent.builder().name("inbody").data(getInbody()).build());
+        }, 0, PUBLISH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
 }
@@ -0,0 +1,31 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러 메서드를 이름 붙은 전용 실행기(bulkhead)에서 실행하도록 지정한다.
+ *
+ * <p>
+ * 느린 라우트가 연결 처리 워커를 모두 차지해 빠른 라우트까지 막히는 것을 막는다.
+ * 실행기의 스레드 수와 대기열 크기는
+ * {@link org.example.framework.web.config.WebMvcConfigurer#configureBulkheads(org.example.framework.web.bulkhead.BulkheadRegistry)}에서
+ * 같은 이름으로 등록해야 하며, 등록되지 않은 이름이면 초기화 단계에서 실패한다.
+ * 대기열까지 가득 차면 {@code 503}으로 응답한다.
+ * </p>
+ *
+ * <p>
+ * 컨트롤러 클래스에 선언하면 모든 핸들러 메서드에 적용되며, 메서드의 선언이 우선한다.
+ * </p>
+ *
+ * @see org.example.framework.web.bulkhead.BulkheadExecutor
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * 실행기 이름
+     */
+    String value();
+}
@@ -0,0 +1,14 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * WebSocket 연결이 닫힐 때 호출될 {@link WebSocketEndpoint} 메서드를 지정한다.
+ *
+ * <p>지원 파라미터: {@code WebSocketSession}, {@code int}(상태 코드), {@code String}(이유)</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OnClose {
+}
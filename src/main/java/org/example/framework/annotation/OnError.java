@@ -0,0 +1,14 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * WebSocket 처리 중 오류(프로토콜 위반, 메시지 처리 예외)가 발생했을 때 호출될 {@link WebSocketEndpoint} 메서드를 지정한다.
+ *
+ * <p>지원 파라미터: {@code WebSocketSession}, {@code Throwable}</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OnError {
+}
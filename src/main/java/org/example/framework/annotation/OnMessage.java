@@ -0,0 +1,18 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * WebSocket 메시지를 처리할 {@link WebSocketEndpoint} 메서드를 지정한다.
+ *
+ * <p>
+ * 지원 파라미터: {@code WebSocketSession}, {@code String}(텍스트 메시지) 또는 {@code byte[]}(바이너리 메시지).
+ * 텍스트용과 바이너리용을 하나씩 선언할 수 있다.
+ * 반환값이 {@code String}이나 {@code byte[]}면 같은 세션으로 응답 메시지를 보낸다.
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OnMessage {
+}
@@ -0,0 +1,14 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * WebSocket 연결이 열린 직후 호출될 {@link WebSocketEndpoint} 메서드를 지정한다.
+ *
+ * <p>지원 파라미터: {@code WebSocketSession}</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OnOpen {
+}
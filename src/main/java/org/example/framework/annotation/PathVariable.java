@@ -0,0 +1,19 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 파라미터를 {@link RequestMapping} 경로의 {@code {name}} 변수에 바인딩한다.
+ *
+ * <p>지원 타입: {@link String}, {@code int}, {@code long}, {@code boolean} 및 각 래퍼 타입</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PathVariable {
+
+    /**
+     * 경로 변수 이름, 비어 있으면 메서드 파라미터 이름을 사용한다.
+     */
+    String value() default "";
+}
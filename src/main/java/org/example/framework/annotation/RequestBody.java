@@ -0,0 +1,19 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 파라미터를 JSON 요청 본문에 바인딩한다.
+ *
+ * <p>지원 타입: 레코드, POJO(기본 생성자 + setter 또는 필드), 컬렉션, 맵, 배열, 문자열/숫자/불리언 등 JSON 값 타입</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestBody {
+
+    /**
+     * 본문이 반드시 존재해야 하는지 여부, {@code false}이고 본문이 비어 있으면 {@code null}이 바인딩된다.
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,32 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 파라미터를 쿼리 파라미터에 바인딩한다.
+ *
+ * <p>지원 타입: {@link String}, {@code int}, {@code long}, {@code boolean} 및 각 래퍼 타입</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestParam {
+
+    /** {@link #defaultValue()}가 지정되지 않았음을 나타내는 값 */
+    String NO_DEFAULT = "\n\t\t\n\t\t\n\n\t\t\t\t\n";
+
+    /**
+     * 쿼리 파라미터 이름, 비어 있으면 메서드 파라미터 이름을 사용한다.
+     */
+    String value() default "";
+
+    /**
+     * 파라미터가 반드시 존재해야 하는지 여부
+     */
+    boolean required() default true;
+
+    /**
+     * 파라미터가 없을 때 사용할 값, 지정하면 {@link #required()}는 무시된다.
+     */
+    String defaultValue() default NO_DEFAULT;
+}
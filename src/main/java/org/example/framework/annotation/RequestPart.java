@@ -0,0 +1,28 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 파라미터를 {@code multipart/form-data} 요청의 파트에 바인딩한다.
+ *
+ * <p>지원 타입: {@link org.example.framework.web.multipart.MultipartFile},
+ * {@code List<MultipartFile>}, {@link String}(필드 값), {@code byte[]}</p>
+ *
+ * <p>파트를 저장하지 않고 직접 흘려보내려면 {@link org.example.framework.web.multipart.MultipartStream}
+ * 타입 파라미터를 선언한다. 이 경우 같은 메서드에 {@code @RequestPart}를 함께 쓸 수 없다.</p>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestPart {
+
+    /**
+     * 파트 이름, 비어 있으면 메서드 파라미터 이름을 사용한다.
+     */
+    String value() default "";
+
+    /**
+     * 파트가 반드시 존재해야 하는지 여부, {@code false}이고 파트가 없으면 {@code null}(목록은 빈 목록)이 바인딩된다.
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,28 @@
+package org.example.framework.annotation;
+
+import org.example.framework.web.schedule.PriorityClass;
+
+import java.lang.annotation.*;
+
+/**
+ * 핸들러 메서드의 요청 실행 우선순위 등급을 지정한다.
+ *
+ * <p>
+ * 서버가 포화되어 요청이 실행 자리를 기다릴 때,
+ * {@link org.example.framework.web.schedule.PrioritySchedulingInterceptor}가 이 등급으로 실행 순서를 정한다.
+ * 컨트롤러 클래스에 선언하면 모든 핸들러 메서드에 적용되며, 메서드의 선언이 우선한다.
+ * 라우트에 선언된 등급은 요청 헤더로 지정한 등급보다 우선한다.
+ * </p>
+ *
+ * @see org.example.framework.web.schedule.PriorityRequestScheduler
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestPriority {
+
+    /**
+     * 우선순위 등급
+     */
+    PriorityClass value();
+}
@@ -0,0 +1,30 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * {@code GET} 핸들러 메서드의 응답을 서버 측 응답 캐시에 보관하도록 선언한다.
+ *
+ * <p>
+ * 캐시 키는 요청 대상(경로와 쿼리 문자열)과 {@link #varyBy()}에 지정한 요청 헤더 값으로 구성된다.
+ * 캐시가 유효한 동안 같은 키의 요청은 컨트롤러를 호출하지 않고 저장된 응답으로 처리된다.
+ * {@code 200} 응답 중 {@code Set-Cookie}가 없고 {@code Cache-Control}에 {@code no-store}, {@code private}이 없는 것만 저장한다.
+ * </p>
+ *
+ * @see org.example.framework.web.cache.ResponseCacheFilter
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ResponseCache {
+
+    /**
+     * 캐시 유지 시간 (밀리초)
+     */
+    long ttlMs() default 5000;
+
+    /**
+     * 캐시 키에 포함할 요청 헤더. 응답 표현이 달라지는 헤더(압축 협상 등)를 지정한다.
+     */
+    String[] varyBy() default {"Accept-Encoding"};
+}
@@ -0,0 +1,31 @@
+package org.example.framework.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * WebSocket 엔드포인트 Bean을 선언한다.
+ *
+ * <p>
+ * 지정한 경로로 들어온 업그레이드 요청은 이 Bean의 {@link OnOpen}, {@link OnMessage},
+ * {@link OnClose}, {@link OnError} 메서드로 처리된다. Bean 하나가 모든 연결을 처리하므로
+ * 연결별 상태는 {@link org.example.framework.web.websocket.WebSocketSession}에 보관해야 한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/jakartaee/websocket/blob/main/api/server/src/main/java/jakarta/websocket/server/ServerEndpoint.java">Jakarta WebSocket ServerEndpoint</a>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Component
+public @interface WebSocketEndpoint {
+
+    /**
+     * 엔드포인트 경로 (예: /ws/chat)
+     */
+    String value();
+
+    /**
+     * 메시지 하나(분할 프레임을 합친 크기)의 최대 바이트 수, 넘으면 1009로 연결을 닫는다.
+     */
+    int maxMessageSize() default 64 * 1024;
+}
@@ -2,9 +2,20 @@ package org.example.framework.aop.interceptor;
 
 
 import org.example.framework.aop.annotation.Retry;
+import org.example.framework.was.container.RequestContext;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * {@link Retry}가 선언된 메서드를 실패 시 다시 호출한다.
+ *
+ * <p>
+ * 요청 처리 중이면 {@link RequestContext}의 기한과 취소 여부를 확인하여,
+ * 기한이 지났거나 클라이언트가 연결을 끊은 뒤에는 더 시도하지 않고 마지막 예외를 던진다.
+ * 재시도 대기 시간이 남은 기한을 넘기면 기다리지 않고 멈춘다.
+ * </p>
+ */
 public class RetryInterceptor implements MethodInterceptor {
 
     @Override
@@ -25,8 +36,12 @@ public class RetryInterceptor implements MethodInterceptor {
         Class<? extends Throwable>[] retryOn = retry.retryOn();
 
         Throwable last = null;
+        RequestContext context = RequestContext.current();
 
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1 && context != null && !context.isActive())
+                break;
+
             try {
                 return invocation.copy().proceed();
             } catch (Throwable ex) {
@@ -35,6 +50,10 @@ public class RetryInterceptor implements MethodInterceptor {
                 if (!isRetryTarget(ex, retryOn))
                     break;
 
+                if (attempt < maxAttempts && context != null
+                        && context.remainingNanos() <= TimeUnit.MILLISECONDS.toNanos(delayMs))
+                    break;
+
                 if (attempt < maxAttempts && delayMs > 0) {
                     try {
                         Thread.sleep(delayMs);
@@ -40,7 +40,7 @@ public class SeungPringApplication {
 
             // 3. Servlet 구성
             ServletInfrastructure servletInfra =
-                    new ServletInfrastructure(context);
+                    new ServletInfrastructure(context, config);
 
             Servlet servlet = servletInfra.servlet();
 
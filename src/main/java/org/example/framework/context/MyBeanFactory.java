@@ -6,6 +6,8 @@ import org.example.framework.context.beanDefinition.BeanDefinition;
 import org.example.framework.context.beanDefinition.MethodBeanDefinition;
 import org.example.framework.context.capability.LazyProxyCapable;
 import org.example.framework.context.proxy.LazyProxyFactory;
+import org.example.framework.context.proxy.ScopedProxyFactory;
+import org.example.framework.context.scope.RequestScope;
 import org.example.framework.core.*;
 import org.example.framework.core.lifecycle.BeanPostProcessor;
 import org.example.framework.core.lifecycle.DisposableBean;
@@ -84,17 +86,20 @@ public class MyBeanFactory implements ConfigurableBeanFactory, ListableBeanFacto
      */
     @Override
     public void destroySingletons() {
-        for(Object bean : singletonObjects.values()) {
-            // 1. @PreDestroy
-            invokePreDestroy(bean);
-
-            // 2. DisposableBean
-            if(bean instanceof DisposableBean disposableBean)
-                disposableBean.destroy();
-        }
+        for(Object bean : singletonObjects.values())
+            destroyBean(bean);
         singletonObjects.clear();
     }
 
+    private void destroyBean(Object bean) {
+        // 1. @PreDestroy
+        invokePreDestroy(bean);
+
+        // 2. DisposableBean
+        if(bean instanceof DisposableBean disposableBean)
+            disposableBean.destroy();
+    }
+
     private void invokePreDestroy(Object bean) {
         for(Method method : bean.getClass().getDeclaredMethods()) {
             if(!method.isAnnotationPresent(PreDestroy.class))
@@ -189,26 +194,63 @@ public class MyBeanFactory implements ConfigurableBeanFactory, ListableBeanFacto
     /**
      * 지정된 이름의 Bean을 반환한다.
      * <p>싱글톤 캐시에 존재하면 재사용하고, 없으면 새로 생성하여 필요 시 캐시에 등록한다.</p>
+     * <p>요청 스코프 Bean은 현재 스레드에 연결된 {@link RequestScope}에서 조회하거나 생성한다.</p>
      *
      * @param beanName 조회할 Bean의 이름
      * @return Bean 인스턴스
      * @throws NoSuchBeanDefinitionException 정의되지 않은 Bean 이름인 경우
+     * @throws IllegalStateException 요청 스코프 Bean을 요청 밖에서 조회한 경우
      */
     @Override
     public Object getBean(String beanName) {
         BeanDefinition beanDefinition = getBeanDefinitionOrThrow(beanName);
 
+        if (beanDefinition.isRequestScoped())
+            return getRequestScopedBean(beanDefinition);
+
         if (!beanDefinition.isSingleton())
             return createBean(beanDefinition);
 
-        creationStack.push(beanName);
-        try {
-            return singletonObjects.computeIfAbsent(beanName, name -> createBean(beanDefinition));
-        } finally {
-            creationStack.pop();
+        Object singleton = singletonObjects.get(beanName);
+        if(singleton != null)
+            return singleton;
+
+        // 의존 Bean 생성이 중첩되므로 computeIfAbsent 대신 맵 단위 락으로 한 번만 생성한다.
+        // (ConcurrentHashMap은 같은 bin에 대한 중첩 갱신을 허용하지 않는다)
+        synchronized (singletonObjects) {
+            singleton = singletonObjects.get(beanName);
+            if(singleton != null)
+                return singleton;
+
+            creationStack.push(beanName);
+            try {
+                singleton = createBean(beanDefinition);
+                singletonObjects.put(beanName, singleton);
+                return singleton;
+            } finally {
+                creationStack.pop();
+            }
         }
     }
 
+    /**
+     * 현재 요청의 {@link RequestScope}에서 Bean을 조회하고, 없으면 생성하여 요청이 끝날 때 파기되도록 등록한다.
+     */
+    private Object getRequestScopedBean(BeanDefinition beanDefinition) {
+        RequestScope scope = RequestScope.current();
+        if(scope == null)
+            throw new IllegalStateException("No request scope bound to the current thread for request-scoped bean '" + beanDefinition.getBeanName() + "'");
+
+        return scope.get(beanDefinition.getBeanName(), () -> {
+            creationStack.push(beanDefinition.getBeanName());
+            try {
+                return createBean(beanDefinition);
+            } finally {
+                creationStack.pop();
+            }
+        }, this::destroyBean);
+    }
+
     /**
      * 지정된 Bean 이름에 해당하는 타입을 반환한다.<br>
      * 이미 생성된 Bean 인스턴스 또는 {@link BeanDefinition} 메타정보를 기반으로
@@ -549,7 +591,15 @@ public class MyBeanFactory implements ConfigurableBeanFactory, ListableBeanFacto
             throw new IllegalStateException("Failed to resolve dependency by type: " + paramType.getName(), e);
         }
 
-        // 3. LazyProxy 대상인지 판단
+        // 3. 요청 스코프 Bean은 호출마다 현재 요청의 인스턴스를 조회하는 프록시로 주입
+        if (dependency.isRequestScoped()) {
+            if (!paramType.isInterface())
+                throw new IllegalStateException("Request-scoped bean requires interface type for injection. " + "Found: " + paramType.getName());
+
+            return ScopedProxyFactory.createScopedProxy(paramType, dependency.getBeanName(), this);
+        }
+
+        // 4. LazyProxy 대상인지 판단
         if (dependency instanceof LazyProxyCapable lazy && lazy.isLazyProxy()) {
             Class<?> realType = dependency.getResolvableType();
 
@@ -569,7 +619,7 @@ public class MyBeanFactory implements ConfigurableBeanFactory, ListableBeanFacto
             );
         }
 
-        // 4. 일반 빈
+        // 5. 일반 빈
         return getBean(paramType);
     }
 
@@ -1,5 +1,10 @@
 package org.example.framework.context;
 
+import org.example.framework.context.scope.RequestScope;
+
 public enum ScopeType {
-    SINGLETON, PROTOTYPE
+    SINGLETON, PROTOTYPE,
+
+    /** 요청 하나 동안 같은 인스턴스를 쓰고, 요청이 끝나면 파기한다. {@link RequestScope} 참고 */
+    REQUEST
 }
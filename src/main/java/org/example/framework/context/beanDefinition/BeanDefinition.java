@@ -45,6 +45,10 @@ public abstract class BeanDefinition implements OrderCapable {
         return scope.equals(ScopeType.PROTOTYPE);
     }
 
+    public boolean isRequestScoped() {
+        return scope.equals(ScopeType.REQUEST);
+    }
+
     public boolean isLazyInit() { return lazyInit; }
 
     /**
@@ -0,0 +1,49 @@
+package org.example.framework.context.proxy;
+
+import org.example.framework.core.BeanFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 요청 스코프 빈의 프록시 호출 핸들러.
+ *
+ * <p>
+ * 대상을 캐시하지 않고 메서드 호출마다 {@link BeanFactory#getBean(String)}으로
+ * 현재 스레드에 연결된 요청의 인스턴스를 조회하여 위임한다.
+ * 요청 밖에서 호출하면 조회 단계에서 {@link IllegalStateException}이 발생한다.
+ * </p>
+ */
+public class ScopedInvocationHandler implements InvocationHandler {
+
+    private final String beanName;
+    private final BeanFactory beanFactory;
+
+    /**
+     * @param beanName    호출마다 조회할 빈 이름
+     * @param beanFactory 빈 조회를 담당하는 BeanFactory
+     */
+    public ScopedInvocationHandler(String beanName, BeanFactory beanFactory) {
+        this.beanName = beanName;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if(method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "toString" -> "ScopedProxy(" + beanName + ")";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> method.invoke(this, args);
+            };
+        }
+
+        try {
+            return method.invoke(beanFactory.getBean(beanName), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.framework.context.proxy;
+
+import org.example.framework.core.BeanFactory;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * 요청 스코프 빈을 다른 빈에 주입하기 위한 Scoped Proxy 생성을 담당하는 팩토리 클래스.
+ *
+ * <p>
+ * 싱글톤은 요청보다 오래 살기 때문에 요청 스코프 빈을 직접 들고 있을 수 없다.
+ * 대신 메서드 호출마다 현재 요청의 인스턴스를 조회하는 인터페이스 기반 프록시를 주입한다.
+ * </p>
+ */
+public class ScopedProxyFactory {
+
+    /**
+     * Scoped Proxy 객체를 생성한다.
+     *
+     * @param interfaceType 프록시가 구현할 인터페이스 타입
+     * @param beanName      호출마다 조회할 빈 이름
+     * @param beanFactory   빈 조회를 담당하는 BeanFactory
+     * @return Scoped Proxy 객체
+     */
+    public static Object createScopedProxy(Class<?> interfaceType, String beanName, BeanFactory beanFactory) {
+        return Proxy.newProxyInstance(interfaceType.getClassLoader(), new Class<?>[]{interfaceType}, new ScopedInvocationHandler(beanName, beanFactory));
+    }
+}
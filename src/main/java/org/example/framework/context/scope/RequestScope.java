@@ -0,0 +1,201 @@
+package org.example.framework.context.scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 동안 {@link org.example.framework.context.ScopeType#REQUEST} 빈을 보관하는 스코프.
+ *
+ * <p>
+ * 디스패치마다 하나를 만들어 {@link #bind()}로 처리 스레드에 한 번 연결하고, 반환된 {@link Binding}을 닫으면 연결이 풀린다.
+ * 연결은 {@code try-with-resources}로만 열고 닫으므로 처리가 끝난 스레드에 값이 남지 않는다.
+ * 연결 정보는 스레드마다 슬롯 하나뿐이며 요청 상태는 이 객체가 가지므로,
+ * 연결마다 가상 스레드를 쓰더라도 스레드 수만큼 상태가 쌓이지 않는다.
+ * </p>
+ *
+ * <p>
+ * 자식 작업은 스레드 연결을 자동으로 물려받지 않는다.
+ * 다른 스레드에 작업을 넘길 때는 {@link #wrap(Runnable)}이나 {@link #wrap(Callable)}으로 감싸면
+ * 작업이 실행되는 동안 같은 스코프가 연결된다.
+ * </p>
+ *
+ * <p>
+ * {@link #close()}는 만들어진 빈의 파기 작업을 생성 역순으로 실행한다.
+ * 닫힌 스코프에서는 빈을 새로 만들 수 없다.
+ * </p>
+ *
+ * @see <a href="https://docs.spring.io/spring-framework/reference/core/beans/factory-scopes.html#beans-factory-scopes-request">Spring Request scope</a>
+ */
+public final class RequestScope implements AutoCloseable {
+
+    private static final ThreadLocal<RequestScope> CURRENT = new ThreadLocal<>();
+
+    /** 빈 생성 중 다른 요청 스코프 빈을 조회할 수 있으므로 재진입 가능한 잠금을 쓴다. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Object> beans = new HashMap<>();
+    private final List<Runnable> destructionCallbacks = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * @return 현재 스레드에 연결된 스코프, 없으면 {@code null}
+     */
+    public static RequestScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 이 스코프를 연결한다. 반환된 {@link Binding}을 닫으면 이전 상태로 돌아간다.
+     *
+     * <pre>{@code
+     * try(RequestScope.Binding ignored = scope.bind()) {
+     *     doDispatch(request, response);
+     * }
+     * }</pre>
+     */
+    public Binding bind() {
+        Binding binding = new Binding(CURRENT.get());
+        CURRENT.set(this);
+        return binding;
+    }
+
+    /**
+     * 현재 스레드의 스코프를 물려받아 실행하는 작업으로 감싼다. 연결된 스코프가 없으면 그대로 반환한다.
+     */
+    @SuppressWarnings("try")
+    public static Runnable wrap(Runnable task) {
+        RequestScope scope = current();
+        if(scope == null)
+            return task;
+        return () -> {
+            try(Binding ignored = scope.bind()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 스코프를 물려받아 실행하는 작업으로 감싼다. 연결된 스코프가 없으면 그대로 반환한다.
+     */
+    @SuppressWarnings("try")
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestScope scope = current();
+        if(scope == null)
+            return task;
+        return () -> {
+            try(Binding ignored = scope.bind()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 이름에 해당하는 빈을 반환하고, 없으면 만들어 보관한다.
+     *
+     * @param beanName   빈 이름
+     * @param factory    빈을 만드는 작업
+     * @param destructor 스코프가 닫힐 때 빈을 파기하는 작업, 없으면 {@code null}
+     * @throws IllegalStateException 이미 닫힌 스코프인 경우
+     */
+    public Object get(String beanName, Supplier<Object> factory, Consumer<Object> destructor) {
+        lock.lock();
+        try {
+            Object bean = beans.get(beanName);
+            if(bean != null)
+                return bean;
+            if(closed)
+                throw new IllegalStateException("Request scope is already closed; cannot create bean '" + beanName + "'");
+
+            bean = factory.get();
+            beans.put(beanName, bean);
+            if(destructor != null) {
+                Object created = bean;
+                destructionCallbacks.add(() -> destructor.accept(created));
+            }
+            return bean;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이 스코프에서 만든 빈의 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return beans.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스코프를 닫고 빈의 파기 작업을 생성 역순으로 실행한다. 여러 번 호출해도 한 번만 실행된다.
+     *
+     * @throws IllegalStateException 파기 작업이 실패한 경우 (나머지 파기 작업은 모두 실행한 뒤 던진다)
+     */
+    @Override
+    public void close() {
+        List<Runnable> callbacks;
+        lock.lock();
+        try {
+            if(closed)
+                return;
+            closed = true;
+            callbacks = new ArrayList<>(destructionCallbacks);
+            destructionCallbacks.clear();
+            beans.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        RuntimeException failure = null;
+        for(int i = callbacks.size() - 1; i >= 0; i--) {
+            try {
+                callbacks.get(i).run();
+            } catch (RuntimeException e) {
+                if(failure == null)
+                    failure = new IllegalStateException("Failed to destroy request-scoped bean", e);
+                else
+                    failure.addSuppressed(e);
+            }
+        }
+        if(failure != null)
+            throw failure;
+    }
+
+    /**
+     * 스레드와 스코프의 연결. 연결한 스레드에서 닫아야 한다.
+     */
+    public static final class Binding implements AutoCloseable {
+
+        private final RequestScope previous;
+
+        private Binding(RequestScope previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if(previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+}
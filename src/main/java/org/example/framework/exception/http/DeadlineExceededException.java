@@ -0,0 +1,16 @@
+package org.example.framework.exception.http;
+
+import org.example.framework.was.protocol.model.HttpStatus;
+
+/**
+ * 요청의 처리 기한이 지나 더 진행하지 않는다.
+ * 서버가 과부하로 거절한 것이 아니라 기한 안에 응답을 만들지 못한 것이므로 {@code 504}로 응답한다.
+ *
+ * @see org.example.framework.was.container.RequestContext
+ */
+public class DeadlineExceededException extends HttpException {
+
+    public DeadlineExceededException() {
+        super(HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded");
+    }
+}
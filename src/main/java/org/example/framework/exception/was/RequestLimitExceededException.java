@@ -0,0 +1,24 @@
+package org.example.framework.exception.was;
+
+import org.example.framework.was.protocol.model.HttpStatus;
+
+/**
+ * 요청 라인, 헤더, 본문이 파싱 한도를 넘었을 때 던지는 예외 <br>
+ * 잡는 곳에서 {@link #getStatus()}에 해당하는 응답을 보내고 연결을 닫아야 한다.
+ */
+public class RequestLimitExceededException extends HttpParsingException {
+
+    private final HttpStatus status;
+
+    public RequestLimitExceededException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * @return {@code 414}, {@code 431} 또는 {@code 413}
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
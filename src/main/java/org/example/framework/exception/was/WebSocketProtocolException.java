@@ -0,0 +1,22 @@
+package org.example.framework.exception.was;
+
+import java.io.IOException;
+
+/**
+ * WebSocket 프레임이 RFC 6455 규칙을 위반한 경우 던지는 예외 <br>
+ * 잡는 곳에서 {@link #getCloseCode()}로 Close 프레임을 보내고 연결을 닫아야 한다.
+ */
+public class WebSocketProtocolException extends IOException {
+
+    /** RFC 6455 7.4.1 상태 코드 */
+    private final int closeCode;
+
+    public WebSocketProtocolException(int closeCode, String message) {
+        super(message);
+        this.closeCode = closeCode;
+    }
+
+    public int getCloseCode() {
+        return closeCode;
+    }
+}
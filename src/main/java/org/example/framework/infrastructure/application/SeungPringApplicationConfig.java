@@ -1,6 +1,11 @@
 package org.example.framework.infrastructure.application;
 
 import org.example.framework.annotation.ComponentScan;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+import org.example.framework.was.protocol.core.RequestLimits;
+import org.example.framework.was.timeout.ConnectionTimeouts;
+import org.example.framework.web.ratelimit.RateLimitSettings;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +22,22 @@ import java.util.List;
  * --threads=10
  * --base-package=org.example.app
  * --base-package=org.example.web
+ * --async-timeout=30000
+ * --request-timeout=10000
+ * --max-request-line=8192
+ * --max-header-size=8192
+ * --max-headers=100
+ * --max-body-size=2097152
+ * --header-timeout=20000
+ * --min-body-rate=240
+ * --write-timeout=20000
+ * --max-violations=5
+ * --keep-alive-timeout=20000
+ * --min-keep-alive-timeout=1000
+ * --max-keep-alive-requests=100
+ * --max-connections=10000
+ * --rate-limit=100
+ * --rate-limit-burst=200
  * </pre>
  */
 public record SeungPringApplicationConfig(
@@ -29,7 +50,25 @@ public record SeungPringApplicationConfig(
         String[] basePackages,
 
         // Thread
-        boolean virtualEnabled
+        boolean virtualEnabled,
+
+        // Async (밀리초, 0 이하면 제한 없음)
+        long asyncRequestTimeout,
+
+        // Deadline (밀리초, 0 이하면 요청 헤더로만 정한다)
+        long requestTimeout,
+
+        // Parsing
+        RequestLimits requestLimits,
+
+        // Slow client
+        ConnectionTimeouts connectionTimeouts,
+
+        // Keep-alive
+        KeepAliveSettings keepAliveSettings,
+
+        // Rate limit
+        RateLimitSettings rateLimitSettings
 
 ) {
 
@@ -43,6 +82,22 @@ public record SeungPringApplicationConfig(
     ) {
         int port = 8080;
         int workerThreads = 10;
+        long asyncRequestTimeout = AsyncContext.DEFAULT_TIMEOUT;
+        long requestTimeout = 0;
+        int maxRequestLine = RequestLimits.DEFAULT_MAX_REQUEST_LINE_LENGTH;
+        int maxHeaderBytes = RequestLimits.DEFAULT_MAX_HEADER_BYTES;
+        int maxHeaderCount = RequestLimits.DEFAULT_MAX_HEADER_COUNT;
+        long maxBodySize = RequestLimits.DEFAULT_MAX_BODY_SIZE;
+        long headerTimeout = ConnectionTimeouts.DEFAULT_HEADER_TIMEOUT;
+        long minBodyRate = ConnectionTimeouts.DEFAULT_MIN_BODY_RATE;
+        long writeTimeout = ConnectionTimeouts.DEFAULT_WRITE_TIMEOUT;
+        int maxViolations = ConnectionTimeouts.DEFAULT_MAX_VIOLATIONS;
+        int keepAliveTimeout = KeepAliveSettings.DEFAULT_MAX_TIMEOUT;
+        int minKeepAliveTimeout = KeepAliveSettings.DEFAULT_MIN_TIMEOUT;
+        int maxKeepAliveRequests = KeepAliveSettings.DEFAULT_MAX_REQUESTS;
+        int maxConnections = KeepAliveSettings.DEFAULT_MAX_CONNECTIONS;
+        double rateLimit = 0;
+        int rateLimitBurst = 0;
         List<String> basePackages = new ArrayList<>();
 
         // 1. args 우선 파싱
@@ -53,6 +108,54 @@ public record SeungPringApplicationConfig(
             else if (arg.startsWith("--threads=")) {
                 workerThreads = Integer.parseInt(arg.substring("--threads=".length()));
             }
+            else if (arg.startsWith("--async-timeout=")) {
+                asyncRequestTimeout = Long.parseLong(arg.substring("--async-timeout=".length()));
+            }
+            else if (arg.startsWith("--request-timeout=")) {
+                requestTimeout = Long.parseLong(arg.substring("--request-timeout=".length()));
+            }
+            else if (arg.startsWith("--max-request-line=")) {
+                maxRequestLine = Integer.parseInt(arg.substring("--max-request-line=".length()));
+            }
+            else if (arg.startsWith("--max-header-size=")) {
+                maxHeaderBytes = Integer.parseInt(arg.substring("--max-header-size=".length()));
+            }
+            else if (arg.startsWith("--max-headers=")) {
+                maxHeaderCount = Integer.parseInt(arg.substring("--max-headers=".length()));
+            }
+            else if (arg.startsWith("--max-body-size=")) {
+                maxBodySize = Long.parseLong(arg.substring("--max-body-size=".length()));
+            }
+            else if (arg.startsWith("--header-timeout=")) {
+                headerTimeout = Long.parseLong(arg.substring("--header-timeout=".length()));
+            }
+            else if (arg.startsWith("--min-body-rate=")) {
+                minBodyRate = Long.parseLong(arg.substring("--min-body-rate=".length()));
+            }
+            else if (arg.startsWith("--write-timeout=")) {
+                writeTimeout = Long.parseLong(arg.substring("--write-timeout=".length()));
+            }
+            else if (arg.startsWith("--max-violations=")) {
+                maxViolations = Integer.parseInt(arg.substring("--max-violations=".length()));
+            }
+            else if (arg.startsWith("--keep-alive-timeout=")) {
+                keepAliveTimeout = Integer.parseInt(arg.substring("--keep-alive-timeout=".length()));
+            }
+            else if (arg.startsWith("--min-keep-alive-timeout=")) {
+                minKeepAliveTimeout = Integer.parseInt(arg.substring("--min-keep-alive-timeout=".length()));
+            }
+            else if (arg.startsWith("--max-keep-alive-requests=")) {
+                maxKeepAliveRequests = Integer.parseInt(arg.substring("--max-keep-alive-requests=".length()));
+            }
+            else if (arg.startsWith("--max-connections=")) {
+                maxConnections = Integer.parseInt(arg.substring("--max-connections=".length()));
+            }
+            else if (arg.startsWith("--rate-limit=")) {
+                rateLimit = Double.parseDouble(arg.substring("--rate-limit=".length()));
+            }
+            else if (arg.startsWith("--rate-limit-burst=")) {
+                rateLimitBurst = Integer.parseInt(arg.substring("--rate-limit-burst=".length()));
+            }
             else if (arg.startsWith("--base-package=")) {
                 basePackages.add(arg.substring("--base-package=".length()));
             }
@@ -77,7 +180,16 @@ public record SeungPringApplicationConfig(
                 port,
                 workerThreads,
                 basePackages.toArray(String[]::new),
-                true
+                true,
+                asyncRequestTimeout,
+                requestTimeout,
+                new RequestLimits(maxRequestLine, maxHeaderBytes, maxHeaderCount, maxBodySize),
+                new ConnectionTimeouts(headerTimeout, minBodyRate, ConnectionTimeouts.DEFAULT_BODY_RATE_GRACE_PERIOD,
+                        writeTimeout, maxViolations, ConnectionTimeouts.DEFAULT_VIOLATION_WINDOW),
+                new KeepAliveSettings(minKeepAliveTimeout, keepAliveTimeout, maxKeepAliveRequests, maxConnections),
+                // burst를 지정하지 않으면 1초 분량을 허용한다.
+                new RateLimitSettings(rateLimit, rateLimitBurst > 0 ? rateLimitBurst : Math.max(1, (int) Math.ceil(rateLimit)),
+                        RateLimitSettings.DEFAULT_IDLE_TIMEOUT)
         );
     }
 
@@ -2,14 +2,20 @@ package org.example.framework.infrastructure.servlet;
 
 
 import org.example.framework.core.ApplicationContext;
+import org.example.framework.infrastructure.application.SeungPringApplicationConfig;
 import org.example.framework.was.container.Servlet;
 import org.example.framework.was.container.ServletContainer;
 import org.example.framework.web.DispatcherServlet;
+import org.example.framework.web.adapter.RequestMappingHandlerAdapter;
 import org.example.framework.web.filter.Filter;
 import org.example.framework.web.filter.FilterRegistration;
+import org.example.framework.web.ratelimit.RateLimitFilter;
+import org.example.framework.web.ratelimit.RateLimitSettings;
+import org.example.framework.web.ratelimit.TokenBucketTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -20,6 +26,8 @@ import java.util.List;
  * IoC 컨텍스트로부터 {@link DispatcherServlet}을 조회하고,
  * 이를 {@link ServletContainer}로 감싸
  * WAS 계층에 전달할 실행 가능한 {@link Servlet}을 구성한다.
+ * 실행 옵션 중 MVC 계층에 적용할 값(비동기 요청 제한 시간, 클라이언트별 요청 속도 제한)도 이 단계에서 반영한다.
+ * 속도 제한 필터는 거절할 요청이 다른 필터를 거치지 않도록 가장 바깥쪽에 둔다.
  * </p>
  */
 public class ServletInfrastructure {
@@ -28,15 +36,24 @@ public class ServletInfrastructure {
     private final DispatcherServlet dispatcherServlet;
     private final ServletContainer servletContainer;
 
-    public ServletInfrastructure(ApplicationContext context) {
+    public ServletInfrastructure(ApplicationContext context, SeungPringApplicationConfig config) {
         this.dispatcherServlet = context.getBean(DispatcherServlet.class);
 
+        for(RequestMappingHandlerAdapter adapter : context.getBeansOfType(RequestMappingHandlerAdapter.class))
+            adapter.setAsyncRequestTimeout(config.asyncRequestTimeout());
+
         List<FilterRegistration> registrations = context.getBeansOfType(FilterRegistration.class);
 
-        List<Filter> filters = registrations.stream()
+        List<Filter> filters = new ArrayList<>();
+        RateLimitSettings rateLimit = config.rateLimitSettings();
+        if(rateLimit.isEnabled()) {
+            filters.add(new RateLimitFilter(new TokenBucketTable(rateLimit.ratePerSecond(), rateLimit.burst(), rateLimit.idleTimeout())));
+            log.info("[Servlet] Rate limit {}/s (burst {}) per client", rateLimit.ratePerSecond(), rateLimit.burst());
+        }
+        registrations.stream()
                 .sorted(Comparator.comparingInt(FilterRegistration::order))
                 .map(FilterRegistration::filter)
-                .toList();
+                .forEach(filters::add);
 
         this.servletContainer = new ServletContainer(dispatcherServlet, filters);
 
@@ -5,6 +5,8 @@ import org.example.framework.was.connector.Connector;
 import org.example.framework.was.container.Servlet;
 import org.example.framework.was.protocol.HttpProtocolSelector;
 import org.example.framework.was.protocol.http.HttpProtocolHandlerFactory;
+import org.example.framework.was.protocol.http.http1.AdaptiveKeepAlive;
+import org.example.framework.was.timeout.TimeoutWatchdog;
 import org.example.framework.LifeCycle.LifeCycle;
 import org.example.framework.infrastructure.application.SeungPringApplicationConfig;
 import org.slf4j.Logger;
@@ -25,6 +27,12 @@ public final class WasInfrastructure implements LifeCycle {
 
     private final Connector connector;
 
+    /** 부하에 따라 keep-alive를 조절하는 정책 */
+    private final AdaptiveKeepAlive keepAlive;
+
+    /** 느린 클라이언트의 연결을 닫는 감시자 */
+    private final TimeoutWatchdog watchdog;
+
     public WasInfrastructure(SeungPringApplicationConfig config, Servlet servlet) {
         this.virtualMode = config.virtualEnabled();
 
@@ -49,11 +57,19 @@ public final class WasInfrastructure implements LifeCycle {
             executor = Executors.newVirtualThreadPerTaskExecutor();
         }
 
+        // BIO 풀에서는 유휴 keep-alive 연결도 워커를 붙잡으므로 대기열까지 포함한 사용률을 부하로 본다.
+        this.keepAlive = new AdaptiveKeepAlive(config.keepAliveSettings());
+        if (executor instanceof ThreadPoolExecutor tpe) {
+            keepAlive.setWorkerLoad(() ->
+                    (double) (tpe.getActiveCount() + tpe.getQueue().size()) / tpe.getMaximumPoolSize());
+        }
+
         HttpProtocolSelector selector = new HttpProtocolSelector();
-        HttpProtocolHandlerFactory handlerFactory =
-                HttpProtocolHandlerFactory.create(new DefaultServletAdapter(servlet));
+        HttpProtocolHandlerFactory handlerFactory = HttpProtocolHandlerFactory.create(
+                new DefaultServletAdapter(servlet), config.requestLimits(), keepAlive, config.requestTimeout());
 
-        this.connector = new Connector(config.port(), executor, true,selector, handlerFactory);
+        this.watchdog = new TimeoutWatchdog(config.connectionTimeouts());
+        this.connector = new Connector(config.port(), executor, true,selector, handlerFactory, watchdog);
     }
 
     @Override
@@ -64,17 +80,19 @@ public final class WasInfrastructure implements LifeCycle {
         monitor.scheduleAtFixedRate(() -> {
             // BIO 모드일 때만 상세 지표 출력 (ThreadPoolExecutor인 경우만 가능)
             if (!virtualMode && executor instanceof ThreadPoolExecutor tpe) {
-                log.info("[BIO] active={} queue={} rejected={}",
+                log.info("[BIO] active={} queue={} rejected={} connections={}",
                         tpe.getActiveCount(),
                         tpe.getQueue().size(),
-                        rejectedCount.get()
+                        rejectedCount.get(),
+                        keepAlive.getConnectionCount()
                 );
             } else if (virtualMode) {
                 // 가상 스레드는 고정된 풀이 없으므로 단순 상태만 출력
-                log.info("[VIRTUAL] Processing requests via Virtual Threads...");
+                log.info("[VIRTUAL] Processing requests via Virtual Threads... connections={}", keepAlive.getConnectionCount());
             }
         }, 0, 5, TimeUnit.SECONDS); // 너무 자주 찍히면 정신없으니 5초 정도로 조절 추천
 
+        watchdog.start();
         connector.start();
         log.info("[WAS] Server initialization complete");
     }
@@ -103,6 +121,7 @@ public final class WasInfrastructure implements LifeCycle {
         if (monitor != null) {
             monitor.shutdown();
         }
+        watchdog.stop();
 
         log.info("[WAS] Server shutdown complete");
     }
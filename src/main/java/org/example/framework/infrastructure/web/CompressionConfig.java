@@ -0,0 +1,31 @@
+package org.example.framework.infrastructure.web;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.filter.FilterRegistration;
+import org.example.framework.web.filter.impl.CompressionFilter;
+
+/**
+ * 응답 압축 필터 등록 설정
+ *
+ * <p>
+ * 압축은 최종 본문에 적용되어야 하므로 다른 필터보다 바깥쪽에서 실행한다.
+ * 필터 자체도 Bean으로 등록하여 {@link CompressionFilter#getMetrics()}를 조회할 수 있게 한다.
+ * </p>
+ */
+@Configuration
+public class CompressionConfig {
+
+    /** {@link WebSocketConfig#ORDER} 다음, 다른 필터보다 먼저 실행된다. */
+    public static final int ORDER = -50;
+
+    @Bean
+    public CompressionFilter compressionFilter() {
+        return new CompressionFilter();
+    }
+
+    @Bean
+    public FilterRegistration compressionFilterRegistration(CompressionFilter compressionFilter) {
+        return new FilterRegistration(compressionFilter, ORDER);
+    }
+}
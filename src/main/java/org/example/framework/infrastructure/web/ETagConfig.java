@@ -0,0 +1,26 @@
+package org.example.framework.infrastructure.web;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.filter.FilterRegistration;
+import org.example.framework.web.filter.impl.ShallowEtagHeaderFilter;
+
+/**
+ * ETag 생성 필터 등록 설정
+ *
+ * <p>
+ * 압축 필터 안쪽에서 실행하여 304로 끝나는 응답은 압축하지 않는다.
+ * 응답 캐시보다도 안쪽이므로 캐시에는 ETag가 붙은 응답이 저장된다.
+ * </p>
+ */
+@Configuration
+public class ETagConfig {
+
+    /** {@link CompressionConfig#ORDER} 다음에 실행된다. */
+    public static final int ORDER = -25;
+
+    @Bean
+    public FilterRegistration shallowEtagHeaderFilterRegistration() {
+        return new FilterRegistration(new ShallowEtagHeaderFilter(), ORDER);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.framework.infrastructure.web;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.filter.FilterRegistration;
+import org.example.framework.web.filter.impl.RangeFilter;
+
+/**
+ * Range 요청 필터 등록 설정
+ *
+ * <p>
+ * 범위는 최종 표현(압축 후, 캐시된 전체 응답)에 적용되어야 하므로 응답 캐시보다 바깥쪽에서 실행한다.
+ * </p>
+ */
+@Configuration
+public class RangeConfig {
+
+    /** {@link WebSocketConfig#ORDER} 다음, {@link ResponseCacheConfig#ORDER}보다 먼저 실행된다. */
+    public static final int ORDER = -90;
+
+    @Bean
+    public FilterRegistration rangeFilterRegistration() {
+        return new FilterRegistration(new RangeFilter(), ORDER);
+    }
+}
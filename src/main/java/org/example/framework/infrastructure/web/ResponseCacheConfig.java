@@ -0,0 +1,31 @@
+package org.example.framework.infrastructure.web;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.cache.ResponseCacheFilter;
+import org.example.framework.web.filter.FilterRegistration;
+
+/**
+ * 응답 캐시 필터 등록 설정
+ *
+ * <p>
+ * 압축 필터보다 바깥쪽에서 실행하여 압축이 끝난 본문을 저장한다. 적중하면 압축도 다시 하지 않는다.
+ * 필터는 Bean으로 등록되어 {@code @ResponseCache} 매핑 수집과 {@link ResponseCacheFilter#getMetrics()} 조회가 가능하다.
+ * </p>
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    /** {@link WebSocketConfig#ORDER} 다음, {@link CompressionConfig#ORDER}보다 먼저 실행된다. */
+    public static final int ORDER = -75;
+
+    @Bean
+    public ResponseCacheFilter responseCacheFilter() {
+        return new ResponseCacheFilter();
+    }
+
+    @Bean
+    public FilterRegistration responseCacheFilterRegistration(ResponseCacheFilter responseCacheFilter) {
+        return new FilterRegistration(responseCacheFilter, ORDER);
+    }
+}
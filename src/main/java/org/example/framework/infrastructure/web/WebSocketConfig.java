@@ -0,0 +1,27 @@
+package org.example.framework.infrastructure.web;
+
+import org.example.framework.annotation.Bean;
+import org.example.framework.annotation.Configuration;
+import org.example.framework.web.filter.FilterRegistration;
+import org.example.framework.web.websocket.WebSocketEndpointRegistry;
+import org.example.framework.web.websocket.WebSocketUpgradeFilter;
+
+/**
+ * WebSocket 업그레이드 필터 등록 설정
+ *
+ * <p>
+ * 업그레이드 요청은 MVC 디스패치 대상이 아니므로 다른 필터보다 먼저 처리하여
+ * 응답 본문을 가공하는 필터(압축 등)를 거치지 않도록 한다.
+ * </p>
+ */
+@Configuration
+public class WebSocketConfig {
+
+    /** 다른 필터보다 먼저 실행된다. */
+    public static final int ORDER = -100;
+
+    @Bean
+    public FilterRegistration webSocketUpgradeFilter(WebSocketEndpointRegistry registry) {
+        return new FilterRegistration(new WebSocketUpgradeFilter(registry), ORDER);
+    }
+}
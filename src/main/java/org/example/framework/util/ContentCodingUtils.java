@@ -0,0 +1,83 @@
+package org.example.framework.util;
+
+import java.util.Set;
+
+/**
+ * 응답 본문 인코딩(Content-Encoding) 협상에 쓰이는 유틸리티이다.
+ *
+ * <p>
+ * 동적 압축({@code CompressionFilter})과 정적 리소스의 미리 압축된 변형 선택이 같은 규칙을 따르도록 한곳에 둔다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-12.5.3">RFC 9110 12.5.3 Accept-Encoding</a>
+ */
+public final class ContentCodingUtils {
+    private ContentCodingUtils() {}
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json", "application/javascript", "application/xml", "image/svg+xml"
+    );
+
+    /**
+     * {@code Accept-Encoding} 헤더 값에서 지정한 인코딩의 q 값을 구한다.
+     * 명시되지 않았으면 {@code *}의 q 값을 따른다.
+     *
+     * @param acceptEncoding 헤더 값 목록
+     * @param coding         인코딩 이름 (소문자, 예: {@code gzip})
+     * @return q 값, 허용되지 않으면 {@code 0}
+     */
+    public static double quality(Iterable<String> acceptEncoding, String coding) {
+        double explicit = -1, any = -1;
+
+        for(String value : acceptEncoding) {
+            for(String part : value.split(",")) {
+                String[] params = part.split(";");
+                String token = params[0].trim().toLowerCase();
+                if(token.equals("x-gzip"))
+                    token = "gzip";
+                if(!token.equals(coding) && !token.equals("*"))
+                    continue;
+
+                double q = 1.0;
+                for(int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if(param.startsWith("q=")) {
+                        try {
+                            q = Double.parseDouble(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            q = 0;
+                        }
+                    }
+                }
+
+                if(token.equals("*"))
+                    any = q;
+                else
+                    explicit = q;
+            }
+        }
+
+        double q = explicit >= 0 ? explicit : any;
+        return Math.max(q, 0);
+    }
+
+    /**
+     * Content-Type이 압축 가능한 텍스트 계열(text/*, JSON, XML, JavaScript, SVG)인지 확인한다.
+     * 지정되지 않았으면 기본값(text/plain)으로 본다. 이미지, 아카이브처럼 이미 압축된 형식은 제외된다.
+     */
+    public static boolean isCompressible(String contentType) {
+        if(contentType == null || contentType.isEmpty())
+            return true;
+
+        int semicolon = contentType.indexOf(';');
+        String mimeType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase();
+
+        // 스트리밍 응답은 본문이 컨테이너를 거치지 않는다.
+        if(mimeType.equals("text/event-stream"))
+            return false;
+        return mimeType.startsWith("text/")
+                || COMPRESSIBLE_TYPES.contains(mimeType)
+                || mimeType.endsWith("+json")
+                || mimeType.endsWith("+xml");
+    }
+}
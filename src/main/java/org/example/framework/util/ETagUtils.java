@@ -0,0 +1,61 @@
+package org.example.framework.util;
+
+import org.example.framework.was.protocol.model.HttpBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 엔터티 태그(ETag) 생성과 {@code If-None-Match} 비교에 쓰이는 유틸리티이다.
+ *
+ * <p>
+ * 자동 생성 태그는 본문 바이트의 {@link XxHash64} 값으로 만든 약한 태그({@code W/"..."})이다.
+ * 같은 본문이라도 압축 여부에 따라 바이트가 달라질 수 있으므로 바이트 단위 동일성을 약속하지 않는 약한 태그를 쓴다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-8.8.3">RFC 9110 8.8.3 ETag</a>
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-13.1.2">RFC 9110 13.1.2 If-None-Match</a>
+ */
+public final class ETagUtils {
+    private ETagUtils() {}
+
+    /**
+     * 본문을 해시하여 약한 ETag를 만든다. 본문은 복사하지 않고 {@link HttpBody#writeTo(OutputStream)}로 흘려 넣는다.
+     */
+    public static String weakETag(HttpBody body) {
+        XxHash64 hash = new XxHash64();
+        try {
+            body.writeTo(new CheckedOutputStream(OutputStream.nullOutputStream(), hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "W/\"" + String.format("%016x", hash.getValue()) + "\"";
+    }
+
+    /**
+     * {@code If-None-Match} 값 중 하나가 태그와 약한 비교로 같은지 확인한다. {@code *}는 모든 태그와 같다.
+     *
+     * @param ifNoneMatch 헤더 값 목록 (쉼표로 나열된 값 포함)
+     * @param etag        현재 표현의 태그
+     */
+    public static boolean matches(Iterable<String> ifNoneMatch, String etag) {
+        String opaque = opaqueTag(etag);
+        for(String value : ifNoneMatch) {
+            for(String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if(tag.equals("*") || opaqueTag(tag).equals(opaque))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 약한 비교를 위해 {@code W/} 접두사를 뗀다.
+     */
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
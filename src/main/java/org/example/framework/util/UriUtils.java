@@ -0,0 +1,157 @@
+package org.example.framework.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 대상(request target) 문자열의 일부 구간을 다루는 유틸리티이다.
+ *
+ * <p>
+ * 요청 라인은 ASCII 문자만 포함하므로, 문자열의 각 문자는 원본 바이트와 1:1로 대응한다.
+ * 모든 메서드는 {@code [from, to)} 구간을 직접 읽으며,
+ * 이스케이프({@code %XX}, 쿼리의 {@code +})가 없는 구간은 디코딩 버퍼나 부분 문자열을 만들지 않는다.
+ * </p>
+ *
+ * <p>
+ * 잘못된 퍼센트 인코딩이나 숫자 형식에는 {@link IllegalArgumentException}
+ * ({@link NumberFormatException} 포함)이 발생한다.
+ * </p>
+ */
+public final class UriUtils {
+    private UriUtils() {}
+
+    /**
+     * 구간에 디코딩이 필요한 문자가 있는지 검사한다.
+     *
+     * @param plusAsSpace {@code +}를 공백으로 해석할지 여부 (쿼리 문자열이면 {@code true})
+     */
+    public static boolean needsDecoding(String s, int from, int to, boolean plusAsSpace) {
+        for(int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if(c == '%' || (plusAsSpace && c == '+'))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * 구간을 퍼센트 디코딩한다. 퍼센트 인코딩된 바이트는 UTF-8로 해석한다.
+     *
+     * @param plusAsSpace {@code +}를 공백으로 해석할지 여부
+     * @return 디코딩된 문자열, 이스케이프가 없으면 원본의 부분 문자열
+     * @throws IllegalArgumentException 잘못된 퍼센트 인코딩인 경우
+     */
+    public static String decode(String s, int from, int to, boolean plusAsSpace) {
+        if(!needsDecoding(s, from, to, plusAsSpace))
+            return s.substring(from, to);
+
+        // 디코딩 결과는 원본보다 길어지지 않는다.
+        byte[] buf = new byte[to - from];
+        int len = 0;
+
+        for(int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if(c == '%') {
+                if(i + 2 >= to)
+                    throw new IllegalArgumentException("Incomplete percent escape: " + s.substring(from, to));
+                buf[len++] = (byte) ((hex(s.charAt(i + 1)) << 4) | hex(s.charAt(i + 2)));
+                i += 2;
+            } else if(plusAsSpace && c == '+') {
+                buf[len++] = ' ';
+            } else {
+                buf[len++] = (byte) c;
+            }
+        }
+        return new String(buf, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 인코딩된 구간이 주어진 (디코딩된) 문자열과 같은지 비교한다.
+     *
+     * <p>이스케이프가 없는 구간은 할당 없이 비교한다.</p>
+     */
+    public static boolean regionEquals(String s, int from, int to, String decoded, boolean plusAsSpace) {
+        if(!needsDecoding(s, from, to, plusAsSpace))
+            return to - from == decoded.length() && s.regionMatches(from, decoded, 0, decoded.length());
+        return decode(s, from, to, plusAsSpace).equals(decoded);
+    }
+
+    /**
+     * 구간을 10진수 {@code int}로 해석한다.
+     *
+     * @throws NumberFormatException 숫자 형식이 아니거나 범위를 벗어난 경우
+     */
+    public static int parseInt(String s, int from, int to, boolean plusAsSpace) {
+        long value = parseLong(s, from, to, plusAsSpace);
+        if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new NumberFormatException("Value out of int range: " + s.substring(from, to));
+        return (int) value;
+    }
+
+    /**
+     * 구간을 10진수 {@code long}으로 해석한다.
+     *
+     * <p>이스케이프가 없으면 문자열을 만들지 않고 직접 자릿수를 누적한다.</p>
+     *
+     * @throws NumberFormatException 숫자 형식이 아니거나 범위를 벗어난 경우
+     */
+    public static long parseLong(String s, int from, int to, boolean plusAsSpace) {
+        if(needsDecoding(s, from, to, plusAsSpace))
+            return Long.parseLong(decode(s, from, to, plusAsSpace));
+
+        int i = from;
+        boolean negative = false;
+        if(i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        if(i == to)
+            throw new NumberFormatException("Not a number: \"" + s.substring(from, to) + "\"");
+
+        // 음수 범위가 더 넓으므로 음수로 누적한다.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for(; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if(digit < 0 || digit > 9 || result < limit / 10)
+                throw new NumberFormatException("Not a number: \"" + s.substring(from, to) + "\"");
+            result *= 10;
+            if(result < limit + digit)
+                throw new NumberFormatException("Not a number: \"" + s.substring(from, to) + "\"");
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 구간을 {@code boolean}으로 해석한다.
+     *
+     * <p>{@code true/false}, {@code on/off}, {@code yes/no}, {@code 1/0}을 대소문자 구분 없이 허용한다.</p>
+     *
+     * @throws IllegalArgumentException 허용되지 않는 값인 경우
+     */
+    public static boolean parseBoolean(String s, int from, int to, boolean plusAsSpace) {
+        if(needsDecoding(s, from, to, plusAsSpace)) {
+            String decoded = decode(s, from, to, plusAsSpace);
+            return parseBoolean(decoded, 0, decoded.length(), false);
+        }
+
+        int len = to - from;
+        if(matches(s, from, len, "true") || matches(s, from, len, "on") || matches(s, from, len, "yes") || matches(s, from, len, "1"))
+            return true;
+        if(matches(s, from, len, "false") || matches(s, from, len, "off") || matches(s, from, len, "no") || matches(s, from, len, "0"))
+            return false;
+
+        throw new IllegalArgumentException("Not a boolean: \"" + s.substring(from, to) + "\"");
+    }
+
+    private static boolean matches(String s, int from, int len, String candidate) {
+        return len == candidate.length() && s.regionMatches(true, from, candidate, 0, len);
+    }
+
+    private static int hex(char c) {
+        int digit = Character.digit(c, 16);
+        if(digit < 0)
+            throw new IllegalArgumentException("Invalid percent escape character: " + c);
+        return digit;
+    }
+}
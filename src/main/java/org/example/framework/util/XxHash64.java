@@ -0,0 +1,139 @@
+package org.example.framework.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+/**
+ * 64비트 xxHash(XXH64) 구현. 비암호화 해시로, 응답 본문의 ETag 계산처럼 빠른 식별자가 필요할 때 사용한다.
+ *
+ * <p>
+ * {@link Checksum}을 구현하므로 {@link java.util.zip.CheckedOutputStream}에 연결해
+ * 본문을 배열로 복사하지 않고 흘려 넣으며 계산할 수 있다. 32바이트 단위로 처리하고 남은 바이트만 내부 버퍼에 보관한다.
+ * 스레드 안전하지 않다.
+ * </p>
+ *
+ * @see <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">xxHash specification</a>
+ */
+public final class XxHash64 implements Checksum {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long seed;
+    private final byte[] buffer = new byte[32];
+    private int buffered;
+    private long totalLength;
+    private long v1, v2, v3, v4;
+
+    public XxHash64() {
+        this(0);
+    }
+
+    public XxHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    @Override
+    public void update(int b) {
+        update(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        totalLength += len;
+
+        if(buffered > 0) {
+            int n = Math.min(len, 32 - buffered);
+            System.arraycopy(b, off, buffer, buffered, n);
+            buffered += n;
+            off += n;
+            len -= n;
+            if(buffered < 32)
+                return;
+            stripe(buffer, 0);
+            buffered = 0;
+        }
+
+        int end = off + len - 32;
+        for(; off <= end; off += 32)
+            stripe(b, off);
+
+        int remaining = end + 32 - off;
+        System.arraycopy(b, off, buffer, 0, remaining);
+        buffered = remaining;
+    }
+
+    @Override
+    public long getValue() {
+        long h;
+        if(totalLength >= 32) {
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = merge(h, v1);
+            h = merge(h, v2);
+            h = merge(h, v3);
+            h = merge(h, v4);
+        } else {
+            h = seed + PRIME5;
+        }
+        h += totalLength;
+
+        int i = 0;
+        for(; i + 8 <= buffered; i += 8) {
+            h ^= round(0, (long) LONG_LE.get(buffer, i));
+            h = Long.rotateLeft(h, 27) * PRIME1 + PRIME4;
+        }
+        if(i + 4 <= buffered) {
+            h ^= ((int) INT_LE.get(buffer, i) & 0xFFFFFFFFL) * PRIME1;
+            h = Long.rotateLeft(h, 23) * PRIME2 + PRIME3;
+            i += 4;
+        }
+        for(; i < buffered; i++) {
+            h ^= (buffer[i] & 0xFFL) * PRIME5;
+            h = Long.rotateLeft(h, 11) * PRIME1;
+        }
+
+        h ^= h >>> 33;
+        h *= PRIME2;
+        h ^= h >>> 29;
+        h *= PRIME3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    @Override
+    public void reset() {
+        v1 = seed + PRIME1 + PRIME2;
+        v2 = seed + PRIME2;
+        v3 = seed;
+        v4 = seed - PRIME1;
+        buffered = 0;
+        totalLength = 0;
+    }
+
+    private void stripe(byte[] b, int off) {
+        v1 = round(v1, (long) LONG_LE.get(b, off));
+        v2 = round(v2, (long) LONG_LE.get(b, off + 8));
+        v3 = round(v3, (long) LONG_LE.get(b, off + 16));
+        v4 = round(v4, (long) LONG_LE.get(b, off + 24));
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME1;
+    }
+
+    private static long merge(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME1 + PRIME4;
+    }
+}
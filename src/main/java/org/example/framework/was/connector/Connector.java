@@ -5,6 +5,7 @@ import org.example.framework.was.endpoint.BioEndpoint;
 import org.example.framework.was.endpoint.VirtualBioEndpoint;
 import org.example.framework.was.protocol.HttpProtocolSelector;
 import org.example.framework.was.protocol.http.HttpProtocolHandlerFactory;
+import org.example.framework.was.timeout.TimeoutWatchdog;
 import org.example.framework.LifeCycle.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +27,14 @@ public class Connector implements LifeCycle {
     private final HttpProtocolHandlerFactory handlerFactory;
 
     public Connector(int port, ExecutorService executor, boolean isVirtual, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory) {
+        this(port, executor, isVirtual, selector, handlerFactory, null);
+    }
+
+    /**
+     * @param watchdog 느린 클라이언트 감시자, {@code null}이면 적용하지 않는다.
+     */
+    public Connector(int port, ExecutorService executor, boolean isVirtual, HttpProtocolSelector selector,
+                     HttpProtocolHandlerFactory handlerFactory, TimeoutWatchdog watchdog) {
         this.selector = selector;
         this.handlerFactory = handlerFactory;
 
@@ -34,14 +43,16 @@ public class Connector implements LifeCycle {
                     port,
                     executor,
                     selector,
-                    handlerFactory
+                    handlerFactory,
+                    watchdog
             );
         } else {
             this.endpoint = new VirtualBioEndpoint(
                     port,
                     executor,
                     selector,
-                    handlerFactory
+                    handlerFactory,
+                    watchdog
             );
         }
         this.port = port;
@@ -0,0 +1,228 @@
+package org.example.framework.was.container;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 비동기로 처리되는 요청 하나의 완료 시점을 관리한다.
+ * {@link HttpRequest#startAsync()}로 생성된다.
+ *
+ * <p>
+ * 서블릿이 비동기 처리를 시작한 채로 반환하면 컨테이너는 응답을 바로 쓰지 않고 워커 스레드를 반납한다.
+ * 이후 다른 스레드가 {@link #complete(Runnable)}을 호출하면 응답 작성 작업과 등록된 리스너가 실행되고,
+ * 컨테이너는 그때 응답을 전송하고 연결 처리를 이어간다.
+ * </p>
+ *
+ * <p>
+ * 완료는 정확히 한 번만 일어난다. 결과 도착과 타임아웃이 경쟁하면 먼저 {@code complete}를 호출한 쪽만
+ * 응답을 작성하며, 나머지 호출은 {@code false}를 반환하고 무시된다.
+ * 제한 시간 안에 완료되지 않으면 {@link #setTimeoutHandler(Runnable)}로 등록된 작업으로 완료된다.
+ * </p>
+ *
+ * <p>
+ * {@link #startStreaming(Consumer)}으로 스트리밍 응답으로 전환하면 컨테이너는 서블릿 반환 직후 헤더만 전송하고
+ * 연결의 출력 스트림을 넘겨준다. 본문은 완료 전까지 그 스트림에 직접 기록되며, 완료되면 연결이 닫힌다.
+ * </p>
+ *
+ * @see <a href="https://github.com/jakartaee/servlet/blob/main/api/src/main/java/jakarta/servlet/AsyncContext.java">Jakarta Servlet AsyncContext</a>
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/catalina/core/AsyncContextImpl.java">Apache Tomcat AsyncContextImpl</a>
+ */
+public final class AsyncContext {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncContext.class);
+
+    /** 기본 제한 시간 (밀리초) */
+    public static final long DEFAULT_TIMEOUT = 30_000;
+
+    private static final int STARTED = 0;
+    private static final int COMPLETING = 1;
+    private static final int COMPLETED = 2;
+
+    private final HttpRequest request;
+    private final HttpResponse response;
+    private final AtomicInteger state = new AtomicInteger(STARTED);
+
+    /** {@link #state}가 바뀌는 구간과 리스너 목록은 이 락으로 보호한다. */
+    private final Object lock = new Object();
+    private final ArrayDeque<Runnable> listeners = new ArrayDeque<>();
+
+    private volatile long timeout = DEFAULT_TIMEOUT;
+    private volatile Runnable timeoutHandler;
+    private volatile ScheduledFuture<?> timeoutTask;
+
+    /** 스트리밍 응답이면 출력 스트림을 받을 작업, 아니면 {@code null} */
+    private volatile Consumer<OutputStream> streamHandler;
+
+    public AsyncContext(HttpRequest request, HttpResponse response) {
+        this.request = request;
+        this.response = response;
+    }
+
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    public HttpResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * 제한 시간을 설정한다. 컨테이너가 타이머를 시작하기 전(서블릿 처리 중)에만 반영된다.
+     *
+     * @param timeout 밀리초, 0 이하면 제한 없음
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 제한 시간이 지났을 때 응답을 작성할 작업을 등록한다.
+     * 등록하지 않으면 응답은 비어 있는 상태로 전송된다.
+     */
+    public void setTimeoutHandler(Runnable timeoutHandler) {
+        this.timeoutHandler = timeoutHandler;
+    }
+
+    /**
+     * 응답을 스트리밍으로 전환한다. 서블릿이 반환되기 전에 호출해야 한다.
+     *
+     * @param streamHandler 헤더 전송 후 연결의 출력 스트림을 받을 작업 (컨테이너 스레드에서 한 번 호출)
+     * @throws IllegalStateException 이미 스트리밍으로 전환된 경우
+     */
+    public void startStreaming(Consumer<OutputStream> streamHandler) {
+        if(this.streamHandler != null)
+            throw new IllegalStateException("Streaming has already been started for " + request.getPath());
+        this.streamHandler = streamHandler;
+    }
+
+    public boolean isStreaming() {
+        return streamHandler != null;
+    }
+
+    /**
+     * 스트리밍 응답의 헤더를 전송한 컨테이너가 연결의 출력 스트림을 전달한다.
+     */
+    public void openStream(OutputStream out) {
+        Consumer<OutputStream> handler = streamHandler;
+        if(handler != null)
+            runQuietly(() -> handler.accept(out));
+    }
+
+    /**
+     * 완료 후 실행할 리스너를 등록한다. 리스너는 등록 순서대로, 하나씩 실행된다.
+     * <p>완료하는 스레드가 리스너를 실행하는 중에 등록하면 대기열 끝에 붙어 그 스레드가 이어서 실행한다.
+     * 모든 리스너가 끝난 뒤에 등록하면 호출한 스레드에서 바로 실행한다.</p>
+     */
+    public void addListener(Runnable listener) {
+        synchronized (lock) {
+            if(state.get() != COMPLETED) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        runQuietly(listener);
+    }
+
+    /**
+     * 응답 작성 작업을 실행하고 비동기 처리를 완료한다.
+     *
+     * @param responseWriter 응답 상태, 헤더, 바디를 채우는 작업 (완료 경쟁에서 이긴 경우에만 실행)
+     * @return 이 호출이 처리를 완료했으면 {@code true}, 이미 완료(또는 타임아웃)된 경우 {@code false}
+     */
+    public boolean complete(Runnable responseWriter) {
+        if(!state.compareAndSet(STARTED, COMPLETING))
+            return false;
+
+        ScheduledFuture<?> task = timeoutTask;
+        if(task != null)
+            task.cancel(false);
+
+        runQuietly(responseWriter);
+
+        // 실행 중에 등록된 리스너까지 대기열이 빌 때까지 실행한 뒤에야 COMPLETED로 바꾼다.
+        while(true) {
+            Runnable listener;
+            synchronized (lock) {
+                listener = listeners.poll();
+                if(listener == null) {
+                    state.set(COMPLETED);
+                    break;
+                }
+            }
+            runQuietly(listener);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 응답 상태 그대로 비동기 처리를 완료한다.
+     *
+     * @see #complete(Runnable)
+     */
+    public boolean complete() {
+        return complete(() -> {});
+    }
+
+    public boolean isCompleted() {
+        return state.get() != STARTED;
+    }
+
+    /**
+     * 제한 시간 타이머를 시작한다. 서블릿이 비동기 상태로 반환된 직후 컨테이너가 호출한다.
+     */
+    public void startTimeout() {
+        long millis = timeout;
+        if(millis <= 0 || isCompleted())
+            return;
+
+        timeoutTask = TimeoutScheduler.INSTANCE.schedule(() -> {
+            Runnable handler = timeoutHandler;
+            if(complete(handler != null ? handler : () -> {}))
+                log.debug("[AsyncContext] {} {} timed out after {} ms", request.getMethod(), request.getPath(), millis);
+        }, millis, TimeUnit.MILLISECONDS);
+
+        // 스케줄링 직전에 완료된 경우 타이머를 정리한다.
+        if(isCompleted())
+            timeoutTask.cancel(false);
+    }
+
+    private static void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            log.error("[AsyncContext] async callback failed", e);
+        }
+    }
+
+    /**
+     * 모든 비동기 요청이 공유하는 타임아웃 타이머. 처음 사용될 때 생성된다.
+     */
+    private static final class TimeoutScheduler {
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "async-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // 대부분의 요청은 제한 시간 전에 완료되므로 취소된 타이머를 큐에 남기지 않는다.
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.framework.was.container;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * HTTP/1.1 연결을 다른 프로토콜로 전환한 뒤 그 연결을 처리한다.
+ * {@link org.example.framework.was.protocol.model.HttpRequest#upgrade(HttpUpgradeHandler)}로 등록한다.
+ *
+ * <p>
+ * 컨테이너는 {@code 101 Switching Protocols} 헤더를 전송한 뒤 전용 가상 스레드에서 {@link #init}을 호출한다.
+ * {@link #init}이 반환되면 연결은 닫힌다.
+ * </p>
+ *
+ * @see <a href="https://github.com/jakartaee/servlet/blob/main/api/src/main/java/jakarta/servlet/http/HttpUpgradeHandler.java">Jakarta Servlet HttpUpgradeHandler</a>
+ */
+public interface HttpUpgradeHandler {
+
+    /**
+     * 전환된 연결을 처리한다. 연결이 끝날 때까지 반환하지 않는다.
+     *
+     * @param in  연결의 입력 스트림 (HTTP 요청 이후 남은 바이트부터)
+     * @param out 연결의 출력 스트림
+     */
+    void init(InputStream in, OutputStream out) throws IOException;
+}
@@ -0,0 +1,222 @@
+package org.example.framework.was.container;
+
+import org.example.framework.exception.http.DeadlineExceededException;
+import org.example.framework.was.protocol.model.HttpRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 하나의 처리 기한과 취소 여부를 전달한다.
+ *
+ * <p>
+ * 컨테이너는 요청을 파싱한 뒤 컨텍스트를 만들고, 서블릿을 호출하는 동안 {@link #attach()}로 처리 스레드에 연결한다.
+ * 처리 스레드에서 실행되는 인터셉터, AOP, 블로킹 호출은 {@link #current()}로 컨텍스트를 얻어
+ * 남은 시간을 확인하거나 {@link #checkActive()}로 더 진행할지 결정한다.
+ * 다른 스레드에서 이어지는 작업(비동기 처리 등)은 {@link HttpRequest#getRequestContext()}로 같은 컨텍스트를 얻는다.
+ * </p>
+ *
+ * <p>
+ * 기한은 서버 설정의 기본값과 요청 헤더 {@value #TIMEOUT_HEADER}(밀리초) 중 짧은 쪽이다.
+ * 헤더는 기한을 줄일 수만 있으며, 잘못된 값은 무시한다.
+ * 클라이언트가 처리 도중 연결을 끊으면 컨테이너가 {@link #cancel()}을 호출하고,
+ * 연결된 처리 스레드는 모두 인터럽트되어 블로킹 호출에서 빠져나온다.
+ * 처리를 다른 스레드에 넘기는 실행기는 그 스레드에서도 {@link #attach()}하여 기한과 취소를 이어받게 한다.
+ * 인터럽트는 {@link Scope#close()}가 지운 뒤 반환하므로 같은 스레드의 다음 요청으로 새지 않는다.
+ * </p>
+ *
+ * @see <a href="https://grpc.io/docs/guides/deadlines/">gRPC Deadlines</a>
+ */
+public final class RequestContext {
+
+    /** 요청별 처리 기한(밀리초)을 지정하는 요청 헤더 */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    /** 기한 시각 ({@link System#nanoTime()}), {@link #hasDeadline}이 아니면 의미 없다. */
+    private final long deadline;
+    private final boolean hasDeadline;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean cancelled;
+    /** 취소 시 인터럽트할 처리 스레드 */
+    private final List<Thread> threads = new ArrayList<>(1);
+
+    private RequestContext(long deadline, boolean hasDeadline) {
+        this.deadline = deadline;
+        this.hasDeadline = hasDeadline;
+    }
+
+    /**
+     * 기한이 없는 컨텍스트를 만든다.
+     */
+    public static RequestContext create() {
+        return new RequestContext(0, false);
+    }
+
+    /**
+     * 지금부터 주어진 시간 뒤가 기한인 컨텍스트를 만든다.
+     *
+     * @param timeoutMillis 처리 기한 (밀리초), {@code 0} 이하면 기한이 없다
+     */
+    public static RequestContext withTimeout(long timeoutMillis) {
+        if(timeoutMillis <= 0)
+            return create();
+        return new RequestContext(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis), true);
+    }
+
+    /**
+     * 서버 기본값과 {@value #TIMEOUT_HEADER} 헤더로 요청의 컨텍스트를 만든다.
+     *
+     * @param defaultTimeoutMillis 서버 기본 처리 기한 (밀리초), {@code 0} 이하면 기본 기한이 없다
+     */
+    public static RequestContext of(HttpRequest request, long defaultTimeoutMillis) {
+        long timeout = defaultTimeoutMillis > 0 ? defaultTimeoutMillis : 0;
+        long requested = parseTimeout(request.getHeader().getFirst(TIMEOUT_HEADER));
+        if(requested > 0 && (timeout == 0 || requested < timeout))
+            timeout = requested;
+        return withTimeout(timeout);
+    }
+
+    private static long parseTimeout(String value) {
+        if(value == null)
+            return 0;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return 현재 스레드에 연결된 컨텍스트, 없으면 {@code null}
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    public boolean hasDeadline() {
+        return hasDeadline;
+    }
+
+    /**
+     * @return 기한까지 남은 시간 (나노초), 기한이 없으면 {@link Long#MAX_VALUE}, 지났으면 {@code 0} 이하
+     */
+    public long remainingNanos() {
+        return hasDeadline ? deadline - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return 기한까지 남은 시간 (밀리초), 기한이 없으면 {@link Long#MAX_VALUE}, 지났으면 {@code 0}
+     */
+    public long remainingMillis() {
+        return hasDeadline ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(remainingNanos())) : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return hasDeadline && remainingNanos() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return 기한이 지나지 않았고 취소되지 않았으면 {@code true}
+     */
+    public boolean isActive() {
+        return !cancelled && !isExpired();
+    }
+
+    /**
+     * 더 진행해도 되는지 확인한다.
+     *
+     * @throws CancellationException     클라이언트가 연결을 끊어 취소된 경우
+     * @throws DeadlineExceededException 처리 기한이 지난 경우
+     */
+    public void checkActive() {
+        if(cancelled)
+            throw new CancellationException("Request cancelled: client disconnected");
+        if(isExpired())
+            throw new DeadlineExceededException();
+    }
+
+    /**
+     * 요청을 취소하고, 연결된 처리 스레드를 인터럽트한다. 여러 번 호출해도 한 번만 반영된다.
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            if(cancelled)
+                return;
+            cancelled = true;
+            for(Thread thread : threads)
+                thread.interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 스레드에 이 컨텍스트를 연결한다. 반환된 {@link Scope}를 닫으면 이전 상태로 돌아간다.
+     *
+     * <pre>{@code
+     * try(RequestContext.Scope ignored = context.attach()) {
+     *     servlet.service(request, response);
+     * }
+     * }</pre>
+     */
+    public Scope attach() {
+        Scope scope = new Scope(CURRENT.get(), Thread.currentThread());
+        CURRENT.set(this);
+        lock.lock();
+        try {
+            threads.add(scope.owner);
+            if(cancelled)
+                scope.owner.interrupt();
+        } finally {
+            lock.unlock();
+        }
+        return scope;
+    }
+
+    /**
+     * 스레드와 컨텍스트의 연결. 연결한 스레드에서 닫아야 한다.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final RequestContext previous;
+        private final Thread owner;
+
+        private Scope(RequestContext previous, Thread owner) {
+            this.previous = previous;
+            this.owner = owner;
+        }
+
+        /**
+         * 연결을 끊는다. 이후의 취소는 이 스레드를 인터럽트하지 않으며, 취소로 남은 인터럽트 상태는 지운다.
+         */
+        @Override
+        public void close() {
+            boolean interrupted;
+            lock.lock();
+            try {
+                threads.remove(owner);
+                interrupted = cancelled;
+            } finally {
+                lock.unlock();
+            }
+            if(interrupted)
+                Thread.interrupted();
+
+            if(previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.framework.was.endpoint;
 import org.example.framework.was.processor.SocketProcessor;
 import org.example.framework.was.protocol.HttpProtocolSelector;
 import org.example.framework.was.protocol.http.HttpProtocolHandlerFactory;
+import org.example.framework.was.timeout.TimeoutWatchdog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,12 +29,22 @@ public class BioEndpoint extends AbstractEndpoint{
     private ServerSocket serverSocket;
     private final HttpProtocolSelector selector;
     private final HttpProtocolHandlerFactory handlerFactory;
+    private final TimeoutWatchdog watchdog;
 
     public BioEndpoint(int port, ExecutorService executor, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory) {
+        this(port, executor, selector, handlerFactory, null);
+    }
+
+    /**
+     * @param watchdog 느린 클라이언트 감시자, {@code null}이면 적용하지 않는다.
+     */
+    public BioEndpoint(int port, ExecutorService executor, HttpProtocolSelector selector,
+                       HttpProtocolHandlerFactory handlerFactory, TimeoutWatchdog watchdog) {
         super(port);
         this.executor = executor;
         this.selector = selector;
         this.handlerFactory = handlerFactory;
+        this.watchdog = watchdog;
     }
 
     @Override
@@ -53,8 +64,14 @@ public class BioEndpoint extends AbstractEndpoint{
                 // 블로킹 accept
                 clientSocket = serverSocket.accept();
                 log.info("[BioEndpoint] Accepted {}", clientSocket.getRemoteSocketAddress());
+                // 시간 제한을 반복해서 어긴 주소는 워커에 넘기지 않는다.
+                if(watchdog != null && watchdog.isBlocked(clientSocket.getInetAddress())) {
+                    log.debug("[BioEndpoint] Rejected blocked client {}", clientSocket.getInetAddress());
+                    clientSocket.close();
+                    continue;
+                }
                 // 요청 처리
-                executor.execute(new SocketProcessor(clientSocket, selector, handlerFactory));
+                executor.execute(new SocketProcessor(clientSocket, selector, handlerFactory, executor, watchdog));
             } catch (RejectedExecutionException e) {
                 log.warn("[BioEndpoint] Request rejected due to saturation");
                 if(clientSocket != null)
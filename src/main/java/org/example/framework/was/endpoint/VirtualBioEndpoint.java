@@ -3,6 +3,7 @@ package org.example.framework.was.endpoint;
 import org.example.framework.was.processor.SocketProcessor;
 import org.example.framework.was.protocol.HttpProtocolSelector;
 import org.example.framework.was.protocol.http.HttpProtocolHandlerFactory;
+import org.example.framework.was.timeout.TimeoutWatchdog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,11 +23,20 @@ public class VirtualBioEndpoint extends AbstractEndpoint {
     // 가상 스레드를 사용하는 ExecutorService
     private final ExecutorService executor;
 
+    /** 느린 클라이언트 감시자, {@code null}이면 적용하지 않는다. */
+    private final TimeoutWatchdog watchdog;
+
     public VirtualBioEndpoint(int port, ExecutorService executor, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory) {
+        this(port, executor, selector, handlerFactory, null);
+    }
+
+    public VirtualBioEndpoint(int port, ExecutorService executor, HttpProtocolSelector selector,
+                              HttpProtocolHandlerFactory handlerFactory, TimeoutWatchdog watchdog) {
         super(port);
         this.selector = selector;
         this.handlerFactory = handlerFactory;
         this.executor = executor;
+        this.watchdog = watchdog;
     }
 
     @Override
@@ -43,8 +53,13 @@ public class VirtualBioEndpoint extends AbstractEndpoint {
             try {
                 Socket clientSocket = serverSocket.accept();
                 log.info("[VirtualBioEndpoint] Accepted {}", clientSocket.getRemoteSocketAddress());
+                if(watchdog != null && watchdog.isBlocked(clientSocket.getInetAddress())) {
+                    log.debug("[VirtualBioEndpoint] Rejected blocked client {}", clientSocket.getInetAddress());
+                    clientSocket.close();
+                    continue;
+                }
 
-                executor.execute(new SocketProcessor(clientSocket, selector, handlerFactory));
+                executor.execute(new SocketProcessor(clientSocket, selector, handlerFactory, executor, watchdog));
             } catch (IOException e) {
                 if (isRunning()) log.error("[VirtualBioEndpoint] Accept error", e);
             }
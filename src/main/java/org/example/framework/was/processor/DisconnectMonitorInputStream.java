@@ -0,0 +1,222 @@
+package org.example.framework.was.processor;
+
+import org.example.framework.was.protocol.core.ConnectionMonitor;
+import org.example.framework.was.protocol.core.RequestProgressListener;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청을 처리하는 동안 연결에서 1바이트를 미리 읽어 클라이언트의 연결 종료를 감지하는 스트림.
+ *
+ * <p>
+ * BIO 소켓은 읽어 보기 전에는 상대가 연결을 닫았는지 알 수 없다.
+ * {@link #watch(Runnable)}가 호출되면 가상 스레드 하나가 연결에서 1바이트를 읽으며 기다린다.
+ * EOF나 I/O 오류로 끝나면 상대가 연결을 닫은 것이므로 콜백을 호출하고,
+ * 바이트가 오면(파이프라이닝된 다음 요청) 상대가 살아 있으므로 그 바이트를 보관하고 감시를 끝낸다.
+ * 보관한 바이트는 다음 read가 먼저 돌려준다.
+ * </p>
+ *
+ * <p>
+ * 감시 중 읽기가 {@code SO_TIMEOUT}으로 끝나면 감시가 끝날 때까지 다시 읽는다.
+ * 감시가 끝난 뒤에도 진행 중인 읽기는 취소할 수 없으므로, 이 연결의 다음 read는 그 읽기가 끝나기를 기다린다.
+ * 따라서 다음 요청을 기다리는 시간이 최대 {@code SO_TIMEOUT} 한 번만큼 늘어날 수 있다.
+ * </p>
+ *
+ * <p>
+ * 파서가 보내는 {@link RequestProgressListener} 알림은 안쪽 스트림에 그대로 전달한다.
+ * </p>
+ */
+class DisconnectMonitorInputStream extends FilterInputStream implements ConnectionMonitor, RequestProgressListener {
+
+    /** 보관한 바이트가 없다. */
+    private static final int NONE = -2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition probeDone = lock.newCondition();
+
+    /** 미리 읽는 스레드가 안쪽 스트림을 읽는 중 */
+    private boolean probing;
+    /** 미리 읽은 바이트, EOF면 {@code -1}, 없으면 {@link #NONE} */
+    private int pushback = NONE;
+    /** 미리 읽다가 발생한 오류, 다음 read에서 던진다. */
+    private IOException failure;
+    /** 감시 중이면 연결 종료 시 호출할 작업, 아니면 {@code null} */
+    private Runnable onDisconnect;
+
+    DisconnectMonitorInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public void watch(Runnable onDisconnect) {
+        lock.lock();
+        try {
+            if(probing) {
+                // 이전 감시의 읽기가 아직 진행 중이면 그 결과를 이어서 쓴다.
+                this.onDisconnect = onDisconnect;
+                return;
+            }
+            if(pushback == -1 || failure != null) {
+                onDisconnect.run();
+                return;
+            }
+            // 이미 받은 바이트가 있으면 상대가 살아 있으므로 감시하지 않는다.
+            if(pushback != NONE || in.available() > 0)
+                return;
+
+            this.onDisconnect = onDisconnect;
+            probing = true;
+        } catch (IOException e) {
+            return;
+        } finally {
+            lock.unlock();
+        }
+        Thread.ofVirtual().name("disconnect-probe").start(this::probe);
+    }
+
+    @Override
+    public void unwatch() {
+        lock.lock();
+        try {
+            onDisconnect = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void probe() {
+        int b;
+        IOException error = null;
+        while(true) {
+            try {
+                b = in.read();
+                break;
+            } catch (SocketTimeoutException e) {
+                if(isWatching())
+                    continue;
+                b = NONE;
+                break;
+            } catch (IOException e) {
+                error = e;
+                b = -1;
+                break;
+            }
+        }
+
+        lock.lock();
+        try {
+            probing = false;
+            if(error != null)
+                failure = error;
+            else
+                pushback = b;
+            // 콜백은 잠금 안에서 호출하여 unwatch가 반환된 뒤에는 호출되지 않게 한다.
+            if(b == -1 && onDisconnect != null)
+                onDisconnect.run();
+            onDisconnect = null;
+            probeDone.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isWatching() {
+        lock.lock();
+        try {
+            return onDisconnect != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 미리 읽기가 끝나기를 기다리고, 보관한 결과가 있으면 꺼낸다.
+     *
+     * @return 미리 읽은 바이트나 EOF({@code -1}), 없으면 {@link #NONE}
+     */
+    private int takePending() throws IOException {
+        lock.lock();
+        try {
+            while(probing)
+                probeDone.await();
+            if(failure != null)
+                throw failure;
+            int b = pushback;
+            if(b >= 0)
+                pushback = NONE;
+            return b;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for disconnect probe");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = takePending();
+        return b != NONE ? b : in.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if(len == 0)
+            return 0;
+        int pending = takePending();
+        if(pending == -1)
+            return -1;
+        if(pending == NONE)
+            return in.read(b, off, len);
+
+        b[off] = (byte) pending;
+        int n = len > 1 && in.available() > 0 ? in.read(b, off + 1, Math.min(len - 1, in.available())) : 0;
+        return 1 + Math.max(n, 0);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if(n <= 0)
+            return 0;
+        int pending = takePending();
+        if(pending == -1)
+            return 0;
+        if(pending == NONE)
+            return in.skip(n);
+        return 1 + in.skip(n - 1);
+    }
+
+    @Override
+    public int available() throws IOException {
+        int pending = takePending();
+        if(pending >= 0) {
+            // 꺼낸 바이트를 되돌려 놓는다.
+            lock.lock();
+            try {
+                pushback = pending;
+            } finally {
+                lock.unlock();
+            }
+            return 1 + in.available();
+        }
+        return pending == -1 ? 0 : in.available();
+    }
+
+    @Override
+    public void headersComplete() {
+        if(in instanceof RequestProgressListener listener)
+            listener.headersComplete();
+    }
+
+    @Override
+    public void requestComplete() {
+        if(in instanceof RequestProgressListener listener)
+            listener.requestComplete();
+    }
+}
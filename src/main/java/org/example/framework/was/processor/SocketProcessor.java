@@ -6,16 +6,21 @@ import org.example.framework.exception.was.HttpWritingException;
 import org.example.framework.was.protocol.HttpProtocolSelector;
 import org.example.framework.was.protocol.HttpProtocolVersion;
 import org.example.framework.was.protocol.core.HttpProtocolHandler;
+import org.example.framework.was.protocol.core.SocketState;
 import org.example.framework.was.protocol.http.HttpProtocolHandlerFactory;
 import org.example.framework.was.protocol.http.http1.Http1ProtocolHandler;
 import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.timeout.ConnectionGuard;
+import org.example.framework.was.timeout.TimeoutWatchdog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.Executor;
 
 /**
  * 클라이언트와 연결된 소켓 하나를 처리하는 Runnable.
@@ -31,17 +36,44 @@ import java.net.SocketTimeoutException;
 public class SocketProcessor implements Runnable{
     private static final Logger log = LoggerFactory.getLogger(SocketProcessor.class);
 
+    /** 첫 요청을 기다리는 시간. 이후 요청의 대기 시간은 keep-alive 정책이 정한다. */
     private static final int KEEP_ALIVE_TIMEOUT_MS = 5_000;
-    private static final int MAX_KEEP_ALIVE_REQUESTS = 100;
 
     private final Socket socket;
     private final HttpProtocolSelector selector;
     private final HttpProtocolHandlerFactory handlerFactory;
 
+    /** 비동기 요청이 완료된 뒤 연결 처리를 이어갈 실행기 */
+    private final Executor executor;
+
+    /** 느린 클라이언트 감시, {@code null}이면 {@code SO_TIMEOUT}만 적용한다. */
+    private final TimeoutWatchdog watchdog;
+    private ConnectionGuard guard;
+
+    /** 연결 수를 keep-alive 정책에 반영한 핸들러 */
+    private Http1ProtocolHandler http1;
+
     public SocketProcessor(Socket socket, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory) {
+        this(socket, selector, handlerFactory, null);
+    }
+
+    /**
+     * @param executor 비동기 요청 완료 후 연결 처리를 이어갈 실행기, {@code null}이면 가상 스레드를 새로 시작한다.
+     */
+    public SocketProcessor(Socket socket, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory, Executor executor) {
+        this(socket, selector, handlerFactory, executor, null);
+    }
+
+    /**
+     * @param watchdog 헤더 완료 기한, 본문 최소 전송률, 쓰기 제한을 적용할 감시자, {@code null}이면 적용하지 않는다.
+     */
+    public SocketProcessor(Socket socket, HttpProtocolSelector selector, HttpProtocolHandlerFactory handlerFactory,
+                           Executor executor, TimeoutWatchdog watchdog) {
         this.socket = socket;
         this.selector = selector;
         this.handlerFactory = handlerFactory;
+        this.executor = executor != null ? executor : task -> Thread.ofVirtual().start(task);
+        this.watchdog = watchdog;
     }
 
     /**
@@ -51,15 +83,29 @@ public class SocketProcessor implements Runnable{
      * <p>
      * 처리 중 발생하는 주요 예외(I/O, 파싱, 쓰기)는
      * 적절한 HTTP 상태코드로 변환하여 에러 응답을 보낸다.
+     * <p>
+     * 요청이 비동기 처리로 전환되면 소켓을 닫지 않고 반환하여 워커 스레드를 반납하며,
+     * 이후 연결은 비동기 처리가 완료될 때 {@link #executor}에서 이어서 처리된다.
+     * <p>
+     * 감시자가 있으면 버퍼 바깥에서 스트림을 감싸 {@link TimeoutWatchdog}에 등록한다.
+     * 프로토콜 감지도 감싼 스트림으로 읽으므로 헤더 완료 기한은 연결의 첫 바이트부터 적용된다.
+     * <p>
+     * 가장 바깥은 {@link DisconnectMonitorInputStream}으로 감싸 요청 처리 중 클라이언트의 연결 종료를 감지한다.
      */
     @Override
     public void run() {
-        try (socket) {
+        boolean handedOff = false;
+        try {
             socket.setSoTimeout(KEEP_ALIVE_TIMEOUT_MS);
 
-            InputStream raw = socket.getInputStream();
-            BufferedInputStream in = new BufferedInputStream(raw);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
             OutputStream out = socket.getOutputStream();
+            if(watchdog != null) {
+                guard = watchdog.register(socket);
+                in = guard.wrap(in);
+                out = guard.wrap(out);
+            }
+            in = new DisconnectMonitorInputStream(in);
 
             in.mark(8192);
             HttpProtocolVersion version = selector.detect(in);
@@ -71,20 +117,10 @@ public class SocketProcessor implements Runnable{
             HttpProtocolHandler handler = handlerFactory.getHandler(version);
 
             if (handler instanceof Http1ProtocolHandler http1) {
-                for (int i = 0; i < MAX_KEEP_ALIVE_REQUESTS; i++) {
-                    try {
-                        boolean keepAlive = http1.processOnce(in, out);
-                        if (!keepAlive) {
-                            break;
-                        }
-                    } catch (SocketTimeoutException e) {
-                        log.debug("[SocketProcessor] keep-alive idle timeout");
-                        break;
-                    } catch (Exception e) {
-                        log.debug("[SocketProcessor] fatal error, closing connection: {}", e.getMessage());
-                        break;
-                    }
-                }
+                this.http1 = http1;
+                http1.setRemoteAddress((InetSocketAddress) socket.getRemoteSocketAddress());
+                http1.connectionOpened();
+                handedOff = serve(http1, in, out, 0);
                 return;
             }
 
@@ -101,6 +137,71 @@ public class SocketProcessor implements Runnable{
             log.warn("[SocketProcessor] socket I/O error", e);
         } catch (Exception e) {
             log.error("[SocketProcessor] unexpected fatal error", e);
+        } finally {
+            if(!handedOff)
+                closeSocket();
+        }
+    }
+
+    /**
+     * keep-alive 연결에서 요청을 반복 처리한다.
+     * <p>
+     * 최대 요청 수와 요청 사이의 대기 시간은 핸들러가 응답마다 서버 부하를 보고 정한다.
+     *
+     * @param served 이 연결에서 이미 처리한 요청 수
+     * @return 비동기 처리나 프로토콜 업그레이드로 연결 소유권을 넘겼으면 {@code true}, 연결을 닫아야 하면 {@code false}
+     */
+    private boolean serve(Http1ProtocolHandler http1, InputStream in, OutputStream out, int served) {
+        for (int i = served; ; i++) {
+            int next = i + 1;
+            try {
+                if(i > 0) {
+                    socket.setSoTimeout(http1.getIdleTimeout());
+                    // 첫 요청의 헤더 기한은 프로토콜 감지에서 이미 시작되었다.
+                    if(guard != null)
+                        guard.awaitRequest();
+                }
+                SocketState state = http1.service(in, out, executor, resumed -> resume(http1, in, out, resumed, next));
+                if(state == SocketState.UPGRADED && guard != null)
+                    guard.upgraded();
+                if (state == SocketState.ASYNC || state == SocketState.UPGRADED)
+                    return true;
+                if (state == SocketState.CLOSED)
+                    break;
+            } catch (SocketTimeoutException e) {
+                log.debug("[SocketProcessor] keep-alive idle timeout");
+                break;
+            } catch (Exception e) {
+                log.debug("[SocketProcessor] fatal error, closing connection: {}", e.getMessage());
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 비동기 응답을 전송한 뒤 같은 연결의 다음 요청 처리를 이어간다.
+     */
+    private void resume(Http1ProtocolHandler http1, InputStream in, OutputStream out, SocketState state, int served) {
+        boolean handedOff = false;
+        try {
+            if(state == SocketState.OPEN)
+                handedOff = serve(http1, in, out, served);
+        } finally {
+            if(!handedOff)
+                closeSocket();
+        }
+    }
+
+    private void closeSocket() {
+        if(http1 != null)
+            http1.connectionClosed();
+        if(guard != null)
+            watchdog.unregister(guard);
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("[SocketProcessor] failed to close socket: {}", e.getMessage());
         }
     }
 
@@ -0,0 +1,24 @@
+package org.example.framework.was.protocol.core;
+
+/**
+ * 요청을 처리하는 동안 클라이언트의 연결 종료를 감지하는 대상.
+ *
+ * <p>
+ * 핸들러에 전달된 입력 스트림이 이 인터페이스를 구현하면, 본문을 모두 읽은 요청을 처리하는 동안 감시를 맡긴다.
+ * 감시 중에 상대가 연결을 닫으면 등록한 콜백이 다른 스레드에서 한 번 호출된다.
+ * </p>
+ */
+public interface ConnectionMonitor {
+
+    /**
+     * 연결 종료 감시를 시작한다.
+     *
+     * @param onDisconnect 상대가 연결을 닫았을 때 호출할 작업
+     */
+    void watch(Runnable onDisconnect);
+
+    /**
+     * 감시를 멈춘다. 반환된 뒤에는 콜백이 호출되지 않는다.
+     */
+    void unwatch();
+}
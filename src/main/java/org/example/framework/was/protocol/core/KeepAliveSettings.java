@@ -0,0 +1,40 @@
+package org.example.framework.was.protocol.core;
+
+/**
+ * keep-alive 연결 유지 설정
+ *
+ * <p>
+ * 유휴 시간 제한은 서버 부하에 따라 {@code minTimeout}과 {@code maxTimeout} 사이에서 정해진다.
+ * 여유가 있으면 길게 잡아 재연결 비용을 줄이고, 부하가 높으면 짧게 잡아 유휴 연결이 워커와 연결 슬롯을 빨리 돌려주게 한다.
+ * </p>
+ *
+ * @param minTimeout     부하가 높을 때의 유휴 시간 제한 (밀리초)
+ * @param maxTimeout     여유가 있을 때의 유휴 시간 제한 (밀리초)
+ * @param maxRequests    연결 하나에서 처리할 최대 요청 수
+ * @param maxConnections 부하 계산에 쓰는 동시 연결 수용량
+ * @see <a href="https://tomcat.apache.org/tomcat-10.1-doc/config/http.html">Tomcat HTTP Connector (keepAliveTimeout, maxKeepAliveRequests, maxConnections)</a>
+ */
+public record KeepAliveSettings(int minTimeout, int maxTimeout, int maxRequests, int maxConnections) {
+
+    public static final int DEFAULT_MIN_TIMEOUT = 1_000;
+    public static final int DEFAULT_MAX_TIMEOUT = 20_000;
+    public static final int DEFAULT_MAX_REQUESTS = 100;
+    public static final int DEFAULT_MAX_CONNECTIONS = 10_000;
+
+    private static final KeepAliveSettings DEFAULTS = new KeepAliveSettings(
+            DEFAULT_MIN_TIMEOUT, DEFAULT_MAX_TIMEOUT, DEFAULT_MAX_REQUESTS, DEFAULT_MAX_CONNECTIONS);
+
+    /**
+     * @throws IllegalStateException 값이 0 이하이거나 최소 시간이 최대 시간보다 긴 경우
+     */
+    public KeepAliveSettings {
+        if(minTimeout <= 0 || maxTimeout <= 0 || maxRequests <= 0 || maxConnections <= 0)
+            throw new IllegalStateException("Keep-alive settings must be positive");
+        if(minTimeout > maxTimeout)
+            throw new IllegalStateException("Min keep-alive timeout " + minTimeout + " exceeds max " + maxTimeout);
+    }
+
+    public static KeepAliveSettings defaults() {
+        return DEFAULTS;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.framework.was.protocol.core;
+
+/**
+ * 요청 하나를 파싱할 때 허용하는 최대 크기
+ *
+ * <p>
+ * 파서는 바이트를 버퍼에 넣기 전에 한도를 확인하므로, 연결 하나가 파싱에 쓰는 힙은
+ * {@code maxRequestLineLength + maxHeaderBytes + maxBodySize}를 넘지 않는다.
+ * 한도를 넘은 요청은 남은 입력을 읽지 않고 미리 인코딩된 {@code 414}, {@code 431}, {@code 413} 응답 후 연결을 닫는다.
+ * </p>
+ *
+ * <p>
+ * {@code maxBodySize}는 메모리에 올리는 본문에 적용된다.
+ * 디스크로 바로 흘려보내는 {@code multipart/form-data} 본문은 멀티파트 설정의 한도를 따른다.
+ * </p>
+ *
+ * @param maxRequestLineLength 요청 라인 최대 길이 (바이트)
+ * @param maxHeaderBytes       헤더 전체의 최대 크기 (바이트, 줄바꿈 제외)
+ * @param maxHeaderCount       최대 헤더 수
+ * @param maxBodySize          메모리에 읽는 본문의 최대 크기 (바이트)
+ * @see <a href="https://tomcat.apache.org/tomcat-10.1-doc/config/http.html">Tomcat HTTP Connector (maxHttpHeaderSize, maxHeaderCount, maxPostSize)</a>
+ */
+public record RequestLimits(int maxRequestLineLength, int maxHeaderBytes, int maxHeaderCount, long maxBodySize) {
+
+    public static final int DEFAULT_MAX_REQUEST_LINE_LENGTH = 8 * 1024;
+    public static final int DEFAULT_MAX_HEADER_BYTES = 8 * 1024;
+    public static final int DEFAULT_MAX_HEADER_COUNT = 100;
+    public static final long DEFAULT_MAX_BODY_SIZE = 2L * 1024 * 1024;
+
+    private static final RequestLimits DEFAULTS = new RequestLimits(
+            DEFAULT_MAX_REQUEST_LINE_LENGTH, DEFAULT_MAX_HEADER_BYTES, DEFAULT_MAX_HEADER_COUNT, DEFAULT_MAX_BODY_SIZE);
+
+    /**
+     * @throws IllegalStateException 한도가 0 이하이거나 본문 한도가 배열 최대 크기를 넘는 경우
+     */
+    public RequestLimits {
+        if(maxRequestLineLength <= 0 || maxHeaderBytes <= 0 || maxHeaderCount <= 0 || maxBodySize <= 0)
+            throw new IllegalStateException("Request limits must be positive");
+        if(maxBodySize > Integer.MAX_VALUE - 8)
+            throw new IllegalStateException("Max body size must fit in an array: " + maxBodySize);
+    }
+
+    public static RequestLimits defaults() {
+        return DEFAULTS;
+    }
+}
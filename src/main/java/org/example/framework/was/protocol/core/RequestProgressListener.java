@@ -0,0 +1,24 @@
+package org.example.framework.was.protocol.core;
+
+/**
+ * 파서가 요청을 읽는 진행 단계를 알리는 대상.
+ *
+ * <p>
+ * 파서에 전달된 입력 스트림이 이 인터페이스를 구현하면 헤더를 모두 읽은 시점에 호출된다.
+ * 연결 감시는 이 시점을 기준으로 헤더 완료 기한에서 본문 최소 전송률 검사로 넘어간다.
+ * 본문까지 모두 읽은 뒤 요청을 처리하는 동안의 읽기는 {@link #requestComplete()} 이후이므로 검사하지 않는다.
+ * </p>
+ */
+public interface RequestProgressListener {
+
+    /**
+     * 요청 라인과 헤더를 모두 읽었다. 이후 읽는 바이트는 본문이다.
+     */
+    void headersComplete();
+
+    /**
+     * 요청을 모두 읽었다. 이후 읽는 바이트는 다음 요청이거나 연결 종료 감지를 위한 것이다.
+     */
+    default void requestComplete() {
+    }
+}
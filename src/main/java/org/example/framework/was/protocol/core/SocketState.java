@@ -0,0 +1,27 @@
+package org.example.framework.was.protocol.core;
+
+/**
+ * 요청 하나를 처리한 뒤 연결이 놓인 상태.
+ *
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/tomcat/util/net/AbstractEndpoint.java">Apache Tomcat AbstractEndpoint.Handler.SocketState</a>
+ */
+public enum SocketState {
+
+    /** 응답을 보냈고 다음 요청을 읽을 수 있다. (keep-alive) */
+    OPEN,
+
+    /** 응답을 보냈고 연결을 닫아야 한다. */
+    CLOSED,
+
+    /**
+     * 요청이 비동기 처리 중이다. 응답은 아직 전송되지 않았으며,
+     * 연결은 비동기 처리가 완료될 때 다른 스레드에서 이어서 처리된다.
+     */
+    ASYNC,
+
+    /**
+     * 연결이 다른 프로토콜(WebSocket 등)로 전환되었다.
+     * 연결은 업그레이드 핸들러가 소유하며, 핸들러가 끝나면 닫힌다.
+     */
+    UPGRADED
+}
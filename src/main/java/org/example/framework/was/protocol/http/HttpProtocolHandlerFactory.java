@@ -3,6 +3,9 @@ package org.example.framework.was.protocol.http;
 import org.example.framework.was.adapter.ServletAdapter;
 import org.example.framework.was.protocol.HttpProtocolVersion;
 import org.example.framework.was.protocol.core.HttpProtocolHandler;
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+import org.example.framework.was.protocol.core.RequestLimits;
+import org.example.framework.was.protocol.http.http1.AdaptiveKeepAlive;
 import org.example.framework.was.protocol.http.http1.Http1ProtocolHandler;
 import org.example.framework.was.protocol.http.http2.Http2ProtocolHandler;
 
@@ -18,13 +21,46 @@ import org.example.framework.was.protocol.http.http2.Http2ProtocolHandler;
 public class HttpProtocolHandlerFactory {
 
     private final ServletAdapter adapter;
+    private final RequestLimits limits;
+    private final AdaptiveKeepAlive keepAlive;
+    private final long requestTimeout;
 
-    private HttpProtocolHandlerFactory(ServletAdapter adapter) {
+    private HttpProtocolHandlerFactory(ServletAdapter adapter, RequestLimits limits, AdaptiveKeepAlive keepAlive, long requestTimeout) {
         this.adapter = adapter;
+        this.limits = limits;
+        this.keepAlive = keepAlive;
+        this.requestTimeout = requestTimeout;
     }
 
     public static HttpProtocolHandlerFactory create(ServletAdapter adapter) {
-        return new HttpProtocolHandlerFactory(adapter);
+        return create(adapter, RequestLimits.defaults());
+    }
+
+    /**
+     * @param adapter 요청을 전달할 어댑터
+     * @param limits  HTTP/1.x 요청 파싱 한도
+     */
+    public static HttpProtocolHandlerFactory create(ServletAdapter adapter, RequestLimits limits) {
+        return create(adapter, limits, new AdaptiveKeepAlive(KeepAliveSettings.defaults()));
+    }
+
+    /**
+     * @param adapter   요청을 전달할 어댑터
+     * @param limits    HTTP/1.x 요청 파싱 한도
+     * @param keepAlive 모든 HTTP/1.x 연결이 공유하는 keep-alive 정책
+     */
+    public static HttpProtocolHandlerFactory create(ServletAdapter adapter, RequestLimits limits, AdaptiveKeepAlive keepAlive) {
+        return create(adapter, limits, keepAlive, 0);
+    }
+
+    /**
+     * @param adapter        요청을 전달할 어댑터
+     * @param limits         HTTP/1.x 요청 파싱 한도
+     * @param keepAlive      모든 HTTP/1.x 연결이 공유하는 keep-alive 정책
+     * @param requestTimeout 요청의 기본 처리 기한 (밀리초), 0 이하면 요청 헤더로만 정한다
+     */
+    public static HttpProtocolHandlerFactory create(ServletAdapter adapter, RequestLimits limits, AdaptiveKeepAlive keepAlive, long requestTimeout) {
+        return new HttpProtocolHandlerFactory(adapter, limits, keepAlive, requestTimeout);
     }
 
     /**
@@ -35,10 +71,10 @@ public class HttpProtocolHandlerFactory {
      */
     public HttpProtocolHandler getHandler(HttpProtocolVersion version) {
         if(version == HttpProtocolVersion.HTTP_1_0)
-            return new Http1ProtocolHandler(adapter);
+            return new Http1ProtocolHandler(adapter, limits, keepAlive, requestTimeout);
 
         if(version == HttpProtocolVersion.HTTP_1_1)
-            return new Http1ProtocolHandler(adapter);
+            return new Http1ProtocolHandler(adapter, limits, keepAlive, requestTimeout);
 
         if(version == HttpProtocolVersion.HTTP_2_0)
             return new Http2ProtocolHandler(adapter);
@@ -0,0 +1,132 @@
+package org.example.framework.was.protocol.http.http1;
+
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 서버 부하에 따라 keep-alive 유지 여부와 유휴 시간 제한을 정한다.
+ *
+ * <p>
+ * 부하는 열린 연결 수 / {@link KeepAliveSettings#maxConnections()}와 워커 부하 중 큰 값이다.
+ * 워커 부하는 {@link #setWorkerLoad(DoubleSupplier)}로 받으며, BIO 풀처럼 유휴 연결이 워커를 붙잡는 실행기에서 중요하다.
+ * <ul>
+ *     <li>{@link #LOW_WATERMARK} 이하 - 유휴 시간 제한을 최대로 늘린다.</li>
+ *     <li>그 위 - {@link #HIGH_WATERMARK}까지 최소값으로 선형으로 줄인다.</li>
+ *     <li>{@link #HIGH_WATERMARK} 이상 - 직전 요청과의 간격이 허용 간격보다 긴 연결, 즉 드물게 요청하는 연결부터
+ *         {@code Connection: close}로 응답한다. 허용 간격은 부하가 1에 가까울수록 0으로 줄어들고,
+ *         부하가 1 이상이면 모든 연결을 닫는다.</li>
+ * </ul>
+ * 연결마다 상태를 저장하지 않으므로 결정 비용은 요청 수와 무관하게 일정하다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9112#section-9.3">RFC 9112 9.3 Persistence</a>
+ * @see <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Keep-Alive">MDN Keep-Alive</a>
+ */
+public class AdaptiveKeepAlive {
+
+    /** 이 부하 이하이면 유휴 시간 제한을 최대로 둔다. */
+    static final double LOW_WATERMARK = 0.5;
+
+    /** 이 부하 이상이면 유휴 시간 제한을 최소로 두고 연결을 골라 닫는다. */
+    static final double HIGH_WATERMARK = 0.8;
+
+    /**
+     * 요청 하나에 대한 결정
+     *
+     * @param keepAlive   연결을 유지할지 여부
+     * @param timeout     다음 요청을 기다릴 시간 (밀리초)
+     * @param remaining   이 연결에서 더 받을 수 있는 요청 수
+     */
+    public record Decision(boolean keepAlive, int timeout, int remaining) {
+
+        /**
+         * {@code Keep-Alive} 헤더 값. 초 단위로 내림하므로 클라이언트가 서버보다 먼저 연결을 놓는다.
+         */
+        public String headerValue() {
+            return "timeout=" + Math.max(1, timeout / 1000) + ", max=" + remaining;
+        }
+    }
+
+    private final KeepAliveSettings settings;
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile DoubleSupplier workerLoad = () -> 0;
+
+    public AdaptiveKeepAlive(KeepAliveSettings settings) {
+        this.settings = settings;
+    }
+
+    public KeepAliveSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @param workerLoad 워커 사용률 (1이면 포화, 대기열이 있으면 1보다 클 수 있다)
+     */
+    public void setWorkerLoad(DoubleSupplier workerLoad) {
+        this.workerLoad = workerLoad;
+    }
+
+    public void connectionOpened() {
+        connections.incrementAndGet();
+    }
+
+    public void connectionClosed() {
+        connections.decrementAndGet();
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * 현재 부하. 0이면 유휴, 1이면 수용량에 도달했다.
+     */
+    public double load() {
+        return Math.max((double) connections.get() / settings.maxConnections(), workerLoad.getAsDouble());
+    }
+
+    /**
+     * 현재 부하에서의 유휴 시간 제한 (밀리초)
+     */
+    public int idleTimeout() {
+        return idleTimeout(load());
+    }
+
+    private int idleTimeout(double load) {
+        if(load <= LOW_WATERMARK)
+            return settings.maxTimeout();
+        if(load >= HIGH_WATERMARK)
+            return settings.minTimeout();
+
+        double ratio = (load - LOW_WATERMARK) / (HIGH_WATERMARK - LOW_WATERMARK);
+        return (int) Math.round(settings.maxTimeout() - ratio * (settings.maxTimeout() - settings.minTimeout()));
+    }
+
+    /**
+     * 응답 후 연결을 유지할지 정한다.
+     *
+     * @param served   이 요청을 포함해 연결에서 처리한 요청 수
+     * @param gapNanos 직전 요청과의 간격 (나노초), 첫 요청이면 0
+     */
+    public Decision decide(int served, long gapNanos) {
+        return decide(served, gapNanos, load());
+    }
+
+    Decision decide(int served, long gapNanos, double load) {
+        int timeout = idleTimeout(load);
+        int remaining = settings.maxRequests() - served;
+        if(remaining <= 0)
+            return new Decision(false, timeout, 0);
+
+        if(load >= HIGH_WATERMARK) {
+            double pressure = Math.min(1, (load - HIGH_WATERMARK) / (1 - HIGH_WATERMARK));
+            long allowedGap = (long) (TimeUnit.MILLISECONDS.toNanos(timeout) * (1 - pressure));
+            if(pressure >= 1 || gapNanos > allowedGap)
+                return new Decision(false, timeout, 0);
+        }
+        return new Decision(true, timeout, remaining);
+    }
+}
@@ -2,19 +2,38 @@ package org.example.framework.was.protocol.http.http1;
 
 import org.example.framework.exception.was.HttpParsingException;
 import org.example.framework.exception.was.HttpWritingException;
+import org.example.framework.exception.was.RequestLimitExceededException;
+import org.example.framework.was.common.ServerMetadata;
 import org.example.framework.was.adapter.ServletAdapter;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.container.HttpUpgradeHandler;
+import org.example.framework.was.container.RequestContext;
 import org.example.framework.was.container.Servlet;
 import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.core.ConnectionMonitor;
 import org.example.framework.was.protocol.core.HttpProtocolHandler;
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+import org.example.framework.was.protocol.core.RequestLimits;
 import org.example.framework.was.protocol.core.RequestParser;
+import org.example.framework.was.protocol.core.RequestProgressListener;
 import org.example.framework.was.protocol.core.ResponseWriter;
+import org.example.framework.was.protocol.core.SocketState;
 import org.example.framework.was.protocol.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 /**
  * HTTP/1.1 프로토콜 처리를 위한 구체적인 핸들러 구현체.
@@ -24,14 +43,121 @@ import java.nio.charset.UnsupportedCharsetException;
  */
 public class Http1ProtocolHandler extends HttpProtocolHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(Http1ProtocolHandler.class);
+
+    /** 읽지 않은 요청 본문을 버리고 연결을 유지할 수 있는 최대 크기 (바이트) */
+    static final long MAX_SWALLOW_SIZE = 2 * 1024 * 1024;
+
+    /** 미리 인코딩된 {@code 100 Continue} 중간 응답 */
+    private static final byte[] CONTINUE = "HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 파싱 한도를 넘은 요청에 보내는 미리 인코딩된 응답.
+     * 요청을 끝까지 읽지 않았으므로 모두 {@code Connection: close}이며, 응답 객체나 본문을 만들지 않는다.
+     */
+    private static final Map<HttpStatus, byte[]> LIMIT_RESPONSES = preEncode(
+            HttpStatus.URI_TOO_LONG, HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE, HttpStatus.CONTENT_TOO_LARGE);
+
     private final ServletAdapter adapter;
 
+    /** 서버 전체가 공유하는 keep-alive 정책 */
+    private final AdaptiveKeepAlive keepAlivePolicy;
+
+    /** 요청의 기본 처리 기한 (밀리초), 0 이하면 요청 헤더로만 정한다. */
+    private final long requestTimeout;
+
+    // 핸들러는 연결마다 생성되므로 아래 상태는 이 연결의 것이다.
+    private int served;
+    private long lastRequestAt;
+    private int idleTimeout;
+    private boolean opened;
+
+    /** 연결의 상대 주소, 파싱한 요청마다 기록한다. */
+    private InetSocketAddress remoteAddress;
+
     public Http1ProtocolHandler(ServletAdapter adapter) {
+        this(adapter, RequestLimits.defaults());
+    }
+
+    /**
+     * @param adapter 요청을 전달할 어댑터
+     * @param limits  요청 파싱 한도
+     */
+    public Http1ProtocolHandler(ServletAdapter adapter, RequestLimits limits) {
+        this(adapter, limits, new AdaptiveKeepAlive(KeepAliveSettings.defaults()));
+    }
+
+    /**
+     * @param adapter         요청을 전달할 어댑터
+     * @param limits          요청 파싱 한도
+     * @param keepAlivePolicy 서버 전체가 공유하는 keep-alive 정책
+     */
+    public Http1ProtocolHandler(ServletAdapter adapter, RequestLimits limits, AdaptiveKeepAlive keepAlivePolicy) {
+        this(adapter, limits, keepAlivePolicy, 0);
+    }
+
+    /**
+     * @param adapter         요청을 전달할 어댑터
+     * @param limits          요청 파싱 한도
+     * @param keepAlivePolicy 서버 전체가 공유하는 keep-alive 정책
+     * @param requestTimeout  요청의 기본 처리 기한 (밀리초), 0 이하면 요청 헤더로만 정한다
+     * @see RequestContext
+     */
+    public Http1ProtocolHandler(ServletAdapter adapter, RequestLimits limits, AdaptiveKeepAlive keepAlivePolicy, long requestTimeout) {
         super(
-                Http1RequestParser.getInstance(),
+                limits == RequestLimits.defaults() ? Http1RequestParser.getInstance() : new Http1RequestParser(limits),
                 Http1ResponseWriter.getInstance()
         );
         this.adapter = adapter;
+        this.keepAlivePolicy = keepAlivePolicy;
+        this.requestTimeout = requestTimeout;
+        this.idleTimeout = keepAlivePolicy.getSettings().maxTimeout();
+    }
+
+    private static Map<HttpStatus, byte[]> preEncode(HttpStatus... statuses) {
+        Map<HttpStatus, byte[]> responses = new EnumMap<>(HttpStatus.class);
+        for(HttpStatus status : statuses) {
+            String response = "HTTP/1.1 " + status.code() + " " + status.reason() + "\r\n"
+                    + "Server: " + ServerMetadata.SERVER_NAME + "\r\n"
+                    + "Content-Length: 0\r\n"
+                    + "Connection: close\r\n\r\n";
+            responses.put(status, response.getBytes(StandardCharsets.US_ASCII));
+        }
+        return responses;
+    }
+
+    /**
+     * 연결이 열렸음을 keep-alive 정책의 연결 수에 반영한다.
+     */
+    public void connectionOpened() {
+        if(opened)
+            return;
+        opened = true;
+        keepAlivePolicy.connectionOpened();
+    }
+
+    /**
+     * 연결이 닫혔음을 keep-alive 정책의 연결 수에 반영한다. 여러 번 호출해도 한 번만 반영된다.
+     */
+    public void connectionClosed() {
+        if(!opened)
+            return;
+        opened = false;
+        keepAlivePolicy.connectionClosed();
+    }
+
+    /**
+     * 이 연결에서 읽는 요청에 기록할 상대 주소를 설정한다.
+     */
+    public void setRemoteAddress(InetSocketAddress remoteAddress) {
+        this.remoteAddress = remoteAddress;
+    }
+
+    /**
+     * 직전 응답에서 정한 다음 요청 대기 시간 (밀리초)
+     */
+    public int getIdleTimeout() {
+        return idleTimeout;
     }
 
     /**
@@ -58,38 +184,269 @@ public class Http1ProtocolHandler extends HttpProtocolHandler {
      * 기존 계약(1회 처리)을 유지한다.
      *
      * - 호출 시점: keep-alive 미지원/단발 처리 경로
+     * - 비동기 요청이나 업그레이드된 연결이면 처리가 끝날 때까지 호출한 스레드에서 기다린다.
      */
     public boolean processOnce(InputStream in, OutputStream out) throws IOException, HttpWritingException {
+        CompletableFuture<SocketState> asyncResult = new CompletableFuture<>();
+        SocketState state = service(in, out, Runnable::run, asyncResult::complete);
+
+        if(state == SocketState.ASYNC || state == SocketState.UPGRADED)
+            state = asyncResult.join();
+        return state == SocketState.OPEN;
+    }
+
+    /**
+     * 요청 하나를 읽어 처리하고 응답을 전송한다.
+     *
+     * <p>
+     * 서블릿이 비동기 처리를 시작한 채로 반환하면 응답을 쓰지 않고 {@link SocketState#ASYNC}를 반환하여
+     * 호출한 워커 스레드를 즉시 반납한다. 이후 {@link AsyncContext}가 완료되면 {@code executor}에서
+     * 응답을 전송하고, 그 결과 상태({@link SocketState#OPEN} 또는 {@link SocketState#CLOSED})로 {@code resume}을 호출한다.
+     * </p>
+     *
+     * <p>
+     * 서블릿은 처리 기한과 취소 여부를 담은 {@link RequestContext}가 연결된 상태로 호출된다.
+     * 본문을 모두 읽은 요청은 처리하는 동안 연결 종료를 감시하며({@link ConnectionMonitor}),
+     * 클라이언트가 연결을 끊으면 컨텍스트를 취소하여 처리 스레드를 인터럽트하고 응답을 쓰지 않은 채 연결을 닫는다.
+     * 스트리밍 본문은 핸들러가 읽는 중일 수 있으므로 감시하지 않는다.
+     * </p>
+     *
+     * @param in       클라이언트 입력 스트림
+     * @param out      클라이언트 출력 스트림
+     * @param executor 비동기 완료 후 응답 전송과 연결 처리를 이어갈 실행기
+     * @param resume   비동기 응답 전송 후 호출될 콜백
+     * @return 연결 상태
+     */
+    @SuppressWarnings("try")
+    public SocketState service(InputStream in, OutputStream out, Executor executor, Consumer<SocketState> resume)
+            throws IOException, HttpWritingException {
         HttpRequest request;
         HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
 
         try {
             request = requestParser.parse(in);
+            request.setRemoteAddress(remoteAddress);
+            if(!acceptExpectation(request, out)) {
+                writeError(out, HttpStatus.EXPECTATION_FAILED, "Unsupported expectation");
+                return SocketState.CLOSED;
+            }
+
+            AdaptiveKeepAlive.Decision decision = decideKeepAlive(request);
+            response.getHeader().put("Connection", decision.keepAlive() ? "keep-alive" : "close");
+
+            RequestContext context = RequestContext.of(request, requestTimeout);
+            request.setRequestContext(context);
+            ConnectionMonitor monitor = watchDisconnect(in, request, context);
+            try(RequestContext.Scope ignored = context.attach()) {
+                adapter.service(request, response);
+            } finally {
+                if(monitor != null)
+                    monitor.unwatch();
+            }
+            if(context.isCancelled() && request.getAsyncContext() == null) {
+                log.debug("[Http1ProtocolHandler] client disconnected during {} {}", request.getMethod(), request.getPath());
+                return SocketState.CLOSED;
+            }
+            boolean keepAlive = discardBody(request, response) && decision.keepAlive();
+            if(keepAlive)
+                response.getHeader().set("Keep-Alive", decision.headerValue());
+
+            HttpUpgradeHandler upgradeHandler = request.getUpgradeHandler();
+            if(upgradeHandler != null && response.getStatus() == HttpStatus.SWITCHING_PROTOCOLS) {
+                upgrade(in, out, response, upgradeHandler, resume);
+                return SocketState.UPGRADED;
+            }
 
-            boolean keepAlive = KeepAlivePolicy.shouldKeepAlive(request);
-            response.getHeader().put("Connection", keepAlive ? "keep-alive" : "close");
+            AsyncContext asyncContext = request.getAsyncContext();
+            if(asyncContext != null) {
+                if(asyncContext.isStreaming())
+                    openStream(out, response, asyncContext);
+
+                Runnable continuation = () -> resume.accept(writeAsyncResponse(out, response, keepAlive, asyncContext.isStreaming()));
+                asyncContext.addListener(() -> {
+                    try {
+                        executor.execute(continuation);
+                    } catch (RejectedExecutionException e) {
+                        // 실행기가 포화되었거나 종료 중이면 완료한 스레드에서 직접 전송한다.
+                        continuation.run();
+                    }
+                });
+                asyncContext.startTimeout();
+                return SocketState.ASYNC;
+            }
 
-            adapter.service(request, response);
             responseWriter.write(out, response);
+            return keepAlive ? SocketState.OPEN : SocketState.CLOSED;
 
-            return keepAlive;
+        } catch (RequestLimitExceededException e) {
+            log.debug("[Http1ProtocolHandler] rejected request: {}", e.getMessage());
+            out.write(LIMIT_RESPONSES.get(e.getStatus()));
+            out.flush();
+            return SocketState.CLOSED;
 
         } catch (HttpParsingException e) {
             writeError(out, HttpStatus.BAD_REQUEST, e);
-            return false;
+            return SocketState.CLOSED;
 
         } catch (Exception e) {
             writeError(out, HttpStatus.INTERNAL_SERVER_ERROR, e);
+            return SocketState.CLOSED;
+        }
+    }
+
+    /**
+     * 본문을 모두 읽은 요청이면 처리하는 동안 연결 종료를 감시한다.
+     *
+     * @return 감시를 시작한 대상, 감시하지 않으면 {@code null}
+     */
+    private ConnectionMonitor watchDisconnect(InputStream in, HttpRequest request, RequestContext context) {
+        if(request.getBody() instanceof StreamingBody || !(in instanceof ConnectionMonitor monitor))
+            return null;
+
+        if(in instanceof RequestProgressListener listener)
+            listener.requestComplete();
+        monitor.watch(context::cancel);
+        return monitor;
+    }
+
+    /**
+     * 프로토콜 규칙({@link KeepAlivePolicy})과 서버 부하({@link AdaptiveKeepAlive})로 연결 유지 여부를 정한다.
+     * 결정된 유휴 시간 제한은 {@link #getIdleTimeout()}으로 연결 처리기에 전달된다.
+     */
+    private AdaptiveKeepAlive.Decision decideKeepAlive(HttpRequest request) {
+        long now = System.nanoTime();
+        long gap = lastRequestAt == 0 ? 0 : now - lastRequestAt;
+        lastRequestAt = now;
+        served++;
+
+        AdaptiveKeepAlive.Decision decision = keepAlivePolicy.decide(served, gap);
+        idleTimeout = decision.timeout();
+        if(!KeepAlivePolicy.shouldKeepAlive(request))
+            return new AdaptiveKeepAlive.Decision(false, decision.timeout(), 0);
+        return decision;
+    }
+
+    /**
+     * {@code Expect} 헤더를 처리한다.
+     *
+     * <p>
+     * {@code 100-continue}이면 본문을 처음 읽을 때 {@code 100 Continue}를 보내도록 등록한다.
+     * 라우팅, 인터셉터 {@code preHandle}, 인자 resolver의 크기 검사가 모두 본문보다 먼저 실행되므로,
+     * 그 단계에서 거절된 요청(401, 404, 413 등)은 중간 응답 없이 최종 응답만 보내고 업로드를 받지 않는다.
+     * 이 경우 클라이언트가 본문을 보낼지 알 수 없으므로 응답 후 연결을 닫는다.
+     * </p>
+     *
+     * @return 처리할 수 없는 기대값이면 {@code false} ({@code 417}로 응답해야 한다)
+     * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-10.1.1">RFC 9110 10.1.1 Expect</a>
+     */
+    private boolean acceptExpectation(HttpRequest request, OutputStream out) {
+        if(request.getVersion() != HttpProtocolVersion.HTTP_1_1)
+            return true;
+        String expect = request.getHeader().getFirst("Expect");
+        if(expect == null)
+            return true;
+        if(!expect.equalsIgnoreCase("100-continue"))
             return false;
+
+        if(request.getBody() instanceof StreamingBody body) {
+            body.expectContinue(() -> {
+                out.write(CONTINUE);
+                out.flush();
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 핸들러가 끝까지 읽지 않은 스트리밍 본문을 버려 다음 요청의 시작 위치를 맞춘다.
+     *
+     * <p>
+     * 남은 양이 {@link #MAX_SWALLOW_SIZE}를 넘으면 읽지 않고 이 응답을 끝으로 연결을 닫는다.
+     * 거부된 대용량 업로드를 끝까지 받아 주느라 워커가 묶이지 않게 하기 위함이다.
+     * </p>
+     *
+     * @return 연결을 계속 사용할 수 있으면 {@code true}
+     * @see <a href="https://tomcat.apache.org/tomcat-10.1-doc/config/http.html">Tomcat maxSwallowSize</a>
+     */
+    private boolean discardBody(HttpRequest request, HttpResponse response) {
+        if(!(request.getBody() instanceof StreamingBody body) || body.discard(MAX_SWALLOW_SIZE))
+            return true;
+
+        response.getHeader().set("Connection", "close");
+        return false;
+    }
+
+    /**
+     * {@code 101} 헤더를 전송하고 전용 가상 스레드에서 업그레이드 핸들러를 실행한다.
+     *
+     * <p>
+     * 업그레이드된 연결(WebSocket 등)은 수명이 길고 대부분 유휴 상태이므로
+     * 엔드포인트 워커 풀이 아닌 가상 스레드가 소유한다. 핸들러가 반환되면 {@code resume}으로 연결을 닫는다.
+     * </p>
+     */
+    private void upgrade(InputStream in, OutputStream out, HttpResponse response,
+                         HttpUpgradeHandler handler, Consumer<SocketState> resume) throws IOException, HttpWritingException {
+        new OutputBuffer(out).sendStreamingHeaders(response);
+
+        Thread.ofVirtual().name("upgraded-connection").start(() -> {
+            try {
+                handler.init(in, out);
+            } catch (IOException e) {
+                log.debug("[Http1ProtocolHandler] upgraded connection closed: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("[Http1ProtocolHandler] upgrade handler failed", e);
+            } finally {
+                resume.accept(SocketState.CLOSED);
+            }
+        });
+    }
+
+    /**
+     * 스트리밍 응답의 헤더를 전송하고 연결의 출력 스트림을 {@link AsyncContext}에 넘긴다.
+     * 본문 길이를 알 수 없으므로 응답은 연결 종료로 끝난다.
+     */
+    private void openStream(OutputStream out, HttpResponse response, AsyncContext asyncContext) {
+        response.getHeader().set("Connection", "close");
+        try {
+            new OutputBuffer(out).sendStreamingHeaders(response);
+        } catch (IOException | HttpWritingException e) {
+            asyncContext.complete();
+            return;
+        }
+        asyncContext.openStream(out);
+    }
+
+    /**
+     * 비동기 처리가 완료된 응답을 전송한다. 실패하면 연결을 닫는다.
+     * 스트리밍 응답은 이미 전송되었으므로 연결만 닫는다.
+     */
+    private SocketState writeAsyncResponse(OutputStream out, HttpResponse response, boolean keepAlive, boolean streaming) {
+        if(streaming)
+            return SocketState.CLOSED;
+
+        try {
+            responseWriter.write(out, response);
+            return keepAlive ? SocketState.OPEN : SocketState.CLOSED;
+        } catch (Exception e) {
+            try {
+                writeError(out, HttpStatus.INTERNAL_SERVER_ERROR, e);
+            } catch (Exception ignored) {
+                // 연결이 이미 끊긴 경우
+            }
+            return SocketState.CLOSED;
         }
     }
 
     private void writeError(OutputStream out, HttpStatus status, Throwable e) throws IOException, HttpWritingException {
+        writeError(out, status, e.getMessage());
+    }
+
+    private void writeError(OutputStream out, HttpStatus status, String message) throws IOException, HttpWritingException {
         String body = String.format(
                 "<h1>%d %s</h1><p>%s</p>",
                 status.code(),
                 status.reason(),
-                e.getMessage()
+                escapeHtml(message)
         );
 
         byte[] data = body.getBytes(StandardCharsets.UTF_8);
@@ -122,7 +479,7 @@ public class Http1ProtocolHandler extends HttpProtocolHandler {
      */
     @Override
     public void handleError(OutputStream outputStream, HttpStatus httpStatus, Throwable throwable) throws HttpWritingException, IOException {
-        String bodyFormat = String.format("<h1>Error %d: %s</h1>\n<p>%s.</p>", httpStatus.code(), httpStatus.reason(), throwable.getMessage());
+        String bodyFormat = String.format("<h1>Error %d: %s</h1>\n<p>%s.</p>", httpStatus.code(), httpStatus.reason(), escapeHtml(throwable.getMessage()));
         byte[] data = bodyFormat.getBytes(StandardCharsets.UTF_8);
         HttpBody body = new HttpBody(data);
 
@@ -133,4 +490,25 @@ public class Http1ProtocolHandler extends HttpProtocolHandler {
         HttpResponse response = new HttpResponse(header, body, HttpProtocolVersion.HTTP_1_1, httpStatus);
         super.responseWriter.write(outputStream, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 오류 메시지에는 요청에서 온 값이 섞일 수 있으므로 HTML 본문에 넣기 전에 이스케이프한다.
+     */
+    private static String escapeHtml(String message) {
+        if(message == null)
+            return "";
+        StringBuilder sb = new StringBuilder(message.length());
+        for(int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch(c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,17 +1,21 @@
 package org.example.framework.was.protocol.http.http1;
 
 import org.example.framework.exception.was.HttpParsingException;
+import org.example.framework.exception.was.RequestLimitExceededException;
 import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.core.RequestLimits;
 import org.example.framework.was.protocol.core.RequestParser;
+import org.example.framework.was.protocol.core.RequestProgressListener;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
 
 import org.example.framework.was.protocol.model.*;
 
 /**
- * 싱글톤 클래스입니다. {@link #getInstance()}를 통해 인스턴스를 획득할 수 있습니다.
+ * 기본 한도의 싱글톤은 {@link #getInstance()}를 통해 획득할 수 있습니다.
  * HTTP/1.1 요청을 파싱하여 {@link HttpRequest} 객체로 변환합니다.
  * <p>
  * Request Line → Header → Body 순으로 파싱합니다.
@@ -21,13 +25,35 @@ import org.example.framework.was.protocol.model.*;
  *   <li>Header: ':' 기준으로 키-값 파싱</li>
  *   <li>Body: Content-Length 기반으로 바이트 읽기</li>
  * </ul>
+ * {@code multipart/form-data} 본문은 읽지 않고 {@link StreamingBody}로 넘겨, 업로드 크기만큼 메모리를 쓰지 않게 한다.
+ * {@code Expect} 헤더가 있는 요청도 본문을 읽지 않는다. 클라이언트는 {@code 100 Continue}를 받기 전까지 본문을 보내지 않기 때문이다.
+ * <p>
+ * 요청 라인, 헤더, 본문 크기는 {@link RequestLimits}로 제한합니다. 바이트를 버퍼에 넣기 전에 한도를 확인하므로
+ * 악의적인 클라이언트가 긴 줄을 보내도 한도 이상의 메모리를 할당하지 않으며,
+ * 넘으면 남은 입력을 읽지 않고 {@link RequestLimitExceededException}을 던집니다.
+ * </p>
  *
  * @throws HttpParsingException 파싱 실패, IO 오류, 형식 불일치 시 발생
+ * @throws RequestLimitExceededException 요청 라인({@code 414}), 헤더({@code 431}), 본문({@code 413})이 한도를 넘은 경우
  * @throws UnsupportedCharsetException Transfer-Encoding 필드 존재 시 발생
  */
 public class Http1RequestParser implements RequestParser {
 
-    private Http1RequestParser() {}
+    /** 줄 버퍼의 초기 크기, 한도까지 두 배씩 늘린다 */
+    private static final int INITIAL_LINE_SIZE = 256;
+
+    private final RequestLimits limits;
+
+    private Http1RequestParser() {
+        this(RequestLimits.defaults());
+    }
+
+    /**
+     * @param limits 파싱 한도
+     */
+    public Http1RequestParser(RequestLimits limits) {
+        this.limits = limits;
+    }
 
     private static class Holder {
         static final Http1RequestParser INSTANCE = new Http1RequestParser();
@@ -40,20 +66,38 @@ public class Http1RequestParser implements RequestParser {
     @Override
     public HttpRequest parse(InputStream inputStream) throws HttpParsingException, UnsupportedCharsetException{
         DataInputStream dataInputStream = new DataInputStream(inputStream);
+        LineReader reader = new LineReader(dataInputStream);
 
         // Http 요청 라인 처리
-        String[] requestParam = parseRequestLine(dataInputStream);
+        String[] requestParam = parseRequestLine(reader);
 
         // Http Header 처리
-        HttpHeader header = parseHeader(dataInputStream);
+        HttpHeader header = parseHeader(reader);
+        if(inputStream instanceof RequestProgressListener listener)
+            listener.headersComplete();
+
+        HttpProtocolVersion version;
+        try {
+            version = HttpProtocolVersion.from(requestParam[2]);
+        } catch (IllegalArgumentException e) {
+            throw new HttpParsingException("Unsupported HTTP version: " + requestParam[2], e);
+        }
 
         // Http Body 처리
         // Transfer-Encoding 은 배제
         HttpBody body;
         String lenValue = header.getFirst("Content-Length");
         if(lenValue != null && !lenValue.isEmpty()){
-            long contentLength = Long.parseLong(lenValue);
-            body = parseBody(dataInputStream, contentLength);
+            long contentLength = parseContentLength(lenValue);
+            boolean streaming = isStreamingBody(header);
+            // 본문을 한 바이트도 읽기 전에 거절한다. 업로드는 멀티파트 설정의 한도를 따른다.
+            if(!streaming && contentLength > limits.maxBodySize())
+                throw new RequestLimitExceededException(HttpStatus.CONTENT_TOO_LARGE,
+                        "Request body of " + contentLength + " bytes exceeds " + limits.maxBodySize() + " bytes");
+
+            body = (streaming || hasExpectation(header, version)) && contentLength > 0
+                    ? new StreamingBody(inputStream, contentLength)
+                    : parseBody(dataInputStream, contentLength);
         } else
             body = HttpBody.empty();
 
@@ -62,13 +106,6 @@ public class Http1RequestParser implements RequestParser {
         if (transferEncoding != null && transferEncoding.contains("chunked"))
             throw new UnsupportedOperationException("Streaming body parsing not supported yet (Chunked encoding)");
 
-        HttpProtocolVersion version;
-        try {
-            version = HttpProtocolVersion.from(requestParam[2]);
-        } catch (IllegalArgumentException e) {
-            throw new HttpParsingException("Unsupported HTTP version: " + requestParam[2], e);
-        }
-
         return new HttpRequest(header, body, version, HttpMethod.from(requestParam[0]), requestParam[1]);
     }
 
@@ -76,13 +113,14 @@ public class Http1RequestParser implements RequestParser {
      * HTTP 요청의 첫 줄(Request Line)을 파싱하여
      * {@link HttpMessage} 객체에 메서드, 경로, 버전을 설정한다.
      *
-     * @param dataInputStream 요청 라인을 포함한 {@link DataInputStream}
+     * @param reader 요청 라인을 포함한 입력의 {@link LineReader}
      * @return [0]=Method, [1]=URI, [2]=Version
      * @throws HttpParsingException 요청 라인 형식 오류 또는 I/O 오류 발생 시
+     * @throws RequestLimitExceededException 요청 라인이 한도를 넘은 경우 ({@code 414})
      */
-    private String[] parseRequestLine(DataInputStream dataInputStream) throws HttpParsingException {
+    private String[] parseRequestLine(LineReader reader) throws HttpParsingException {
         try {
-            String requestLine = readLine(dataInputStream);
+            String requestLine = reader.readLine(limits.maxRequestLineLength(), HttpStatus.URI_TOO_LONG, "Request line");
 
             if (requestLine == null || requestLine.isEmpty()) {
                 throw new HttpParsingException("Empty request line");
@@ -109,15 +147,24 @@ public class Http1RequestParser implements RequestParser {
      * HTTP 요청 헤더를 파싱합니다.
      * <p>각 줄을 ":" 기준으로 키-값으로 분리하여 {@link HttpHeader}에 저장합니다.</p>
      *
-     * @param dataInputStream 요청 헤더를 포함한 {@link BufferedReader}
+     * @param reader 요청 헤더를 포함한 입력의 {@link LineReader}
      * @return 파싱된 헤더 객체
      * @throws HttpParsingException 형식 오류 또는 I/O 오류 발생 시
+     * @throws RequestLimitExceededException 헤더 크기나 수가 한도를 넘은 경우 ({@code 431})
      */
-    private HttpHeader parseHeader(DataInputStream dataInputStream) throws HttpParsingException {
+    private HttpHeader parseHeader(LineReader reader) throws HttpParsingException {
         try {
             HttpHeader header = new HttpHeader();
+            int remaining = limits.maxHeaderBytes();
+            int count = 0;
             String line;
-            while((line = readLine(dataInputStream)) != null && !line.isEmpty()) {
+            while((line = reader.readLine(remaining, HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE, "Request headers")) != null
+                    && !line.isEmpty()) {
+                remaining -= reader.length();
+                if(++count > limits.maxHeaderCount())
+                    throw new RequestLimitExceededException(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE,
+                            "Request has more than " + limits.maxHeaderCount() + " headers");
+
                 int idx = line.indexOf(":");
                 if(idx == -1)
                     throw new HttpParsingException("Malformed header line: " + line);
@@ -132,6 +179,39 @@ public class Http1RequestParser implements RequestParser {
         }
     }
 
+    /**
+     * {@code Content-Length} 값을 해석합니다.
+     *
+     * @throws HttpParsingException 숫자가 아니거나 음수인 경우
+     */
+    private static long parseContentLength(String value) throws HttpParsingException {
+        try {
+            long length = Long.parseLong(value.trim());
+            if(length >= 0)
+                return length;
+        } catch (NumberFormatException ignored) {
+            // 아래에서 처리한다.
+        }
+        throw new HttpParsingException("Invalid Content-Length: " + value);
+    }
+
+    /**
+     * 본문을 메모리에 모으지 않고 핸들러가 직접 읽도록 넘길지 확인합니다.
+     * <p>파일 업로드({@code multipart/form-data})만 해당합니다.</p>
+     */
+    static boolean isStreamingBody(HttpHeader header) {
+        String contentType = header.getFirst("Content-Type");
+        return contentType != null && contentType.regionMatches(true, 0, "multipart/form-data", 0, 19);
+    }
+
+    /**
+     * HTTP/1.1 요청에 {@code Expect} 헤더가 있는지 확인합니다.
+     * <p>HTTP/1.0 요청의 {@code 100-continue}는 무시해야 합니다. (RFC 9110 10.1.1)</p>
+     */
+    static boolean hasExpectation(HttpHeader header, HttpProtocolVersion version) {
+        return version == HttpProtocolVersion.HTTP_1_1 && header.getFirst("Expect") != null;
+    }
+
     /**
      * HTTP 요청 바디를 Content-Length 기반으로 읽습니다.
      * <p>Transfer-Encoding은 지원하지 않습니다.</p>
@@ -145,44 +225,64 @@ public class Http1RequestParser implements RequestParser {
         if(contentLength == 0)
             return HttpBody.empty();
 
-        // 배열 최대 크기(int)를 넘어설 경우 스트리밍으로 처리해야됨, 구현 x
-        if(contentLength > Integer.MAX_VALUE)
-            throw new UnsupportedOperationException("Streaming body parsing not supported yet");
-
+        // RequestLimits가 배열 최대 크기 이하로 제한한다.
         try {
             byte[] data = new byte[(int) contentLength];
             dataInputStream.readFully(data);
-            return new HttpBody(data);
+            // 새로 할당한 배열이므로 방어적 복사 없이 그대로 넘긴다.
+            return HttpBody.wrap(data, data.length);
         } catch (IOException e) {
             throw new HttpParsingException("Failed to read request body", e);
         }
     }
 
     /**
-     * {@link DataInputStream}에서 HTTP 라인 종료 문자(\r\n 또는 \n)를 기준으로 한 줄을 읽습니다.
-     * <p>DataInputStream은 라인 단위 읽기를 지원하지 않으므로, HTTP 프로토콜 형식에 맞게
-     * 바이트를 하나씩 읽어 줄바꿈 문자를 찾습니다.</p>
-     *
-     * @param in HTTP 요청을 읽어올 {@link DataInputStream}
-     * @return 파싱된 한 줄의 문자열 (스트림 끝 도달 시 null 반환)
-     * @throws IOException I/O 오류 발생 시
+     * 요청 하나를 읽는 동안 줄 버퍼를 재사용하며 HTTP 라인 종료 문자(\r\n 또는 \n)를 기준으로 한 줄씩 읽습니다.
+     * <p>바이트를 하나씩 읽어 줄바꿈 문자를 찾고, 버퍼에 넣기 전에 한도를 확인합니다.
+     * 버퍼는 필요할 때만 한도까지 두 배씩 늘어납니다.</p>
      */
-    private String readLine(DataInputStream in) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        int b;
-        while ((b = in.read()) != -1) {
-            baos.write(b);
-            if (b == '\n') {
-                byte[] bytes = baos.toByteArray();
-                // \r\n 제거
-                if (bytes.length > 1 && bytes[bytes.length - 2] == '\r')
-                    return new String(bytes, 0, bytes.length - 2, StandardCharsets.UTF_8);
-
-                return new String(bytes, StandardCharsets.UTF_8);
+    private static final class LineReader {
+
+        private final InputStream in;
+        private byte[] buffer = new byte[INITIAL_LINE_SIZE];
+
+        /** 마지막으로 읽은 줄의 바이트 수 (줄바꿈 제외) */
+        private int length;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * @param limit  줄바꿈을 제외한 최대 바이트 수
+         * @param status 한도를 넘었을 때 응답할 상태
+         * @param what   오류 메시지에 쓸 대상 이름
+         * @return 파싱된 한 줄의 문자열 (스트림 끝 도달 시 null 반환)
+         * @throws IOException I/O 오류 발생 시
+         * @throws RequestLimitExceededException 줄이 한도를 넘은 경우
+         */
+        String readLine(int limit, HttpStatus status, String what) throws IOException, RequestLimitExceededException {
+            int size = 0;
+            int b;
+            while((b = in.read()) != -1) {
+                if(b == '\n') {
+                    // \r\n 제거
+                    length = size > 0 && buffer[size - 1] == '\r' ? size - 1 : size;
+                    return new String(buffer, 0, length, StandardCharsets.UTF_8);
+                }
+                // 줄바꿈 직전의 \r 하나는 한도에 포함하지 않는다.
+                if(size > limit || (size == limit && b != '\r'))
+                    throw new RequestLimitExceededException(status, what + " exceeds " + limit + " bytes");
+                if(size == buffer.length)
+                    buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, limit + 1));
+                buffer[size++] = (byte) b;
             }
+            length = size;
+            return size == 0 ? null : new String(buffer, 0, size, StandardCharsets.UTF_8);
+        }
+
+        int length() {
+            return length;
         }
-        byte[] bytes = baos.toByteArray();
-        if (bytes.length == 0) return null;
-        return new String(bytes, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
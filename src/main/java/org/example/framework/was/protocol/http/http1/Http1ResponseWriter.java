@@ -41,8 +41,7 @@ public class Http1ResponseWriter implements ResponseWriter {
         outputBuffer.sendHeaders(response);
 
         if(!response.getBody().isEmpty()) {
-            byte[] bodyData = response.getBody().getData();
-            outputBuffer.writeBody(bodyData);
+            outputBuffer.writeBody(response.getBody());
             outputBuffer.flush();
         }
     }
@@ -3,12 +3,16 @@ package org.example.framework.was.protocol.http.http1;
 import org.example.framework.exception.was.HttpWritingException;
 import org.example.framework.was.common.ServerMetadata;
 import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.HttpBody;
 import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
 import org.example.framework.was.utils.HeaderNameFormatter;
 import org.example.framework.was.utils.HttpDateUtil;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
@@ -46,6 +50,9 @@ public class OutputBuffer {
 
     private boolean committed = false;
 
+    /** {@link HttpBody#writeTo(OutputStream)}가 내부 버퍼에 직접 기록하도록 하는 뷰 */
+    private final BodyStream bodyStream = new BodyStream();
+
     public OutputBuffer(OutputStream outputStream) {
         this.outputStream = outputStream;
     }
@@ -73,6 +80,26 @@ public class OutputBuffer {
      * @throws HttpWritingException HTTP 버전 미지원 등 전송 불가능한 경우
      */
     public void sendHeaders(HttpResponse response) throws IOException, HttpWritingException {
+        sendHeaders(response, true);
+    }
+
+    /**
+     * 길이를 알 수 없는 스트리밍 응답의 헤더를 전송한다.
+     * <p>
+     * Content-Length를 보내지 않으므로 본문은 연결 종료로 끝난다.
+     * 호출 측은 {@code Connection: close}를 설정해야 한다.
+     * </p>
+     *
+     * @param response 전송할 HTTP 응답 객체
+     * @throws IOException I/O 오류 발생 시
+     * @throws HttpWritingException HTTP 버전 미지원 등 전송 불가능한 경우
+     * @see #sendHeaders(HttpResponse)
+     */
+    public void sendStreamingHeaders(HttpResponse response) throws IOException, HttpWritingException {
+        sendHeaders(response, false);
+    }
+
+    private void sendHeaders(HttpResponse response, boolean fixedLength) throws IOException, HttpWritingException {
         if(committed) return;
 
         if(response.getVersion() != HttpProtocolVersion.HTTP_1_1)
@@ -91,14 +118,21 @@ public class OutputBuffer {
         String server = "Server: " + SERVER_NAME + "\r\n";
 
         // Content-Length
-        String contentLength = "Content-Length: " + response.getBody().getContentLengthLong() + "\r\n";
+        // 1xx 응답은 본문이 없으므로 본문 관련 헤더를 보내지 않는다.
+        // 304 응답의 Content-Length는 200이었다면 보냈을 길이여야 하므로 0을 보내지 않고 생략한다. (RFC 9110 8.6)
+        boolean bodiless = response.getStatusCode() < 200
+                || response.getStatusCode() == HttpStatus.NOT_MODIFIED.code();
+
+        String contentLength = fixedLength && !bodiless
+                ? "Content-Length: " + response.getBody().getContentLengthLong() + "\r\n"
+                : "";
 
         // Content-Type
         String contentType = response.getHeader().getFirst("Content-Type");
         if (contentType == null || contentType.isEmpty()) {
             contentType = "text/plain; charset=UTF-8"; // 기본값
         }
-        String contentTypeHeader = "Content-Type: " + contentType + "\r\n";
+        String contentTypeHeader = bodiless ? "" : "Content-Type: " + contentType + "\r\n";
 
         // 중복 방지를 위한 set
         final Set<String> mandatoryHeaders = Set.of(
@@ -149,6 +183,20 @@ public class OutputBuffer {
         writeInternal(data, 0, data.length);
     }
 
+    /**
+     * {@link HttpBody}를 복사본 없이 내부 버퍼로 전송한다.
+     *
+     * @param body 응답 바디
+     * @throws IOException I/O 오류 발생 시
+     * @throws IllegalStateException 헤더가 아직 전송(commit)되지 않은 경우
+     */
+    public void writeBody(HttpBody body) throws IOException {
+        if (!committed) {
+            throw new IllegalStateException("Headers not committed before body write");
+        }
+        body.writeTo(bodyStream);
+    }
+
     /**
      * 내부 write 메서드.
      * <p>
@@ -209,6 +257,21 @@ public class OutputBuffer {
         outputStream.flush();
     }
 
+    /**
+     * {@link ByteBuffer}의 남은 바이트를 내부 버퍼에 복사한다.
+     * 오프힙 메모리의 바디도 중간 배열 없이 한 번의 복사로 전송된다.
+     */
+    private void writeInternal(ByteBuffer src) throws IOException {
+        while(src.hasRemaining()) {
+            int copyLength = Math.min(buffer.length - pos, src.remaining());
+            src.get(buffer, pos, copyLength);
+            pos += copyLength;
+
+            if(pos == buffer.length)
+                flushInternal();
+        }
+    }
+
     /**
      * 내부 버퍼의 내용을 OutputStream에 즉시 기록하고 버퍼를 비운다.
      * <p>
@@ -225,4 +288,36 @@ public class OutputBuffer {
         }
     }
 
+    /**
+     * 바디 기록용 스트림. {@link WritableByteChannel}도 구현하므로
+     * {@link ByteBuffer} 기반 바디는 {@link #write(ByteBuffer)}로 직접 기록할 수 있다.
+     */
+    private final class BodyStream extends OutputStream implements WritableByteChannel {
+        @Override
+        public void write(int b) throws IOException {
+            writeInternal(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writeInternal(b, off, len);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int remaining = src.remaining();
+            writeInternal(src);
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // 연결 스트림은 컨테이너가 닫는다.
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package org.example.framework.was.protocol.model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 파일 내용을 메모리에 올리지 않고 전송 시점에 읽는 바디.
+ *
+ * <p>
+ * {@link #writeTo(OutputStream, long, long)}는 {@link FileChannel#transferTo(long, long, WritableByteChannel)}로
+ * 요청된 구간만 위치 기반으로 읽으므로, 이어받기(Range) 요청은 남은 바이트만큼만 비용이 든다.
+ * 대상이 {@link WritableByteChannel}(컨테이너의 출력 버퍼)이면 중간 배열 없이 채널로 기록한다.
+ * </p>
+ *
+ * <p>
+ * 길이는 생성 시점의 파일 크기로 고정된다. 전송 중 파일이 줄어들면 {@link EOFException}이 발생한다.
+ * </p>
+ */
+public class FileBody extends HttpBody {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Path path;
+    private final long length;
+
+    /**
+     * @param path   파일 경로
+     * @param length 전송할 길이 (파일 앞부분부터)
+     */
+    public FileBody(Path path, long length) {
+        super(EMPTY, 0);
+        this.path = path;
+        this.length = length;
+    }
+
+    /**
+     * 현재 파일 크기 전체를 바디로 만든다.
+     */
+    public static FileBody of(Path path) throws IOException {
+        return new FileBody(path, Files.size(path));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        writeTo(out, 0, length);
+    }
+
+    @Override
+    public void writeTo(OutputStream out, long offset, long count) throws IOException {
+        Objects.checkFromIndexSize(offset, count, length);
+        WritableByteChannel target = out instanceof WritableByteChannel channel ? channel : Channels.newChannel(out);
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = offset;
+            long end = offset + count;
+            while(position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if(transferred <= 0)
+                    throw new EOFException("File truncated while writing " + path);
+                position += transferred;
+            }
+        }
+    }
+
+    @Override
+    public byte[] getData() {
+        try(InputStream in = Files.newInputStream(path)) {
+            return in.readNBytes(Math.toIntExact(length));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getAsString(String encoding) throws UnsupportedCharsetException {
+        return new String(getData(), Charset.forName(encoding));
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
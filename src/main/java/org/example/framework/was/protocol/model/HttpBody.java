@@ -1,23 +1,60 @@
 package org.example.framework.was.protocol.model;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * HTTP 요청/응답의 바디 데이터를 저장합니다.
  * WAS는 데이터를 파싱하지 않고 원본 바이트 스트림만 유지합니다.
  */
 public class HttpBody {
+
+    private static final HttpBody EMPTY = new HttpBody(new byte[0], 0);
+
     /** 원본 바이트 데이터 */
     private final byte[] data;
 
+    /** 유효한 데이터 길이 ({@code data.length}보다 작을 수 있음) */
+    private final int length;
+
     public HttpBody(byte[] data) {
         // 방어적 복사(defensive copy)를 통해 외부에서 전달받은 배열이 변경되어도
         // 이 HttpBody 인스턴스는 안전하게 유지되도록 합니다.
-        this.data = Arrays.copyOf(data, data.length);
+        this(Arrays.copyOf(data, data.length), data.length);
+    }
+
+    /**
+     * 하위 클래스가 다른 저장소(오프힙 메모리 등)의 바디를 표현할 때 사용한다.
+     * 하위 클래스는 데이터에 접근하는 메서드를 모두 재정의해야 한다.
+     */
+    protected HttpBody(byte[] data, int length) {
+        this.data = data;
+        this.length = length;
     }
 
+    /**
+     * 바이트 배열을 복사하지 않고 그대로 감싸는 바디를 생성합니다.
+     * <p>
+     * 직렬화 버퍼처럼 호출자가 더 이상 수정하지 않는 배열의 소유권을 넘겨받을 때 사용하며,
+     * 앞쪽 {@code length} 바이트만 바디로 취급합니다.
+     * </p>
+     *
+     * @param data   바디 데이터 (이후 호출자가 수정하면 안 된다)
+     * @param length 유효한 데이터 길이
+     * @return 배열을 공유하는 {@link HttpBody}
+     * @throws IndexOutOfBoundsException length가 배열 범위를 벗어난 경우
+     */
+    public static HttpBody wrap(byte[] data, int length) {
+        if(length < 0 || length > data.length)
+            throw new IndexOutOfBoundsException("length " + length + " out of bounds for " + data.length);
+        return new HttpBody(data, length);
+    }
 
     /**
      * 비어 있는 바디 객체를 반환합니다.
@@ -25,7 +62,7 @@ public class HttpBody {
      * @return 비어 있는 {@link HttpBody} 인스턴스
      */
     public static HttpBody empty() {
-        return new HttpBody(new byte[0]);
+        return EMPTY;
     }
 
     /**
@@ -36,7 +73,7 @@ public class HttpBody {
      * @throws UnsupportedCharsetException 지원하지 않는 인코딩일 경우 발생
      */
     public String getAsString(String encoding) throws UnsupportedCharsetException {
-        return new String(data, Charset.forName(encoding));
+        return new String(data, 0, length, Charset.forName(encoding));
     }
 
     /**
@@ -45,7 +82,7 @@ public class HttpBody {
      * @return 바디 데이터의 길이 (byte 단위)
      */
     public long getContentLengthLong() {
-        return data.length;
+        return length;
     }
 
     /**
@@ -53,7 +90,52 @@ public class HttpBody {
      * @return 바디가 비어있으면 true, 아니면 false
      */
     public byte[] getData() {
-        return Arrays.copyOf(this.data, this.data.length);
+        return Arrays.copyOf(this.data, this.length);
+    }
+
+    /**
+     * 바디 데이터를 복사본 없이 스트림에 기록합니다.
+     *
+     * @param out 대상 스트림
+     * @throws IOException 기록 중 I/O 오류가 발생한 경우
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(data, 0, length);
+    }
+
+    /**
+     * 바디의 일부 구간만 복사본 없이 스트림에 기록합니다. Range 요청의 206 응답에 사용합니다.
+     * <p>다른 저장소의 바디를 표현하는 하위 클래스는 해당 구간만 읽도록 재정의해야 합니다.</p>
+     *
+     * @param out    대상 스트림
+     * @param offset 시작 위치 (바이트)
+     * @param count  기록할 길이 (바이트)
+     * @throws IOException 기록 중 I/O 오류가 발생한 경우
+     * @throws IndexOutOfBoundsException 구간이 바디 범위를 벗어난 경우
+     */
+    public void writeTo(OutputStream out, long offset, long count) throws IOException {
+        Objects.checkFromIndexSize(offset, count, getContentLengthLong());
+        out.write(data, (int) offset, (int) count);
+    }
+
+    /**
+     * 바디를 여러 번 기록할 수 있는지 확인합니다.
+     * <p>한 번 전송한 뒤 자원을 반납하는 바디(캐시 적중 본문 등)는 {@code false}를 반환합니다.</p>
+     *
+     * @return 여러 번 기록할 수 있으면 true
+     */
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * 바디 데이터를 복사본 없이 읽는 스트림을 반환합니다.
+     * <p>요청 본문을 문자열로 변환하지 않고 파싱할 때 사용합니다.</p>
+     *
+     * @return 바디 데이터를 읽는 새 {@link InputStream}
+     */
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(data, 0, length);
     }
 
     /**
@@ -61,6 +143,6 @@ public class HttpBody {
      * @return 바디가 비어있으면 true, 아니면 false
      */
     public boolean isEmpty() {
-        return this.data.length == 0;
+        return this.length == 0;
     }
-}
\ No newline at end of file
+}
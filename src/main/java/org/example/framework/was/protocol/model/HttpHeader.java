@@ -35,6 +35,18 @@ public class HttpHeader {
         list.add(trimmedValue);
     }
 
+    /**
+     * HTTP 헤더 필드의 기존 값을 모두 지우고 하나의 값으로 설정한다.
+     *
+     * @param key   헤더 필드 이름
+     * @param value 헤더 필드 값
+     */
+    public void set(String key, String value) {
+        List<String> list = new ArrayList<>(1);
+        list.add(value.trim());
+        headers.put(key.toLowerCase().trim(), list);
+    }
+
     protected void setContentLength(int length) {
         put("Content-Length", Integer.toString(length));
     }
@@ -1,36 +1,226 @@
 package org.example.framework.was.protocol.model;
 
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.container.HttpUpgradeHandler;
+import org.example.framework.was.container.RequestContext;
 import org.example.framework.was.protocol.HttpProtocolVersion;
 
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * HTTP 요청 정보를 표현하는 클래스.
  * <p>
- * 요청 메서드({@link HttpMethod})와 요청 경로(path)를 포함하며,
+ * 요청 메서드({@link HttpMethod})와 요청 대상(request target)을 포함하며,
  * 상위 클래스 {@link HttpMessage}를 통해 헤더와 바디에 접근할 수 있다.
  * <ul>
  *   <li>{@code method} : HTTP 메서드 (GET, POST, PUT, DELETE 등)</li>
- *   <li>{@code path} : 요청 대상 URI 경로</li>
+ *   <li>{@code requestTarget} : 요청 라인의 원본 대상 (예: /api/posts?page=2)</li>
+ *   <li>{@code path} : 쿼리 문자열을 제외한 요청 경로 (예: /api/posts)</li>
+ *   <li>{@code queryString} : {@code ?} 이후의 원본 쿼리 문자열</li>
  * </ul>
+ * 경로와 쿼리 문자열은 퍼센트 인코딩된 원본 그대로 보관되며,
+ * 쿼리 파라미터는 {@link #getQueryParameters()}가 처음 호출될 때 파싱된다.
  */
 public class HttpRequest extends HttpMessage{
 
     /** HTTP 요청 메서드 */
     private final HttpMethod method;
 
+    /** 요청 라인의 원본 대상 (예: /api/posts?page=2) */
+    private final String requestTarget;
+
     /** 요청 경로 (예: /api/posts) */
     private final String path;
 
-    public HttpRequest(HttpHeader header, HttpBody body, HttpProtocolVersion version, HttpMethod method, String path) {
+    /** 쿼리 문자열, 없으면 {@code null} */
+    private final String queryString;
+
+    /** 처음 조회될 때 생성되는 쿼리 파라미터 */
+    private QueryParameters queryParameters;
+
+    /** 요청 처리 중 계층 간에 공유하는 값, 처음 저장될 때 생성된다 */
+    private Map<String, Object> attributes;
+
+    /** 비동기 처리 중이면 그 컨텍스트, 아니면 {@code null} */
+    private volatile AsyncContext asyncContext;
+
+    /** 프로토콜 업그레이드를 요청했으면 그 핸들러, 아니면 {@code null} */
+    private HttpUpgradeHandler upgradeHandler;
+
+    /** 요청을 보낸 연결의 상대 주소, 소켓 없이 만들어진 요청이면 {@code null} */
+    private InetSocketAddress remoteAddress;
+
+    /** 처리 기한과 취소 여부, 컨테이너가 설정하기 전이면 {@code null} */
+    private volatile RequestContext requestContext;
+
+    public HttpRequest(HttpHeader header, HttpBody body, HttpProtocolVersion version, HttpMethod method, String requestTarget) {
         super(version, header, body);
         this.method = method;
-        this.path = path;
+        this.requestTarget = requestTarget;
+
+        int idx = requestTarget.indexOf('?');
+        this.path = idx < 0 ? requestTarget : requestTarget.substring(0, idx);
+        this.queryString = idx < 0 ? null : requestTarget.substring(idx + 1);
+    }
+
+    /**
+     * 요청을 보낸 연결의 상대 주소를 반환한다.
+     * <p>
+     * 프록시를 거친 요청이면 프록시의 주소이다. {@code X-Forwarded-For}는 신뢰할 수 있는 경우에만 따로 해석해야 한다.
+     * </p>
+     *
+     * @return 상대 주소, 소켓 없이 만들어진 요청이면 {@code null}
+     */
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * 연결 처리기가 요청을 파싱한 직후 연결의 상대 주소를 기록한다.
+     */
+    public void setRemoteAddress(InetSocketAddress remoteAddress) {
+        this.remoteAddress = remoteAddress;
     }
 
     public HttpMethod getMethod() {
         return method;
     }
 
+    public String getRequestTarget() {
+        return requestTarget;
+    }
+
+    /**
+     * 쿼리 문자열을 제외한 요청 경로를 반환한다.
+     *
+     * @return 퍼센트 인코딩된 원본 경로
+     */
     public String getPath() {
         return path;
     }
+
+    /**
+     * 원본 쿼리 문자열을 반환한다.
+     *
+     * @return 쿼리 문자열, 없으면 {@code null}
+     */
+    public String getQueryString() {
+        return queryString;
+    }
+
+    /**
+     * 쿼리 파라미터를 반환한다. 최초 호출 시에만 생성된다.
+     *
+     * @return 쿼리 파라미터 (쿼리 문자열이 없으면 비어 있음)
+     */
+    public QueryParameters getQueryParameters() {
+        if(queryParameters == null)
+            queryParameters = new QueryParameters(queryString);
+        return queryParameters;
+    }
+
+    /**
+     * 주어진 이름의 첫 번째 쿼리 파라미터 값을 디코딩하여 반환한다.
+     *
+     * @param name 파라미터 이름
+     * @return 파라미터 값, 없으면 {@code null}
+     */
+    public String getParameter(String name) {
+        return queryString == null ? null : getQueryParameters().getFirst(name);
+    }
+
+    /**
+     * 요청 속성을 반환한다.
+     *
+     * @param name 속성 이름
+     * @return 속성 값, 없으면 {@code null}
+     */
+    public Object getAttribute(String name) {
+        return attributes == null ? null : attributes.get(name);
+    }
+
+    /**
+     * 요청 처리 중 필터, 인터셉터, 인자 resolver가 공유할 값을 저장한다.
+     * <p>
+     * 파싱한 멀티파트 본문처럼 한 번만 만들어야 하는 값을 보관하는 용도이며, 동기화되지 않는다.
+     * </p>
+     *
+     * @param name  속성 이름
+     * @param value 속성 값, {@code null}이면 제거한다
+     */
+    public void setAttribute(String name, Object value) {
+        if(value == null) {
+            if(attributes != null)
+                attributes.remove(name);
+            return;
+        }
+        if(attributes == null)
+            attributes = new HashMap<>();
+        attributes.put(name, value);
+    }
+
+    /**
+     * @return 처리 기한과 취소 여부, 컨테이너를 거치지 않은 요청이면 {@code null}
+     */
+    public RequestContext getRequestContext() {
+        return requestContext;
+    }
+
+    public void setRequestContext(RequestContext requestContext) {
+        this.requestContext = requestContext;
+    }
+
+    /**
+     * 이 요청을 비동기 처리로 전환한다.
+     * <p>
+     * 서블릿이 반환된 뒤에도 응답은 전송되지 않으며,
+     * {@link AsyncContext#complete(Runnable)}이 호출될 때 컨테이너가 응답을 전송한다.
+     * </p>
+     *
+     * @param response 이 요청의 응답
+     * @return 새로 생성된 {@link AsyncContext}
+     * @throws IllegalStateException 이미 비동기 처리가 시작된 경우
+     */
+    public AsyncContext startAsync(HttpResponse response) {
+        if(asyncContext != null)
+            throw new IllegalStateException("Async processing has already been started for " + path);
+        asyncContext = new AsyncContext(this, response);
+        return asyncContext;
+    }
+
+    public boolean isAsyncStarted() {
+        return asyncContext != null;
+    }
+
+    /**
+     * @return 비동기 처리 중이면 그 컨텍스트, 아니면 {@code null}
+     */
+    public AsyncContext getAsyncContext() {
+        return asyncContext;
+    }
+
+    /**
+     * 응답 전송 후 이 연결을 다른 프로토콜로 전환하도록 요청한다.
+     * <p>
+     * 응답 상태가 {@link HttpStatus#SWITCHING_PROTOCOLS}인 경우에만 컨테이너가 전환을 수행하며,
+     * 헤더 전송 직후 연결의 입출력 스트림이 핸들러에 넘어간다.
+     * </p>
+     *
+     * @param handler 전환된 연결을 처리할 핸들러
+     * @throws IllegalStateException 이미 업그레이드가 요청된 경우
+     */
+    public void upgrade(HttpUpgradeHandler handler) {
+        if(upgradeHandler != null)
+            throw new IllegalStateException("Upgrade has already been requested for " + path);
+        upgradeHandler = handler;
+    }
+
+    /**
+     * @return 업그레이드를 요청한 핸들러, 없으면 {@code null}
+     */
+    public HttpUpgradeHandler getUpgradeHandler() {
+        return upgradeHandler;
+    }
 }
@@ -1,7 +1,9 @@
 package org.example.framework.was.protocol.model;
 
+import org.example.framework.util.ETagUtils;
 import org.example.framework.was.protocol.HttpProtocolVersion;
-import org.example.framework.web.response.ErrorResponse;
+import org.example.framework.web.json.JsonMapper;
+import org.example.framework.web.json.JsonWriter;
 
 import java.nio.charset.StandardCharsets;
 
@@ -51,30 +53,58 @@ public class HttpResponse extends HttpMessage{
         super.header.setContentLength(bytes.length);
     }
 
-    public void writeJson(ErrorResponse e) {
-        String json = """
-    {
-      "status": %d,
-      "error": "%s",
-      "message": "%s",
-      "path": "%s",
-      "timestamp": %d
+    /**
+     * 이미 만들어진 바디로 교체한다. 필터가 본문을 변환(압축 등)할 때 사용한다.
+     *
+     * @param body 새 바디
+     */
+    public void setBody(HttpBody body) {
+        super.body = body;
+        super.header.set("Content-Length", Long.toString(body.getContentLengthLong()));
     }
-    """.formatted(
-                e.status(),
-                escape(e.error()),
-                escape(e.message()),
-                escape(e.path()),
-                e.timestamp()
-        );
-
-        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-        super.body = new HttpBody(bytes);
-        super.header.setContentLength(bytes.length);
-        super.header.setContentType("application/json; charset=UTF-8");
+
+    /**
+     * 응답에 ETag를 설정하고, 요청의 {@code If-None-Match}와 일치하면 {@code 304 Not Modified}로 바꾼다.
+     * <p>
+     * 버전을 저렴하게 알 수 있는 핸들러는 본문을 만들기 전에 호출하고, {@code true}이면 렌더링 없이 반환하면 된다.
+     * 304 응답의 본문은 비어 있으며 Content-Length, Content-Type은 전송되지 않는다.
+     * </p>
+     *
+     * <pre>{@code
+     * if(response.checkNotModified(request, "\"v" + version + "\""))
+     *     return null;
+     * }</pre>
+     *
+     * @param request 현재 요청
+     * @param etag    현재 표현의 태그 (따옴표 포함, 예: {@code "v3"}, {@code W/"v3"})
+     * @return 304로 바뀌었으면 {@code true}
+     * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-15.4.5">RFC 9110 15.4.5 304 Not Modified</a>
+     */
+    public boolean checkNotModified(HttpRequest request, String etag) {
+        super.header.set("ETag", etag);
+        if(!ETagUtils.matches(request.getHeader().get("If-None-Match"), etag))
+            return false;
+
+        this.httpStatus = HttpStatus.NOT_MODIFIED;
+        super.body = HttpBody.empty();
+        return true;
     }
 
-    private String escape(String s) {
-        return s == null ? "" : s.replace("\"", "\\\"");
+    /**
+     * 값을 JSON으로 직렬화하여 바디로 설정한다.
+     * <p>
+     * 직렬화 결과는 중간 문자열 없이 UTF-8 바이트로 기록되며, 그 버퍼가 복사 없이 바디가 된다.
+     * </p>
+     *
+     * @param value 직렬화할 값 (레코드, POJO, 컬렉션, 맵 등)
+     * @see JsonMapper
+     */
+    public void writeJson(Object value) {
+        JsonWriter out = new JsonWriter();
+        JsonMapper.getInstance().write(out, value);
+
+        super.body = out.toBody();
+        super.header.setContentLength(out.size());
+        super.header.setContentType("application/json; charset=UTF-8");
     }
 }
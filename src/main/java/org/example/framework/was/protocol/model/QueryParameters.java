@@ -0,0 +1,184 @@
+package org.example.framework.was.protocol.model;
+
+import org.example.framework.util.UriUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 대상의 쿼리 문자열({@code ?} 이후)을 표현하는 클래스.
+ * <p>
+ * 파싱은 처음 조회되는 시점에 한 번만 수행되며, 그 결과도
+ * 각 {@code name=value} 쌍의 이름/값 시작·끝 오프셋을 담은 {@code int[]} 하나뿐이다.
+ * 이름 비교는 원본 문자열 위에서 직접 수행하고,
+ * 값은 {@link #getFirst(String)}처럼 실제로 요청될 때만 디코딩하여 문자열로 만든다.
+ * 숫자/불리언 값은 {@link #valueStart(int)}, {@link #valueEnd(int)} 구간을
+ * {@link UriUtils}로 바로 해석할 수 있다.
+ * </p>
+ *
+ * <p>
+ * 하나의 요청 처리 스레드에서만 사용되는 것을 전제로 하므로 동기화하지 않는다.
+ * </p>
+ */
+public class QueryParameters {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int SLOTS = 4;
+
+    /** 원본(인코딩된) 쿼리 문자열 */
+    private final String query;
+
+    /** [nameStart, nameEnd, valueStart, valueEnd] 반복, 값이 없으면 valueStart == -1 */
+    private int[] offsets;
+    private int size;
+
+    public QueryParameters(String query) {
+        this.query = query != null ? query : "";
+    }
+
+    /**
+     * 원본 쿼리 문자열을 반환한다.
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * 파라미터(이름=값 쌍) 개수를 반환한다. 같은 이름이 반복되면 각각 센다.
+     */
+    public int size() {
+        ensureParsed();
+        return size;
+    }
+
+    /**
+     * 주어진 이름의 첫 번째 파라미터 위치를 반환한다.
+     *
+     * @param name 디코딩된 파라미터 이름
+     * @return 파라미터 인덱스, 없으면 {@code -1}
+     */
+    public int indexOf(String name) {
+        return nextIndexOf(name, 0);
+    }
+
+    /**
+     * 주어진 위치부터 이름이 일치하는 파라미터 위치를 찾는다.
+     *
+     * @param name 디코딩된 파라미터 이름
+     * @param from 탐색 시작 인덱스
+     * @return 파라미터 인덱스, 없으면 {@code -1}
+     */
+    public int nextIndexOf(String name, int from) {
+        ensureParsed();
+        for(int i = from; i < size; i++) {
+            int base = i * SLOTS;
+            if(UriUtils.regionEquals(query, offsets[base], offsets[base + 1], name, true))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 주어진 이름의 첫 번째 값을 디코딩하여 반환한다.
+     *
+     * @param name 디코딩된 파라미터 이름
+     * @return 값, {@code name}처럼 값 없이 선언되면 빈 문자열, 파라미터가 없으면 {@code null}
+     */
+    public String getFirst(String name) {
+        int index = indexOf(name);
+        return index < 0 ? null : getValue(index);
+    }
+
+    /**
+     * 주어진 이름의 모든 값을 선언 순서대로 반환한다.
+     *
+     * @param name 디코딩된 파라미터 이름
+     * @return 값 목록, 없으면 빈 리스트
+     */
+    public List<String> getAll(String name) {
+        List<String> values = new ArrayList<>();
+        for(int i = indexOf(name); i >= 0; i = nextIndexOf(name, i + 1))
+            values.add(getValue(i));
+        return values;
+    }
+
+    /**
+     * 지정한 위치의 파라미터 이름을 디코딩하여 반환한다.
+     */
+    public String getName(int index) {
+        ensureParsed();
+        int base = index * SLOTS;
+        return UriUtils.decode(query, offsets[base], offsets[base + 1], true);
+    }
+
+    /**
+     * 지정한 위치의 파라미터 값을 디코딩하여 반환한다.
+     */
+    public String getValue(int index) {
+        return UriUtils.decode(query, valueStart(index), valueEnd(index), true);
+    }
+
+    /**
+     * 지정한 위치의 인코딩된 값 시작 오프셋을 반환한다. (원본 쿼리 문자열 기준)
+     */
+    public int valueStart(int index) {
+        ensureParsed();
+        int start = offsets[index * SLOTS + 2];
+        return start < 0 ? offsets[index * SLOTS + 1] : start;
+    }
+
+    /**
+     * 지정한 위치의 인코딩된 값 끝 오프셋(exclusive)을 반환한다. (원본 쿼리 문자열 기준)
+     */
+    public int valueEnd(int index) {
+        ensureParsed();
+        int start = offsets[index * SLOTS + 2];
+        return start < 0 ? offsets[index * SLOTS + 1] : offsets[index * SLOTS + 3];
+    }
+
+    private void ensureParsed() {
+        if(offsets != null)
+            return;
+
+        if(query.isEmpty()) {
+            offsets = EMPTY;
+            return;
+        }
+
+        int[] result = new int[SLOTS * 4];
+        int count = 0;
+        int length = query.length();
+        int pairStart = 0;
+
+        while(pairStart <= length) {
+            int pairEnd = query.indexOf('&', pairStart);
+            if(pairEnd < 0) pairEnd = length;
+
+            // 빈 쌍(&&)은 건너뛴다.
+            if(pairEnd > pairStart) {
+                int eq = query.indexOf('=', pairStart);
+                if(eq >= pairEnd) eq = -1;
+
+                if((count + 1) * SLOTS > result.length)
+                    result = Arrays.copyOf(result, result.length * 2);
+
+                int base = count * SLOTS;
+                result[base] = pairStart;
+                result[base + 1] = eq < 0 ? pairEnd : eq;
+                result[base + 2] = eq < 0 ? -1 : eq + 1;
+                result[base + 3] = pairEnd;
+                count++;
+            }
+            pairStart = pairEnd + 1;
+        }
+
+        offsets = result;
+        size = count;
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
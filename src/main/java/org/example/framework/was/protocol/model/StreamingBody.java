@@ -0,0 +1,218 @@
+package org.example.framework.was.protocol.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * 연결에서 아직 읽지 않은 요청 본문.
+ *
+ * <p>
+ * 파서가 본문을 {@code byte[]}로 모으지 않고 {@code Content-Length}만큼으로 제한한 연결 스트림을 그대로 넘긴다.
+ * 업로드처럼 큰 본문을 핸들러가 읽으면서 바로 디스크나 채널로 흘려보낼 수 있으므로
+ * 메모리 사용량이 본문 크기에 비례하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 클라이언트가 {@code Expect: 100-continue}를 보냈으면 {@link #expectContinue(Acknowledgement)}로 등록한
+ * 중간 응답을 처음 읽는 순간에 전송한다. 라우팅과 인터셉터 검사를 통과해 핸들러가 실제로 본문을 읽을 때만
+ * 클라이언트가 전송을 시작하므로, 거절할 요청의 업로드를 받지 않는다.
+ * </p>
+ *
+ * <p>
+ * 본문은 한 번만 읽을 수 있으며, 서블릿이 반환되기 전에 읽어야 한다.
+ * 컨테이너는 응답 전에 {@link #discard(long)}로 남은 바이트를 버려 다음 요청의 경계를 맞춘다.
+ * </p>
+ */
+public class StreamingBody extends HttpBody {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final BoundedInputStream in;
+    private final long length;
+
+    /** 첫 읽기 전에 보낼 {@code 100 Continue}, 보냈거나 필요 없으면 {@code null} */
+    private Acknowledgement pendingContinue;
+
+    /**
+     * @param in     연결 입력 스트림 (닫지 않는다)
+     * @param length 본문 길이 ({@code Content-Length})
+     */
+    public StreamingBody(InputStream in, long length) {
+        super(EMPTY, 0);
+        this.in = new BoundedInputStream(in, length);
+        this.length = length;
+    }
+
+    /**
+     * 본문을 처음 읽을 때 {@code 100 Continue}를 보내도록 등록한다.
+     *
+     * @param acknowledgement 중간 응답을 전송하는 작업
+     * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-10.1.1">RFC 9110 10.1.1 Expect</a>
+     */
+    public void expectContinue(Acknowledgement acknowledgement) {
+        this.pendingContinue = acknowledgement;
+    }
+
+    /**
+     * @return 클라이언트가 {@code 100 Continue}를 기다리고 있고 아직 보내지 않았으면 {@code true}
+     */
+    public boolean isContinuePending() {
+        return pendingContinue != null;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    /**
+     * 본문을 읽는 스트림을 반환한다. 여러 번 호출해도 같은 스트림이며, 닫아도 연결은 닫히지 않는다.
+     */
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    /**
+     * 남은 본문을 모두 읽어 반환한다. 본문 크기만큼 메모리를 사용하므로 작은 본문에만 사용한다.
+     */
+    @Override
+    public byte[] getData() {
+        try {
+            return in.readNBytes(Math.toIntExact(in.remaining));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getAsString(String encoding) throws UnsupportedCharsetException {
+        return new String(getData(), Charset.forName(encoding));
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        in.transferTo(out);
+    }
+
+    @Override
+    public void writeTo(OutputStream out, long offset, long count) throws IOException {
+        throw new UnsupportedOperationException("Streaming request body cannot be written partially");
+    }
+
+    /**
+     * @return 아직 읽지 않은 바이트 수
+     */
+    public long remaining() {
+        return in.remaining;
+    }
+
+    /**
+     * 읽지 않은 본문을 버린다.
+     *
+     * @param maxBytes 버릴 수 있는 최대 바이트 수, 남은 양이 이보다 크면 읽지 않는다
+     * @return 본문 끝까지 소비했으면 {@code true},
+     *         남은 양이 너무 크거나, {@code 100 Continue}를 보내지 않았거나, 연결이 끊겼으면 {@code false}
+     */
+    public boolean discard(long maxBytes) {
+        // 100 Continue를 보내지 않았으면 클라이언트가 본문을 보낼지 알 수 없으므로 연결을 닫아야 한다.
+        if(pendingContinue != null || in.remaining > maxBytes)
+            return false;
+        try {
+            while(in.remaining > 0) {
+                if(in.skip(in.remaining) <= 0 && in.read() < 0)
+                    return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void acknowledge() throws IOException {
+        Acknowledgement acknowledgement = pendingContinue;
+        if(acknowledgement != null) {
+            pendingContinue = null;
+            acknowledgement.send();
+        }
+    }
+
+    /**
+     * {@code 100 Continue} 중간 응답을 전송하는 작업
+     */
+    @FunctionalInterface
+    public interface Acknowledgement {
+        void send() throws IOException;
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 스트림. 닫아도 원본 스트림은 닫지 않는다.
+     */
+    private final class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if(remaining <= 0)
+                return -1;
+            acknowledge();
+            int b = in.read();
+            if(b >= 0)
+                remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if(remaining <= 0)
+                return -1;
+            acknowledge();
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if(n > 0)
+                remaining -= n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if(remaining <= 0)
+                return 0;
+            acknowledge();
+            long skipped = in.skip(Math.min(n, remaining));
+            if(skipped > 0)
+                remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public void close() {
+            // 연결 스트림은 컨테이너가 소유한다.
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.framework.was.protocol.websocket;
+
+/**
+ * WebSocket 프레임 하나 (RFC 6455 5.2).
+ * 마스킹은 파싱 단계에서 이미 해제되어 {@code payload}는 원본 데이터이다.
+ *
+ * @param fin     메시지의 마지막 프레임 여부
+ * @param opcode  프레임 종류 ({@link #TEXT}, {@link #BINARY}, {@link #CLOSE} 등)
+ * @param payload 마스킹이 해제된 페이로드
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc6455#section-5.2">RFC 6455 5.2 Base Framing Protocol</a>
+ */
+public record WebSocketFrame(boolean fin, int opcode, byte[] payload) {
+
+    public static final int CONTINUATION = 0x0;
+    public static final int TEXT = 0x1;
+    public static final int BINARY = 0x2;
+    public static final int CLOSE = 0x8;
+    public static final int PING = 0x9;
+    public static final int PONG = 0xA;
+
+    /** 제어 프레임 페이로드 최대 길이 */
+    public static final int MAX_CONTROL_PAYLOAD = 125;
+
+    // Close 상태 코드 (RFC 6455 7.4.1)
+    public static final int NORMAL_CLOSURE = 1000;
+    public static final int GOING_AWAY = 1001;
+    public static final int PROTOCOL_ERROR = 1002;
+    public static final int UNSUPPORTED_DATA = 1003;
+    /** 상태 코드 없이 닫힘 (프레임에 기록하지 않는다) */
+    public static final int NO_STATUS_RECEIVED = 1005;
+    /** Close 프레임 없이 연결이 끊김 (프레임에 기록하지 않는다) */
+    public static final int ABNORMAL_CLOSURE = 1006;
+    public static final int INVALID_PAYLOAD = 1007;
+    public static final int MESSAGE_TOO_BIG = 1009;
+    public static final int INTERNAL_ERROR = 1011;
+
+    public boolean isControl() {
+        return (opcode & 0x8) != 0;
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.framework.was.protocol.websocket;
+
+import org.example.framework.exception.was.WebSocketProtocolException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 입력 스트림에서 WebSocket 프레임을 하나씩 읽는다.
+ *
+ * <p>
+ * 서버 측 파서이므로 다음 규칙을 검사하고, 위반하면 {@link WebSocketProtocolException}을 던진다.
+ * <ul>
+ *     <li>클라이언트 프레임은 반드시 마스킹되어야 한다. (1002)</li>
+ *     <li>확장을 협상하지 않았으므로 RSV 비트는 0이어야 한다. (1002)</li>
+ *     <li>정의되지 않은 opcode는 허용하지 않는다. (1002)</li>
+ *     <li>제어 프레임은 분할될 수 없고 페이로드가 125바이트 이하이다. (1002)</li>
+ *     <li>페이로드가 {@code maxPayloadLength}를 넘으면 읽지 않고 거부한다. (1009)</li>
+ * </ul>
+ * 메시지 조립(분할 프레임 연결)은 호출 측이 담당한다.
+ * </p>
+ *
+ * <p>
+ * 연결마다 하나씩 생성되며 스레드 안전하지 않다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc6455#section-5.2">RFC 6455 5.2 Base Framing Protocol</a>
+ */
+public final class WebSocketFrameParser {
+
+    private final InputStream in;
+    private final int maxPayloadLength;
+    private final byte[] header = new byte[8];
+    private final byte[] maskKey = new byte[4];
+
+    /**
+     * @param in               연결의 입력 스트림
+     * @param maxPayloadLength 프레임 하나의 최대 페이로드 길이
+     */
+    public WebSocketFrameParser(InputStream in, int maxPayloadLength) {
+        this.in = in;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    /**
+     * 다음 프레임을 읽는다.
+     *
+     * @return 프레임, 프레임 경계에서 스트림이 끝났으면 {@code null}
+     * @throws EOFException 프레임 중간에 스트림이 끝난 경우
+     * @throws WebSocketProtocolException 프레임이 규칙을 위반한 경우
+     */
+    public WebSocketFrame parse() throws IOException {
+        int b0 = in.read();
+        if(b0 < 0)
+            return null;
+        int b1 = readByte();
+
+        boolean fin = (b0 & 0x80) != 0;
+        int opcode = b0 & 0x0F;
+        boolean masked = (b1 & 0x80) != 0;
+        long length = b1 & 0x7F;
+
+        if((b0 & 0x70) != 0)
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "RSV bits must be 0 without negotiated extensions");
+        if(!isKnownOpcode(opcode))
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Unknown opcode " + opcode);
+        if(!masked)
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Client frames must be masked");
+
+        if(length == 126) {
+            readFully(header, 2);
+            length = (header[0] & 0xFF) << 8 | (header[1] & 0xFF);
+        } else if(length == 127) {
+            readFully(header, 8);
+            length = 0;
+            for(int i = 0; i < 8; i++)
+                length = length << 8 | (header[i] & 0xFF);
+            if(length < 0)
+                throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Payload length must not use the most significant bit");
+        }
+
+        boolean control = (opcode & 0x8) != 0;
+        if(control && (!fin || length > WebSocketFrame.MAX_CONTROL_PAYLOAD))
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Control frames must not be fragmented or exceed 125 bytes");
+        if(length > maxPayloadLength)
+            throw new WebSocketProtocolException(WebSocketFrame.MESSAGE_TOO_BIG, "Frame payload exceeds " + maxPayloadLength + " bytes");
+
+        readFully(maskKey, 4);
+        byte[] payload = new byte[(int) length];
+        readFully(payload, payload.length);
+        WebSocketFrameWriter.mask(payload, 0, payload.length, maskKey);
+
+        return new WebSocketFrame(fin, opcode, payload);
+    }
+
+    private static boolean isKnownOpcode(int opcode) {
+        return opcode <= WebSocketFrame.BINARY || (opcode >= WebSocketFrame.CLOSE && opcode <= WebSocketFrame.PONG);
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if(b < 0)
+            throw new EOFException("Connection closed in the middle of a frame");
+        return b;
+    }
+
+    private void readFully(byte[] buf, int length) throws IOException {
+        int read = in.readNBytes(buf, 0, length);
+        if(read < length)
+            throw new EOFException("Connection closed in the middle of a frame");
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.framework.was.protocol.websocket;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebSocket 프레임을 바이트로 인코딩한다.
+ *
+ * <p>
+ * 서버가 보내는 프레임은 마스킹하지 않는다(RFC 6455 5.1). 마스킹 키를 주면 클라이언트 프레임도 만들 수 있다.
+ * 인코딩 결과는 헤더와 페이로드가 이어진 하나의 배열이므로 그대로 여러 연결에 공유하여 전송할 수 있다.
+ * </p>
+ *
+ * <p>
+ * 마스킹은 8바이트 단위로 {@code long} XOR을 수행하고 나머지만 바이트 단위로 처리한다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc6455#section-5.3">RFC 6455 5.3 Client-to-Server Masking</a>
+ */
+public final class WebSocketFrameWriter {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private WebSocketFrameWriter() {}
+
+    /**
+     * 마스킹하지 않은 단일 프레임을 인코딩한다.
+     */
+    public static byte[] encode(boolean fin, int opcode, byte[] payload) {
+        return encode(fin, opcode, payload, 0, payload.length, null);
+    }
+
+    /**
+     * 프레임을 인코딩한다.
+     *
+     * @param fin     메시지의 마지막 프레임 여부 ({@code false}면 이어지는 {@link WebSocketFrame#CONTINUATION} 프레임이 필요)
+     * @param opcode  프레임 종류
+     * @param payload 페이로드 원본 (변경하지 않는다)
+     * @param maskKey 4바이트 마스킹 키, {@code null}이면 마스킹하지 않음
+     * @return 헤더와 페이로드가 이어진 프레임
+     */
+    public static byte[] encode(boolean fin, int opcode, byte[] payload, int offset, int length, byte[] maskKey) {
+        int headerLength = 2 + (length <= 125 ? 0 : length <= 0xFFFF ? 2 : 8) + (maskKey != null ? 4 : 0);
+        byte[] frame = new byte[headerLength + length];
+
+        frame[0] = (byte) ((fin ? 0x80 : 0) | (opcode & 0x0F));
+        int mask = maskKey != null ? 0x80 : 0;
+        int pos = 2;
+        if(length <= 125) {
+            frame[1] = (byte) (mask | length);
+        } else if(length <= 0xFFFF) {
+            frame[1] = (byte) (mask | 126);
+            frame[pos++] = (byte) (length >>> 8);
+            frame[pos++] = (byte) length;
+        } else {
+            frame[1] = (byte) (mask | 127);
+            for(int shift = 56; shift >= 0; shift -= 8)
+                frame[pos++] = (byte) ((long) length >>> shift);
+        }
+
+        if(maskKey != null) {
+            System.arraycopy(maskKey, 0, frame, pos, 4);
+            pos += 4;
+        }
+        System.arraycopy(payload, offset, frame, pos, length);
+
+        if(maskKey != null)
+            mask(frame, pos, length, maskKey);
+        return frame;
+    }
+
+    /**
+     * Close 프레임을 인코딩한다.
+     *
+     * @param code   상태 코드, {@link WebSocketFrame#NO_STATUS_RECEIVED}면 본문 없이 보낸다.
+     * @param reason 이유 (UTF-8 123바이트 이하로 잘린다)
+     */
+    public static byte[] encodeClose(int code, String reason) {
+        if(code == WebSocketFrame.NO_STATUS_RECEIVED || code == WebSocketFrame.ABNORMAL_CLOSURE)
+            return encode(true, WebSocketFrame.CLOSE, new byte[0]);
+
+        byte[] text = reason == null ? new byte[0] : reason.getBytes(StandardCharsets.UTF_8);
+        int textLength = Math.min(text.length, WebSocketFrame.MAX_CONTROL_PAYLOAD - 2);
+
+        byte[] payload = new byte[2 + textLength];
+        payload[0] = (byte) (code >>> 8);
+        payload[1] = (byte) code;
+        System.arraycopy(text, 0, payload, 2, textLength);
+        return encode(true, WebSocketFrame.CLOSE, payload);
+    }
+
+    /**
+     * {@code data[offset..offset+length)}를 제자리에서 마스킹(또는 해제)한다. 마스킹 키 위치는 {@code offset}부터 센다.
+     */
+    static void mask(byte[] data, int offset, int length, byte[] maskKey) {
+        long maskWord = ((maskKey[0] & 0xFFL) << 24 | (maskKey[1] & 0xFFL) << 16 | (maskKey[2] & 0xFFL) << 8 | (maskKey[3] & 0xFFL));
+        maskWord |= maskWord << 32;
+
+        int i = offset;
+        int end = offset + length;
+        for(; i + 8 <= end; i += 8)
+            LONGS.set(data, i, (long) LONGS.get(data, i) ^ maskWord);
+        for(; i < end; i++)
+            data[i] ^= maskKey[(i - offset) & 3];
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.framework.was.protocol.websocket;
+
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.was.protocol.model.HttpRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * WebSocket 열기 핸드셰이크(RFC 6455 4.2) 검사와 응답 값 계산을 담당한다.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc6455#section-4.2">RFC 6455 4.2 Server-Side Requirements</a>
+ */
+public final class WebSocketHandshake {
+
+    /** 지원하는 프로토콜 버전 */
+    public static final String VERSION = "13";
+
+    private static final String GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private WebSocketHandshake() {}
+
+    /**
+     * WebSocket 업그레이드 요청인지 확인한다. ({@code GET}, {@code Upgrade: websocket}, {@code Connection: Upgrade})
+     */
+    public static boolean isUpgradeRequest(HttpRequest request) {
+        if(request.getMethod() != HttpMethod.GET)
+            return false;
+
+        String upgrade = request.getHeader().getFirst("Upgrade");
+        return upgrade != null && upgrade.equalsIgnoreCase("websocket")
+                && hasToken(request, "Connection", "upgrade");
+    }
+
+    /**
+     * {@code Sec-WebSocket-Key}가 16바이트를 Base64로 인코딩한 값인지 확인한다.
+     */
+    public static boolean isValidKey(String key) {
+        if(key == null || key.length() != 24)
+            return false;
+        try {
+            return Base64.getDecoder().decode(key).length == 16;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@code Sec-WebSocket-Accept} 값을 계산한다. (키 + GUID의 SHA-1을 Base64로 인코딩)
+     */
+    public static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((key + GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    /**
+     * 쉼표로 구분된 헤더 값 중에 토큰이 있는지 대소문자 구분 없이 확인한다.
+     */
+    private static boolean hasToken(HttpRequest request, String header, String token) {
+        for(String value : request.getHeader().get(header)) {
+            for(String part : value.split(","))
+                if(part.trim().equalsIgnoreCase(token))
+                    return true;
+        }
+        return false;
+    }
+}
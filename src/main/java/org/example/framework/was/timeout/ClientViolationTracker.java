@@ -0,0 +1,85 @@
+package org.example.framework.was.timeout;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원격 주소별 시간 제한 위반 횟수를 센다.
+ *
+ * <p>
+ * 구간 안에서 위반이 한도에 이르면 그 주소는 같은 길이의 시간 동안 차단된다.
+ * Endpoint는 연결을 수락하자마자 {@link #isBlocked(InetAddress, long)}를 확인하고 워커에 넘기지 않고 닫으므로,
+ * 느린 연결을 반복해서 여는 클라이언트가 워커 풀을 차지하지 못한다.
+ * 위반한 적이 있는 주소만 기록하며, 구간이 지난 기록은 {@link #purge(long)}로 지운다.
+ * </p>
+ */
+public final class ClientViolationTracker {
+
+    private final int maxViolations;
+    private final long windowNanos;
+
+    private final Map<InetAddress, Offender> offenders = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxViolations 차단할 위반 횟수
+     * @param windowNanos   위반을 세는 구간이자 차단 시간 (나노초)
+     */
+    public ClientViolationTracker(int maxViolations, long windowNanos) {
+        this.maxViolations = maxViolations;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * 위반을 기록한다.
+     *
+     * @param now {@link System#nanoTime()}
+     * @return 이 기록으로 주소가 차단 상태이면 {@code true}
+     */
+    public boolean record(InetAddress address, long now) {
+        Offender offender = offenders.compute(address, (key, current) -> {
+            if(current == null || now - current.since() > windowNanos)
+                return new Offender(1, now).block(maxViolations, now);
+            if(current.isBlocked(maxViolations))
+                return current;
+            return new Offender(current.count() + 1, current.since()).block(maxViolations, now);
+        });
+        return offender.isBlocked(maxViolations);
+    }
+
+    /**
+     * @param now {@link System#nanoTime()}
+     * @return 주소가 차단 중이면 {@code true}
+     */
+    public boolean isBlocked(InetAddress address, long now) {
+        Offender offender = offenders.get(address);
+        return offender != null && offender.isBlocked(maxViolations) && now - offender.since() <= windowNanos;
+    }
+
+    /**
+     * 구간이 지난 기록을 지운다.
+     */
+    public void purge(long now) {
+        offenders.values().removeIf(offender -> now - offender.since() > windowNanos);
+    }
+
+    int size() {
+        return offenders.size();
+    }
+
+    /**
+     * @param count 구간 안의 위반 횟수
+     * @param since 구간 시작 시각. 차단된 뒤에는 차단 시작 시각
+     */
+    private record Offender(int count, long since) {
+
+        boolean isBlocked(int maxViolations) {
+            return count >= maxViolations;
+        }
+
+        /** 한도에 이르면 차단 시간을 지금부터 센다. */
+        Offender block(int maxViolations, long now) {
+            return isBlocked(maxViolations) ? new Offender(count, now) : this;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.framework.was.timeout;
+
+import org.example.framework.was.protocol.core.RequestProgressListener;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 하나의 읽기/쓰기 진행 상태.
+ *
+ * <p>
+ * {@link #wrap(InputStream)}과 {@link #wrap(OutputStream)}이 돌려준 스트림이 read/write에 들어가고 나올 때
+ * 시각과 바이트 수를 기록할 뿐, 검사는 하지 않는다. 검사는 {@link TimeoutWatchdog}의 스레드 하나가
+ * 모든 연결을 주기적으로 돌며 {@link #check(long)}로 수행하고, 위반한 연결은 소켓을 닫아
+ * 블로킹된 read/write를 깨운다. 연결마다 감시 스레드나 타이머를 만들지 않는다.
+ * </p>
+ *
+ * <p>
+ * 상태는 연결을 처리 중인 스레드 하나만 쓰고 감시 스레드는 읽기만 하므로 {@code volatile} 필드로 충분하다.
+ * </p>
+ */
+public final class ConnectionGuard {
+
+    /**
+     * 시간 제한 위반 종류
+     */
+    public enum Violation {
+        /** 헤더를 기한 안에 다 보내지 않았다. */
+        HEADER_TIMEOUT,
+        /** 본문을 최소 전송률보다 느리게 보냈다. */
+        SLOW_BODY,
+        /** 응답을 읽지 않아 write가 끝나지 않았다. */
+        WRITE_TIMEOUT
+    }
+
+    private enum Phase {
+        /** 다음 요청의 첫 바이트를 기다리는 중. 유휴 시간은 {@code SO_TIMEOUT}이 제한한다. */
+        IDLE,
+        HEADER,
+        BODY,
+        /** 요청을 모두 읽고 처리하는 중. 연결 종료 감지를 위한 읽기는 검사하지 않는다. */
+        HANDLING,
+        /** 업그레이드된 연결. 읽기는 검사하지 않는다. */
+        UPGRADED
+    }
+
+    private final Socket socket;
+    private final ConnectionTimeouts timeouts;
+
+    private volatile Phase phase = Phase.IDLE;
+    private volatile long headerDeadline;
+    private volatile long bodyBytes;
+    /** 본문 단계에서 끝난 read들이 기다린 시간의 합 (나노초) */
+    private volatile long bodyReadNanos;
+    /** 진행 중인 read의 시작 시각, 없으면 0 */
+    private volatile long readStartedAt;
+    /** 진행 중인 write의 시작 시각, 없으면 0 */
+    private volatile long writeStartedAt;
+
+    ConnectionGuard(Socket socket, ConnectionTimeouts timeouts) {
+        this.socket = socket;
+        this.timeouts = timeouts;
+    }
+
+    public InetAddress getRemoteAddress() {
+        return socket.getInetAddress();
+    }
+
+    /**
+     * 다음 요청을 기다린다. keep-alive 연결에서 요청을 처리하기 전마다 호출한다.
+     */
+    public void awaitRequest() {
+        phase = Phase.IDLE;
+    }
+
+    /**
+     * 프로토콜이 업그레이드되어 더 이상 HTTP 요청을 읽지 않는다. 쓰기 제한만 남는다.
+     */
+    public void upgraded() {
+        phase = Phase.UPGRADED;
+    }
+
+    /**
+     * 읽기 진행을 기록하는 스트림을 만든다. 헤더 완료는 파서가 {@link RequestProgressListener}로 알린다.
+     * 버퍼 바깥을 감싸야 파이프라이닝으로 이미 버퍼에 들어온 요청도 첫 바이트 시점을 잡을 수 있다.
+     */
+    public InputStream wrap(InputStream in) {
+        return new GuardedInputStream(in);
+    }
+
+    /**
+     * write 대기 시간을 기록하는 스트림을 만든다.
+     */
+    public OutputStream wrap(OutputStream out) {
+        return new GuardedOutputStream(out);
+    }
+
+    /**
+     * 현재 시각 기준으로 시간 제한을 어겼는지 확인한다.
+     *
+     * @param now {@link System#nanoTime()}
+     * @return 위반 종류, 없으면 {@code null}
+     */
+    Violation check(long now) {
+        long writeStarted = writeStartedAt;
+        if(writeStarted != 0 && now - writeStarted > TimeUnit.MILLISECONDS.toNanos(timeouts.writeTimeout()))
+            return Violation.WRITE_TIMEOUT;
+
+        Phase current = phase;
+        if(current == Phase.HEADER && now - headerDeadline > 0)
+            return Violation.HEADER_TIMEOUT;
+
+        long readStarted = readStartedAt;
+        if(current == Phase.BODY && readStarted != 0 && timeouts.minBodyRate() > 0) {
+            long waited = bodyReadNanos + (now - readStarted);
+            if(waited > TimeUnit.MILLISECONDS.toNanos(timeouts.bodyRateGracePeriod())
+                    && bodyBytes < timeouts.minBodyRate() * (waited / 1e9))
+                return Violation.SLOW_BODY;
+        }
+        return null;
+    }
+
+    /**
+     * 소켓을 닫는다. 블로킹된 read/write는 {@link java.net.SocketException}으로 깨어난다.
+     */
+    void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 소켓
+        }
+    }
+
+    private long beginRead() {
+        long now = System.nanoTime();
+        readStartedAt = now;
+        return now;
+    }
+
+    private void endRead(long started, long received) {
+        long now = System.nanoTime();
+        readStartedAt = 0;
+        if(received <= 0)
+            return;
+
+        switch(phase) {
+            case IDLE -> {
+                headerDeadline = now + TimeUnit.MILLISECONDS.toNanos(timeouts.headerTimeout());
+                phase = Phase.HEADER;
+            }
+            case BODY -> {
+                bodyReadNanos += now - started;
+                bodyBytes += received;
+            }
+            default -> { }
+        }
+    }
+
+    private void headersComplete() {
+        if(phase != Phase.HEADER)
+            return;
+        bodyBytes = 0;
+        bodyReadNanos = 0;
+        phase = Phase.BODY;
+    }
+
+    private void requestComplete() {
+        if(phase == Phase.BODY)
+            phase = Phase.HANDLING;
+    }
+
+    private final class GuardedInputStream extends FilterInputStream implements RequestProgressListener {
+
+        GuardedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long started = beginRead();
+            int b = -1;
+            try {
+                b = in.read();
+                return b;
+            } finally {
+                endRead(started, b >= 0 ? 1 : 0);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long started = beginRead();
+            int n = -1;
+            try {
+                n = in.read(b, off, len);
+                return n;
+            } finally {
+                endRead(started, n);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long started = beginRead();
+            long skipped = 0;
+            try {
+                skipped = in.skip(n);
+                return skipped;
+            } finally {
+                endRead(started, skipped);
+            }
+        }
+
+        @Override
+        public void headersComplete() {
+            ConnectionGuard.this.headersComplete();
+        }
+
+        @Override
+        public void requestComplete() {
+            ConnectionGuard.this.requestComplete();
+        }
+    }
+
+    private final class GuardedOutputStream extends FilterOutputStream {
+
+        GuardedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writeStartedAt = System.nanoTime();
+            try {
+                out.write(b);
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writeStartedAt = System.nanoTime();
+            try {
+                out.write(b, off, len);
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeStartedAt = System.nanoTime();
+            try {
+                out.flush();
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.framework.was.timeout;
+
+/**
+ * 느린 클라이언트로부터 워커를 지키기 위한 연결 시간 제한
+ *
+ * <p>
+ * {@code SO_TIMEOUT}은 read 한 번의 대기만 제한하므로, 몇 초마다 한 바이트씩 보내는 클라이언트는 막지 못한다.
+ * 이 설정은 요청 단위의 누적 시간을 기준으로 한다.
+ * <ul>
+ *     <li>헤더 완료 기한 - 요청의 첫 바이트부터 헤더 끝까지 걸릴 수 있는 시간</li>
+ *     <li>본문 최소 전송률 - 유예 시간이 지난 뒤 본문 read에서 기다린 시간 대비 받아야 하는 바이트 수.
+ *         핸들러가 본문을 읽지 않고 처리 중인 시간은 포함하지 않는다.</li>
+ *     <li>쓰기 제한 - write 한 번이 끝나지 않고 머무를 수 있는 시간. 응답을 읽지 않는 클라이언트를 내보낸다.</li>
+ * </ul>
+ * 위반한 연결은 닫고 원격 주소별로 기록한다. {@code violationWindow} 안에 {@code maxViolations}번 위반한 주소는
+ * 같은 시간 동안 연결을 수락하자마자 닫으므로 워커를 받지 못한다.
+ * </p>
+ *
+ * @param headerTimeout       헤더 완료 기한 (밀리초)
+ * @param minBodyRate         본문 최소 전송률 (초당 바이트)
+ * @param bodyRateGracePeriod 전송률 검사를 시작하기 전 유예 시간 (밀리초)
+ * @param writeTimeout        write 한 번의 최대 대기 시간 (밀리초)
+ * @param maxViolations       주소를 차단하는 위반 횟수
+ * @param violationWindow     위반을 세는 구간이자 차단 시간 (밀리초)
+ * @see <a href="https://httpd.apache.org/docs/2.4/mod/mod_reqtimeout.html">Apache mod_reqtimeout</a>
+ * @see <a href="https://learn.microsoft.com/en-us/aspnet/core/fundamentals/servers/kestrel/options">Kestrel MinRequestBodyDataRate</a>
+ */
+public record ConnectionTimeouts(long headerTimeout, long minBodyRate, long bodyRateGracePeriod,
+                                 long writeTimeout, int maxViolations, long violationWindow) {
+
+    public static final long DEFAULT_HEADER_TIMEOUT = 20_000;
+    public static final long DEFAULT_MIN_BODY_RATE = 240;
+    public static final long DEFAULT_BODY_RATE_GRACE_PERIOD = 5_000;
+    public static final long DEFAULT_WRITE_TIMEOUT = 20_000;
+    public static final int DEFAULT_MAX_VIOLATIONS = 5;
+    public static final long DEFAULT_VIOLATION_WINDOW = 60_000;
+
+    private static final ConnectionTimeouts DEFAULTS = new ConnectionTimeouts(
+            DEFAULT_HEADER_TIMEOUT, DEFAULT_MIN_BODY_RATE, DEFAULT_BODY_RATE_GRACE_PERIOD,
+            DEFAULT_WRITE_TIMEOUT, DEFAULT_MAX_VIOLATIONS, DEFAULT_VIOLATION_WINDOW);
+
+    /**
+     * @throws IllegalStateException 시간이나 횟수가 0 이하이거나 전송률이 음수인 경우
+     */
+    public ConnectionTimeouts {
+        if(headerTimeout <= 0 || bodyRateGracePeriod <= 0 || writeTimeout <= 0 || violationWindow <= 0)
+            throw new IllegalStateException("Connection timeouts must be positive");
+        if(minBodyRate < 0)
+            throw new IllegalStateException("Invalid minimum body rate: " + minBodyRate);
+        if(maxViolations <= 0)
+            throw new IllegalStateException("Invalid max violations: " + maxViolations);
+    }
+
+    public static ConnectionTimeouts defaults() {
+        return DEFAULTS;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.framework.was.timeout;
+
+import org.example.framework.LifeCycle.LifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 연결의 시간 제한을 스레드 하나로 감시한다.
+ *
+ * <p>
+ * 블로킹 소켓의 write에는 시간 제한이 없고, read의 {@code SO_TIMEOUT}은 누적 시간을 보지 못한다.
+ * 연결마다 타이머를 두는 대신 등록된 {@link ConnectionGuard}를 {@link #CHECK_INTERVAL_MS}마다 한 번씩 확인하고,
+ * 위반한 연결의 소켓을 닫아 그 연결을 처리하던 워커를 풀어 준다.
+ * 위반은 {@link ClientViolationTracker}에 원격 주소별로 기록된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/tomcat/util/net/NioEndpoint.java">Tomcat NioEndpoint.Poller#timeout</a>
+ */
+public class TimeoutWatchdog implements LifeCycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeoutWatchdog.class);
+
+    /** 검사 주기 (밀리초). 제한 시간은 최대 이만큼 늦게 적용된다. */
+    static final long CHECK_INTERVAL_MS = 500;
+
+    private final ConnectionTimeouts timeouts;
+    private final ClientViolationTracker violations;
+    private final Set<ConnectionGuard> connections = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService scheduler;
+
+    public TimeoutWatchdog(ConnectionTimeouts timeouts) {
+        this.timeouts = timeouts;
+        this.violations = new ClientViolationTracker(
+                timeouts.maxViolations(), TimeUnit.MILLISECONDS.toNanos(timeouts.violationWindow()));
+    }
+
+    public ConnectionTimeouts getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * 연결을 감시 대상에 등록한다.
+     */
+    public ConnectionGuard register(Socket socket) {
+        ConnectionGuard guard = new ConnectionGuard(socket, timeouts);
+        connections.add(guard);
+        return guard;
+    }
+
+    /**
+     * 닫힌 연결을 감시 대상에서 뺀다.
+     */
+    public void unregister(ConnectionGuard guard) {
+        connections.remove(guard);
+    }
+
+    /**
+     * 위반이 누적되어 차단된 주소인지 확인한다.
+     */
+    public boolean isBlocked(InetAddress address) {
+        return violations.isBlocked(address, System.nanoTime());
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "connection-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                check(System.nanoTime());
+            } catch (RuntimeException e) {
+                log.warn("[TimeoutWatchdog] check failed", e);
+            }
+        }, CHECK_INTERVAL_MS, CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if(scheduler != null)
+            scheduler.shutdownNow();
+        connections.clear();
+    }
+
+    /**
+     * 등록된 연결을 한 번 확인하고 위반한 연결을 닫는다.
+     *
+     * @param now {@link System#nanoTime()}
+     */
+    void check(long now) {
+        for(ConnectionGuard guard : connections) {
+            ConnectionGuard.Violation violation = guard.check(now);
+            if(violation == null)
+                continue;
+
+            connections.remove(guard);
+            InetAddress address = guard.getRemoteAddress();
+            boolean blocked = address != null && violations.record(address, now);
+            log.info("[TimeoutWatchdog] closing {} connection from {}{}", violation, address, blocked ? " (blocked)" : "");
+            guard.close();
+        }
+        violations.purge(now);
+    }
+
+    int size() {
+        return connections.size();
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.framework.was.utils;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 /**
  * HTTP 헤더용 날짜 문자열을 생성하는 유틸리티 클래스.
@@ -28,4 +30,30 @@ public class HttpDateUtil {
         return ZonedDateTime.now(ZoneId.of("UTC"))
                 .format(DateTimeFormatter.RFC_1123_DATE_TIME);
     }
+
+    /**
+     * 지정한 시각을 RFC1123 형식으로 변환한다. ({@code Last-Modified} 등)
+     * HTTP 날짜는 초 단위이므로 밀리초는 버린다.
+     *
+     * @param epochMillis 1970-01-01T00:00:00Z 기준 밀리초
+     * @return RFC1123 포맷의 UTC 날짜 문자열
+     */
+    public static String format(long epochMillis) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.of("UTC"))
+                .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+    }
+
+    /**
+     * RFC1123 형식의 HTTP 날짜를 해석한다. ({@code If-Range}, {@code If-Modified-Since} 등)
+     *
+     * @param value HTTP 날짜 문자열
+     * @return 1970-01-01T00:00:00Z 기준 밀리초, 형식이 맞지 않으면 {@code -1}
+     */
+    public static long parse(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package org.example.framework.web;
 
 import org.example.framework.annotation.Component;
+import org.example.framework.context.scope.RequestScope;
 import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.container.RequestContext;
 import org.example.framework.was.container.Servlet;
 import org.example.framework.was.protocol.model.HttpRequest;
 import org.example.framework.was.protocol.model.HttpResponse;
@@ -10,6 +12,7 @@ import org.example.framework.web.adapter.HandlerAdapter;
 import org.example.framework.web.interceptor.HandlerExecutionChain;
 import org.example.framework.web.interceptor.HandlerInterceptor;
 import org.example.framework.web.mapping.HandlerMapping;
+import org.example.framework.web.multipart.MultipartResolver;
 import org.example.framework.web.response.ErrorResponse;
 
 import java.util.List;
@@ -48,13 +51,18 @@ public class DispatcherServlet implements Servlet {
      * <p>요청 처리는 내부적으로 {@link #doDispatch(HttpRequest, HttpResponse)}에
      * 위임된다.</p>
      *
+     * <p>디스패치하는 동안 요청 스코프 Bean을 담을 {@link RequestScope}를 처리 스레드에 연결하고,
+     * 요청이 끝나면(비동기 요청은 완료되면) 닫아 Bean을 파기한다.</p>
+     *
      * @param request  현재 HTTP 요청
      * @param response 현재 HTTP 응답
      * @throws Exception 요청 처리 중 발생한 예외
      */
     @Override
+    @SuppressWarnings("try")
     public void service(HttpRequest request, HttpResponse response) {
-        try {
+        RequestScope requestScope = new RequestScope();
+        try(RequestScope.Binding ignored = requestScope.bind()) {
             doDispatch(request, response);
         } catch (HttpException e) {
             response.setStatus(e.getStatus());
@@ -70,15 +78,44 @@ public class DispatcherServlet implements Servlet {
                             System.currentTimeMillis()
                     )
             );
+        } finally {
+            cleanupMultipart(request);
+            closeRequestScope(request, requestScope);
         }
     }
 
+    /**
+     * 요청 스코프를 닫는다. 비동기 요청은 완료 시점에 닫는다.
+     */
+    private void closeRequestScope(HttpRequest request, RequestScope requestScope) {
+        if(request.isAsyncStarted())
+            request.getAsyncContext().addListener(requestScope::close);
+        else
+            requestScope.close();
+    }
+
+    /**
+     * 업로드 처리 중 만든 임시 파일을 삭제한다. 비동기 요청은 완료 시점에 삭제한다.
+     */
+    private void cleanupMultipart(HttpRequest request) {
+        if(request.getAttribute(MultipartResolver.MULTIPART_REQUEST_ATTRIBUTE) == null)
+            return;
+
+        if(request.isAsyncStarted())
+            request.getAsyncContext().addListener(() -> MultipartResolver.cleanup(request));
+        else
+            MultipartResolver.cleanup(request);
+    }
+
     /**
      * 실제 요청 디스패치 로직을 수행한다.
      *
-     * <p>요청에 매핑되는 Handler를 조회한 뒤,
-     * 이를 실행할 수 있는 {@link HandlerAdapter}를 찾아
-     * Handler 실행을 위임한다.</p>
+     * <p>요청에 매핑되는 실행 체인을 조회한 뒤,
+     * 체인에 미리 결정된 {@link HandlerAdapter}가 있으면 그대로 사용하고
+     * 없으면 이를 실행할 수 있는 어댑터를 찾아 Handler 실행을 위임한다.</p>
+     *
+     * <p>인터셉터를 모두 통과한 시점에 요청의 처리 기한이 지났거나 클라이언트가 연결을 끊었으면
+     * Handler를 실행하지 않는다.</p>
      *
      * @param request  현재 HTTP 요청
      * @param response 현재 HTTP 응답
@@ -87,40 +124,87 @@ public class DispatcherServlet implements Servlet {
     protected void doDispatch(HttpRequest request, HttpResponse response) throws Exception {
         HandlerExecutionChain chain = getHandler(request);
         Object handler = chain.getHandler();
+        int count = chain.getInterceptorCount();
 
+        // preHandle이 true를 반환한 마지막 인터셉터의 인덱스
+        int interceptorIndex = -1;
         Exception dispatchException = null;
+        boolean asyncStarted = false;
 
         try {
             // preHandle
-            for(HandlerInterceptor interceptor : chain.getInterceptors()) {
-                if(!interceptor.preHandle(request, response, handler)) {
-                    triggerAfterCompletion(chain, request, response, null);
+            for(int i = 0; i < count; i++) {
+                if(!chain.getInterceptor(i).preHandle(request, response, handler))
                     return;
-                }
+                interceptorIndex = i;
             }
 
+            // 대기하는 동안 기한이 지났거나 클라이언트가 떠났으면 Handler를 실행하지 않는다.
+            RequestContext requestContext = request.getRequestContext();
+            if(requestContext != null)
+                requestContext.checkActive();
+
             // Handler
-            HandlerAdapter adapter = getHandlerAdapter(handler);
+            HandlerAdapter adapter = chain.getHandlerAdapter();
+            if(adapter == null)
+                adapter = getHandlerAdapter(handler);
             adapter.handle(request, response, handler);
 
+            // 비동기 처리: 처리 스레드 반환을 알리고, 결과가 응답에 기록된 뒤 postHandle, afterCompletion을 실행한다.
+            if(request.isAsyncStarted()) {
+                asyncStarted = true;
+                for(int i = interceptorIndex; i >= 0; i--)
+                    chain.getInterceptor(i).afterConcurrentHandlingStarted(request, response, handler);
+                deferInterceptors(chain, interceptorIndex, request, response);
+                return;
+            }
+
             // postHandle
-            for(HandlerInterceptor interceptor : chain.getInterceptors())
-                interceptor.postHandle(request, response, handler);
+            for(int i = 0; i < count; i++)
+                chain.getInterceptor(i).postHandle(request, response, handler);
         } catch (Exception e) {
             dispatchException = e;
             throw e;
         } finally {
             // afterCompletion
-            triggerAfterCompletion(chain, request, response, dispatchException);
+            if(!asyncStarted)
+                triggerAfterCompletion(chain, interceptorIndex, request, response, dispatchException);
         }
     }
 
+    /**
+     * 비동기 요청의 postHandle, afterCompletion을 {@link org.example.framework.was.container.AsyncContext} 완료 시점으로 미룬다.
+     *
+     * <p>
+     * 완료 리스너는 컨테이너가 응답을 전송하기 전에 실행되므로,
+     * 인터셉터는 동기 요청과 마찬가지로 결과가 기록된 응답을 전송 전에 볼 수 있다.
+     * 리스너는 완료한 스레드에서 실행되므로 요청 스코프를 이어받도록 감싼다.
+     * </p>
+     */
+    private void deferInterceptors(HandlerExecutionChain chain, int interceptorIndex, HttpRequest request, HttpResponse response) {
+        request.getAsyncContext().addListener(RequestScope.wrap(() -> {
+            Exception ex = null;
+            try {
+                for(int i = 0; i < chain.getInterceptorCount(); i++)
+                    chain.getInterceptor(i).postHandle(request, response, chain.getHandler());
+            } catch (Exception e) {
+                ex = e;
+            }
+
+            try {
+                triggerAfterCompletion(chain, interceptorIndex, request, response, ex);
+            } catch (Exception e) {
+                throw new IllegalStateException("afterCompletion failed for async request " + request.getPath(), e);
+            }
+        }));
+    }
+
     /**
      * 인터셉터 체인의 {@link HandlerInterceptor#afterCompletion}을 호출한다.
      *
      * <p>
-     * {@code afterCompletion}은 요청 처리 결과와 관계없이
-     * 반드시 한 번 호출되며,
+     * {@code afterCompletion}은 {@code preHandle}이 {@code true}를 반환한 인터셉터에 대해서만,
+     * 요청 처리 결과와 관계없이 한 번 호출되며,
      * 인터셉터 등록 순서의 역순으로 실행된다.
      * </p>
      *
@@ -129,16 +213,16 @@ public class DispatcherServlet implements Servlet {
      * 리소스 정리, 트레이싱 종료 등의 후처리를 가능하게 한다.
      * </p>
      *
-     * @param chain    현재 요청에 대한 실행 체인
-     * @param request  현재 HTTP 요청
-     * @param response 현재 HTTP 응답
-     * @param ex       요청 처리 중 발생한 예외 (없으면 {@code null})
+     * @param chain            현재 요청에 대한 실행 체인
+     * @param interceptorIndex {@code preHandle}이 성공한 마지막 인터셉터 인덱스
+     * @param request          현재 HTTP 요청
+     * @param response         현재 HTTP 응답
+     * @param ex               요청 처리 중 발생한 예외 (없으면 {@code null})
      * @throws Exception afterCompletion 처리 중 발생한 예외
      */
-    private void triggerAfterCompletion(HandlerExecutionChain chain, HttpRequest request, HttpResponse response, Exception ex) throws Exception{
-        List<HandlerInterceptor> interceptors = chain.getInterceptors();
-        for(int i = interceptors.size() - 1; i >= 0; i--)
-            interceptors.get(i).afterCompletion(request, response, chain.getHandler(), ex);
+    private void triggerAfterCompletion(HandlerExecutionChain chain, int interceptorIndex, HttpRequest request, HttpResponse response, Exception ex) throws Exception{
+        for(int i = interceptorIndex; i >= 0; i--)
+            chain.getInterceptor(i).afterCompletion(request, response, chain.getHandler(), ex);
     }
 
     /**
@@ -1,5 +1,7 @@
 package org.example.framework.web;
 
+import org.example.framework.web.mapping.route.RoutePattern;
+
 import java.lang.reflect.Method;
 
 /**
@@ -9,15 +11,24 @@ import java.lang.reflect.Method;
  * <p>{@link org.example.framework.web.mapping.HandlerMapping}에 의해
  * 선택되며, {@link org.example.framework.web.adapter.HandlerAdapter}를 통해
  * 실제 호출된다.</p>
+ *
+ * <p>매핑 단계에서 생성된 경우, 해당 메서드가 등록된 {@link RoutePattern}을 함께 보관하여
+ * 요청 경로에서 경로 변수 값을 꺼낼 수 있도록 한다.</p>
  */
 public class HandlerMethod {
 
     private final Object bean;
     private final Method method;
+    private final RoutePattern pattern;
 
     public HandlerMethod(Object bean, Method method) {
+        this(bean, method, null);
+    }
+
+    public HandlerMethod(Object bean, Method method, RoutePattern pattern) {
         this.bean = bean;
         this.method = method;
+        this.pattern = pattern;
     }
 
     public Object getBean() {
@@ -27,4 +38,13 @@ public class HandlerMethod {
     public Method getMethod() {
         return method;
     }
+
+    /**
+     * 이 메서드가 등록된 경로 패턴을 반환한다.
+     *
+     * @return 경로 패턴, 매핑을 거치지 않고 생성된 경우 {@code null}
+     */
+    public RoutePattern getPattern() {
+        return pattern;
+    }
 }
@@ -0,0 +1,27 @@
+package org.example.framework.web;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+
+/**
+ * 요청 하나를 직접 처리하는 Handler 인터페이스이다.
+ *
+ * <p>
+ * 컨트롤러 메서드처럼 인자 바인딩이나 반환값 변환이 필요 없는 처리기
+ * (정적 리소스 등)가 구현하며, {@link org.example.framework.web.adapter.HttpRequestHandlerAdapter}가 실행한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/HttpRequestHandler.java">Spring HttpRequestHandler</a>
+ */
+@FunctionalInterface
+public interface HttpRequestHandler {
+
+    /**
+     * 요청을 처리하고 응답을 작성한다.
+     *
+     * @param request  현재 HTTP 요청
+     * @param response 현재 HTTP 응답
+     * @throws Exception 처리 중 발생한 예외
+     */
+    void handleRequest(HttpRequest request, HttpResponse response) throws Exception;
+}
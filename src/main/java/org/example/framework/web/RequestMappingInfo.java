@@ -6,8 +6,9 @@ import org.example.framework.was.protocol.model.HttpMethod;
  * {@code RequestMappingInfo}는 요청 경로와 HTTP 메서드로 구성된
  * 요청 매핑 조건을 표현하는 값 객체다.
  *
- * <p>{@link org.example.framework.web.mapping.HandlerMapping}에서
- * 요청을 식별하기 위한 키로 사용된다.</p>
+ * <p>{@link org.example.framework.web.mapping.HandlerMapping}이
+ * 컨트롤러 메서드를 라우팅 트리에 등록할 때의 등록 조건으로 사용된다.
+ * {@code path}는 경로 변수({@code {id}})나 나머지 경로({@code **})를 포함하는 패턴일 수 있다.</p>
  */
 public record RequestMappingInfo(
         String path,
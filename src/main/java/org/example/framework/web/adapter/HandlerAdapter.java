@@ -20,6 +20,23 @@ public interface HandlerAdapter {
      */
     boolean supports(Object handler);
 
+    /**
+     * 초기화 단계에서 handler를 요청 처리에 최적화된 형태로 변환한다.
+     *
+     * <p>
+     * {@link org.example.framework.web.mapping.HandlerMapping}이 라우트별 실행 체인을 구성할 때
+     * {@link #supports(Object)}를 만족한 handler에 대해 한 번 호출하며,
+     * 반환된 객체가 이후 {@link #handle}에 전달된다.
+     * 기본 구현은 handler를 그대로 반환한다.
+     * </p>
+     *
+     * @param handler 매핑 단계에서 생성된 Handler
+     * @return 요청 처리 시 사용할 Handler
+     */
+    default Object prepare(Object handler) {
+        return handler;
+    }
+
     /**
      * 주어진 handler를 실행한다.
      *
@@ -0,0 +1,28 @@
+package org.example.framework.web.adapter;
+
+import org.example.framework.annotation.Component;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.HttpRequestHandler;
+
+/**
+ * {@link HttpRequestHandler}를 실행하는 {@link HandlerAdapter} 구현체다.
+ *
+ * <p>Handler가 응답을 직접 작성하므로 반환값은 없다.</p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/HttpRequestHandlerAdapter.java">Spring HttpRequestHandlerAdapter</a>
+ */
+@Component
+public class HttpRequestHandlerAdapter implements HandlerAdapter {
+
+    @Override
+    public boolean supports(Object handler) {
+        return handler instanceof HttpRequestHandler;
+    }
+
+    @Override
+    public Object handle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        ((HttpRequestHandler) handler).handleRequest(request, response);
+        return null;
+    }
+}
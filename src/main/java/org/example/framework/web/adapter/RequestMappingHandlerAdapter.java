@@ -1,34 +1,127 @@
 package org.example.framework.web.adapter;
 
+import org.example.framework.annotation.Bulkhead;
 import org.example.framework.annotation.Component;
+import org.example.framework.core.ApplicationContext;
+import org.example.framework.core.lifecycle.ApplicationContextAware;
 import org.example.framework.was.protocol.model.HttpRequest;
 import org.example.framework.was.protocol.model.HttpResponse;
 import org.example.framework.web.HandlerMethod;
-
-import java.lang.reflect.Method;
-import java.util.Map;
+import org.example.framework.web.bulkhead.BulkheadExecutor;
+import org.example.framework.web.config.WebMvcConfigurationSupport;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.HandlerMethodReturnValueHandler;
+import org.example.framework.web.method.InvocableHandlerMethod;
+import org.example.framework.web.method.annotation.PathVariableMethodArgumentResolver;
+import org.example.framework.web.method.annotation.RequestBodyMethodArgumentResolver;
+import org.example.framework.web.method.annotation.RequestParamMethodArgumentResolver;
+import org.example.framework.web.method.annotation.RequestPartMethodArgumentResolver;
+import org.example.framework.web.method.support.CompletionStageReturnValueHandler;
+import org.example.framework.web.method.support.HttpRequestMethodArgumentResolver;
+import org.example.framework.web.method.support.HttpResponseMethodArgumentResolver;
+import org.example.framework.web.method.support.JsonReturnValueHandler;
+import org.example.framework.web.method.support.MultipartStreamMethodArgumentResolver;
+import org.example.framework.web.method.support.SseEmitterReturnValueHandler;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.example.framework.web.multipart.MultipartConfig;
+import org.example.framework.web.multipart.MultipartResolver;
+
+import java.util.List;
 
 /**
  * {@code RequestMappingHandlerAdapter}는
  * {@link org.example.framework.web.HandlerMethod}를 실행하기 위한
  * {@link HandlerAdapter} 구현체다.
  *
- * <p>리플렉션을 사용하여 컨트롤러 메서드를 호출하며,
- * 최소한의 파라미터 바인딩과 반환값 처리를 지원한다.</p>
+ * <p>매핑 초기화 단계에서 {@link #prepare(Object)}를 통해 각 {@link HandlerMethod}를
+ * {@link InvocableHandlerMethod}로 컴파일해 두며, 요청 처리 시에는
+ * 미리 결정된 인자 resolver와 {@link java.lang.invoke.MethodHandle}로 컨트롤러 메서드를 호출한다.</p>
+ *
+ * <p>컴파일되지 않은 {@link HandlerMethod}가 전달되면 호출 시점에 컴파일하여 실행한다.
+ * 이 경로는 매핑을 거치지 않고 Handler를 직접 실행하는 경우를 위한 것이다.</p>
+ *
+ * <p>{@link Bulkhead}가 선언된 Handler는 컴파일 시점에 이름에 해당하는 실행기를 찾아 두고,
+ * 요청 처리 시 그 실행기에 호출을 넘긴 뒤 결과를 기다린다.</p>
  */
 @Component
-public class RequestMappingHandlerAdapter implements HandlerAdapter{
+public class RequestMappingHandlerAdapter implements HandlerAdapter, ApplicationContextAware {
+
+    private ApplicationContext context;
+
+    private final MultipartResolver multipartResolver = new MultipartResolver();
+
+    private final List<HandlerMethodArgumentResolver> argumentResolvers = List.of(
+            new PathVariableMethodArgumentResolver(),
+            new RequestParamMethodArgumentResolver(),
+            new RequestBodyMethodArgumentResolver(),
+            new RequestPartMethodArgumentResolver(multipartResolver),
+            new MultipartStreamMethodArgumentResolver(multipartResolver),
+            new HttpRequestMethodArgumentResolver(),
+            new HttpResponseMethodArgumentResolver()
+    );
+
+    private final CompletionStageReturnValueHandler asyncReturnValueHandler = new CompletionStageReturnValueHandler();
+
+    private final SseEmitterReturnValueHandler sseReturnValueHandler = new SseEmitterReturnValueHandler();
+
+    private final List<HandlerMethodReturnValueHandler> returnValueHandlers = List.of(
+            asyncReturnValueHandler,
+            sseReturnValueHandler,
+            new StringReturnValueHandler(),
+            new JsonReturnValueHandler()
+    );
+
+    /**
+     * {@link java.util.concurrent.CompletionStage} 반환값의 비동기 처리 제한 시간을 설정한다.
+     * 제한 시간을 지정하지 않은 {@link org.example.framework.web.sse.SseEmitter}에도 적용된다.
+     *
+     * @param timeout 밀리초, 0 이하면 제한 없음
+     */
+    public void setAsyncRequestTimeout(long timeout) {
+        asyncReturnValueHandler.setTimeout(timeout);
+        sseReturnValueHandler.setTimeout(timeout);
+    }
+
+    /**
+     * 멀티파트 업로드의 크기 한도와 임시 파일 위치를 설정한다.
+     *
+     * @param config 업로드 처리 설정
+     */
+    public void setMultipartConfig(MultipartConfig config) {
+        multipartResolver.setConfig(config);
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) {
+        this.context = context;
+    }
 
     @Override
     public boolean supports(Object handler) {
         return handler instanceof HandlerMethod;
     }
 
+    /**
+     * {@link HandlerMethod}를 {@link InvocableHandlerMethod}로 컴파일한다.
+     *
+     * @throws IllegalStateException 지원하지 않는 파라미터 또는 반환 타입이 있거나, 등록되지 않은 실행기를 지정한 경우
+     */
+    @Override
+    public Object prepare(Object handler) {
+        if(handler instanceof InvocableHandlerMethod)
+            return handler;
+        return createInvocableHandlerMethod((HandlerMethod) handler);
+    }
+
     /**
      * {@link HandlerMethod}를 실행하여 실제 컨트롤러 메서드를 호출한다.
      *
-     * <p>지원하는 파라미터 타입은 {@link HttpRequest}, {@link HttpResponse}이며,
-     * 반환 타입은 {@code void} 또는 {@link String}만 허용한다.</p>
+     * <p>지원하는 파라미터는 {@link HttpRequest}, {@link HttpResponse},
+     * {@link org.example.framework.annotation.PathVariable}, {@link org.example.framework.annotation.RequestParam},
+     * {@link org.example.framework.annotation.RequestBody}, {@link org.example.framework.annotation.RequestPart},
+     * {@link org.example.framework.web.multipart.MultipartStream}이며,
+     * 반환 타입은 {@code void}, {@link String}, JSON으로 직렬화되는 객체(레코드, POJO, 컬렉션, 맵 등),
+     * 그리고 이들을 결과로 갖는 {@link java.util.concurrent.CompletionStage}를 허용한다.</p>
      *
      * @param request  현재 HTTP 요청
      * @param response 현재 HTTP 응답
@@ -38,55 +131,35 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter{
      */
     @Override
     public Object handle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
-        HandlerMethod hm = (HandlerMethod) handler;
-        Method method = hm.getMethod();
-
-        Object[] args = resolveArguments(method, request, response);
-
-        method.setAccessible(true);
-        Object returnValue = method.invoke(hm.getBean(), args);
-
-        if(method.getReturnType() == void.class)
-            return null;
-
-        if(returnValue instanceof String str) {
-            response.writeBody(str);
-            return str;
-        }
-
-        if(returnValue instanceof Map<?, ?> map) {
-            String json = map.toString();
-
-            response.writeBody(json);
-            return json;
-        }
+        InvocableHandlerMethod invocable = handler instanceof InvocableHandlerMethod compiled
+                ? compiled
+                : createInvocableHandlerMethod((HandlerMethod) handler);
+
+        BulkheadExecutor bulkhead = invocable.getBulkhead();
+        if(bulkhead != null)
+            return bulkhead.execute(() -> invocable.invokeAndHandle(request, response));
+        return invocable.invokeAndHandle(request, response);
+    }
 
-        throw new IllegalStateException(
-                "Unsupported return type: " + method.getReturnType() + " in method: " + method
-        );
+    private InvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        return new InvocableHandlerMethod(handlerMethod, argumentResolvers, returnValueHandlers, resolveBulkhead(handlerMethod));
     }
 
     /**
-     * 컨트롤러 메서드의 파라미터 타입을 기반으로
-     * 실행 시 전달할 인자 배열을 생성한다.
+     * 메서드, 클래스 순으로 {@link Bulkhead}를 찾아 실행기를 반환한다.
+     * Bean이 프록시일 수 있으므로 클래스 선언은 Bean의 클래스가 아닌 메서드를 선언한 클래스에서 찾는다.
      *
-     * <p>현재는 {@link HttpRequest}, {@link HttpResponse} 타입만 지원한다.</p>
+     * @return 지정된 실행기, 선언이 없으면 {@code null}
      */
-    private Object[] resolveArguments(Method method, HttpRequest request, HttpResponse response) {
-        Class<?>[] paramTypes = method.getParameterTypes();
-        Object[] args = new Object[paramTypes.length];
-
-        for(int i = 0; i < paramTypes.length; i++) {
-            Class<?> type = paramTypes[i];
-
-            if(type.equals(HttpRequest.class))
-                args[i] = request;
-            else if(type.equals(HttpResponse.class))
-                args[i] = response;
-            else
-                throw new IllegalStateException("Unsupported parameter type: " + type.getName());
-        }
-
-        return args;
+    private BulkheadExecutor resolveBulkhead(HandlerMethod handlerMethod) {
+        Bulkhead bulkhead = handlerMethod.getMethod().getAnnotation(Bulkhead.class);
+        if(bulkhead == null)
+            bulkhead = handlerMethod.getMethod().getDeclaringClass().getAnnotation(Bulkhead.class);
+        if(bulkhead == null)
+            return null;
+
+        if(context == null)
+            throw new IllegalStateException("No bulkhead registry for " + handlerMethod.getMethod());
+        return context.getBean(WebMvcConfigurationSupport.class).getBulkheadRegistry().getExecutor(bulkhead.value());
     }
 }
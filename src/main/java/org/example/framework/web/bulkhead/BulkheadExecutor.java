@@ -0,0 +1,141 @@
+package org.example.framework.web.bulkhead;
+
+import org.example.framework.context.scope.RequestScope;
+import org.example.framework.exception.http.DeadlineExceededException;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.container.RequestContext;
+import org.example.framework.was.protocol.model.HttpStatus;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트 전용 고정 크기 실행기.
+ *
+ * <p>
+ * 연결을 처리하는 스레드는 작업을 넘기고 {@link FutureTask#get()}으로 결과를 기다린다.
+ * 이 대기는 {@link java.util.concurrent.locks.LockSupport#park()} 기반이므로 연결이 가상 스레드에서 처리 중이면
+ * 가상 스레드만 멈추고 캐리어 스레드는 다른 가상 스레드를 실행한다.
+ * 따라서 이 실행기의 스레드 수가 해당 라우트가 동시에 쓸 수 있는 플랫폼 스레드의 상한이 된다.
+ * </p>
+ *
+ * <p>
+ * 스레드가 모두 일하고 대기열도 가득 차면 작업을 받지 않고
+ * {@link HttpStatus#SERVICE_UNAVAILABLE}로 거절한다. 다른 라우트에는 영향을 주지 않는다.
+ * </p>
+ *
+ * <p>
+ * 요청의 {@link RequestContext}와 {@link RequestScope}는 작업 스레드에도 연결되므로 작업 안에서도 기한을 확인하고 요청 스코프 빈을 쓸 수 있으며,
+ * 클라이언트가 연결을 끊으면 작업 스레드도 인터럽트된다.
+ * 기한이 있으면 그때까지만 기다리고, 넘기면 작업을 인터럽트하여 취소한다.
+ * </p>
+ *
+ * @see <a href="https://resilience4j.readme.io/docs/bulkhead">Resilience4j ThreadPoolBulkhead</a>
+ */
+public class BulkheadExecutor {
+
+    private final String name;
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param name          실행기 이름 (스레드 이름에 쓰인다)
+     * @param threads       스레드 수
+     * @param queueCapacity 대기열 크기
+     */
+    public BulkheadExecutor(String name, int threads, int queueCapacity) {
+        if(threads <= 0 || queueCapacity < 0)
+            throw new IllegalStateException("Invalid bulkhead '" + name + "' size: threads=" + threads + ", queue=" + queueCapacity);
+
+        this.name = name;
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "bulkhead-" + name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 작업을 이 실행기에 넘기고 끝날 때까지 기다린다.
+     *
+     * @return 작업 결과
+     * @throws HttpException             스레드와 대기열이 모두 가득 찬 경우 ({@link HttpStatus#SERVICE_UNAVAILABLE})
+     * @throws DeadlineExceededException 요청의 처리 기한까지 끝나지 않은 경우
+     * @throws Exception                 작업이 던진 예외 (원본 그대로)
+     */
+    @SuppressWarnings("try")
+    public <T> T execute(Callable<T> task) throws Exception {
+        RequestContext context = RequestContext.current();
+        if(context != null)
+            context.checkActive();
+
+        Callable<T> scoped = RequestScope.wrap(task);
+        FutureTask<T> future = new FutureTask<>(context == null ? scoped : () -> {
+            try(RequestContext.Scope ignored = context.attach()) {
+                return scoped.call();
+            }
+        });
+        try {
+            pool.execute(future);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "Bulkhead '" + name + "' is full");
+        }
+
+        try {
+            if(context == null || !context.hasDeadline())
+                return future.get();
+            return future.get(context.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DeadlineExceededException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof Exception exception)
+                throw exception;
+            if(cause instanceof Error error)
+                throw error;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return pool.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return pool.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * 새 작업을 받지 않고 실행 중인 작업을 중단한다.
+     */
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
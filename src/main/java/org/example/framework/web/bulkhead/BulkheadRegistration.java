@@ -0,0 +1,38 @@
+package org.example.framework.web.bulkhead;
+
+/**
+ * 이름 붙은 실행기 하나의 크기 설정을 표현하는 등록 정보이다.
+ */
+public class BulkheadRegistration {
+
+    public static final int DEFAULT_THREADS = 10;
+    public static final int DEFAULT_QUEUE_CAPACITY = 50;
+
+    private final String name;
+    private int threads = DEFAULT_THREADS;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    BulkheadRegistration(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 동시에 실행할 스레드 수를 설정한다. (기본 {@value #DEFAULT_THREADS})
+     */
+    public BulkheadRegistration threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * 스레드가 모두 일할 때 기다릴 수 있는 요청 수를 설정한다. 0이면 기다리지 않고 거절한다. (기본 {@value #DEFAULT_QUEUE_CAPACITY})
+     */
+    public BulkheadRegistration queueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    BulkheadExecutor toExecutor() {
+        return new BulkheadExecutor(name, threads, queueCapacity);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.framework.web.bulkhead;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 라우트 전용 실행기 등록을 수집하는 레지스트리이다.
+ *
+ * <p>
+ * {@link org.example.framework.web.config.WebMvcConfigurer#configureBulkheads(BulkheadRegistry)}에서
+ * 이름과 크기를 등록하고, 핸들러는 {@link org.example.framework.annotation.Bulkhead}로 이름을 지정한다.
+ * 실행기는 처음 조회될 때 만들어지며, 초기화 이후에는 읽기 전용으로 사용된다.
+ * </p>
+ *
+ * <pre>
+ * registry.addBulkhead("slow")
+ *         .threads(4)
+ *         .queueCapacity(16);
+ * </pre>
+ */
+public class BulkheadRegistry {
+
+    private final Map<String, BulkheadRegistration> registrations = new LinkedHashMap<>();
+    private final Map<String, BulkheadExecutor> executors = new LinkedHashMap<>();
+
+    /**
+     * 이름 붙은 실행기를 등록한다.
+     *
+     * @throws IllegalStateException 같은 이름이 이미 등록된 경우
+     */
+    public BulkheadRegistration addBulkhead(String name) {
+        BulkheadRegistration registration = new BulkheadRegistration(name);
+        if(registrations.putIfAbsent(name, registration) != null)
+            throw new IllegalStateException("Duplicate bulkhead: " + name);
+        return registration;
+    }
+
+    /**
+     * 이름에 해당하는 실행기를 반환한다. 같은 이름은 같은 실행기를 공유한다.
+     *
+     * @throws IllegalStateException 등록되지 않은 이름인 경우
+     */
+    public synchronized BulkheadExecutor getExecutor(String name) {
+        BulkheadExecutor executor = executors.get(name);
+        if(executor != null)
+            return executor;
+
+        BulkheadRegistration registration = registrations.get(name);
+        if(registration == null)
+            throw new IllegalStateException("Unknown bulkhead '" + name + "'. Register it in WebMvcConfigurer#configureBulkheads");
+
+        executor = registration.toExecutor();
+        executors.put(name, executor);
+        return executor;
+    }
+
+    /**
+     * 만들어진 실행기를 모두 종료한다.
+     */
+    public synchronized void shutdown() {
+        executors.values().forEach(BulkheadExecutor::shutdown);
+        executors.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.model.HttpStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시에 저장된 응답 하나
+ *
+ * <p>
+ * 상태 코드와 헤더는 힙에, 본문은 {@link SlabAllocator}의 청크에 있다.
+ * 청크는 참조 수로 관리된다. 캐시 자신이 하나를 보유하고, 응답을 전송 중인 요청마다 하나씩 더 보유하므로
+ * 전송 도중 축출되어도 마지막 참조가 반납될 때까지 청크가 재사용되지 않는다.
+ * </p>
+ */
+final class CachedResponse {
+
+    /** W-TinyLFU 구역 */
+    enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    final String key;
+    final int hash;
+    final HttpStatus status;
+
+    /** 이름, 값이 번갈아 놓인 헤더 목록 */
+    final String[] headers;
+
+    final long length;
+    final int weight;
+    final long createdAt;
+    final long expiresAt;
+
+    private final SlabAllocator allocator;
+    private final AtomicInteger refs = new AtomicInteger(2);
+
+    /** 청크, 할당 전이면 {@code null} */
+    int[] chunks;
+
+    /** 본문 복사가 끝나 조회할 수 있으면 {@code true} */
+    volatile boolean ready;
+
+    Segment segment = Segment.WINDOW;
+
+    /**
+     * 캐시와 채우는 요청이 참조 하나씩을 가진 상태로 만든다.
+     */
+    CachedResponse(String key, HttpStatus status, String[] headers, long length, long createdAt, long ttlNanos, SlabAllocator allocator) {
+        this.key = key;
+        this.hash = spread(key.hashCode());
+        this.status = status;
+        this.headers = headers;
+        this.length = length;
+        this.weight = Math.max(1, SlabAllocator.chunksFor(length));
+        this.createdAt = createdAt;
+        this.expiresAt = createdAt + ttlNanos;
+        this.allocator = allocator;
+    }
+
+    boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    /**
+     * 참조를 하나 얻는다.
+     *
+     * @return 이미 해제된 항목이면 {@code false}
+     */
+    boolean retain() {
+        int current;
+        do {
+            current = refs.get();
+            if(current == 0)
+                return false;
+        } while(!refs.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 참조를 반납하고, 마지막 참조였으면 청크를 할당기에 돌려준다.
+     */
+    void release() {
+        if(refs.decrementAndGet() == 0 && chunks != null)
+            allocator.free(chunks);
+    }
+
+    SlabAllocator allocator() {
+        return allocator;
+    }
+
+    static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x45d9f3b;
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.model.HttpBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * 캐시 적중 응답의 본문. 다이렉트 메모리 청크를 가리키며 전송할 때만 복사한다.
+ *
+ * <p>
+ * 본문은 {@link CachedResponse}의 참조 하나를 보유하고, {@link #writeTo(OutputStream)}가 끝나면 반납한다.
+ * 전송 전에 오류로 버려진 경우에도 청크가 묶여 있지 않도록 {@link Cleaner}가 GC 시점에 반납한다.
+ * </p>
+ */
+final class CachedResponseBody extends HttpBody {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final byte[] EMPTY = new byte[0];
+
+    private final CachedResponse entry;
+    private final Cleaner.Cleanable cleanable;
+    private volatile boolean written;
+
+    /**
+     * @param entry 이미 참조를 얻은 항목
+     */
+    CachedResponseBody(CachedResponse entry) {
+        super(EMPTY, Math.toIntExact(entry.length));
+        this.entry = entry;
+        this.cleanable = CLEANER.register(this, new Release(entry));
+    }
+
+    /**
+     * 본문을 기록하고 참조를 반납한다. 한 번만 기록할 수 있다.
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        writeTo(out, 0, entry.length);
+    }
+
+    /**
+     * 본문의 일부 구간을 기록하고 참조를 반납한다. 한 번만 기록할 수 있다.
+     */
+    @Override
+    public void writeTo(OutputStream out, long offset, long count) throws IOException {
+        checkReadable();
+        Objects.checkFromIndexSize(offset, count, entry.length);
+        try {
+            entry.allocator().transferTo(entry.chunks, offset, count, out);
+        } finally {
+            written = true;
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * 전송 후 청크를 반납하므로 다시 기록할 수 없다.
+     */
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    @Override
+    public byte[] getData() {
+        checkReadable();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.toIntExact(entry.length));
+        try {
+            entry.allocator().transferTo(entry.chunks, 0, entry.length, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String getAsString(String encoding) {
+        return new String(getData(), Charset.forName(encoding));
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(getData());
+    }
+
+    /**
+     * 참조를 반납한 뒤에는 청크가 다른 항목에 재사용될 수 있으므로 읽을 수 없다.
+     */
+    private void checkReadable() {
+        if(written)
+            throw new IllegalStateException("Cached response body has already been written");
+    }
+
+    /**
+     * 본문 객체를 참조하지 않는 반납 작업 (Cleaner 요구사항)
+     */
+    private record Release(CachedResponse entry) implements Runnable {
+        @Override
+        public void run() {
+            entry.release();
+        }
+    }
+}
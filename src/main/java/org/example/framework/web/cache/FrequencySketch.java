@@ -0,0 +1,87 @@
+package org.example.framework.web.cache;
+
+/**
+ * TinyLFU 승인 정책에 쓰이는 4비트 Count-Min Sketch
+ *
+ * <p>
+ * 키마다 4개의 해시 위치에 4비트 카운터(최대 15)를 두고, 조회 시 그중 최솟값을 빈도로 본다.
+ * {@code long} 하나에 카운터 16개를 담으므로 항목 수에 비해 메모리가 매우 작다.
+ * 증가 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여, 과거에 인기 있던 키가 영원히 남지 않게 한다.
+ * </p>
+ *
+ * <p>
+ * 스레드 안전하지 않으며, 호출자({@link ResponseCacheStore})의 락 안에서 사용한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/ben-manes/caffeine/blob/master/caffeine/src/main/java/com/github/benmanes/caffeine/cache/FrequencySketch.java">Caffeine FrequencySketch</a>
+ * @see <a href="https://arxiv.org/abs/1512.00727">TinyLFU: A Highly Efficient Cache Admission Policy</a>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedEntries 캐시에 동시에 있을 것으로 예상되는 항목 수
+     */
+    FrequencySketch(int expectedEntries) {
+        int size = Integer.highestOneBit(Math.max(16, expectedEntries - 1) << 1);
+        this.table = new long[Math.max(1, size / 16) * 4];
+        this.counterMask = table.length * 16 - 1;
+        this.sampleSize = 10 * size;
+    }
+
+    /**
+     * @return 추정 빈도 (0~15)
+     */
+    int frequency(int hash) {
+        int min = 15;
+        for(int i = 0; i < SEEDS.length; i++)
+            min = Math.min(min, counter(indexOf(hash, i)));
+        return min;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for(int i = 0; i < SEEDS.length; i++)
+            added |= incrementAt(indexOf(hash, i));
+
+        if(added && ++additions >= sampleSize)
+            reset();
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private int counter(int index) {
+        return (int) (table[index >>> 4] >>> ((index & 15) << 2)) & 0xF;
+    }
+
+    private boolean incrementAt(int index) {
+        int slot = index >>> 4;
+        int shift = (index & 15) << 2;
+        if(((table[slot] >>> shift) & 0xF) == 0xF)
+            return false;
+        table[slot] += 1L << shift;
+        return true;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄인다.
+     */
+    private void reset() {
+        for(int i = 0; i < table.length; i++)
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        additions /= 2;
+    }
+}
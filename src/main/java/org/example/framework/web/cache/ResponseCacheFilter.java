@@ -0,0 +1,295 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.annotation.Controller;
+import org.example.framework.annotation.RequestMapping;
+import org.example.framework.annotation.ResponseCache;
+import org.example.framework.core.ApplicationContext;
+import org.example.framework.core.lifecycle.ApplicationContextAware;
+import org.example.framework.core.lifecycle.SmartInitializingSingleton;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.example.framework.web.mapping.route.RouteTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link ResponseCache}가 선언된 {@code GET} 핸들러의 응답을 다이렉트 메모리에 보관하고 재사용하는 필터
+ *
+ * <p>
+ * 처리 흐름
+ * <ul>
+ *     <li>적중 - 저장된 상태, 헤더와 {@code Age}를 설정하고 본문은 청크에서 바로 전송한다. 컨트롤러는 호출되지 않는다.
+ *         저장된 ETag가 {@code If-None-Match}와 일치하면 본문 없이 {@code 304}로 응답한다.</li>
+ *     <li>미스 - 같은 키의 첫 요청만 컨트롤러를 호출하고, 동시에 도착한 요청은 그 결과를 기다렸다가 캐시에서 응답한다.
+ *         인기 키의 TTL이 끝나는 순간 요청이 한꺼번에 백엔드로 몰리지 않는다.
+ *         기다리는 시간은 {@link #COALESCE_TIMEOUT_MS}로 제한하며, 넘기거나 결과가 저장되지 않으면 직접 처리한다.</li>
+ * </ul>
+ * 비동기 응답은 완료 리스너에서 저장하고, 스트리밍과 업그레이드 응답은 저장하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 저장 조건: {@code 200} 응답, {@code Set-Cookie} 없음, {@code Cache-Control}에 {@code no-store}, {@code private} 없음,
+ * 본문이 항목 최대 크기 이하.
+ * 압축 필터보다 바깥쪽에서 실행되므로 압축된 본문이 저장되며, {@code Accept-Encoding}은 기본적으로 키에 포함된다.
+ * </p>
+ *
+ * <p>
+ * 용량 관리는 {@link ResponseCacheStore}(W-TinyLFU), 본문 메모리는 {@link SlabAllocator}가 담당한다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9111">RFC 9111 HTTP Caching</a>
+ * @see <a href="https://github.com/ben-manes/caffeine">Caffeine</a>
+ */
+public class ResponseCacheFilter implements Filter, ApplicationContextAware, SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    /** 기본 본문 저장 용량 (바이트) */
+    public static final long DEFAULT_CAPACITY = 64L * 1024 * 1024;
+
+    /** 기본 항목 최대 크기 (바이트) */
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    /** 선행 요청의 결과를 기다리는 최대 시간 (밀리초) */
+    static final long COALESCE_TIMEOUT_MS = 3_000;
+
+    /** 연결 또는 전송 시점마다 달라지므로 저장하지 않는 헤더 */
+    private static final Set<String> EXCLUDED_HEADERS =
+            Set.of("date", "server", "connection", "keep-alive", "content-length", "transfer-encoding");
+
+    private final RouteTree<CachePolicy> policies = new RouteTree<>();
+    private final ResponseCacheMetrics metrics = new ResponseCacheMetrics();
+    private final ResponseCacheStore store;
+    private final Map<String, CompletableFuture<Void>> inflight = new ConcurrentHashMap<>();
+
+    private ApplicationContext context;
+
+    public ResponseCacheFilter() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_ENTRY_SIZE);
+    }
+
+    /**
+     * @param capacity     본문 저장에 쓸 다이렉트 메모리 크기 (바이트, 1MB 단위로 올림)
+     * @param maxEntrySize 항목 하나의 최대 본문 크기 (바이트, 용량의 1/8 이하)
+     */
+    public ResponseCacheFilter(long capacity, long maxEntrySize) {
+        if(capacity <= 0)
+            throw new IllegalStateException("Invalid response cache capacity: " + capacity);
+        if(maxEntrySize <= 0 || maxEntrySize > capacity / 8)
+            throw new IllegalStateException("Max entry size must be between 1 and capacity/8: " + maxEntrySize);
+        this.store = new ResponseCacheStore(capacity, maxEntrySize, metrics);
+    }
+
+    public ResponseCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * {@link Controller} Bean에서 {@link ResponseCache}가 선언된 {@code GET} 매핑을 수집한다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for(Object controller : context.getBeansWithAnnotation(Controller.class).values()) {
+            for(Method method : controller.getClass().getDeclaredMethods()) {
+                ResponseCache cache = method.getAnnotation(ResponseCache.class);
+                RequestMapping rm = method.getAnnotation(RequestMapping.class);
+                if(cache == null)
+                    continue;
+                if(rm == null || rm.method() != HttpMethod.GET)
+                    throw new IllegalStateException("@ResponseCache requires a GET @RequestMapping: " + method);
+                if(cache.ttlMs() <= 0)
+                    throw new IllegalStateException("Invalid @ResponseCache ttlMs on " + method);
+
+                register(rm.value(), cache.ttlMs(), cache.varyBy());
+            }
+        }
+    }
+
+    /**
+     * 경로 패턴에 캐시 정책을 등록한다.
+     */
+    void register(String pattern, long ttlMs, String... varyBy) {
+        CachePolicy policy = new CachePolicy(TimeUnit.MILLISECONDS.toNanos(ttlMs), varyBy.clone());
+        policies.insert(HttpMethod.GET, RoutePattern.parse(pattern), policy);
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        CachePolicy policy = request.getMethod() == HttpMethod.GET ? findPolicy(request.getPath()) : null;
+        if(policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = policy.key(request);
+        if(serve(key, request, response))
+            return;
+
+        CompletableFuture<Void> filling = new CompletableFuture<>();
+        CompletableFuture<Void> leader = inflight.putIfAbsent(key, filling);
+        if(leader != null) {
+            await(leader);
+            if(serve(key, request, response)) {
+                metrics.recordCoalesced();
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean deferred = false;
+        try {
+            chain.doFilter(request, response);
+            if(request.getUpgradeHandler() != null)
+                return;
+
+            AsyncContext asyncContext = request.getAsyncContext();
+            if(asyncContext == null) {
+                store(key, policy, response);
+            } else if(!asyncContext.isStreaming()) {
+                deferred = true;
+                asyncContext.addListener(() -> {
+                    try {
+                        store(key, policy, response);
+                    } finally {
+                        finish(key, filling);
+                    }
+                });
+            }
+        } finally {
+            if(!deferred)
+                finish(key, filling);
+        }
+    }
+
+    private CachePolicy findPolicy(String path) {
+        return policies.find(HttpMethod.GET, path, RoutePattern.pathEnd(path));
+    }
+
+    /**
+     * 캐시에 유효한 항목이 있으면 응답을 채운다.
+     */
+    private boolean serve(String key, HttpRequest request, HttpResponse response) {
+        long now = System.nanoTime();
+        CachedResponse entry = store.get(key, now);
+        if(entry == null)
+            return false;
+
+        response.setStatus(entry.status);
+        String etag = null;
+        String[] headers = entry.headers;
+        for(int i = 0; i < headers.length; i += 2) {
+            response.getHeader().put(headers[i], headers[i + 1]);
+            if(headers[i].equalsIgnoreCase("ETag"))
+                etag = headers[i + 1];
+        }
+        response.getHeader().set("Age", Long.toString(TimeUnit.NANOSECONDS.toSeconds(now - entry.createdAt)));
+
+        // 조건부 요청이 저장된 태그와 일치하면 본문을 읽지 않고 304로 끝낸다.
+        if(etag != null && response.checkNotModified(request, etag)) {
+            entry.release();
+            return true;
+        }
+        response.setBody(new CachedResponseBody(entry));
+        return true;
+    }
+
+    private void store(String key, CachePolicy policy, HttpResponse response) {
+        if(!isCacheable(response))
+            return;
+
+        List<String> headers = new ArrayList<>();
+        for(Map.Entry<String, List<String>> header : response.getHeader().getAll().entrySet()) {
+            if(EXCLUDED_HEADERS.contains(header.getKey().toLowerCase()))
+                continue;
+            for(String value : header.getValue()) {
+                headers.add(header.getKey());
+                headers.add(value);
+            }
+        }
+
+        try {
+            store.put(key, response.getStatus(), headers.toArray(String[]::new), response.getBody(),
+                    System.nanoTime(), policy.ttlNanos());
+        } catch (IOException e) {
+            log.warn("[ResponseCache] Failed to store {}", key, e);
+        }
+    }
+
+    static boolean isCacheable(HttpResponse response) {
+        if(response.getStatusCode() != 200)
+            return false;
+        if(response.getHeader().getFirst("Set-Cookie") != null)
+            return false;
+
+        for(String value : response.getHeader().get("Cache-Control")) {
+            String directives = value.toLowerCase();
+            if(directives.contains("no-store") || directives.contains("private"))
+                return false;
+        }
+        return true;
+    }
+
+    private void finish(String key, CompletableFuture<Void> filling) {
+        inflight.remove(key, filling);
+        filling.complete(null);
+    }
+
+    private static void await(CompletableFuture<Void> leader) {
+        try {
+            leader.get(COALESCE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+            // 선행 요청이 늦으면 직접 처리한다.
+        }
+    }
+
+    int size() {
+        return store.size();
+    }
+
+    long usedBytes() {
+        return store.usedBytes();
+    }
+
+    /**
+     * 라우트 하나의 캐시 정책
+     *
+     * @param ttlNanos 유지 시간 (나노초)
+     * @param varyBy   키에 포함할 요청 헤더
+     */
+    private record CachePolicy(long ttlNanos, String[] varyBy) {
+
+        String key(HttpRequest request) {
+            StringBuilder key = new StringBuilder(request.getRequestTarget());
+            for(String name : varyBy) {
+                key.append('\n').append(name).append(':');
+                key.append(String.join(",", request.getHeader().get(name)));
+            }
+            return key.toString();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.framework.web.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ResponseCacheFilter}의 누적 지표
+ *
+ * <p>
+ * 모든 워커가 동시에 갱신하므로 경합이 적은 {@link LongAdder}로 집계한다.
+ * </p>
+ */
+public class ResponseCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 용량을 맞추기 위해 밀려난 항목 수 (승인 경쟁에서 진 새 항목 포함)
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 너무 크거나 메모리가 부족하여 저장하지 못한 응답 수
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 같은 키의 선행 요청을 기다려 컨트롤러를 호출하지 않은 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 조회 중 적중 비율, 조회가 없으면 {@code 0.0}
+     */
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d ratio=%.2f evictions=%d rejected=%d coalesced=%d",
+                getHitCount(), getMissCount(), getHitRatio(), getEvictionCount(), getRejectedCount(), getCoalescedCount());
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.cache.CachedResponse.Segment;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한이 있는 응답 저장소. 축출 정책은 W-TinyLFU이다.
+ *
+ * <p>
+ * 구역 구성 (가중치는 본문이 차지하는 청크 수)
+ * <ul>
+ *     <li>window (1%) - 새 항목이 먼저 들어오는 LRU. 짧은 버스트를 흡수한다.</li>
+ *     <li>probation / protected (나머지의 20% / 80%) - 본 구역 SLRU. probation에서 다시 조회되면 protected로 승격된다.</li>
+ * </ul>
+ * window에서 밀려난 후보는 본 구역이 가득 차 있으면 probation의 LRU 희생자와 {@link FrequencySketch}의 빈도를 비교하여
+ * 더 자주 요청된 쪽만 남는다. 한 번 조회되고 마는 키가 자주 쓰이는 응답을 밀어내지 못한다.
+ * </p>
+ *
+ * <p>
+ * 정책 연산은 모두 O(1)이며 하나의 {@link ReentrantLock} 안에서 수행한다.
+ * 본문 복사는 락 밖에서 하고, 복사가 끝난 항목만 조회된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/ben-manes/caffeine/wiki/Efficiency">Caffeine W-TinyLFU</a>
+ */
+final class ResponseCacheStore {
+
+    private final SlabAllocator allocator;
+    private final FrequencySketch sketch;
+    private final ResponseCacheMetrics metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<String, CachedResponse> entries = new HashMap<>();
+    private final LinkedHashMap<String, CachedResponse> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedResponse> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedResponse> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long maxWindow;
+    private final long maxMain;
+    private final long maxProtected;
+    private final int maxEntryChunks;
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    /**
+     * @param capacity     본문 저장에 쓸 다이렉트 메모리 크기 (바이트)
+     * @param maxEntrySize 항목 하나의 최대 본문 크기 (바이트)
+     */
+    ResponseCacheStore(long capacity, long maxEntrySize, ResponseCacheMetrics metrics) {
+        this.allocator = new SlabAllocator(capacity);
+        this.metrics = metrics;
+
+        int total = allocator.getTotalChunks();
+        this.maxEntryChunks = Math.min(total, SlabAllocator.chunksFor(maxEntrySize));
+        this.maxWindow = Math.max(1, total / 100);
+        this.maxMain = total - maxWindow;
+        this.maxProtected = maxMain * 8 / 10;
+        // 평균 응답이 청크 하나 정도라고 보고 빈도 표를 잡는다.
+        this.sketch = new FrequencySketch(total);
+    }
+
+    /**
+     * 항목을 조회하고 참조를 하나 얻는다. 호출자는 사용 후 {@link CachedResponse#release()}를 호출해야 한다.
+     *
+     * @return 유효한 항목, 없거나 만료되었으면 {@code null}
+     */
+    CachedResponse get(String key, long now) {
+        lock.lock();
+        try {
+            CachedResponse entry = entries.get(key);
+            sketch.increment(entry != null ? entry.hash : CachedResponse.spread(key.hashCode()));
+
+            if(entry == null || !entry.ready) {
+                metrics.recordMiss();
+                return null;
+            }
+            if(entry.isExpired(now)) {
+                remove(entry);
+                metrics.recordMiss();
+                return null;
+            }
+
+            onHit(entry);
+            metrics.recordHit();
+            return entry.retain() ? entry : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 응답 본문을 다이렉트 메모리에 복사하여 저장한다.
+     *
+     * @param headers 이름, 값이 번갈아 놓인 헤더 목록
+     * @return 저장되었으면 {@code true}, 너무 크거나 승인되지 않았으면 {@code false}
+     */
+    boolean put(String key, HttpStatus status, String[] headers, HttpBody body, long now, long ttlNanos) throws IOException {
+        long length = body.getContentLengthLong();
+        if(SlabAllocator.chunksFor(length) > maxEntryChunks) {
+            metrics.recordRejected();
+            return false;
+        }
+
+        CachedResponse entry = new CachedResponse(key, status, headers, length, now, ttlNanos, allocator);
+
+        lock.lock();
+        try {
+            CachedResponse old = entries.remove(key);
+            if(old != null)
+                unlink(old);
+
+            entries.put(key, entry);
+            window.put(key, entry);
+            windowWeight += entry.weight;
+            evict();
+
+            // 승인 경쟁에서 바로 밀려났을 수 있다.
+            if(entries.get(key) != entry) {
+                entry.release();
+                return false;
+            }
+
+            entry.chunks = allocator.allocate(SlabAllocator.chunksFor(length));
+            if(entry.chunks == null) {
+                // 전송 중인 축출 항목이 청크를 아직 잡고 있다.
+                remove(entry);
+                entry.release();
+                metrics.recordRejected();
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        boolean written = false;
+        try {
+            allocator.write(entry.chunks, body);
+            entry.ready = true;
+            written = true;
+        } finally {
+            if(!written)
+                discard(entry);
+            entry.release();
+        }
+        return true;
+    }
+
+    private void discard(CachedResponse entry) {
+        lock.lock();
+        try {
+            remove(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long usedBytes() {
+        return (long) allocator.usedChunks() * SlabAllocator.CHUNK_SIZE;
+    }
+
+    private void onHit(CachedResponse entry) {
+        switch (entry.segment) {
+            case WINDOW -> window.get(entry.key);
+            case PROTECTED -> protectedSegment.get(entry.key);
+            case PROBATION -> {
+                probation.remove(entry.key);
+                probationWeight -= entry.weight;
+                entry.segment = Segment.PROTECTED;
+                protectedSegment.put(entry.key, entry);
+                protectedWeight += entry.weight;
+
+                while(protectedWeight > maxProtected) {
+                    CachedResponse demoted = protectedSegment.pollFirstEntry().getValue();
+                    protectedWeight -= demoted.weight;
+                    demoted.segment = Segment.PROBATION;
+                    probation.put(demoted.key, demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+        }
+    }
+
+    /**
+     * window를 넘친 항목을 본 구역 후보로 보내고, 본 구역이 넘치면 빈도로 승인 여부를 정한다.
+     */
+    private void evict() {
+        while(windowWeight > maxWindow) {
+            CachedResponse candidate = window.pollFirstEntry().getValue();
+            windowWeight -= candidate.weight;
+
+            candidate.segment = Segment.PROBATION;
+            probation.put(candidate.key, candidate);
+            probationWeight += candidate.weight;
+            admit(candidate);
+        }
+    }
+
+    private void admit(CachedResponse candidate) {
+        while(probationWeight + protectedWeight > maxMain) {
+            CachedResponse victim = victim(candidate);
+            if(victim == null || sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                remove(candidate);
+                metrics.recordEviction();
+                return;
+            }
+            remove(victim);
+            metrics.recordEviction();
+        }
+    }
+
+    /**
+     * 후보를 제외한 가장 오래된 항목 (probation 우선)
+     */
+    private CachedResponse victim(CachedResponse candidate) {
+        for(CachedResponse entry : probation.values())
+            if(entry != candidate)
+                return entry;
+        for(CachedResponse entry : protectedSegment.values())
+            return entry;
+        return null;
+    }
+
+    private void remove(CachedResponse entry) {
+        if(entries.remove(entry.key, entry)) {
+            unlink(entry);
+        }
+    }
+
+    /**
+     * 구역에서 빼고 캐시의 참조를 반납한다.
+     */
+    private void unlink(CachedResponse entry) {
+        switch (entry.segment) {
+            case WINDOW -> {
+                window.remove(entry.key);
+                windowWeight -= entry.weight;
+            }
+            case PROBATION -> {
+                probation.remove(entry.key);
+                probationWeight -= entry.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(entry.key);
+                protectedWeight -= entry.weight;
+            }
+        }
+        entry.release();
+    }
+}
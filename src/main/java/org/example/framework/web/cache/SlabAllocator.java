@@ -0,0 +1,156 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.model.HttpBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 캐시된 응답 본문을 보관하는 다이렉트 메모리 할당기
+ *
+ * <p>
+ * 1MB 다이렉트 {@link ByteBuffer}(슬랩)를 4KB 청크로 나누어 쓴다. 본문 하나는 연속되지 않은 청크 여러 개에 나뉘어 저장되므로
+ * 단편화로 할당이 실패하지 않는다. 슬랩은 처음 필요할 때 만들어지고 이후 해제되지 않으며,
+ * 반납된 청크는 스택에 쌓아 재사용한다. 본문 바이트가 힙 밖에 있으므로 캐시 크기가 GC 부담이 되지 않는다.
+ * </p>
+ *
+ * <p>
+ * 할당과 반납은 이 객체의 모니터로 보호된다. 청크 읽기/쓰기는 절대 위치 연산만 사용하므로
+ * 서로 다른 청크에 대해 동시에 수행해도 안전하다.
+ * </p>
+ */
+final class SlabAllocator {
+
+    static final int CHUNK_SIZE = 4096;
+    static final int CHUNKS_PER_SLAB = 256;
+
+    private static final int[] NO_CHUNKS = new int[0];
+
+    private final ByteBuffer[] slabs;
+    private final int totalChunks;
+
+    /** 반납된 청크 번호 스택 */
+    private final int[] free;
+    private int freeTop;
+
+    /** 아직 한 번도 할당되지 않은 첫 청크 번호 */
+    private int untouched;
+
+    /**
+     * @param capacity 최대 메모리 크기 (바이트, 슬랩 단위로 올림)
+     */
+    SlabAllocator(long capacity) {
+        long slabSize = (long) CHUNK_SIZE * CHUNKS_PER_SLAB;
+        int slabCount = (int) Math.max(1, (capacity + slabSize - 1) / slabSize);
+        this.slabs = new ByteBuffer[slabCount];
+        this.totalChunks = slabCount * CHUNKS_PER_SLAB;
+        this.free = new int[totalChunks];
+    }
+
+    int getTotalChunks() {
+        return totalChunks;
+    }
+
+    static int chunksFor(long length) {
+        return (int) ((length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    /**
+     * @return 할당된 청크 번호, 남은 청크가 부족하면 {@code null}
+     */
+    synchronized int[] allocate(int count) {
+        if(count == 0)
+            return NO_CHUNKS;
+        if(freeTop + (totalChunks - untouched) < count)
+            return null;
+
+        int[] chunks = new int[count];
+        for(int i = 0; i < count; i++) {
+            if(freeTop > 0) {
+                chunks[i] = free[--freeTop];
+            } else {
+                int chunk = untouched++;
+                int slab = chunk / CHUNKS_PER_SLAB;
+                if(slabs[slab] == null)
+                    slabs[slab] = ByteBuffer.allocateDirect(CHUNK_SIZE * CHUNKS_PER_SLAB);
+                chunks[i] = chunk;
+            }
+        }
+        return chunks;
+    }
+
+    synchronized void free(int[] chunks) {
+        for(int chunk : chunks)
+            free[freeTop++] = chunk;
+    }
+
+    /**
+     * 사용 중인 청크 수
+     */
+    synchronized int usedChunks() {
+        return untouched - freeTop;
+    }
+
+    /**
+     * 바디를 청크에 복사한다.
+     */
+    void write(int[] chunks, HttpBody body) throws IOException {
+        body.writeTo(new OutputStream() {
+            private long written;
+
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                while(len > 0) {
+                    int inChunk = (int) (written % CHUNK_SIZE);
+                    int n = Math.min(len, CHUNK_SIZE - inChunk);
+                    int chunk = chunks[(int) (written / CHUNK_SIZE)];
+                    slabs[chunk / CHUNKS_PER_SLAB].put(offset(chunk) + inChunk, b, off, n);
+                    written += n;
+                    off += n;
+                    len -= n;
+                }
+            }
+        });
+    }
+
+    /**
+     * 청크에 저장된 본문 중 {@code offset}부터 {@code count} 바이트를 순서대로 기록한다.
+     *
+     * <p>
+     * 대상이 {@link WritableByteChannel}이면(컨테이너의 출력 버퍼) 다이렉트 메모리에서 바로 복사하고,
+     * 그렇지 않으면 임시 배열을 거친다.
+     * </p>
+     */
+    void transferTo(int[] chunks, long offset, long count, OutputStream out) throws IOException {
+        long position = offset;
+        long end = offset + count;
+        byte[] scratch = out instanceof WritableByteChannel ? null : new byte[CHUNK_SIZE];
+
+        while(position < end) {
+            int chunk = chunks[(int) (position / CHUNK_SIZE)];
+            int inChunk = (int) (position % CHUNK_SIZE);
+            int n = (int) Math.min(CHUNK_SIZE - inChunk, end - position);
+            ByteBuffer slab = slabs[chunk / CHUNKS_PER_SLAB];
+            int start = offset(chunk) + inChunk;
+
+            if(out instanceof WritableByteChannel channel) {
+                channel.write(slab.slice(start, n));
+            } else {
+                slab.get(start, scratch, 0, n);
+                out.write(scratch, 0, n);
+            }
+            position += n;
+        }
+    }
+
+    private static int offset(int chunk) {
+        return (chunk % CHUNKS_PER_SLAB) * CHUNK_SIZE;
+    }
+}
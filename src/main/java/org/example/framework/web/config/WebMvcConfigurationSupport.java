@@ -1,9 +1,12 @@
 package org.example.framework.web.config;
 
 import org.example.framework.annotation.Component;
+import org.example.framework.annotation.PreDestroy;
 import org.example.framework.core.ApplicationContext;
 import org.example.framework.core.lifecycle.ApplicationContextAware;
+import org.example.framework.web.bulkhead.BulkheadRegistry;
 import org.example.framework.web.interceptor.InterceptorRegistry;
+import org.example.framework.web.resource.ResourceHandlerRegistry;
 
 import java.util.List;
 
@@ -35,6 +38,16 @@ public class WebMvcConfigurationSupport implements ApplicationContextAware {
      */
     private final InterceptorRegistry interceptorRegistry = new InterceptorRegistry();
 
+    /**
+     * 등록된 정적 리소스 핸들러들을 보관하는 레지스트리.
+     */
+    private final ResourceHandlerRegistry resourceHandlerRegistry = new ResourceHandlerRegistry();
+
+    /**
+     * 라우트 전용 실행기를 보관하는 레지스트리.
+     */
+    private final BulkheadRegistry bulkheadRegistry = new BulkheadRegistry();
+
     /**
      * 애플리케이션 컨텍스트를 주입받고,
      * 웹 관련 설정 초기화를 수행한다.
@@ -50,6 +63,8 @@ public class WebMvcConfigurationSupport implements ApplicationContextAware {
     public void setApplicationContext(ApplicationContext context) {
         this.context = context;
         initInterceptors();
+        initResourceHandlers();
+        initBulkheads();
     }
 
     /**
@@ -63,6 +78,32 @@ public class WebMvcConfigurationSupport implements ApplicationContextAware {
             configurer.addInterceptors(interceptorRegistry);
     }
 
+    /**
+     * {@link WebMvcConfigurer} 구현체들을 조회하여
+     * 정적 리소스 핸들러 등록 작업을 수행한다.
+     */
+    private void initResourceHandlers() {
+        for(WebMvcConfigurer configurer : context.getBeansOfType(WebMvcConfigurer.class))
+            configurer.addResourceHandlers(resourceHandlerRegistry);
+    }
+
+    /**
+     * {@link WebMvcConfigurer} 구현체들을 조회하여
+     * 라우트 전용 실행기 등록 작업을 수행한다.
+     */
+    private void initBulkheads() {
+        for(WebMvcConfigurer configurer : context.getBeansOfType(WebMvcConfigurer.class))
+            configurer.configureBulkheads(bulkheadRegistry);
+    }
+
+    /**
+     * 애플리케이션 종료 시 라우트 전용 실행기를 종료한다.
+     */
+    @PreDestroy
+    public void destroy() {
+        bulkheadRegistry.shutdown();
+    }
+
     /**
      * 초기화가 완료된 {@link InterceptorRegistry}를 반환한다.
      *
@@ -71,4 +112,22 @@ public class WebMvcConfigurationSupport implements ApplicationContextAware {
     public InterceptorRegistry getInterceptorRegistry() {
         return interceptorRegistry;
     }
+
+    /**
+     * 초기화가 완료된 {@link ResourceHandlerRegistry}를 반환한다.
+     *
+     * @return 정적 리소스 핸들러 레지스트리
+     */
+    public ResourceHandlerRegistry getResourceHandlerRegistry() {
+        return resourceHandlerRegistry;
+    }
+
+    /**
+     * 초기화가 완료된 {@link BulkheadRegistry}를 반환한다.
+     *
+     * @return 라우트 전용 실행기 레지스트리
+     */
+    public BulkheadRegistry getBulkheadRegistry() {
+        return bulkheadRegistry;
+    }
 }
@@ -1,6 +1,8 @@
 package org.example.framework.web.config;
 
+import org.example.framework.web.bulkhead.BulkheadRegistry;
 import org.example.framework.web.interceptor.InterceptorRegistry;
+import org.example.framework.web.resource.ResourceHandlerRegistry;
 
 /**
  * 웹 계층에 대한 사용자 정의 설정을 제공하기 위한 확장 포인트이다.
@@ -13,7 +15,7 @@ import org.example.framework.web.interceptor.InterceptorRegistry;
  * </p>
  *
  * <p>
- * 구현체는 일반적으로 인터셉터 등록과 같은
+ * 구현체는 일반적으로 인터셉터, 정적 리소스 등록과 같은
  * 웹 파이프라인 구성 작업을 수행한다.
  * </p>
  */
@@ -31,4 +33,26 @@ public interface WebMvcConfigurer {
      * @param registry 인터셉터를 등록하기 위한 레지스트리
      */
     default void addInterceptors(InterceptorRegistry registry) {}
+
+    /**
+     * 정적 리소스를 제공할 URL 패턴과 리소스 위치를 등록한다.
+     *
+     * <p>
+     * 이 메서드는 애플리케이션 초기화 단계에서 한 번 호출된다.
+     * </p>
+     *
+     * @param registry 리소스 핸들러를 등록하기 위한 레지스트리
+     */
+    default void addResourceHandlers(ResourceHandlerRegistry registry) {}
+
+    /**
+     * {@link org.example.framework.annotation.Bulkhead}로 지정할 라우트 전용 실행기를 등록한다.
+     *
+     * <p>
+     * 이 메서드는 애플리케이션 초기화 단계에서 한 번 호출된다.
+     * </p>
+     *
+     * @param registry 실행기를 등록하기 위한 레지스트리
+     */
+    default void configureBulkheads(BulkheadRegistry registry) {}
 }
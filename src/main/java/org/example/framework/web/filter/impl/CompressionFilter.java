@@ -0,0 +1,287 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.util.ContentCodingUtils;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * {@code Accept-Encoding}을 협상하여 응답 본문을 gzip 또는 deflate로 압축하는 필터
+ *
+ * <p>
+ * 압축 대상
+ * <ul>
+ *     <li>클라이언트가 gzip 또는 deflate를 허용한다. (q=0은 거부로 본다, 같으면 gzip 우선)</li>
+ *     <li>본문이 {@code threshold} 바이트 이상이다.</li>
+ *     <li>Content-Type이 텍스트 계열(text/*, JSON, XML, JavaScript, SVG)이다.
+ *         이미지, 아카이브처럼 이미 압축된 형식은 다시 압축하지 않는다.</li>
+ *     <li>{@code Content-Encoding}이 아직 없다.</li>
+ * </ul>
+ * 1xx, 204 응답과 업그레이드, 스트리밍(SSE) 응답은 본문이 컨테이너를 거치지 않으므로 건드리지 않는다.
+ * 비동기 응답은 완료 시점에 응답이 전송되기 직전 압축한다.
+ * 압축 결과가 원본보다 작지 않으면 원본을 그대로 보낸다.
+ * </p>
+ *
+ * <p>
+ * {@link Deflater}는 네이티브 메모리를 쓰므로 요청마다 만들지 않고 풀에서 빌려 {@link Deflater#reset()} 후 재사용한다.
+ * 가상 스레드 엔드포인트는 요청마다 새 스레드이므로 스레드별 보관 대신 CPU 수만큼의 공유 풀을 둔다.
+ * 본문은 {@link HttpBody#writeTo(OutputStream)}로 복사 없이 Deflater에 흘려 넣는다.
+ * </p>
+ *
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/coyote/CompressionConfig.java">Apache Tomcat CompressionConfig</a>
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-8.4">RFC 9110 8.4 Content-Encoding</a>
+ */
+public class CompressionFilter implements Filter {
+
+    /** 기본 최소 압축 크기 (바이트) */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private final int threshold;
+    private final DeflaterPool gzipPool;
+    private final DeflaterPool deflatePool;
+    private final CompressionMetrics metrics = new CompressionMetrics();
+
+    public CompressionFilter() {
+        this(DEFAULT_THRESHOLD, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param threshold 이 크기(바이트) 미만의 본문은 압축하지 않는다.
+     * @param level     압축 수준 (0~9, {@link Deflater#DEFAULT_COMPRESSION})
+     */
+    public CompressionFilter(int threshold, int level) {
+        if(level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+            throw new IllegalStateException("Invalid compression level: " + level);
+        this.threshold = threshold;
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        // gzip은 헤더와 트레일러를 직접 쓰므로 zlib 래퍼 없는 Deflater를 사용한다.
+        this.gzipPool = new DeflaterPool(poolSize, level, true);
+        this.deflatePool = new DeflaterPool(poolSize, level, false);
+    }
+
+    public CompressionMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        Encoding encoding = negotiate(request.getHeader().get("Accept-Encoding"));
+
+        chain.doFilter(request, response);
+
+        if(request.getUpgradeHandler() != null)
+            return;
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        if(asyncContext == null) {
+            compress(response, encoding);
+        } else if(!asyncContext.isStreaming()) {
+            // 컨테이너의 전송 리스너보다 먼저 등록되므로 응답이 전송되기 직전에 실행된다.
+            asyncContext.addListener(() -> compress(response, encoding));
+        }
+    }
+
+    private void compress(HttpResponse response, Encoding encoding) {
+        int status = response.getStatusCode();
+        if(status < 200 || status == 204)
+            return;
+        if(response.getHeader().getFirst("Content-Encoding") != null)
+            return;
+        if(!ContentCodingUtils.isCompressible(response.getHeader().getFirst("Content-Type")))
+            return;
+
+        HttpBody body = response.getBody();
+        long length = body.getContentLengthLong();
+        if(length < threshold)
+            return;
+
+        // 같은 URL이라도 Accept-Encoding에 따라 표현이 달라지므로 캐시에 알린다.
+        response.getHeader().put("Vary", "Accept-Encoding");
+        if(encoding == null)
+            return;
+
+        long start = System.nanoTime();
+        HttpBody compressed = encoding == Encoding.GZIP ? gzip(body) : deflate(body);
+        long elapsed = System.nanoTime() - start;
+
+        if(compressed.getContentLengthLong() >= length) {
+            metrics.recordSkipped();
+            return;
+        }
+
+        response.setBody(compressed);
+        response.getHeader().set("Content-Encoding", encoding.token);
+        metrics.recordCompressed(length, compressed.getContentLengthLong(), elapsed);
+    }
+
+    private HttpBody gzip(HttpBody body) {
+        Deflater deflater = gzipPool.borrow();
+        try {
+            DeflaterSink sink = new DeflaterSink(deflater, new CRC32(), body.getContentLengthLong());
+            sink.writeGzipHeader();
+            body.writeTo(sink);
+            sink.finish();
+            sink.writeGzipTrailer();
+            return sink.toBody();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress response body", e);
+        } finally {
+            gzipPool.release(deflater);
+        }
+    }
+
+    private HttpBody deflate(HttpBody body) {
+        Deflater deflater = deflatePool.borrow();
+        try {
+            DeflaterSink sink = new DeflaterSink(deflater, null, body.getContentLengthLong());
+            body.writeTo(sink);
+            sink.finish();
+            return sink.toBody();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress response body", e);
+        } finally {
+            deflatePool.release(deflater);
+        }
+    }
+
+    /**
+     * {@code Accept-Encoding} 값에서 q 값이 가장 높은 지원 인코딩을 고른다.
+     *
+     * @return 선택된 인코딩, 허용된 것이 없으면 {@code null}
+     */
+    static Encoding negotiate(Iterable<String> acceptEncoding) {
+        double gzip = ContentCodingUtils.quality(acceptEncoding, "gzip");
+        double deflate = ContentCodingUtils.quality(acceptEncoding, "deflate");
+
+        if(gzip <= 0 && deflate <= 0)
+            return null;
+        return gzip >= deflate ? Encoding.GZIP : Encoding.DEFLATE;
+    }
+
+    enum Encoding {
+        GZIP("gzip"), DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+    }
+
+    /**
+     * 재사용할 {@link Deflater}를 보관하는 고정 크기 풀. 비어 있으면 새로 만들고, 가득 차면 반납된 것을 해제한다.
+     */
+    private static final class DeflaterPool {
+        private final BlockingQueue<Deflater> idle;
+        private final int level;
+        private final boolean nowrap;
+
+        DeflaterPool(int size, int level, boolean nowrap) {
+            this.idle = new ArrayBlockingQueue<>(size);
+            this.level = level;
+            this.nowrap = nowrap;
+        }
+
+        Deflater borrow() {
+            Deflater deflater = idle.poll();
+            return deflater != null ? deflater : new Deflater(level, nowrap);
+        }
+
+        void release(Deflater deflater) {
+            deflater.reset();
+            if(!idle.offer(deflater))
+                deflater.end();
+        }
+    }
+
+    /**
+     * 기록되는 바이트를 Deflater로 압축하여 내부 배열에 모으는 스트림
+     */
+    private static final class DeflaterSink extends OutputStream {
+        private static final int GZIP_MAGIC = 0x8b1f;
+
+        private final Deflater deflater;
+        private final CRC32 crc;
+        private byte[] buf;
+        private int size;
+
+        /**
+         * @param crc gzip이면 원본의 CRC32를 계산할 객체, deflate면 {@code null}
+         */
+        DeflaterSink(Deflater deflater, CRC32 crc, long originalSize) {
+            this.deflater = deflater;
+            this.crc = crc;
+            // 텍스트는 대개 1/4 이하로 줄어든다.
+            this.buf = new byte[(int) Math.min(Integer.MAX_VALUE - 8, originalSize / 4 + 64)];
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if(crc != null)
+                crc.update(b, off, len);
+            deflater.setInput(b, off, len);
+            while(!deflater.needsInput())
+                drain();
+        }
+
+        void finish() {
+            deflater.finish();
+            while(!deflater.finished())
+                drain();
+        }
+
+        void writeGzipHeader() {
+            // magic, CM=deflate, FLG=0, MTIME=0, XFL=0, OS=unknown
+            ensureCapacity(10);
+            buf[size++] = (byte) GZIP_MAGIC;
+            buf[size++] = (byte) (GZIP_MAGIC >> 8);
+            buf[size++] = Deflater.DEFLATED;
+            Arrays.fill(buf, size, size + 6, (byte) 0);
+            size += 6;
+            buf[size++] = (byte) 0xff;
+        }
+
+        void writeGzipTrailer() {
+            ensureCapacity(8);
+            writeIntLE((int) crc.getValue());
+            writeIntLE((int) deflater.getBytesRead());
+        }
+
+        HttpBody toBody() {
+            return HttpBody.wrap(buf, size);
+        }
+
+        private void drain() {
+            ensureCapacity(512);
+            size += deflater.deflate(buf, size, buf.length - size);
+        }
+
+        private void writeIntLE(int value) {
+            buf[size++] = (byte) value;
+            buf[size++] = (byte) (value >> 8);
+            buf[size++] = (byte) (value >> 16);
+            buf[size++] = (byte) (value >> 24);
+        }
+
+        private void ensureCapacity(int extra) {
+            if(buf.length - size < extra)
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+        }
+    }
+}
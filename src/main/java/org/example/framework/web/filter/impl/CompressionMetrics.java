@@ -0,0 +1,73 @@
+package org.example.framework.web.filter.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CompressionFilter}의 누적 지표
+ *
+ * <p>
+ * 모든 워커가 동시에 갱신하므로 경합이 적은 {@link LongAdder}로 집계한다.
+ * </p>
+ */
+public class CompressionMetrics {
+
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder compressTimeNs = new LongAdder();
+
+    void recordCompressed(long originalSize, long compressedSize, long elapsedNs) {
+        compressed.increment();
+        bytesIn.add(originalSize);
+        bytesOut.add(compressedSize);
+        compressTimeNs.add(elapsedNs);
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    /**
+     * 압축하여 전송한 응답 수
+     */
+    public long getCompressedCount() {
+        return compressed.sum();
+    }
+
+    /**
+     * 압축 대상이었지만 크기가 줄지 않아 원본으로 전송한 응답 수
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * 압축에 사용한 누적 시간. 압축은 CPU 작업이므로 CPU 사용 시간의 근사치이다.
+     */
+    public long getCompressTimeNs() {
+        return compressTimeNs.sum();
+    }
+
+    /**
+     * 원본 대비 압축 결과의 비율 (예: 5.0이면 1/5로 줄었다), 압축한 응답이 없으면 {@code 1.0}
+     */
+    public double getCompressionRatio() {
+        long out = bytesOut.sum();
+        return out == 0 ? 1.0 : (double) bytesIn.sum() / out;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("compressed=%d skipped=%d ratio=%.2f timeMs=%.1f",
+                getCompressedCount(), getSkippedCount(), getCompressionRatio(), getCompressTimeNs() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.utils.HttpDateUtil;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code Range} 요청에 본문의 일부만 {@code 206 Partial Content}로 응답하는 필터
+ *
+ * <p>
+ * 처리 규칙
+ * <ul>
+ *     <li>{@code GET}의 {@code 200} 응답에 {@code Accept-Ranges: bytes}를 붙인다.</li>
+ *     <li>범위 하나는 {@code Content-Range}와 해당 구간만, 여러 개는 {@code multipart/byteranges}로 보낸다.</li>
+ *     <li>만족할 수 있는 범위가 없으면 {@code 416}과 {@code Content-Range: bytes *}{@code /길이}로 응답한다.</li>
+ *     <li>{@code If-Range}가 현재 ETag(강한 비교) 또는 Last-Modified와 다르면 범위를 무시하고 전체를 보낸다.</li>
+ *     <li>형식이 잘못되었거나 범위가 {@link #MAX_RANGES}개를 넘으면 범위를 무시한다. 겹치는 범위는 합친다.</li>
+ * </ul>
+ * 다시 기록할 수 없는 바디({@link HttpBody#isRepeatable()})는 범위 하나만 지원하며, 여러 범위 요청에는 전체를 보낸다.
+ * </p>
+ *
+ * <p>
+ * 구간은 {@link HttpBody#writeTo(OutputStream, long, long)}로 기록하므로 파일 바디는 요청된 구간만 읽는다.
+ * 응답 캐시와 압축 필터보다 바깥쪽에서 실행되어, 저장된 전체 응답과 압축된 표현에 범위를 적용한다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-14">RFC 9110 14 Range Requests</a>
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/catalina/servlets/DefaultServlet.java">Apache Tomcat DefaultServlet</a>
+ */
+public class RangeFilter implements Filter {
+
+    /** 한 요청에서 허용하는 최대 범위 수. 작은 범위를 대량으로 요청하는 공격을 막는다. */
+    static final int MAX_RANGES = 16;
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        chain.doFilter(request, response);
+
+        if(request.getMethod() != HttpMethod.GET || request.getUpgradeHandler() != null)
+            return;
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        if(asyncContext == null) {
+            applyRange(request, response);
+        } else if(!asyncContext.isStreaming()) {
+            asyncContext.addListener(() -> applyRange(request, response));
+        }
+    }
+
+    private static void applyRange(HttpRequest request, HttpResponse response) {
+        if(response.getStatusCode() != 200)
+            return;
+        response.getHeader().set("Accept-Ranges", "bytes");
+
+        List<String> rangeHeader = request.getHeader().get("Range");
+        if(rangeHeader.isEmpty() || !ifRangeMatches(request, response))
+            return;
+
+        HttpBody body = response.getBody();
+        long length = body.getContentLengthLong();
+        List<ByteRange> ranges = ByteRange.parse(String.join(",", rangeHeader), length);
+        if(ranges == null)
+            return;
+
+        if(ranges.isEmpty()) {
+            response.setStatus(HttpStatus.RANGE_NOT_SATISFIABLE);
+            response.getHeader().set("Content-Range", "bytes */" + length);
+            response.setBody(HttpBody.empty());
+            return;
+        }
+
+        if(ranges.size() == 1) {
+            ByteRange range = ranges.getFirst();
+            response.setStatus(HttpStatus.PARTIAL_CONTENT);
+            response.getHeader().set("Content-Range", range.contentRange(length));
+            response.setBody(new RegionBody(body, range));
+        } else if(body.isRepeatable()) {
+            String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+            String contentType = response.getHeader().getFirst("Content-Type");
+            response.setStatus(HttpStatus.PARTIAL_CONTENT);
+            response.getHeader().set("Content-Type", "multipart/byteranges; boundary=" + boundary);
+            response.setBody(new MultipartByteRangesBody(body, ranges, contentType, length, boundary));
+        }
+    }
+
+    /**
+     * {@code If-Range}가 없거나 현재 표현과 같으면 {@code true}.
+     * 엔터티 태그는 강한 비교이므로 약한 태그는 항상 다르다고 본다.
+     */
+    static boolean ifRangeMatches(HttpRequest request, HttpResponse response) {
+        String ifRange = request.getHeader().getFirst("If-Range");
+        if(ifRange == null)
+            return true;
+
+        if(ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            String etag = response.getHeader().getFirst("ETag");
+            return etag != null && !etag.startsWith("W/") && etag.equals(ifRange);
+        }
+
+        String lastModified = response.getHeader().getFirst("Last-Modified");
+        if(lastModified == null)
+            return false;
+        long date = HttpDateUtil.parse(ifRange);
+        return date >= 0 && date == HttpDateUtil.parse(lastModified);
+    }
+
+    /**
+     * 양 끝을 포함하는 바이트 구간
+     */
+    record ByteRange(long first, long last) {
+
+        long length() {
+            return last - first + 1;
+        }
+
+        String contentRange(long completeLength) {
+            return "bytes " + first + "-" + last + "/" + completeLength;
+        }
+
+        /**
+         * {@code Range} 헤더를 본문 길이에 맞춰 해석한다.
+         *
+         * @return 만족할 수 있는 범위 목록 (비어 있으면 416), 형식이 잘못되었거나 무시해야 하면 {@code null}
+         */
+        static List<ByteRange> parse(String header, long length) {
+            if(!header.regionMatches(true, 0, "bytes=", 0, 6))
+                return null;
+
+            String[] specs = header.substring(6).split(",");
+            if(specs.length > MAX_RANGES)
+                return null;
+
+            List<ByteRange> ranges = new ArrayList<>();
+            for(String raw : specs) {
+                String spec = raw.trim();
+                if(spec.isEmpty())
+                    continue;
+                int dash = spec.indexOf('-');
+                if(dash < 0)
+                    return null;
+
+                long first = digits(spec.substring(0, dash).trim());
+                String lastPart = spec.substring(dash + 1).trim();
+                long last = lastPart.isEmpty() ? Long.MAX_VALUE : digits(lastPart);
+
+                if(dash == 0) {
+                    // 접미 범위: 마지막 N 바이트
+                    if(last < 0 || lastPart.isEmpty())
+                        return null;
+                    if(last > 0 && length > 0)
+                        ranges.add(new ByteRange(Math.max(0, length - last), length - 1));
+                    continue;
+                }
+
+                if(first < 0 || last < 0 || last < first)
+                    return null;
+                if(first < length)
+                    ranges.add(new ByteRange(first, Math.min(last, length - 1)));
+            }
+            return coalesce(ranges);
+        }
+
+        /**
+         * 겹치거나 맞닿은 범위가 있으면 정렬하여 합친다. 없으면 요청 순서를 유지한다.
+         */
+        private static List<ByteRange> coalesce(List<ByteRange> ranges) {
+            List<ByteRange> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparingLong(ByteRange::first));
+
+            List<ByteRange> merged = new ArrayList<>();
+            for(ByteRange range : sorted) {
+                ByteRange previous = merged.isEmpty() ? null : merged.getLast();
+                if(previous != null && range.first() <= previous.last() + 1)
+                    merged.set(merged.size() - 1, new ByteRange(previous.first(), Math.max(previous.last(), range.last())));
+                else
+                    merged.add(range);
+            }
+            return merged.size() == ranges.size() ? ranges : merged;
+        }
+
+        /**
+         * @return 10진수 값, 숫자가 아니거나 범위를 넘으면 {@code -1}
+         */
+        private static long digits(String value) {
+            if(value.isEmpty() || value.length() > 18)
+                return -1;
+            for(int i = 0; i < value.length(); i++)
+                if(value.charAt(i) < '0' || value.charAt(i) > '9')
+                    return -1;
+            return Long.parseLong(value);
+        }
+    }
+
+    /**
+     * 원본 바디의 한 구간
+     */
+    private static final class RegionBody extends HttpBody {
+        private final HttpBody source;
+        private final ByteRange range;
+
+        RegionBody(HttpBody source, ByteRange range) {
+            super(new byte[0], 0);
+            this.source = source;
+            this.range = range;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return range.length();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return source.isRepeatable();
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            source.writeTo(out, range.first(), range.length());
+        }
+
+        @Override
+        public void writeTo(OutputStream out, long offset, long count) throws IOException {
+            Objects.checkFromIndexSize(offset, count, range.length());
+            source.writeTo(out, range.first() + offset, count);
+        }
+
+        @Override
+        public byte[] getData() {
+            return toByteArray(this);
+        }
+
+        @Override
+        public String getAsString(String encoding) {
+            return new String(getData(), Charset.forName(encoding));
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(getData());
+        }
+    }
+
+    /**
+     * {@code multipart/byteranges} 본문. 부분마다 헤더와 구간을 차례로 기록한다.
+     */
+    private static final class MultipartByteRangesBody extends HttpBody {
+        private final HttpBody source;
+        private final List<ByteRange> ranges;
+        private final List<byte[]> partHeaders = new ArrayList<>();
+        private final byte[] closing;
+        private final long length;
+
+        MultipartByteRangesBody(HttpBody source, List<ByteRange> ranges, String contentType, long completeLength, String boundary) {
+            super(new byte[0], 0);
+            this.source = source;
+            this.ranges = ranges;
+
+            long total = 0;
+            for(int i = 0; i < ranges.size(); i++) {
+                StringBuilder header = new StringBuilder();
+                if(i > 0)
+                    header.append("\r\n");
+                header.append("--").append(boundary).append("\r\n");
+                if(contentType != null)
+                    header.append("Content-Type: ").append(contentType).append("\r\n");
+                header.append("Content-Range: ").append(ranges.get(i).contentRange(completeLength)).append("\r\n\r\n");
+
+                byte[] bytes = header.toString().getBytes(StandardCharsets.US_ASCII);
+                partHeaders.add(bytes);
+                total += bytes.length + ranges.get(i).length();
+            }
+            this.closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+            this.length = total + closing.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            for(int i = 0; i < ranges.size(); i++) {
+                out.write(partHeaders.get(i));
+                ByteRange range = ranges.get(i);
+                source.writeTo(out, range.first(), range.length());
+            }
+            out.write(closing);
+        }
+
+        @Override
+        public void writeTo(OutputStream out, long offset, long count) throws IOException {
+            Objects.checkFromIndexSize(offset, count, length);
+            byte[] data = getData();
+            out.write(data, (int) offset, (int) count);
+        }
+
+        @Override
+        public byte[] getData() {
+            return toByteArray(this);
+        }
+
+        @Override
+        public String getAsString(String encoding) {
+            return new String(getData(), Charset.forName(encoding));
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(getData());
+        }
+    }
+
+    private static byte[] toByteArray(HttpBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.toIntExact(body.getContentLengthLong()));
+        try {
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
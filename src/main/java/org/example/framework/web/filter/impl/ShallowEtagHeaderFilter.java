@@ -0,0 +1,60 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.util.ETagUtils;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+
+/**
+ * 응답 본문으로 약한 ETag를 만들고, {@code If-None-Match}가 일치하면 {@code 304 Not Modified}로 응답하는 필터
+ *
+ * <p>
+ * 대상은 {@code GET}, {@code HEAD}의 {@code 200} 응답이며 {@code Cache-Control: no-store}인 응답은 제외한다.
+ * 핸들러가 {@link HttpResponse#checkNotModified(HttpRequest, String)} 등으로 ETag를 이미 설정했으면
+ * 본문을 해시하지 않고 그 값으로 비교한다.
+ * 본문은 컨트롤러가 만든 뒤에 해시하므로 렌더링 비용은 줄지 않지만, 일치하면 전송량이 헤더 크기로 줄어든다.
+ * </p>
+ *
+ * <p>
+ * 압축 필터 안쪽에서 실행되므로 304 응답은 압축 작업 없이 끝나고, 태그는 압축 전 본문으로 계산된다.
+ * 비동기 응답은 완료 리스너에서 처리하고, 스트리밍과 업그레이드 응답은 건드리지 않는다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/filter/ShallowEtagHeaderFilter.java">Spring ShallowEtagHeaderFilter</a>
+ */
+public class ShallowEtagHeaderFilter implements Filter {
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        chain.doFilter(request, response);
+
+        if(request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD)
+            return;
+        if(request.getUpgradeHandler() != null)
+            return;
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        if(asyncContext == null) {
+            applyETag(request, response);
+        } else if(!asyncContext.isStreaming()) {
+            asyncContext.addListener(() -> applyETag(request, response));
+        }
+    }
+
+    private static void applyETag(HttpRequest request, HttpResponse response) {
+        if(response.getStatusCode() != 200)
+            return;
+        for(String cacheControl : response.getHeader().get("Cache-Control"))
+            if(cacheControl.toLowerCase().contains("no-store"))
+                return;
+
+        String etag = response.getHeader().getFirst("ETag");
+        if(etag == null)
+            etag = ETagUtils.weakETag(response.getBody());
+
+        response.checkNotModified(request, etag);
+    }
+}
@@ -1,5 +1,9 @@
 package org.example.framework.web.interceptor;
 
+import org.example.framework.web.adapter.HandlerAdapter;
+
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,6 +22,14 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * {@link org.example.framework.web.mapping.RequestMappingHandlerMapping}은
+ * 라우트마다 체인을 초기화 단계에서 한 번 생성해 두고 모든 요청에서 재사용한다.
+ * 이때 경로 패턴으로 걸러진 인터셉터 배열과 Handler를 실행할 {@link HandlerAdapter}까지
+ * 미리 결정되므로, 요청 처리 시에는 인터셉터 필터링이나 어댑터 탐색이 일어나지 않는다.
+ * 체인은 생성 이후 변경되지 않으므로 여러 요청 스레드가 동시에 공유해도 안전하다.
+ * </p>
+ *
+ * <p>
  * 인터셉터의 실행 순서 및 호출 시점은
  * {@code DispatcherServlet}에 의해 결정되며,
  * 본 클래스는 실행 순서나 로직을 직접 제어하지 않는다.
@@ -25,25 +37,34 @@ import java.util.List;
  */
 public class HandlerExecutionChain {
 
+    private static final HandlerInterceptor[] NO_INTERCEPTORS = new HandlerInterceptor[0];
+
     /**
      * 실제 요청을 처리할 Handler 객체.
      *
      * <p>
      * 일반적으로 {@link org.example.framework.web.HandlerMethod} 인스턴스이며,
-     * {@link org.example.framework.web.adapter.HandlerAdapter}에 의해 실행된다.
+     * {@link HandlerAdapter}에 의해 실행된다.
      * </p>
      */
     private final Object handler;
 
     /**
-     * 요청 처리 과정에 적용될 인터셉터 목록.
+     * 요청 처리 과정에 적용될 인터셉터 배열.
      *
      * <p>
      * 인터셉터는 등록된 순서대로 {@code preHandle} / {@code postHandle}이 호출되며,
      * {@code afterCompletion}은 역순으로 호출된다.
+     * 반복자 할당 없이 인덱스로 순회할 수 있도록 배열로 보관한다.
      * </p>
      */
-    private final List<HandlerInterceptor> interceptors;
+    private final HandlerInterceptor[] interceptors;
+
+    /** {@link #interceptors}의 읽기 전용 뷰 */
+    private final List<HandlerInterceptor> interceptorList;
+
+    /** 미리 결정된 Handler 어댑터, 결정되지 않았으면 {@code null} */
+    private final HandlerAdapter handlerAdapter;
 
     /**
      * 실행 대상 Handler와 인터셉터 목록을 포함하는 실행 체인을 생성한다.
@@ -52,8 +73,21 @@ public class HandlerExecutionChain {
      * @param interceptors 요청 처리 과정에 적용될 인터셉터 목록
      */
     public HandlerExecutionChain(Object handler, List<HandlerInterceptor> interceptors) {
+        this(handler, interceptors, null);
+    }
+
+    /**
+     * 실행할 어댑터까지 결정된 실행 체인을 생성한다.
+     *
+     * @param handler        실제 요청을 처리할 Handler
+     * @param interceptors   요청 처리 과정에 적용될 인터셉터 목록
+     * @param handlerAdapter Handler를 실행할 어댑터, 요청 시점에 탐색하려면 {@code null}
+     */
+    public HandlerExecutionChain(Object handler, List<HandlerInterceptor> interceptors, HandlerAdapter handlerAdapter) {
         this.handler = handler;
-        this.interceptors = interceptors != null ? interceptors : List.of();
+        this.interceptors = interceptors != null ? interceptors.toArray(NO_INTERCEPTORS) : NO_INTERCEPTORS;
+        this.interceptorList = Collections.unmodifiableList(Arrays.asList(this.interceptors));
+        this.handlerAdapter = handlerAdapter;
     }
 
     /**
@@ -68,9 +102,35 @@ public class HandlerExecutionChain {
     /**
      * 적용될 {@link HandlerInterceptor} 목록을 반환한다.
      *
-     * @return 인터셉터 리스트
+     * @return 읽기 전용 인터셉터 리스트
      */
     public List<HandlerInterceptor> getInterceptors() {
-        return interceptors;
+        return interceptorList;
+    }
+
+    /**
+     * 적용될 인터셉터 수를 반환한다.
+     */
+    public int getInterceptorCount() {
+        return interceptors.length;
+    }
+
+    /**
+     * 지정한 순서의 인터셉터를 반환한다.
+     *
+     * @param index 등록 순서 인덱스
+     * @return 인터셉터
+     */
+    public HandlerInterceptor getInterceptor(int index) {
+        return interceptors[index];
+    }
+
+    /**
+     * 초기화 단계에서 결정된 {@link HandlerAdapter}를 반환한다.
+     *
+     * @return 어댑터, 결정되지 않았으면 {@code null}
+     */
+    public HandlerAdapter getHandlerAdapter() {
+        return handlerAdapter;
     }
 }
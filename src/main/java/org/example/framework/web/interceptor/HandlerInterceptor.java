@@ -19,6 +19,14 @@ public interface HandlerInterceptor {
     default void postHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
     }
 
+    /**
+     * 비동기 처리 시작 후, 처리 스레드 반환 전
+     * <p>postHandle, afterCompletion은 비동기 처리가 완료될 때까지 미뤄지므로,
+     * 처리 스레드가 실행되는 동안만 필요한 자원은 여기서 반납한다.</p>
+     */
+    default void afterConcurrentHandlingStarted(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+    }
+
     /**
      * 요청 완료 후 (예외 포함)
      */
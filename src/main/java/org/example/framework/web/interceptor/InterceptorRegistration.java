@@ -0,0 +1,63 @@
+package org.example.framework.web.interceptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link InterceptorRegistry}에 등록된 인터셉터 하나의 적용 범위를 구성한다.
+ *
+ * <p>
+ * {@link #addPathPatterns(String...)}로 적용할 라우트를,
+ * {@link #excludePathPatterns(String...)}로 제외할 라우트를 지정한다.
+ * 아무 패턴도 지정하지 않으면 모든 라우트에 적용된다.
+ * </p>
+ *
+ * <pre>{@code
+ * registry.addInterceptor(authInterceptor)
+ *         .addPathPatterns("/api/**")
+ *         .excludePathPatterns("/api/health");
+ * }</pre>
+ *
+ * @see MappedInterceptor
+ */
+public class InterceptorRegistration {
+
+    private final HandlerInterceptor interceptor;
+    private final List<String> includePatterns = new ArrayList<>();
+    private final List<String> excludePatterns = new ArrayList<>();
+
+    InterceptorRegistration(HandlerInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * 인터셉터를 적용할 경로 패턴을 추가한다.
+     *
+     * @param patterns 경로 패턴 ({@code *}, {@code **}, {@code {name}} 지원)
+     * @return 메서드 체이닝을 위한 현재 인스턴스
+     */
+    public InterceptorRegistration addPathPatterns(String... patterns) {
+        includePatterns.addAll(Arrays.asList(patterns));
+        return this;
+    }
+
+    /**
+     * 인터셉터를 적용하지 않을 경로 패턴을 추가한다.
+     *
+     * @param patterns 경로 패턴 ({@code *}, {@code **}, {@code {name}} 지원)
+     * @return 메서드 체이닝을 위한 현재 인스턴스
+     */
+    public InterceptorRegistration excludePathPatterns(String... patterns) {
+        excludePatterns.addAll(Arrays.asList(patterns));
+        return this;
+    }
+
+    HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    MappedInterceptor toMappedInterceptor() {
+        return new MappedInterceptor(interceptor, includePatterns, excludePatterns);
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.framework.web.interceptor;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -16,11 +15,12 @@ import java.util.List;
  * <p>
  * 등록된 인터셉터들의 실행 순서는
  * {@link #addInterceptor(HandlerInterceptor)} 호출 순서를 따른다.
+ * 각 인터셉터의 적용 경로는 반환되는 {@link InterceptorRegistration}으로 제한할 수 있다.
  * </p>
  */
 public class InterceptorRegistry {
 
-    private final List<HandlerInterceptor> interceptors = new ArrayList<>();
+    private final List<InterceptorRegistration> registrations = new ArrayList<>();
 
     /**
      * 주어진 {@link HandlerInterceptor}를 레지스트리에 등록한다.
@@ -31,11 +31,12 @@ public class InterceptorRegistry {
      * </p>
      *
      * @param interceptor 등록할 인터셉터
-     * @return 메서드 체이닝을 위한 현재 {@code InterceptorRegistry} 인스턴스
+     * @return 적용 경로를 지정할 수 있는 {@link InterceptorRegistration}
      */
-    public InterceptorRegistry addInterceptor(HandlerInterceptor interceptor) {
-        this.interceptors.add(interceptor);
-        return this;
+    public InterceptorRegistration addInterceptor(HandlerInterceptor interceptor) {
+        InterceptorRegistration registration = new InterceptorRegistration(interceptor);
+        this.registrations.add(registration);
+        return registration;
     }
 
     /**
@@ -49,6 +50,23 @@ public class InterceptorRegistry {
      * @return 불변 {@link HandlerInterceptor} 리스트
      */
     public List<HandlerInterceptor> getInterceptors() {
-        return Collections.unmodifiableList(interceptors);
+        return registrations.stream()
+                .map(InterceptorRegistration::getInterceptor)
+                .toList();
+    }
+
+    /**
+     * 적용 경로 정보를 포함한 인터셉터 목록을 등록 순서대로 반환한다.
+     *
+     * <p>
+     * 라우트별 실행 체인을 미리 구성하는 초기화 단계에서 사용된다.
+     * </p>
+     *
+     * @return 불변 {@link MappedInterceptor} 리스트
+     */
+    public List<MappedInterceptor> getMappedInterceptors() {
+        return registrations.stream()
+                .map(InterceptorRegistration::toMappedInterceptor)
+                .toList();
     }
 }
@@ -0,0 +1,108 @@
+package org.example.framework.web.interceptor;
+
+import org.example.framework.web.mapping.route.RoutePattern;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 적용 대상 경로 패턴 정보를 함께 가지는 {@link HandlerInterceptor} 래퍼이다.
+ *
+ * <p>
+ * 포함/제외 패턴은 요청 경로가 아니라 {@link RoutePattern}(라우트 선언)과 비교된다.
+ * 라우트마다 적용될 인터셉터는 매핑 초기화 단계에서 한 번만 계산되어
+ * {@link HandlerExecutionChain}에 고정되므로, 요청 처리 시에는 패턴 매칭을 수행하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 지원하는 패턴 세그먼트는 다음과 같다.
+ * <ul>
+ *     <li>정적 세그먼트 - 라우트의 정적 세그먼트와 정확히 일치해야 한다.</li>
+ *     <li>{@code *}, {@code {name}} - 라우트의 세그먼트 하나(정적 또는 경로 변수)와 매칭된다.</li>
+ *     <li>{@code **} - 0개 이상의 세그먼트와 매칭된다. 라우트의 {@code **}는 이 세그먼트로만 매칭된다.</li>
+ * </ul>
+ * 포함 패턴이 없으면 모든 라우트에 적용된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/handler/MappedInterceptor.java">Spring MappedInterceptor</a>
+ */
+public final class MappedInterceptor {
+
+    private static final String ANY_SEGMENTS = "**";
+    private static final String ANY_SEGMENT = "*";
+
+    private final HandlerInterceptor interceptor;
+    private final String[][] includePatterns;
+    private final String[][] excludePatterns;
+
+    public MappedInterceptor(HandlerInterceptor interceptor, List<String> includePatterns, List<String> excludePatterns) {
+        this.interceptor = interceptor;
+        this.includePatterns = includePatterns.stream().map(MappedInterceptor::split).toArray(String[][]::new);
+        this.excludePatterns = excludePatterns.stream().map(MappedInterceptor::split).toArray(String[][]::new);
+    }
+
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * 주어진 라우트에 이 인터셉터를 적용해야 하는지 판단한다.
+     *
+     * @param route 판단 대상 라우트 패턴
+     * @return 제외 패턴에 해당하지 않고, 포함 패턴이 없거나 포함 패턴 중 하나에 해당하면 {@code true}
+     */
+    public boolean matches(RoutePattern route) {
+        String[] routeSegments = split(route.getPattern());
+
+        for(String[] exclude : excludePatterns)
+            if(match(exclude, 0, routeSegments, 0)) return false;
+
+        if(includePatterns.length == 0)
+            return true;
+
+        for(String[] include : includePatterns)
+            if(match(include, 0, routeSegments, 0)) return true;
+
+        return false;
+    }
+
+    private static boolean match(String[] pattern, int p, String[] route, int r) {
+        if(p == pattern.length)
+            return r == route.length;
+
+        String segment = pattern[p];
+
+        if(segment.equals(ANY_SEGMENTS)) {
+            // 0개 이상의 라우트 세그먼트를 소비
+            for(int next = r; next <= route.length; next++)
+                if(match(pattern, p + 1, route, next)) return true;
+            return false;
+        }
+
+        if(r == route.length || route[r].equals(RoutePattern.CATCH_ALL))
+            return false;
+
+        boolean single = segment.equals(ANY_SEGMENT) || isVariable(segment);
+        if(!single && (isVariable(route[r]) || !segment.equals(route[r])))
+            return false;
+
+        return match(pattern, p + 1, route, r + 1);
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static String[] split(String pattern) {
+        if(pattern == null || !pattern.startsWith("/"))
+            throw new IllegalArgumentException("Path pattern must start with '/': " + pattern);
+        return pattern.substring(1).split("/", -1);
+    }
+
+    @Override
+    public String toString() {
+        return interceptor.getClass().getSimpleName()
+                + " include=" + Arrays.deepToString(includePatterns)
+                + " exclude=" + Arrays.deepToString(excludePatterns);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.framework.web.json;
+
+import java.io.IOException;
+
+/**
+ * {@link JsonReader}에서 다음 JSON 값을 읽어 특정 타입의 객체로 만든다.
+ *
+ * <p>
+ * 구현체는 타입마다 한 번 생성되어 {@link JsonMapper}에 캐시되며, 여러 스레드에서 동시에 사용된다.
+ * </p>
+ *
+ * @param <T> 바인딩 대상 타입
+ */
+@FunctionalInterface
+public interface JsonBinder<T> {
+
+    /**
+     * @param in 다음 토큰이 값의 시작을 가리키는 reader
+     * @return 바인딩된 값
+     * @throws JsonParseException JSON 형식 오류 또는 타입 불일치
+     * @throws IOException        본문 스트림 읽기 실패
+     */
+    T read(JsonReader in) throws IOException;
+}
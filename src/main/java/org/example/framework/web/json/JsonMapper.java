@@ -0,0 +1,559 @@
+package org.example.framework.web.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 반환값을 JSON으로 직렬화하고, 요청 본문 JSON을 객체로 바인딩하는 매퍼이다.
+ * 싱글톤이며 {@link #getInstance()}로 획득한다.
+ *
+ * <p>
+ * 타입별 {@link JsonSerializer}는 처음 사용될 때 한 번 생성되어 {@link ClassValue}에 캐시된다.
+ * 레코드와 POJO는 생성 시점에 접근자를 {@link java.lang.invoke.MethodHandle}로 변환하고
+ * 속성 이름을 {@code "name":} 형태의 바이트로 미리 인코딩해 두므로,
+ * 직렬화 중에는 리플렉션 조회나 이름 인코딩이 일어나지 않는다.
+ * </p>
+ *
+ * <p>
+ * 지원 타입
+ * <ul>
+ *     <li>문자열, 숫자, 불리언, 문자, 열거형(이름)</li>
+ *     <li>{@link Map}(키는 문자열로 변환), {@link Iterable}, 배열(원시 타입 배열 포함), {@link Optional}</li>
+ *     <li>레코드(컴포넌트 순서), POJO(public getter, 필드 선언 순서)</li>
+ *     <li>그 외 {@code java.*} 타입은 {@link Object#toString()} 문자열</li>
+ * </ul>
+ * 중첩이 {@value JsonWriter#MAX_DEPTH}단계를 넘으면 순환 참조로 보고 {@link IllegalStateException}이 발생한다.
+ * </p>
+ *
+ * <p>
+ * 바인딩은 {@link JsonReader}에서 토큰을 하나씩 꺼내 대상 객체를 바로 채운다.
+ * 타입별 {@link JsonBinder}는 제네릭 타입({@code List<Item>} 등) 단위로 캐시되며,
+ * {@code @RequestBody} 파라미터는 Handler 등록 시점에 binder를 미리 조회해 둔다.
+ * </p>
+ */
+public final class JsonMapper {
+
+    private JsonMapper() {}
+
+    private static class Holder {
+        static final JsonMapper INSTANCE = new JsonMapper();
+    }
+
+    public static JsonMapper getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final ClassValue<JsonSerializer<Object>> serializers = new ClassValue<>() {
+        @Override
+        protected JsonSerializer<Object> computeValue(Class<?> type) {
+            return createSerializer(type);
+        }
+    };
+
+    private final ConcurrentMap<Type, JsonBinder<?>> binders = new ConcurrentHashMap<>();
+
+    /**
+     * 값을 JSON으로 기록한다.
+     *
+     * @param out   출력 버퍼
+     * @param value 직렬화할 값, {@code null}이면 {@code null} 리터럴
+     */
+    public void write(JsonWriter out, Object value) {
+        if(value == null)
+            out.writeNull();
+        else
+            serializers.get(value.getClass()).write(out, value);
+    }
+
+    /**
+     * 값을 JSON 문자열로 변환한다. 주로 테스트와 로깅 용도이다.
+     */
+    public String writeValueAsString(Object value) {
+        JsonWriter out = new JsonWriter();
+        write(out, value);
+        return out.toString();
+    }
+
+    /**
+     * 주어진 타입에 대한 캐시된 직렬화기를 반환한다.
+     *
+     * @param type 값의 실제 타입
+     */
+    public JsonSerializer<Object> serializerFor(Class<?> type) {
+        return serializers.get(type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private JsonSerializer<Object> createSerializer(Class<?> type) {
+        if(CharSequence.class.isAssignableFrom(type))
+            return (out, v) -> out.writeString((CharSequence) v);
+        if(type == Boolean.class)
+            return (out, v) -> out.writeBoolean((Boolean) v);
+        if(type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == AtomicInteger.class || type == AtomicLong.class)
+            return (out, v) -> out.writeLong(((Number) v).longValue());
+        if(type == Double.class || type == Float.class)
+            return (out, v) -> out.writeDouble(((Number) v).doubleValue());
+        if(type == BigDecimal.class || type == BigInteger.class)
+            return (out, v) -> out.writeAscii(v.toString());
+        if(type == Character.class)
+            return (out, v) -> out.writeString(String.valueOf(v));
+        if(Enum.class.isAssignableFrom(type))
+            return enumSerializer((Class) type);
+        if(type == Optional.class)
+            return (out, v) -> write(out, ((Optional<?>) v).orElse(null));
+        if(Map.class.isAssignableFrom(type))
+            return this::writeMap;
+        if(List.class.isAssignableFrom(type) && RandomAccess.class.isAssignableFrom(type))
+            return (out, v) -> writeList(out, (List<?>) v);
+        if(Iterable.class.isAssignableFrom(type))
+            return (out, v) -> writeIterable(out, (Iterable<?>) v);
+        if(type.isArray())
+            return arraySerializer(type.getComponentType());
+        if(type.getName().startsWith("java."))
+            return (out, v) -> out.writeString(v.toString());
+
+        return ObjectSerializer.create(type, this);
+    }
+
+    private JsonSerializer<Object> enumSerializer(Class<? extends Enum<?>> type) {
+        Class<?> enumType = type.isEnum() ? type : type.getSuperclass();
+        byte[][] encoded = new byte[enumType.getEnumConstants().length][];
+        for(Object constant : enumType.getEnumConstants()) {
+            Enum<?> e = (Enum<?>) constant;
+            JsonWriter w = new JsonWriter(e.name().length() + 2);
+            w.writeString(e.name());
+            encoded[e.ordinal()] = w.toByteArray();
+        }
+        return (out, v) -> out.writeRaw(encoded[((Enum<?>) v).ordinal()]);
+    }
+
+    private void writeMap(JsonWriter out, Object value) {
+        out.enter();
+        out.writeByte((byte) '{');
+        boolean first = true;
+        for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            if(!first) out.writeByte((byte) ',');
+            first = false;
+
+            Object key = entry.getKey();
+            out.writeString(key instanceof CharSequence cs ? cs : String.valueOf(key));
+            out.writeByte((byte) ':');
+            write(out, entry.getValue());
+        }
+        out.writeByte((byte) '}');
+        out.exit();
+    }
+
+    private void writeList(JsonWriter out, List<?> list) {
+        out.enter();
+        out.writeByte((byte) '[');
+        for(int i = 0, n = list.size(); i < n; i++) {
+            if(i > 0) out.writeByte((byte) ',');
+            write(out, list.get(i));
+        }
+        out.writeByte((byte) ']');
+        out.exit();
+    }
+
+    private void writeIterable(JsonWriter out, Iterable<?> iterable) {
+        out.enter();
+        out.writeByte((byte) '[');
+        Iterator<?> it = iterable.iterator();
+        boolean first = true;
+        while(it.hasNext()) {
+            if(!first) out.writeByte((byte) ',');
+            first = false;
+            write(out, it.next());
+        }
+        out.writeByte((byte) ']');
+        out.exit();
+    }
+
+    private JsonSerializer<Object> arraySerializer(Class<?> component) {
+        if(component == int.class)
+            return (out, v) -> {
+                int[] a = (int[]) v;
+                out.writeByte((byte) '[');
+                for(int i = 0; i < a.length; i++) {
+                    if(i > 0) out.writeByte((byte) ',');
+                    out.writeInt(a[i]);
+                }
+                out.writeByte((byte) ']');
+            };
+        if(component == long.class)
+            return (out, v) -> {
+                long[] a = (long[]) v;
+                out.writeByte((byte) '[');
+                for(int i = 0; i < a.length; i++) {
+                    if(i > 0) out.writeByte((byte) ',');
+                    out.writeLong(a[i]);
+                }
+                out.writeByte((byte) ']');
+            };
+        if(component == double.class)
+            return (out, v) -> {
+                double[] a = (double[]) v;
+                out.writeByte((byte) '[');
+                for(int i = 0; i < a.length; i++) {
+                    if(i > 0) out.writeByte((byte) ',');
+                    out.writeDouble(a[i]);
+                }
+                out.writeByte((byte) ']');
+            };
+        if(component == boolean.class)
+            return (out, v) -> {
+                boolean[] a = (boolean[]) v;
+                out.writeByte((byte) '[');
+                for(int i = 0; i < a.length; i++) {
+                    if(i > 0) out.writeByte((byte) ',');
+                    out.writeBoolean(a[i]);
+                }
+                out.writeByte((byte) ']');
+            };
+        if(component == char.class)
+            return (out, v) -> out.writeString(new String((char[]) v));
+        if(component.isPrimitive())
+            // byte, short, float
+            return (out, v) -> {
+                int length = Array.getLength(v);
+                out.writeByte((byte) '[');
+                for(int i = 0; i < length; i++) {
+                    if(i > 0) out.writeByte((byte) ',');
+                    write(out, Array.get(v, i));
+                }
+                out.writeByte((byte) ']');
+            };
+
+        return (out, v) -> writeList(out, Arrays.asList((Object[]) v));
+    }
+
+    // ===== 바인딩 =====
+
+    /**
+     * 스트림의 JSON 문서 하나를 읽어 바인딩한다. 최상위 값 뒤에 다른 내용이 있으면 오류이다.
+     *
+     * @param in     UTF-8 JSON 스트림
+     * @param binder {@link #binderFor(Type)}로 조회한 binder
+     * @throws JsonParseException JSON 형식 오류 또는 타입 불일치
+     * @throws IOException        스트림 읽기 실패
+     */
+    public <T> T readValue(InputStream in, JsonBinder<T> binder) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        T value = binder.read(reader);
+        reader.endDocument();
+        return value;
+    }
+
+    /**
+     * JSON 문자열을 바인딩한다. 주로 테스트 용도이다.
+     */
+    public <T> T readValue(String json, Type type) throws IOException {
+        return readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), binderFor(type));
+    }
+
+    /**
+     * 주어진 타입에 대한 캐시된 binder를 반환한다. 없으면 생성한다.
+     *
+     * @param type 바인딩 대상 타입, {@link ParameterizedType}이면 요소 타입까지 반영된다.
+     * @throws IllegalStateException 바인딩할 수 없는 타입인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonBinder<T> binderFor(Type type) {
+        JsonBinder<?> binder = binders.get(type);
+        if(binder == null) {
+            // computeIfAbsent는 중첩 타입의 binder 생성(재귀 갱신)을 허용하지 않는다.
+            binder = createBinder(type);
+            JsonBinder<?> existing = binders.putIfAbsent(type, binder);
+            if(existing != null)
+                binder = existing;
+        }
+        return (JsonBinder<T>) binder;
+    }
+
+    private JsonBinder<?> createBinder(Type type) {
+        if(type instanceof Class<?> c)
+            return createBinder(c);
+
+        if(type instanceof ParameterizedType p) {
+            Class<?> raw = (Class<?>) p.getRawType();
+            Type[] args = p.getActualTypeArguments();
+            if(Collection.class.isAssignableFrom(raw) || raw == Iterable.class)
+                return collectionBinder(raw, args[0]);
+            if(Map.class.isAssignableFrom(raw))
+                return mapBinder(raw, args[0], args[1]);
+            if(raw == Optional.class) {
+                JsonBinder<?> value = binderFor(args[0]);
+                return in -> Optional.ofNullable(value.read(in));
+            }
+            return binderFor(raw);
+        }
+
+        if(type instanceof GenericArrayType g)
+            return arrayBinder(rawClass(g.getGenericComponentType()), g.getGenericComponentType());
+        if(type instanceof WildcardType w)
+            return binderFor(w.getUpperBounds()[0]);
+        if(type instanceof TypeVariable<?> v)
+            return binderFor(v.getBounds()[0]);
+
+        throw new IllegalStateException("Unsupported JSON binding type: " + type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private JsonBinder<?> createBinder(Class<?> type) {
+        if(type == String.class || type == CharSequence.class)
+            return nullSafe(JsonReader::nextString);
+        if(type == int.class || type == Integer.class)
+            return nullSafe(JsonReader::nextInt);
+        if(type == long.class || type == Long.class)
+            return nullSafe(JsonReader::nextLong);
+        if(type == double.class || type == Double.class)
+            return nullSafe(JsonReader::nextDouble);
+        if(type == boolean.class || type == Boolean.class)
+            return nullSafe(JsonReader::nextBoolean);
+        if(type == float.class || type == Float.class)
+            return nullSafe(in -> (float) in.nextDouble());
+        if(type == short.class || type == Short.class)
+            return nullSafe(in -> (short) narrow(in, Short.MIN_VALUE, Short.MAX_VALUE));
+        if(type == byte.class || type == Byte.class)
+            return nullSafe(in -> (byte) narrow(in, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        if(type == char.class || type == Character.class)
+            return nullSafe(in -> {
+                String s = in.nextString();
+                if(s.length() != 1)
+                    throw in.syntaxError("Expected a single character but was \"" + s + "\"");
+                return s.charAt(0);
+            });
+        if(type == BigDecimal.class)
+            return nullSafe(JsonReader::nextBigDecimal);
+        if(type == BigInteger.class)
+            return nullSafe(in -> {
+                try {
+                    return in.nextBigDecimal().toBigIntegerExact();
+                } catch (ArithmeticException e) {
+                    throw in.syntaxError("Expected an integer");
+                }
+            });
+        if(Enum.class.isAssignableFrom(type))
+            return enumBinder((Class) type);
+        if(type == Object.class)
+            return this::readNatural;
+        if(type == Optional.class)
+            return in -> Optional.ofNullable(readNatural(in));
+        if(type.isArray())
+            return arrayBinder(type.getComponentType(), type.getComponentType());
+        if(Collection.class.isAssignableFrom(type) || type == Iterable.class)
+            return collectionBinder(type, Object.class);
+        if(Map.class.isAssignableFrom(type))
+            return mapBinder(type, String.class, Object.class);
+        if(type.isPrimitive() || type.getName().startsWith("java."))
+            throw new IllegalStateException("Unsupported JSON binding type: " + type.getName());
+
+        return ObjectBinder.create(type, this);
+    }
+
+    private static <T> JsonBinder<T> nullSafe(JsonBinder<T> binder) {
+        return in -> {
+            if(in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return binder.read(in);
+        };
+    }
+
+    private static int narrow(JsonReader in, int min, int max) throws IOException {
+        int value = in.nextInt();
+        if(value < min || value > max)
+            throw in.syntaxError("Number out of range: " + value);
+        return value;
+    }
+
+    private <E extends Enum<E>> JsonBinder<E> enumBinder(Class<E> type) {
+        Map<String, E> constants = new HashMap<>();
+        for(E constant : type.getEnumConstants())
+            constants.put(constant.name(), constant);
+
+        return nullSafe(in -> {
+            String name = in.nextString();
+            E constant = constants.get(name);
+            if(constant == null)
+                throw in.syntaxError("Unknown " + type.getSimpleName() + " value \"" + name + "\"");
+            return constant;
+        });
+    }
+
+    private JsonBinder<?> collectionBinder(Class<?> raw, Type elementType) {
+        Supplier<Object> factory;
+        if(raw.isAssignableFrom(ArrayList.class))
+            factory = ArrayList::new;
+        else if(raw.isAssignableFrom(LinkedHashSet.class))
+            factory = LinkedHashSet::new;
+        else if(raw.isAssignableFrom(TreeSet.class))
+            factory = TreeSet::new;
+        else
+            factory = noArgFactory(raw);
+
+        JsonBinder<?> element = binderFor(elementType);
+        return nullSafe(in -> {
+            @SuppressWarnings("unchecked")
+            Collection<Object> collection = (Collection<Object>) factory.get();
+            in.beginArray();
+            while(in.hasNext())
+                collection.add(element.read(in));
+            in.endArray();
+            return collection;
+        });
+    }
+
+    private JsonBinder<?> mapBinder(Class<?> raw, Type keyType, Type valueType) {
+        if(keyType != String.class && keyType != Object.class && keyType != CharSequence.class
+                && !(keyType instanceof WildcardType))
+            throw new IllegalStateException("JSON object keys can only be bound to String: " + keyType);
+
+        Supplier<Object> factory;
+        if(raw.isAssignableFrom(LinkedHashMap.class))
+            factory = LinkedHashMap::new;
+        else if(raw.isAssignableFrom(TreeMap.class))
+            factory = TreeMap::new;
+        else
+            factory = noArgFactory(raw);
+
+        JsonBinder<?> value = binderFor(valueType);
+        return nullSafe(in -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) factory.get();
+            in.beginObject();
+            while(in.hasNext())
+                map.put(in.nextName(), value.read(in));
+            in.endObject();
+            return map;
+        });
+    }
+
+    private JsonBinder<?> arrayBinder(Class<?> componentClass, Type componentType) {
+        JsonBinder<?> element = binderFor(componentType);
+        boolean primitive = componentClass.isPrimitive();
+
+        return nullSafe(in -> {
+            List<Object> values = new ArrayList<>();
+            in.beginArray();
+            while(in.hasNext()) {
+                Object value = element.read(in);
+                if(value == null && primitive)
+                    throw in.syntaxError("null is not allowed in " + componentClass.getName() + "[]");
+                values.add(value);
+            }
+            in.endArray();
+
+            Object array = Array.newInstance(componentClass, values.size());
+            for(int i = 0; i < values.size(); i++)
+                Array.set(array, i, values.get(i));
+            return array;
+        });
+    }
+
+    /**
+     * 대상 타입이 {@link Object}일 때 JSON 값을 자연스러운 Java 타입으로 읽는다.
+     * (객체 → {@link LinkedHashMap}, 배열 → {@link ArrayList}, 정수 → {@link Integer}/{@link Long}, 실수 → {@link Double})
+     */
+    private Object readNatural(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                in.beginObject();
+                while(in.hasNext())
+                    map.put(in.nextName(), readNatural(in));
+                in.endObject();
+                return map;
+            }
+            case BEGIN_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                in.beginArray();
+                while(in.hasNext())
+                    list.add(readNatural(in));
+                in.endArray();
+                return list;
+            }
+            case STRING -> {
+                return in.nextString();
+            }
+            case BOOLEAN -> {
+                return in.nextBoolean();
+            }
+            case NULL -> {
+                in.nextNull();
+                return null;
+            }
+            case NUMBER -> {
+                BigDecimal number = in.nextBigDecimal();
+                if(number.scale() > 0 || number.precision() - number.scale() > 18)
+                    return number.doubleValue();
+                long value = number.longValue();
+                return (int) value == value ? (Object) (int) value : (Object) value;
+            }
+            default -> throw in.syntaxError("Expected a value but was " + in.peek());
+        }
+    }
+
+    private static Supplier<Object> noArgFactory(Class<?> type) {
+        if(type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalStateException("Cannot bind JSON to abstract type " + type.getName());
+        try {
+            MethodHandle constructor = MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return (Object) constructor.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Failed to instantiate " + type.getName(), t);
+                }
+            };
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("No public default constructor: " + type.getName(), e);
+        }
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if(type instanceof Class<?> c)
+            return c;
+        if(type instanceof ParameterizedType p)
+            return (Class<?>) p.getRawType();
+        if(type instanceof GenericArrayType g)
+            return Array.newInstance(rawClass(g.getGenericComponentType()), 0).getClass();
+        return Object.class;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.framework.web.json;
+
+import java.io.IOException;
+
+/**
+ * JSON 문법 오류, 또는 JSON 값을 대상 타입으로 바인딩할 수 없을 때 던지는 예외 <br>
+ * 요청 본문을 읽는 곳에서 400 Bad Request 응답으로 변환해야 한다.
+ */
+public class JsonParseException extends IOException {
+
+    public JsonParseException(String message) {
+        super(message);
+    }
+
+    public JsonParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,488 @@
+package org.example.framework.web.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * UTF-8 JSON 스트림을 토큰 단위로 읽는 풀(pull) 파서이다.
+ *
+ * <p>
+ * 고정 크기 바이트 버퍼로 입력을 조금씩 읽으며, 호출자가 {@link #peek()}로 다음 토큰을 확인하고
+ * {@code beginObject()}, {@code nextName()}, {@code nextInt()} 등으로 소비한다.
+ * 문서 전체를 {@link String}이나 트리로 만들지 않으므로 본문 크기와 무관하게 버퍼 크기만큼만 메모리를 사용한다.
+ * </p>
+ *
+ * <p>
+ * 정수는 바이트에서 바로 계산하고, 문자열은 재사용하는 {@code char[]}에 UTF-8 디코딩과 이스케이프 해제를
+ * 동시에 수행한다. 중첩이 {@value JsonWriter#MAX_DEPTH}단계를 넘으면 {@link JsonParseException}이 발생한다.
+ * </p>
+ *
+ * <p>하나의 본문에서만 사용되며 스레드 안전하지 않다.</p>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc8259">RFC 8259 - JSON</a>
+ */
+public final class JsonReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // 스택에 쌓이는 현재 위치의 문맥
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final InputStream in;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+
+    /** 현재 버퍼 이전까지 소비한 바이트 수, 오류 위치 표시용 */
+    private long consumed;
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    /** 이미 확인했지만 아직 소비하지 않은 토큰, 없으면 {@code null} */
+    private JsonToken peeked;
+
+    /** {@link JsonToken#BOOLEAN} 토큰의 값 */
+    private boolean booleanValue;
+
+    /** 문자열, 숫자 디코딩에 재사용하는 버퍼 */
+    private char[] chars = new char[64];
+
+    public JsonReader(InputStream in) {
+        this.in = in;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * 다음 토큰을 소비하지 않고 반환한다.
+     *
+     * @throws JsonParseException 문법 오류
+     */
+    public JsonToken peek() throws IOException {
+        if(peeked == null)
+            peeked = doPeek();
+        return peeked;
+    }
+
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stackSize--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * 현재 객체나 배열에 읽을 요소가 남아 있는지 확인한다.
+     */
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        return readString();
+    }
+
+    /**
+     * 문자열 값을 읽는다. 숫자 토큰은 원문 그대로 문자열로 반환한다.
+     */
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if(token == JsonToken.NUMBER) {
+            peeked = null;
+            return new String(chars, 0, readNumber());
+        }
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        return booleanValue;
+    }
+
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+    }
+
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if((int) value != value)
+            throw syntaxError("Number out of int range: " + value);
+        return (int) value;
+    }
+
+    /**
+     * 정수 값을 읽는다. {@code 1.0}, {@code 1e3}처럼 정수로 표현 가능한 실수도 허용한다.
+     */
+    public long nextLong() throws IOException {
+        expect(JsonToken.NUMBER);
+        int len = readNumber();
+
+        // 18자리 이하 정수는 오버플로 없이 바로 계산한다.
+        int start = chars[0] == '-' ? 1 : 0;
+        if(len - start > 0 && len - start <= 18) {
+            long value = 0;
+            int i = start;
+            for(; i < len; i++) {
+                char c = chars[i];
+                if(c < '0' || c > '9')
+                    break;
+                value = value * 10 + (c - '0');
+            }
+            if(i == len)
+                return start == 1 ? -value : value;
+        }
+
+        try {
+            return new BigDecimal(chars, 0, len).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw syntaxError("Expected an integer but was " + new String(chars, 0, len));
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        expect(JsonToken.NUMBER);
+        int len = readNumber();
+        try {
+            return Double.parseDouble(new String(chars, 0, len));
+        } catch (NumberFormatException e) {
+            throw syntaxError("Malformed number " + new String(chars, 0, len));
+        }
+    }
+
+    public BigDecimal nextBigDecimal() throws IOException {
+        expect(JsonToken.NUMBER);
+        int len = readNumber();
+        try {
+            return new BigDecimal(chars, 0, len);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Malformed number " + new String(chars, 0, len));
+        }
+    }
+
+    /**
+     * 다음 값을 (중첩된 객체, 배열 포함) 객체를 만들지 않고 건너뛴다.
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT -> { beginObject(); depth++; }
+                case BEGIN_ARRAY -> { beginArray(); depth++; }
+                case END_OBJECT -> { endObject(); depth--; }
+                case END_ARRAY -> { endArray(); depth--; }
+                case NAME, STRING -> { peeked = null; skipString(); }
+                case NUMBER -> { peeked = null; readNumber(); }
+                case BOOLEAN, NULL -> peeked = null;
+                case END_DOCUMENT -> throw syntaxError("Unexpected end of input");
+            }
+        } while(depth > 0);
+    }
+
+    /**
+     * 최상위 값 뒤에 공백 외의 내용이 없는지 확인한다.
+     *
+     * @throws JsonParseException 값 뒤에 다른 내용이 있는 경우
+     */
+    public void endDocument() throws IOException {
+        expect(JsonToken.END_DOCUMENT);
+    }
+
+    /**
+     * 오류 메시지에 입력 위치를 덧붙인 {@link JsonParseException}을 만든다.
+     */
+    public JsonParseException syntaxError(String message) {
+        return new JsonParseException(message + " at offset " + (consumed + pos));
+    }
+
+    // ===== 토큰 판별 =====
+
+    private JsonToken doPeek() throws IOException {
+        int top = stack[stackSize - 1];
+        int c;
+
+        switch (top) {
+            case EMPTY_ARRAY -> stack[stackSize - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> {
+                c = nextNonWhitespace();
+                if(c == ']')
+                    return JsonToken.END_ARRAY;
+                if(c != ',')
+                    throw syntaxError("Expected ',' or ']'");
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                stack[stackSize - 1] = DANGLING_NAME;
+                if(top == NONEMPTY_OBJECT) {
+                    c = nextNonWhitespace();
+                    if(c == '}') {
+                        stack[stackSize - 1] = NONEMPTY_OBJECT;
+                        return JsonToken.END_OBJECT;
+                    }
+                    if(c != ',')
+                        throw syntaxError("Expected ',' or '}'");
+                }
+                c = nextNonWhitespace();
+                if(c == '"')
+                    return JsonToken.NAME;
+                if(c == '}' && top == EMPTY_OBJECT) {
+                    stack[stackSize - 1] = EMPTY_OBJECT;
+                    return JsonToken.END_OBJECT;
+                }
+                throw syntaxError("Expected a property name");
+            }
+            case DANGLING_NAME -> {
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if(nextNonWhitespace() != ':')
+                    throw syntaxError("Expected ':'");
+            }
+            case EMPTY_DOCUMENT -> stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+            default -> {
+                // NONEMPTY_DOCUMENT
+                if(nextNonWhitespace() == -1)
+                    return JsonToken.END_DOCUMENT;
+                throw syntaxError("Unexpected content after the top-level value");
+            }
+        }
+
+        c = nextNonWhitespace();
+        switch (c) {
+            case '{': return JsonToken.BEGIN_OBJECT;
+            case '[': return JsonToken.BEGIN_ARRAY;
+            case '"': return JsonToken.STRING;
+            case ']':
+                if(top == EMPTY_ARRAY)
+                    return JsonToken.END_ARRAY;
+                throw syntaxError("Unexpected ']'");
+            case 't':
+                expectLiteral("rue");
+                booleanValue = true;
+                return JsonToken.BOOLEAN;
+            case 'f':
+                expectLiteral("alse");
+                booleanValue = false;
+                return JsonToken.BOOLEAN;
+            case 'n':
+                expectLiteral("ull");
+                return JsonToken.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of input");
+            default:
+                if(c == '-' || (c >= '0' && c <= '9')) {
+                    pos--; // 숫자는 readNumber()가 처음부터 읽는다.
+                    return JsonToken.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if(token != expected)
+            throw syntaxError("Expected " + expected + " but was " + token);
+        peeked = null;
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for(int i = 0; i < rest.length(); i++) {
+            if(read() != rest.charAt(i))
+                throw syntaxError("Malformed literal");
+        }
+    }
+
+    private void push(int scope) throws JsonParseException {
+        if(stackSize > JsonWriter.MAX_DEPTH)
+            throw syntaxError("JSON nesting exceeds " + JsonWriter.MAX_DEPTH + " levels");
+        if(stackSize == stack.length)
+            stack = Arrays.copyOf(stack, stackSize << 1);
+        stack[stackSize++] = scope;
+    }
+
+    // ===== 값 읽기 =====
+
+    /**
+     * 여는 따옴표 이후의 문자열을 읽는다.
+     */
+    private String readString() throws IOException {
+        int len = 0;
+        char[] out = chars;
+
+        while(true) {
+            // ASCII 구간은 버퍼에서 바로 복사한다.
+            int p = pos, l = limit;
+            byte[] b = buf;
+            while(p < l) {
+                byte c = b[p];
+                if(c == '"' || c == '\\' || c < 0x20)
+                    break;
+                if(len == out.length)
+                    out = chars = Arrays.copyOf(out, len << 1);
+                out[len++] = (char) c;
+                p++;
+            }
+            pos = p;
+
+            int c = read();
+            if(c == '"')
+                return new String(out, 0, len);
+            if(c == -1)
+                throw syntaxError("Unterminated string");
+
+            if(len + 2 > out.length)
+                out = chars = Arrays.copyOf(out, Math.max(len << 1, len + 2));
+
+            if(c == '\\') {
+                out[len++] = readEscape();
+            } else if(c < 0x20) {
+                throw syntaxError("Unescaped control character in string");
+            } else {
+                len = decodeMultiByte(c, out, len);
+            }
+        }
+    }
+
+    private void skipString() throws IOException {
+        int c;
+        while((c = read()) != '"') {
+            if(c == -1)
+                throw syntaxError("Unterminated string");
+            if(c == '\\')
+                readEscape();
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        return switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int value = 0;
+                for(int i = 0; i < 4; i++) {
+                    int h = Character.digit(read(), 16);
+                    if(h < 0)
+                        throw syntaxError("Malformed \\u escape");
+                    value = (value << 4) | h;
+                }
+                yield (char) value;
+            }
+            default -> throw syntaxError("Invalid escape sequence");
+        };
+    }
+
+    /**
+     * 첫 바이트가 {@code lead}인 UTF-8 멀티바이트 문자를 디코딩하여 기록하고 새 길이를 반환한다.
+     * 호출 전 {@code out}에 두 칸 이상의 여유가 있어야 한다.
+     */
+    private int decodeMultiByte(int lead, char[] out, int len) throws IOException {
+        int cp;
+        int continuation;
+        if((lead & 0xE0) == 0xC0) {
+            cp = lead & 0x1F;
+            continuation = 1;
+        } else if((lead & 0xF0) == 0xE0) {
+            cp = lead & 0x0F;
+            continuation = 2;
+        } else if((lead & 0xF8) == 0xF0) {
+            cp = lead & 0x07;
+            continuation = 3;
+        } else {
+            throw syntaxError("Invalid UTF-8 byte");
+        }
+
+        for(int i = 0; i < continuation; i++) {
+            int b = read();
+            if(b == -1 || (b & 0xC0) != 0x80)
+                throw syntaxError("Invalid UTF-8 sequence");
+            cp = (cp << 6) | (b & 0x3F);
+        }
+
+        if(cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            out[len++] = Character.highSurrogate(cp);
+            out[len++] = Character.lowSurrogate(cp);
+        } else {
+            out[len++] = (char) cp;
+        }
+        return len;
+    }
+
+    /**
+     * 숫자 토큰을 {@link #chars}에 ASCII로 읽고 길이를 반환한다.
+     */
+    private int readNumber() throws IOException {
+        int len = 0;
+        while(true) {
+            if(pos == limit && !fill())
+                break;
+            byte c = buf[pos];
+            if((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                if(len == chars.length)
+                    chars = Arrays.copyOf(chars, len << 1);
+                chars[len++] = (char) c;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if(len == 0 || (len == 1 && chars[0] == '-'))
+            throw syntaxError("Malformed number");
+        return len;
+    }
+
+    // ===== 입력 버퍼 =====
+
+    private int nextNonWhitespace() throws IOException {
+        while(true) {
+            if(pos == limit && !fill())
+                return -1;
+            byte c = buf[pos++];
+            if(c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return c & 0xFF;
+        }
+    }
+
+    private int read() throws IOException {
+        if(pos == limit && !fill())
+            return -1;
+        return buf[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        int n = in.read(buf, 0, buf.length);
+        if(n <= 0)
+            return false;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.framework.web.json;
+
+/**
+ * 특정 타입의 값을 {@link JsonWriter}에 기록하는 직렬화 전략이다.
+ *
+ * <p>
+ * 구현체는 {@link JsonMapper}가 타입별로 한 번 생성하여 캐시하며,
+ * 여러 스레드에서 동시에 사용되므로 상태를 가지지 않아야 한다.
+ * </p>
+ *
+ * @param <T> 직렬화 대상 타입
+ */
+@FunctionalInterface
+public interface JsonSerializer<T> {
+
+    /**
+     * 값을 JSON으로 기록한다.
+     *
+     * @param out   출력 버퍼
+     * @param value 직렬화할 값 ({@code null}이 아님)
+     */
+    void write(JsonWriter out, T value);
+}
@@ -0,0 +1,17 @@
+package org.example.framework.web.json;
+
+/**
+ * {@link JsonReader#peek()}가 반환하는 다음 토큰의 종류
+ */
+public enum JsonToken {
+    BEGIN_OBJECT,
+    END_OBJECT,
+    BEGIN_ARRAY,
+    END_ARRAY,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+}
@@ -0,0 +1,232 @@
+package org.example.framework.web.json;
+
+import org.example.framework.was.protocol.model.HttpBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON 토큰을 UTF-8 바이트로 직접 기록하는 출력 버퍼이다.
+ *
+ * <p>
+ * 문자열은 {@code char} 단위로 이스케이프와 UTF-8 인코딩을 동시에 수행하고,
+ * 정수는 자릿수를 바로 버퍼에 기록하므로 중간 {@link String}이나 {@code char[]}를 만들지 않는다.
+ * 기록이 끝난 버퍼는 {@link #toBody()}로 복사 없이 응답 바디가 된다.
+ * </p>
+ *
+ * <p>
+ * 구분자({@code ,}, {@code :})는 호출자({@link JsonSerializer})가 직접 기록한다.
+ * 하나의 직렬화 작업에서만 사용되며 스레드 안전하지 않다.
+ * </p>
+ */
+public final class JsonWriter {
+
+    private static final int DEFAULT_CAPACITY = 512;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    /** 최대 중첩 깊이, 순환 참조를 감지하기 위한 상한 */
+    static final int MAX_DEPTH = 256;
+
+    private byte[] buf;
+    private int count;
+    private int depth;
+
+    public JsonWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public JsonWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public void writeByte(byte b) {
+        ensureCapacity(1);
+        buf[count++] = b;
+    }
+
+    /**
+     * 미리 인코딩된 바이트를 그대로 기록한다. (예: {@code "name":})
+     */
+    public void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeInt(int value) {
+        writeLong(value);
+    }
+
+    /**
+     * 정수를 문자열을 만들지 않고 기록한다.
+     */
+    public void writeLong(long value) {
+        if(value == Long.MIN_VALUE) {
+            writeRaw(MIN_LONG);
+            return;
+        }
+
+        ensureCapacity(20);
+        if(value < 0) {
+            buf[count++] = '-';
+            value = -value;
+        }
+
+        int digits = stringSize(value);
+        int pos = count + digits;
+        do {
+            buf[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while(value != 0);
+        count += digits;
+    }
+
+    /**
+     * 실수를 기록한다. JSON은 NaN, Infinity를 표현할 수 없으므로 {@code null}로 기록한다.
+     */
+    public void writeDouble(double value) {
+        if(Double.isNaN(value) || Double.isInfinite(value)) {
+            writeNull();
+            return;
+        }
+        if(value == (long) value && Math.abs(value) < 1e15) {
+            writeLong((long) value);
+            return;
+        }
+        writeAscii(Double.toString(value));
+    }
+
+    /**
+     * 이미 JSON 숫자 형식인 ASCII 문자열을 그대로 기록한다. (예: {@link java.math.BigDecimal#toString()})
+     */
+    public void writeAscii(String ascii) {
+        int len = ascii.length();
+        ensureCapacity(len);
+        for(int i = 0; i < len; i++)
+            buf[count++] = (byte) ascii.charAt(i);
+    }
+
+    /**
+     * 문자열을 따옴표로 감싸고 이스케이프하여 UTF-8로 기록한다.
+     */
+    public void writeString(CharSequence value) {
+        int len = value.length();
+        // 최악의 경우: 제어 문자 하나가 \\u00XX(6바이트)
+        ensureCapacity(len * 6 + 2);
+
+        byte[] b = buf;
+        int pos = count;
+        b[pos++] = '"';
+
+        for(int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+
+            if(c < 0x80) {
+                if(c >= 0x20 && c != '"' && c != '\\') {
+                    b[pos++] = (byte) c;
+                    continue;
+                }
+                b[pos++] = '\\';
+                switch (c) {
+                    case '"' -> b[pos++] = '"';
+                    case '\\' -> b[pos++] = '\\';
+                    case '\n' -> b[pos++] = 'n';
+                    case '\r' -> b[pos++] = 'r';
+                    case '\t' -> b[pos++] = 't';
+                    case '\b' -> b[pos++] = 'b';
+                    case '\f' -> b[pos++] = 'f';
+                    default -> {
+                        b[pos++] = 'u';
+                        b[pos++] = '0';
+                        b[pos++] = '0';
+                        b[pos++] = HEX[c >> 4];
+                        b[pos++] = HEX[c & 0xF];
+                    }
+                }
+            } else if(c < 0x800) {
+                b[pos++] = (byte) (0xC0 | (c >> 6));
+                b[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if(Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                b[pos++] = (byte) (0xF0 | (cp >> 18));
+                b[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if(Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 서로게이트는 인코딩할 수 없다.
+                b[pos++] = '?';
+            } else {
+                b[pos++] = (byte) (0xE0 | (c >> 12));
+                b[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        b[pos++] = '"';
+        count = pos;
+    }
+
+    /**
+     * 객체/배열 진입 시 중첩 깊이를 증가시킨다.
+     *
+     * @throws IllegalStateException 최대 깊이를 넘은 경우 (순환 참조 의심)
+     */
+    void enter() {
+        if(++depth > MAX_DEPTH)
+            throw new IllegalStateException("JSON nesting exceeds " + MAX_DEPTH + " levels (cyclic reference?)");
+    }
+
+    void exit() {
+        depth--;
+    }
+
+    /**
+     * 지금까지 기록된 바이트 수를 반환한다.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 기록된 내용을 복사 없이 {@link HttpBody}로 넘긴다. 이후 이 writer는 사용하지 않아야 한다.
+     */
+    public HttpBody toBody() {
+        return HttpBody.wrap(buf, count);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = count + extra;
+        if(required > buf.length)
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, required));
+    }
+
+    private static int stringSize(long x) {
+        long p = 10;
+        for(int i = 1; i < 19; i++) {
+            if(x < p) return i;
+            p = 10 * p;
+        }
+        return 19;
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.framework.web.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON 객체를 레코드나 POJO로 바인딩하는 binder이다.
+ *
+ * <p>
+ * 생성 시점에 속성 이름별 대입 방법을 결정한다.
+ * <ul>
+ *     <li>레코드 - 정규 생성자 {@link MethodHandle}, 속성은 생성자 인자 위치</li>
+ *     <li>POJO - 기본 생성자 {@link MethodHandle}, 속성은 public setter 또는 (없으면) 인스턴스 필드</li>
+ * </ul>
+ * 알 수 없는 속성은 값을 만들지 않고 건너뛰며, 없는 레코드 컴포넌트는 {@code null}(원시 타입은 0, {@code false})이 된다.
+ * </p>
+ *
+ * <p>
+ * 속성 값의 binder는 자기 자신을 참조하는 타입에서 생성이 재귀하지 않도록 처음 읽을 때 조회하여 고정한다.
+ * </p>
+ */
+final class ObjectBinder implements JsonBinder<Object> {
+
+    private final Class<?> type;
+    private final Map<String, Property> properties;
+
+    /** 레코드면 {@code (Object[])Object}, POJO면 {@code ()Object} */
+    private final MethodHandle constructor;
+
+    /** 레코드 생성자 인자 기본값, POJO면 {@code null} */
+    private final Object[] defaults;
+
+    private ObjectBinder(Class<?> type, Map<String, Property> properties, MethodHandle constructor, Object[] defaults) {
+        this.type = type;
+        this.properties = properties;
+        this.constructor = constructor;
+        this.defaults = defaults;
+    }
+
+    /**
+     * 타입을 분석하여 binder를 만든다.
+     *
+     * @throws IllegalStateException 인스턴스를 만들 수 없는 타입인 경우 (추상 타입, 기본 생성자 없음, 접근 불가)
+     */
+    static ObjectBinder create(Class<?> type, JsonMapper mapper) {
+        if(type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalStateException("Cannot bind JSON to abstract type " + type.getName());
+
+        try {
+            return type.isRecord() ? forRecord(type, mapper) : forBean(type, mapper);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No default constructor for JSON binding: " + type.getName(), e);
+        } catch (IllegalAccessException | InaccessibleObjectException e) {
+            throw new IllegalStateException("Cannot create JSON binder for " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public Object read(JsonReader in) throws IOException {
+        if(in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        if(defaults != null)
+            return readRecord(in);
+
+        Object bean;
+        try {
+            bean = (Object) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate " + type.getName(), t);
+        }
+
+        in.beginObject();
+        while(in.hasNext()) {
+            Property property = properties.get(in.nextName());
+            if(property == null)
+                in.skipValue();
+            else
+                property.set(bean, property.read(in), in);
+        }
+        in.endObject();
+        return bean;
+    }
+
+    private Object readRecord(JsonReader in) throws IOException {
+        Object[] args = defaults.clone();
+
+        in.beginObject();
+        while(in.hasNext()) {
+            Property property = properties.get(in.nextName());
+            if(property == null) {
+                in.skipValue();
+                continue;
+            }
+            Object value = property.read(in);
+            if(value != null || !property.primitive)
+                args[property.index] = value;
+        }
+        in.endObject();
+
+        try {
+            return (Object) constructor.invokeExact(args);
+        } catch (RuntimeException e) {
+            // 레코드 생성자의 검증 실패는 잘못된 요청 값이다.
+            throw new JsonParseException("Invalid value for " + type.getSimpleName() + ": " + e.getMessage(), e);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate " + type.getName(), t);
+        }
+    }
+
+    private static ObjectBinder forRecord(Class<?> type, JsonMapper mapper) throws NoSuchMethodException, IllegalAccessException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Object[] defaults = new Object[components.length];
+        Map<String, Property> properties = new HashMap<>();
+
+        for(int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            parameterTypes[i] = component.getType();
+            defaults[i] = defaultValue(component.getType());
+            properties.put(component.getName(), new Property(component.getGenericType(), i, null, mapper));
+        }
+
+        Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new ObjectBinder(type, properties, handle, defaults);
+    }
+
+    private static ObjectBinder forBean(Class<?> type, JsonMapper mapper) throws NoSuchMethodException, IllegalAccessException {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asType(MethodType.methodType(Object.class));
+
+        Map<String, Property> properties = new HashMap<>();
+        MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+
+        for(Method method : type.getMethods()) {
+            String name = method.getName();
+            if(Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                    || !name.startsWith("set") || name.length() <= 3)
+                continue;
+
+            method.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflect(method).asType(setterType);
+            properties.putIfAbsent(decapitalize(name.substring(3)),
+                    new Property(method.getGenericParameterTypes()[0], -1, setter, mapper));
+        }
+
+        for(Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for(Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if(Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers)
+                        || properties.containsKey(field.getName()))
+                    continue;
+
+                field.setAccessible(true);
+                MethodHandle setter = MethodHandles.lookup().unreflectSetter(field).asType(setterType);
+                properties.put(field.getName(), new Property(field.getGenericType(), -1, setter, mapper));
+            }
+        }
+
+        return new ObjectBinder(type, properties, handle, null);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if(!type.isPrimitive()) return null;
+        if(type == boolean.class) return false;
+        if(type == char.class) return '\0';
+        if(type == long.class) return 0L;
+        if(type == double.class) return 0d;
+        if(type == float.class) return 0f;
+        if(type == short.class) return (short) 0;
+        if(type == byte.class) return (byte) 0;
+        return 0;
+    }
+
+    private static String decapitalize(String name) {
+        if(name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0)))
+            return name;
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 속성 하나의 값 타입과 대입 방법
+     */
+    private static final class Property {
+        private final Type valueType;
+        private final boolean primitive;
+        private final JsonMapper mapper;
+
+        /** 레코드 생성자 인자 위치, POJO면 -1 */
+        private final int index;
+
+        /** POJO 대입 핸들 {@code (Object,Object)void}, 레코드면 {@code null} */
+        private final MethodHandle setter;
+
+        /** 처음 읽을 때 조회하여 고정한다. 항상 같은 인스턴스가 조회되므로 경쟁 상태는 무해하다. */
+        private JsonBinder<?> binder;
+
+        Property(Type valueType, int index, MethodHandle setter, JsonMapper mapper) {
+            this.valueType = valueType;
+            this.primitive = valueType instanceof Class<?> c && c.isPrimitive();
+            this.index = index;
+            this.setter = setter;
+            this.mapper = mapper;
+        }
+
+        Object read(JsonReader in) throws IOException {
+            JsonBinder<?> b = binder;
+            if(b == null)
+                binder = b = mapper.binderFor(valueType);
+            return b.read(in);
+        }
+
+        void set(Object bean, Object value, JsonReader in) throws IOException {
+            if(value == null && primitive)
+                return;
+            try {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException e) {
+                throw in.syntaxError("Invalid property value: " + e.getMessage());
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set property on " + bean.getClass().getName(), t);
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package org.example.framework.web.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레코드와 POJO를 JSON 객체로 기록하는 직렬화기이다.
+ *
+ * <p>
+ * 생성 시점에 속성 목록을 결정하고, 속성마다 다음을 미리 준비한다.
+ * <ul>
+ *     <li>{@code "name":} / {@code ,"name":} 형태로 인코딩된 이름 바이트</li>
+ *     <li>접근자 {@link MethodHandle} - 원시 타입은 박싱 없이 {@code int/long/double/boolean}으로 읽는다.</li>
+ *     <li>선언 타입이 final이면 값 직렬화기까지 고정하여 타입 조회를 생략한다.</li>
+ * </ul>
+ * 속성 순서는 레코드는 컴포넌트 순서, POJO는 필드 선언 순서(상위 클래스 우선)를 따른다.
+ * </p>
+ */
+final class ObjectSerializer implements JsonSerializer<Object> {
+
+    private final Class<?> type;
+    private final Property[] properties;
+
+    private ObjectSerializer(Class<?> type, Property[] properties) {
+        this.type = type;
+        this.properties = properties;
+    }
+
+    /**
+     * 타입의 속성을 분석하여 직렬화기를 만든다.
+     *
+     * @throws IllegalStateException 접근자에 접근할 수 없는 경우
+     */
+    static ObjectSerializer create(Class<?> type, JsonMapper mapper) {
+        Map<String, Method> accessors = type.isRecord() ? recordAccessors(type) : beanAccessors(type);
+
+        Property[] properties = new Property[accessors.size()];
+        int i = 0;
+        for(Map.Entry<String, Method> entry : accessors.entrySet()) {
+            properties[i] = Property.of(entry.getKey(), entry.getValue(), i == 0, mapper);
+            i++;
+        }
+        return new ObjectSerializer(type, properties);
+    }
+
+    @Override
+    public void write(JsonWriter out, Object value) {
+        out.enter();
+        out.writeByte((byte) '{');
+        try {
+            for(Property property : properties)
+                property.write(out, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to serialize " + type.getName(), t);
+        }
+        out.writeByte((byte) '}');
+        out.exit();
+    }
+
+    private static Map<String, Method> recordAccessors(Class<?> type) {
+        Map<String, Method> accessors = new LinkedHashMap<>();
+        for(RecordComponent component : type.getRecordComponents())
+            accessors.put(component.getName(), component.getAccessor());
+        return accessors;
+    }
+
+    /**
+     * public 인스턴스 getter({@code getX()}, {@code isX()})를 속성으로 수집한다.
+     */
+    private static Map<String, Method> beanAccessors(Class<?> type) {
+        List<String> fieldOrder = new ArrayList<>();
+        collectFieldNames(type, fieldOrder);
+
+        List<Map.Entry<String, Method>> found = new ArrayList<>();
+        for(Method method : type.getMethods()) {
+            if(Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                    || method.getDeclaringClass() == Object.class || method.getReturnType() == void.class)
+                continue;
+
+            String name = propertyName(method);
+            if(name != null)
+                found.add(Map.entry(name, method));
+        }
+
+        found.sort(Comparator
+                .comparingInt((Map.Entry<String, Method> e) -> {
+                    int idx = fieldOrder.indexOf(e.getKey());
+                    return idx < 0 ? Integer.MAX_VALUE : idx;
+                })
+                .thenComparing(Map.Entry::getKey));
+
+        Map<String, Method> accessors = new LinkedHashMap<>();
+        for(Map.Entry<String, Method> entry : found)
+            accessors.putIfAbsent(entry.getKey(), entry.getValue());
+        return accessors;
+    }
+
+    private static void collectFieldNames(Class<?> type, List<String> names) {
+        if(type == null || type == Object.class)
+            return;
+        collectFieldNames(type.getSuperclass(), names);
+        for(Field field : type.getDeclaredFields())
+            if(!Modifier.isStatic(field.getModifiers()))
+                names.add(field.getName());
+    }
+
+    private static String propertyName(Method method) {
+        String name = method.getName();
+        if(name.startsWith("get") && name.length() > 3)
+            return decapitalize(name.substring(3));
+        if(name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class))
+            return decapitalize(name.substring(2));
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        // URL -> URL, Name -> name (JavaBeans 규칙)
+        if(name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0)))
+            return name;
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 속성 하나의 기록 방식
+     */
+    private abstract static class Property {
+        final byte[] prefix;
+
+        Property(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        abstract void write(JsonWriter out, Object bean) throws Throwable;
+
+        static Property of(String name, Method accessor, boolean first, JsonMapper mapper) {
+            JsonWriter encoded = new JsonWriter(name.length() + 4);
+            if(!first) encoded.writeByte((byte) ',');
+            encoded.writeString(name);
+            encoded.writeByte((byte) ':');
+            byte[] prefix = encoded.toByteArray();
+
+            MethodHandle getter = unreflect(accessor);
+            Class<?> type = accessor.getReturnType();
+
+            if(type == int.class || type == short.class || type == byte.class)
+                return new IntProperty(prefix, getter.asType(MethodType.methodType(int.class, Object.class)));
+            if(type == long.class)
+                return new LongProperty(prefix, getter.asType(MethodType.methodType(long.class, Object.class)));
+            if(type == double.class || type == float.class)
+                return new DoubleProperty(prefix, getter.asType(MethodType.methodType(double.class, Object.class)));
+            if(type == boolean.class)
+                return new BooleanProperty(prefix, getter.asType(MethodType.methodType(boolean.class, Object.class)));
+
+            // 선언 타입이 final이면 실제 타입도 같으므로 직렬화기를 고정한다.
+            Class<?> finalType = Modifier.isFinal(type.getModifiers()) && !type.isPrimitive() && !type.isArray()
+                    ? type
+                    : null;
+            return new ObjectProperty(prefix, getter.asType(MethodType.methodType(Object.class, Object.class)), finalType, mapper);
+        }
+
+        private static MethodHandle unreflect(Method accessor) {
+            try {
+                accessor.setAccessible(true);
+                return MethodHandles.lookup().unreflect(accessor);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot access property " + accessor, e);
+            }
+        }
+    }
+
+    private static final class IntProperty extends Property {
+        private final MethodHandle getter;
+
+        IntProperty(byte[] prefix, MethodHandle getter) {
+            super(prefix);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(JsonWriter out, Object bean) throws Throwable {
+            out.writeRaw(prefix);
+            out.writeInt((int) getter.invokeExact(bean));
+        }
+    }
+
+    private static final class LongProperty extends Property {
+        private final MethodHandle getter;
+
+        LongProperty(byte[] prefix, MethodHandle getter) {
+            super(prefix);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(JsonWriter out, Object bean) throws Throwable {
+            out.writeRaw(prefix);
+            out.writeLong((long) getter.invokeExact(bean));
+        }
+    }
+
+    private static final class DoubleProperty extends Property {
+        private final MethodHandle getter;
+
+        DoubleProperty(byte[] prefix, MethodHandle getter) {
+            super(prefix);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(JsonWriter out, Object bean) throws Throwable {
+            out.writeRaw(prefix);
+            out.writeDouble((double) getter.invokeExact(bean));
+        }
+    }
+
+    private static final class BooleanProperty extends Property {
+        private final MethodHandle getter;
+
+        BooleanProperty(byte[] prefix, MethodHandle getter) {
+            super(prefix);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(JsonWriter out, Object bean) throws Throwable {
+            out.writeRaw(prefix);
+            out.writeBoolean((boolean) getter.invokeExact(bean));
+        }
+    }
+
+    private static final class ObjectProperty extends Property {
+        private final MethodHandle getter;
+        private final Class<?> finalType;
+        private final JsonMapper mapper;
+
+        /**
+         * final 선언 타입의 직렬화기.
+         * 자기 자신을 참조하는 타입에서 캐시 계산이 재귀하지 않도록 첫 기록 시점에 채운다.
+         * 항상 같은 인스턴스가 조회되므로 경쟁 상태는 무해하다.
+         */
+        private JsonSerializer<Object> fixed;
+
+        ObjectProperty(byte[] prefix, MethodHandle getter, Class<?> finalType, JsonMapper mapper) {
+            super(prefix);
+            this.getter = getter;
+            this.finalType = finalType;
+            this.mapper = mapper;
+        }
+
+        @Override
+        void write(JsonWriter out, Object bean) throws Throwable {
+            out.writeRaw(prefix);
+            Object value = (Object) getter.invokeExact(bean);
+            if(value == null || finalType == null) {
+                mapper.write(out, value);
+                return;
+            }
+
+            JsonSerializer<Object> serializer = fixed;
+            if(serializer == null)
+                fixed = serializer = mapper.serializerFor(finalType);
+            serializer.write(out, value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.framework.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LimitAlgorithm}이 정한 한도만큼만 요청을 동시에 받는다.
+ *
+ * <p>
+ * 한도를 넘는 요청은 기다리지 않고 바로 거절되므로 대기열에서 지연 시간이 늘어나지 않는다.
+ * 받은 요청은 끝날 때 {@link #release(long, int, boolean)}로 처리 시간을 알고리즘에 전달한다.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final LimitAlgorithm algorithm;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile long lastRttNanos;
+
+    public AdaptiveConcurrencyLimiter(LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * 한도 안이면 요청을 받는다.
+     *
+     * @return 받은 경우 자신을 포함한 처리 중 요청 수, 한도를 넘으면 {@code -1}
+     */
+    public int tryAcquire() {
+        int limit = algorithm.getLimit();
+        int current;
+        do {
+            current = inflight.get();
+            if(current >= limit) {
+                rejected.increment();
+                return -1;
+            }
+        } while(!inflight.compareAndSet(current, current + 1));
+
+        accepted.increment();
+        return current + 1;
+    }
+
+    /**
+     * 받은 요청을 끝내고 표본을 반영한다.
+     *
+     * @param rttNanos 처리 시간 (나노초)
+     * @param inflight {@link #tryAcquire()}가 반환한 처리 중 요청 수
+     * @param dropped  과부하로 실패한 요청인지 여부
+     */
+    public void release(long rttNanos, int inflight, boolean dropped) {
+        this.inflight.decrementAndGet();
+        lastRttNanos = rttNanos;
+        algorithm.onSample(rttNanos, inflight, dropped);
+    }
+
+    /**
+     * 표본을 반영하지 않고 받은 요청을 끝낸다. 지연 시간이 부하와 무관한 실패에 사용한다.
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return algorithm.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 마지막으로 측정한 처리 시간 (나노초)
+     */
+    public long getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * 한도를 넘어 거절한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("limit=%d inflight=%d rtt=%.1fms accepted=%d rejected=%d",
+                getLimit(), getInflight(), lastRttNanos / 1_000_000.0, getAcceptedCount(), getRejectedCount());
+    }
+}
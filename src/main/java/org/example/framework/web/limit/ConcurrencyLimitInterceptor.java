@@ -0,0 +1,129 @@
+package org.example.framework.web.limit;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.interceptor.HandlerInterceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 지연 시간으로 추정한 동시 처리 한도를 넘는 요청을 {@code 503}으로 바로 거절하는 인터셉터이다.
+ *
+ * <p>
+ * {@code preHandle}에서 한도를 확인하여 요청을 받고, {@code afterCompletion}에서 처리 시간을 알고리즘에 전달한다.
+ * 비동기 요청(CompletionStage, SSE 등)은 처리 스레드가 반환되는 {@code afterConcurrentHandlingStarted}에서 표본 없이 자리만 돌려준다.
+ * 스트림의 수명은 서버 부하와 무관하므로, 처리 중 요청 수와 지연 시간 추정에 넣지 않는다.
+ * 응답이 {@code 503}이면 과부하로 실패한 요청으로, 그 밖의 예외는 지연 시간이 부하와 무관할 수 있으므로 표본 없이 반영한다.
+ * </p>
+ *
+ * <p>
+ * 전역 모드는 적용되는 모든 라우트가 한도 하나를 공유하고, 라우트별 모드는 Handler마다 한도를 따로 추정한다.
+ * 적용 범위는 {@link org.example.framework.web.interceptor.InterceptorRegistration}의 경로 패턴으로 정한다.
+ * </p>
+ *
+ * <pre>{@code
+ * registry.addInterceptor(ConcurrencyLimitInterceptor.perRoute(Gradient2Limit::new))
+ *         .addPathPatterns("/api/**");
+ * }</pre>
+ *
+ * @see <a href="https://netflixtechblog.medium.com/performance-under-load-3e6fa9a60581">Netflix - Performance Under Load</a>
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    /** 받은 요청의 시작 시각과 처리 중 요청 수를 보관하는 요청 속성 이름 */
+    static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private static final Object GLOBAL = new Object();
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos, int inflight) {
+    }
+
+    private final Supplier<LimitAlgorithm> algorithmFactory;
+    private final boolean perRoute;
+    private final Map<Object, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private ConcurrencyLimitInterceptor(Supplier<LimitAlgorithm> algorithmFactory, boolean perRoute) {
+        this.algorithmFactory = algorithmFactory;
+        this.perRoute = perRoute;
+    }
+
+    /**
+     * 적용되는 모든 라우트가 한도 하나를 공유한다.
+     */
+    public static ConcurrencyLimitInterceptor global(Supplier<LimitAlgorithm> algorithmFactory) {
+        return new ConcurrencyLimitInterceptor(algorithmFactory, false);
+    }
+
+    /**
+     * Handler마다 한도를 따로 추정한다.
+     */
+    public static ConcurrencyLimitInterceptor perRoute(Supplier<LimitAlgorithm> algorithmFactory) {
+        return new ConcurrencyLimitInterceptor(algorithmFactory, true);
+    }
+
+    /**
+     * @throws HttpException 한도를 넘은 경우 ({@link HttpStatus#SERVICE_UNAVAILABLE})
+     */
+    @Override
+    public boolean preHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(keyOf(handler), key -> new AdaptiveConcurrencyLimiter(algorithmFactory.get()));
+        int inflight = limiter.tryAcquire();
+        if(inflight < 0)
+            throw new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "Concurrency limit exceeded");
+
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime(), inflight));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        if(!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit))
+            return;
+        request.setAttribute(PERMIT_ATTRIBUTE, null);
+        permit.limiter().release();
+    }
+
+    @Override
+    public void afterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) throws Exception {
+        if(!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit))
+            return;
+        request.setAttribute(PERMIT_ATTRIBUTE, null);
+
+        boolean dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE
+                || ex instanceof HttpException http && http.getStatus() == HttpStatus.SERVICE_UNAVAILABLE;
+        if(ex != null && !dropped)
+            permit.limiter().release();
+        else
+            permit.limiter().release(System.nanoTime() - permit.startNanos(), permit.inflight(), dropped);
+    }
+
+    /**
+     * 한도별 현재 상태. 라우트별 모드의 키는 {@code 컨트롤러#메서드}, 전역 모드의 키는 {@code *}이다.
+     */
+    public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+        Map<String, AdaptiveConcurrencyLimiter> snapshot = new LinkedHashMap<>();
+        limiters.forEach((key, limiter) -> snapshot.put(nameOf(key), limiter));
+        return snapshot;
+    }
+
+    /**
+     * 초기화 단계에서 만들어진 Handler는 요청마다 같은 인스턴스이므로 그대로 키로 사용한다.
+     */
+    private Object keyOf(Object handler) {
+        return perRoute ? handler : GLOBAL;
+    }
+
+    private static String nameOf(Object key) {
+        if(key == GLOBAL)
+            return "*";
+        if(key instanceof HandlerMethod handlerMethod)
+            return handlerMethod.getMethod().getDeclaringClass().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        return String.valueOf(key);
+    }
+}
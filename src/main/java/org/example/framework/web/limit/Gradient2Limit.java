@@ -0,0 +1,95 @@
+package org.example.framework.web.limit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 장기/단기 지연 시간의 기울기로 동시 처리 한도를 추정한다. (Gradient2)
+ *
+ * <p>
+ * 장기 지연 시간은 최근 {@code window}개 표본의 지수 이동 평균이고, 단기 지연 시간은 방금 끝난 요청의 지연 시간이다.
+ * {@code gradient = 1.5 × 장기 / 단기}를 {@code [0.5, 1.0]}으로 제한한 뒤
+ * {@code limit × gradient + √limit}을 새 한도로 삼고, 급격한 변화를 막기 위해 기존 한도와 {@code 0.2} 비율로 섞는다.
+ * 지연 시간이 허용 범위(1.5배) 안이면 {@code √limit}만큼 늘어나고, 벗어나면 최대 절반까지 줄어든다.
+ * </p>
+ *
+ * <p>
+ * 고정된 최소 지연 시간 대신 이동 평균을 기준으로 삼으므로 하위 서비스의 지연 시간이 서서히 바뀌어도 따라간다.
+ * 장기 평균이 단기 지연 시간의 2배를 넘으면 과부하가 해소된 것으로 보고 평균을 빠르게 낮춘다.
+ * 과부하로 실패한 요청은 한도를 {@code 0.9}배로 줄인다.
+ * </p>
+ *
+ * @see <a href="https://github.com/Netflix/concurrency-limits">Netflix concurrency-limits</a>
+ */
+public class Gradient2Limit implements LimitAlgorithm {
+
+    static final double TOLERANCE = 1.5;
+    static final double SMOOTHING = 0.2;
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int window;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    public Gradient2Limit() {
+        this(20, 1, 1000, 600);
+    }
+
+    /**
+     * @param initialLimit 초기 한도
+     * @param minLimit     한도 하한
+     * @param maxLimit     한도 상한
+     * @param window       장기 지연 시간 평균에 반영할 표본 수
+     */
+    public Gradient2Limit(int initialLimit, int minLimit, int maxLimit, int window) {
+        if(minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit)
+            throw new IllegalStateException("Invalid limit range: initial=" + initialLimit + ", min=" + minLimit + ", max=" + maxLimit);
+        if(window <= 0)
+            throw new IllegalStateException("Invalid window: " + window);
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.window = window;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inflight, boolean dropped) {
+        lock.lock();
+        try {
+            if(dropped) {
+                estimatedLimit = clamp(estimatedLimit * BACKOFF_RATIO);
+                limit = (int) estimatedLimit;
+                return;
+            }
+
+            double shortRtt = rttNanos;
+            longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / window;
+            if(longRtt / shortRtt > 2)
+                longRtt *= 0.95;
+
+            if(inflight * 2 < estimatedLimit)
+                return;
+
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
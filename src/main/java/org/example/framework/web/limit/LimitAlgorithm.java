@@ -0,0 +1,29 @@
+package org.example.framework.web.limit;
+
+/**
+ * 관측한 지연 시간으로 동시 처리 한도를 추정하는 알고리즘이다.
+ *
+ * <p>
+ * {@link AdaptiveConcurrencyLimiter}가 요청이 끝날 때마다 표본을 전달하며,
+ * 여러 워커가 동시에 호출하므로 구현체는 스레드 안전해야 한다.
+ * </p>
+ *
+ * @see VegasLimit
+ * @see Gradient2Limit
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * 현재 동시 처리 한도
+     */
+    int getLimit();
+
+    /**
+     * 요청 하나의 처리 결과를 반영한다.
+     *
+     * @param rttNanos 요청 처리 시간 (나노초)
+     * @param inflight 요청을 받을 당시 처리 중이던 요청 수 (자신 포함)
+     * @param dropped  과부하로 실패한 요청인지 여부
+     */
+    void onSample(long rttNanos, int inflight, boolean dropped);
+}
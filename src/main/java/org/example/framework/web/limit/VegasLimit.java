@@ -0,0 +1,96 @@
+package org.example.framework.web.limit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TCP Vegas 방식의 동시 처리 한도 추정
+ *
+ * <p>
+ * 관측한 최소 지연 시간을 부하가 없을 때의 지연 시간으로 보고,
+ * {@code limit × (1 - 최소 지연 / 현재 지연)}으로 대기열에 쌓인 요청 수를 추정한다.
+ * <ul>
+ *     <li>추정 대기열이 {@code log10(limit)} 이하 - 여유가 크므로 {@code 6·log10(limit)}만큼 늘린다.</li>
+ *     <li>{@code 3·log10(limit)} 미만 - {@code log10(limit)}만큼 늘린다.</li>
+ *     <li>{@code 6·log10(limit)} 초과 - {@code log10(limit)}만큼 줄인다.</li>
+ *     <li>과부하로 실패한 요청 - {@code log10(limit)}만큼 줄인다.</li>
+ * </ul>
+ * 처리 중인 요청이 한도의 절반에 못 미치면 지연 시간이 한도를 반영하지 않으므로 한도를 바꾸지 않는다.
+ * 최소 지연 시간은 {@link #PROBE_INTERVAL}개 표본마다 다시 측정하여 하위 서비스의 변화를 따라간다.
+ * </p>
+ *
+ * @see <a href="https://github.com/Netflix/concurrency-limits">Netflix concurrency-limits</a>
+ */
+public class VegasLimit implements LimitAlgorithm {
+
+    /** 최소 지연 시간을 다시 측정하는 표본 간격 */
+    static final int PROBE_INTERVAL = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private long rttNoLoad;
+    private int samples;
+
+    public VegasLimit() {
+        this(20, 1, 1000);
+    }
+
+    /**
+     * @param initialLimit 초기 한도
+     * @param minLimit     한도 하한
+     * @param maxLimit     한도 상한
+     */
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+        if(minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit)
+            throw new IllegalStateException("Invalid limit range: initial=" + initialLimit + ", min=" + minLimit + ", max=" + maxLimit);
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inflight, boolean dropped) {
+        lock.lock();
+        try {
+            if(++samples >= PROBE_INTERVAL) {
+                samples = 0;
+                rttNoLoad = 0;
+            }
+            if(rttNoLoad == 0 || rttNanos < rttNoLoad) {
+                rttNoLoad = rttNanos;
+                return;
+            }
+            limit = clamp(update(limit, rttNanos, inflight, dropped));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int update(int current, long rtt, int inflight, boolean dropped) {
+        double step = Math.max(1, Math.log10(current));
+        if(dropped)
+            return (int) (current - step);
+        if(inflight * 2 < current)
+            return current;
+
+        int queueSize = (int) Math.ceil(current * (1 - (double) rttNoLoad / rtt));
+        if(queueSize <= step)
+            return (int) (current + 6 * step);
+        if(queueSize < 3 * step)
+            return (int) (current + step);
+        if(queueSize > 6 * step)
+            return (int) (current - step);
+        return current;
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
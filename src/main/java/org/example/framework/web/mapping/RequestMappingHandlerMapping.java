@@ -8,12 +8,17 @@ import org.example.framework.core.lifecycle.ApplicationContextAware;
 import org.example.framework.was.protocol.model.HttpRequest;
 import org.example.framework.web.HandlerMethod;
 import org.example.framework.web.RequestMappingInfo;
+import org.example.framework.web.adapter.HandlerAdapter;
 import org.example.framework.web.config.WebMvcConfigurationSupport;
 import org.example.framework.web.interceptor.HandlerExecutionChain;
 import org.example.framework.web.interceptor.HandlerInterceptor;
+import org.example.framework.web.interceptor.MappedInterceptor;
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.example.framework.web.mapping.route.RouteTree;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,23 +27,25 @@ import java.util.Map;
  * 요청 조건({@link RequestMappingInfo})과 실행 대상({@link HandlerMethod}) 간의
  * 매핑 정보를 생성하고 보관한다.
  *
- * <p>매핑 정보는 컨텍스트 초기화 시점에 한 번 수집되며,
- * 요청 처리 시에는 캐시된 정보를 기반으로 빠르게 Handler를 조회한다.</p>
+ * <p>매핑 정보는 컨텍스트 초기화 시점에 한 번 수집되어 {@link RouteTree}로 구성되며,
+ * 요청 처리 시에는 트리 탐색만으로 Handler를 조회한다.
+ * 트리에는 라우트별로 미리 구성된 {@link HandlerExecutionChain}(적용 인터셉터, 실행 어댑터 포함)이
+ * 저장되므로, 요청마다 실행 체인을 새로 만들거나 인터셉터 적용 여부를 다시 계산하지 않는다.
+ * 경로 패턴은 {@code /posts/{id}} 형태의 경로 변수와 {@code /static/**} 형태의 나머지 경로를 지원한다.</p>
  */
 @Component
 public class RequestMappingHandlerMapping implements HandlerMapping{
 
     /**
-     * 요청 조건({@link RequestMappingInfo})과 실행 대상({@link HandlerMethod}) 간의
-     * 매핑 정보를 보관하는 내부 캐시이다.
+     * 요청 경로와 HTTP 메서드로부터 라우트별 실행 체인을 찾는 라우팅 트리이다.
      *
      * <p>
-     * 이 Map은 컨테이너 초기화 과정에서
-     * {@link #afterSingletonsInstantiated()} 단계에 한 번 채워지며,
+     * 이 트리는 컨테이너 초기화 과정에서
+     * {@link #afterSingletonsInstantiated()} 단계에 한 번 구성되며,
      * 이후 요청 처리 시에는 읽기 전용으로 사용된다.
      * </p>
      */
-    private final Map<RequestMappingInfo, HandlerMethod> handlerMethods = new HashMap<>();
+    private final RouteTree<HandlerExecutionChain> routes = new RouteTree<>();
 
     /**
      * 컨테이너로부터 주입받은 {@link ApplicationContext}.
@@ -88,11 +95,10 @@ public class RequestMappingHandlerMapping implements HandlerMapping{
      * 주어진 HTTP 요청에 대응하는 {@link HandlerExecutionChain}을 조회한다.
      *
      * <p>
-     * 요청의 경로와 HTTP 메서드를 기반으로
-     * 사전에 등록된 {@link RequestMappingInfo} → {@link HandlerMethod} 매핑을 조회한 뒤,
-     * 매칭되는 Handler가 존재하는 경우
-     * 해당 Handler와 적용 가능한 {@link HandlerInterceptor} 목록을 포함한
-     * 실행 체인을 생성하여 반환한다.
+     * 요청의 경로(쿼리 문자열 제외)와 HTTP 메서드를 기반으로
+     * 라우팅 트리에서 초기화 단계에 구성해 둔 실행 체인을 그대로 반환한다.
+     * 체인에는 {@link HandlerMethod}와 해당 라우트에 적용되는 {@link HandlerInterceptor} 목록,
+     * 그리고 실행할 {@link HandlerAdapter}가 포함되어 있다.
      * </p>
      *
      * <p>
@@ -105,24 +111,24 @@ public class RequestMappingHandlerMapping implements HandlerMapping{
      */
     @Override
     public HandlerExecutionChain getHandler(HttpRequest request) {
-        RequestMappingInfo key = new RequestMappingInfo(request.getPath(), request.getMethod());
-        HandlerMethod handlerMethod = handlerMethods.get(key);
-
-        if(handlerMethod == null)
-            return null;
-
-        return new HandlerExecutionChain(handlerMethod, mvcConfig.getInterceptorRegistry().getInterceptors());
+        String path = request.getPath();
+        return routes.find(request.getMethod(), path, RoutePattern.pathEnd(path));
     }
 
     /**
      * 컨텍스트 초기화 시점에 {@link Controller} Bean을 탐색하여
      * {@link RequestMapping}이 선언된 메서드들을
-     * {@link RequestMappingInfo} → {@link HandlerMethod} 매핑으로 등록한다.
+     * 라우팅 트리에 등록한다.
      *
      * <p>이 과정은 한 번만 수행되며,
-     * 요청 처리 시에는 캐시된 매핑 정보를 그대로 사용한다.</p>
+     * 요청 처리 시에는 구성된 트리를 그대로 사용한다.</p>
+     *
+     * @throws IllegalStateException 동일한 HTTP 메서드와 경로 구조의 매핑이 중복된 경우
      */
     private void initHandlerMethods(ApplicationContext context) {
+        List<MappedInterceptor> interceptors = mvcConfig.getInterceptorRegistry().getMappedInterceptors();
+        List<HandlerAdapter> adapters = context.getBeansOfType(HandlerAdapter.class);
+
         // Controller 어노테이션이 있는 클래스 조회
         Map<String, Object> controllers = context.getBeansWithAnnotation(Controller.class);
 
@@ -139,13 +145,38 @@ public class RequestMappingHandlerMapping implements HandlerMapping{
                 RequestMappingInfo info = new RequestMappingInfo(rm.value(), rm.method());
 
                 // HandlerMethod 생성
-                HandlerMethod handlerMethod = new HandlerMethod(controller, method);
+                RoutePattern pattern = RoutePattern.parse(info.path());
+                HandlerMethod handlerMethod = new HandlerMethod(controller, method, pattern);
+                HandlerExecutionChain chain = createExecutionChain(handlerMethod, interceptors, adapters);
 
-                if(handlerMethods.containsKey(info))
+                if(routes.insert(info.method(), pattern, chain) != null)
                     throw new IllegalStateException("Duplicate mapping" + info);
-
-                handlerMethods.put(info, handlerMethod);
             }
         }
     }
+
+    /**
+     * 하나의 라우트에 대한 실행 체인을 구성한다.
+     *
+     * <p>인터셉터는 등록 순서를 유지한 채 라우트 패턴에 적용되는 것만 남기고,
+     * 어댑터는 {@link HandlerAdapter#supports(Object)}를 만족하는 첫 번째 어댑터로 고정한 뒤
+     * {@link HandlerAdapter#prepare(Object)}로 Handler를 실행 가능한 형태로 미리 변환한다.
+     * 지원하는 어댑터가 없으면 요청 시점의 탐색에 맡긴다.</p>
+     */
+    private HandlerExecutionChain createExecutionChain(HandlerMethod handlerMethod,
+                                                       List<MappedInterceptor> interceptors,
+                                                       List<HandlerAdapter> adapters) {
+        List<HandlerInterceptor> matched = new ArrayList<>();
+        for(MappedInterceptor interceptor : interceptors) {
+            if(interceptor.matches(handlerMethod.getPattern()))
+                matched.add(interceptor.getInterceptor());
+        }
+
+        for(HandlerAdapter adapter : adapters) {
+            if(adapter.supports(handlerMethod))
+                return new HandlerExecutionChain(adapter.prepare(handlerMethod), matched, adapter);
+        }
+
+        return new HandlerExecutionChain(handlerMethod, matched, null);
+    }
 }
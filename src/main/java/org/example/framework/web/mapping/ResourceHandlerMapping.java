@@ -0,0 +1,79 @@
+package org.example.framework.web.mapping;
+
+import org.example.framework.annotation.Component;
+import org.example.framework.core.ApplicationContext;
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.web.HttpRequestHandler;
+import org.example.framework.web.adapter.HandlerAdapter;
+import org.example.framework.web.config.WebMvcConfigurationSupport;
+import org.example.framework.web.interceptor.HandlerExecutionChain;
+import org.example.framework.web.interceptor.HandlerInterceptor;
+import org.example.framework.web.interceptor.MappedInterceptor;
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.example.framework.web.mapping.route.RouteTree;
+import org.example.framework.web.resource.ResourceHandlerRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ResourceHandlerRegistry}에 등록된 정적 리소스 URL 패턴을 리소스 Handler로 매핑한다.
+ *
+ * <p>
+ * {@link RequestMappingHandlerMapping}과 같이 초기화 시점에 라우트별 {@link HandlerExecutionChain}을
+ * {@link RouteTree}에 미리 구성해 두며, 정적 리소스는 {@code GET}만 매핑한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/handler/SimpleUrlHandlerMapping.java">Spring SimpleUrlHandlerMapping</a>
+ */
+@Component
+public class ResourceHandlerMapping implements HandlerMapping {
+
+    private final RouteTree<HandlerExecutionChain> routes = new RouteTree<>();
+    private final WebMvcConfigurationSupport mvcConfig;
+    private ApplicationContext context;
+
+    public ResourceHandlerMapping(WebMvcConfigurationSupport mvcConfig) {
+        this.mvcConfig = mvcConfig;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ResourceHandlerRegistry registry = mvcConfig.getResourceHandlerRegistry();
+        if(registry.isEmpty())
+            return;
+
+        List<MappedInterceptor> interceptors = mvcConfig.getInterceptorRegistry().getMappedInterceptors();
+        List<HandlerAdapter> adapters = context.getBeansOfType(HandlerAdapter.class);
+
+        for(Map.Entry<String, HttpRequestHandler> entry : registry.getHandlerMappings().entrySet()) {
+            RoutePattern pattern = RoutePattern.parse(entry.getKey());
+
+            List<HandlerInterceptor> matched = new ArrayList<>();
+            for(MappedInterceptor interceptor : interceptors) {
+                if(interceptor.matches(pattern))
+                    matched.add(interceptor.getInterceptor());
+            }
+
+            HttpRequestHandler handler = entry.getValue();
+            HandlerAdapter adapter = adapters.stream().filter(a -> a.supports(handler)).findFirst().orElse(null);
+
+            HandlerExecutionChain chain = new HandlerExecutionChain(handler, matched, adapter);
+            if(routes.insert(HttpMethod.GET, pattern, chain) != null)
+                throw new IllegalStateException("Duplicate resource mapping " + pattern);
+        }
+    }
+
+    @Override
+    public HandlerExecutionChain getHandler(HttpRequest request) {
+        String path = request.getPath();
+        return routes.find(request.getMethod(), path, RoutePattern.pathEnd(path));
+    }
+}
@@ -0,0 +1,241 @@
+package org.example.framework.web.mapping.route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code @RequestMapping}에 선언된 경로 문자열을 분석한 결과를 표현하는 값 객체다.
+ *
+ * <p>
+ * 지원하는 세그먼트는 다음과 같다.
+ * <ul>
+ *     <li>정적 세그먼트 - {@code /posts}</li>
+ *     <li>경로 변수 - {@code /posts/{id}} (세그먼트 전체를 차지해야 한다)</li>
+ *     <li>나머지 경로 전체 - {@code /static/**} (마지막 세그먼트에만 허용)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 경로 변수는 패턴상 몇 번째 세그먼트인지만 기록해 두므로,
+ * 매칭 이후 변수 값이 필요할 때 요청 경로에서 해당 세그먼트의 오프셋만 계산하면 된다.
+ * 따라서 {@link RouteTree} 탐색 과정에서는 어떤 캡처 객체도 할당하지 않으며,
+ * 문자열 생성은 {@link #getVariable(String, String)}처럼 실제로 값을 요청하는 시점으로 미뤄진다.
+ * </p>
+ *
+ * <p>
+ * 잘못된 형식의 패턴이 전달되면 {@link IllegalArgumentException}이 발생한다.
+ * </p>
+ */
+public final class RoutePattern {
+
+    /** {@code **} 세그먼트가 캡처한 나머지 경로를 조회할 때 사용하는 변수 이름 */
+    public static final String CATCH_ALL = "**";
+
+    /** 트리 삽입 시 사용되는 토큰 종류 */
+    enum TokenType { STATIC, VARIABLE, CATCH_ALL }
+
+    /** 정적 문자열 또는 변수/나머지 경로 자리 표시 */
+    record Token(TokenType type, String text) {}
+
+    private final String pattern;
+    private final List<Token> tokens;
+    private final String[] variableNames;
+    private final int[] variableSegments;
+    private final boolean catchAll;
+
+    private RoutePattern(String pattern, List<Token> tokens, String[] variableNames, int[] variableSegments, boolean catchAll) {
+        this.pattern = pattern;
+        this.tokens = tokens;
+        this.variableNames = variableNames;
+        this.variableSegments = variableSegments;
+        this.catchAll = catchAll;
+    }
+
+    /**
+     * 경로 패턴 문자열을 분석한다.
+     *
+     * @param pattern {@code /}로 시작하는 경로 패턴
+     * @return 분석된 {@link RoutePattern}
+     * @throws IllegalArgumentException 패턴 형식이 올바르지 않은 경우
+     */
+    public static RoutePattern parse(String pattern) {
+        if(pattern == null || !pattern.startsWith("/"))
+            throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+
+        List<Token> tokens = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> segments = new ArrayList<>();
+        boolean catchAll = false;
+
+        StringBuilder staticPart = new StringBuilder("/");
+        String[] parts = pattern.substring(1).split("/", -1);
+
+        for(int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            boolean last = i == parts.length - 1;
+
+            if(part.equals(CATCH_ALL)) {
+                if(!last)
+                    throw new IllegalArgumentException("'**' is only allowed as the last segment: " + pattern);
+
+                tokens.add(new Token(TokenType.STATIC, staticPart.toString()));
+                tokens.add(new Token(TokenType.CATCH_ALL, CATCH_ALL));
+                names.add(CATCH_ALL);
+                segments.add(i);
+                catchAll = true;
+                staticPart.setLength(0);
+                break;
+            }
+
+            if(part.startsWith("{") || part.endsWith("}")) {
+                if(!part.startsWith("{") || !part.endsWith("}") || part.length() < 3)
+                    throw new IllegalArgumentException("Path variable must occupy a whole segment: " + pattern);
+
+                String name = part.substring(1, part.length() - 1);
+                if(name.indexOf('{') >= 0 || name.indexOf('}') >= 0)
+                    throw new IllegalArgumentException("Path variable must occupy a whole segment: " + pattern);
+                if(names.contains(name))
+                    throw new IllegalArgumentException("Duplicate path variable '" + name + "': " + pattern);
+
+                tokens.add(new Token(TokenType.STATIC, staticPart.toString()));
+                tokens.add(new Token(TokenType.VARIABLE, name));
+                names.add(name);
+                segments.add(i);
+                staticPart.setLength(0);
+            } else {
+                if(part.indexOf('{') >= 0 || part.indexOf('}') >= 0 || part.contains("*"))
+                    throw new IllegalArgumentException("Unsupported segment '" + part + "': " + pattern);
+                staticPart.append(part);
+            }
+
+            if(!last)
+                staticPart.append('/');
+        }
+
+        if(!staticPart.isEmpty())
+            tokens.add(new Token(TokenType.STATIC, staticPart.toString()));
+
+        int[] variableSegments = segments.stream().mapToInt(Integer::intValue).toArray();
+        return new RoutePattern(
+                pattern,
+                Collections.unmodifiableList(tokens),
+                names.toArray(String[]::new),
+                variableSegments,
+                catchAll
+        );
+    }
+
+    /**
+     * 요청 대상 문자열에서 경로 부분의 끝 인덱스를 반환한다.
+     *
+     * <p>쿼리 문자열({@code ?})이 있으면 그 직전까지를 경로로 본다.</p>
+     *
+     * @param path 요청 경로(쿼리 문자열 포함 가능)
+     * @return 경로 부분의 끝(exclusive) 인덱스
+     */
+    public static int pathEnd(String path) {
+        int idx = path.indexOf('?');
+        return idx < 0 ? path.length() : idx;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    List<Token> tokens() {
+        return tokens;
+    }
+
+    /**
+     * 패턴에 선언된 변수 개수를 반환한다. ({@code **} 포함)
+     */
+    public int getVariableCount() {
+        return variableNames.length;
+    }
+
+    /**
+     * 변수 이름에 해당하는 인덱스를 반환한다.
+     *
+     * <p>등록 시점에 한 번 조회해 두고, 요청 처리 시에는 인덱스로 접근하는 용도이다.</p>
+     *
+     * @param name 변수 이름
+     * @return 변수 인덱스, 없으면 {@code -1}
+     */
+    public int indexOf(String name) {
+        for(int i = 0; i < variableNames.length; i++)
+            if(variableNames[i].equals(name)) return i;
+        return -1;
+    }
+
+    public String getVariableName(int index) {
+        return variableNames[index];
+    }
+
+    /**
+     * 매칭된 요청 경로에서 변수 값의 시작 오프셋을 계산한다.
+     *
+     * @param path  이 패턴으로 매칭된 요청 경로
+     * @param index 변수 인덱스
+     * @return 변수 값 시작 오프셋(inclusive)
+     */
+    public int variableStart(String path, int index) {
+        int end = pathEnd(path);
+        int target = variableSegments[index];
+        int seen = -1;
+
+        for(int i = 0; i < end; i++) {
+            if(path.charAt(i) == '/' && ++seen == target)
+                return i + 1;
+        }
+        return end;
+    }
+
+    /**
+     * 매칭된 요청 경로에서 변수 값의 끝 오프셋을 계산한다.
+     *
+     * @param path  이 패턴으로 매칭된 요청 경로
+     * @param index 변수 인덱스
+     * @return 변수 값 끝 오프셋(exclusive)
+     */
+    public int variableEnd(String path, int index) {
+        int end = pathEnd(path);
+        if(catchAll && index == variableNames.length - 1)
+            return end;
+
+        int slash = path.indexOf('/', variableStart(path, index));
+        return slash < 0 || slash > end ? end : slash;
+    }
+
+    /**
+     * 매칭된 요청 경로에서 지정한 변수의 원본 값을 반환한다.
+     *
+     * @param path 이 패턴으로 매칭된 요청 경로
+     * @param name 변수 이름
+     * @return 변수 값, 선언되지 않은 변수면 {@code null}
+     */
+    public String getVariable(String path, String name) {
+        int index = indexOf(name);
+        if(index < 0) return null;
+        return path.substring(variableStart(path, index), variableEnd(path, index));
+    }
+
+    /**
+     * 매칭된 요청 경로에서 모든 변수를 추출한다.
+     *
+     * <p>디버깅/로깅 용도이며, 요청 처리 경로에서는 인덱스 기반 조회를 사용한다.</p>
+     */
+    public Map<String, String> extractVariables(String path) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for(int i = 0; i < variableNames.length; i++)
+            result.put(variableNames[i], path.substring(variableStart(path, i), variableEnd(path, i)));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,211 @@
+package org.example.framework.web.mapping.route;
+
+import org.example.framework.was.protocol.model.HttpMethod;
+
+import java.util.Arrays;
+
+/**
+ * 요청 경로를 실행 대상으로 변환하는 압축 Radix 트리 라우터이다.
+ *
+ * <p>
+ * 정적 경로는 공통 접두사를 공유하는 노드로 압축되며,
+ * 각 노드는 다음 세 종류의 자식을 가질 수 있다.
+ * <ul>
+ *     <li>정적 자식 - 첫 글자 인덱스로 분기</li>
+ *     <li>경로 변수 자식 - 다음 {@code /} 전까지의 세그먼트 하나를 소비</li>
+ *     <li>나머지 경로 자식 - 남은 경로 전체를 소비</li>
+ * </ul>
+ * 실행 대상은 노드마다 {@link HttpMethod}별 슬롯에 보관된다.
+ * </p>
+ *
+ * <p>
+ * 탐색 우선순위는 정적 &gt; 경로 변수 &gt; 나머지 경로 순이며,
+ * 우선순위가 높은 분기에서 매칭에 실패하면 다음 분기로 되돌아가 재시도한다.
+ * 탐색 비용은 등록된 라우트 수가 아니라 요청 경로 길이에 비례하고,
+ * 탐색 중 어떤 객체도 할당하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 트리는 초기화 단계에서 단일 스레드로 구성되고,
+ * 이후에는 읽기 전용으로만 사용되는 것을 전제로 하므로 별도의 동기화를 하지 않는다.
+ * </p>
+ *
+ * @param <T> 라우트에 연결되는 실행 대상 타입
+ * @see RoutePattern
+ * @see <a href="https://github.com/julienschmidt/httprouter/blob/master/tree.go">httprouter tree.go</a>
+ */
+public final class RouteTree<T> {
+
+    private static final int METHOD_COUNT = HttpMethod.values().length;
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * 라우트를 등록한다.
+     *
+     * <p>동일한 HTTP 메서드와 구조의 라우트가 이미 존재하면 기존 값을 유지하고 반환한다.</p>
+     *
+     * @param method  HTTP 메서드
+     * @param pattern 분석된 경로 패턴
+     * @param value   실행 대상
+     * @return 이미 등록된 값이 있으면 해당 값, 없으면 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public T insert(HttpMethod method, RoutePattern pattern, T value) {
+        Node node = root;
+
+        for(RoutePattern.Token token : pattern.tokens()) {
+            switch (token.type()) {
+                case STATIC -> node = insertStatic(node, token.text());
+                case VARIABLE -> {
+                    if(node.variableChild == null)
+                        node.variableChild = new Node("");
+                    node = node.variableChild;
+                }
+                case CATCH_ALL -> {
+                    if(node.catchAllChild == null)
+                        node.catchAllChild = new Node("");
+                    node = node.catchAllChild;
+                }
+            }
+        }
+
+        int slot = method.ordinal();
+        if(node.values[slot] != null)
+            return (T) node.values[slot];
+
+        node.values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * 요청 경로에 매칭되는 실행 대상을 조회한다.
+     *
+     * @param method HTTP 메서드
+     * @param path   요청 경로
+     * @param end    경로로 취급할 끝 인덱스(exclusive), 쿼리 문자열 제외 용도
+     * @return 매칭된 실행 대상, 없으면 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public T find(HttpMethod method, String path, int end) {
+        return (T) match(root, path, 0, end, method.ordinal());
+    }
+
+    /**
+     * 등록된 라우트 수를 반환한다.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node insertStatic(Node parent, String text) {
+        Node node = parent;
+        String remaining = text;
+
+        while(!remaining.isEmpty()) {
+            int idx = node.indexOf(remaining.charAt(0));
+
+            if(idx < 0) {
+                Node child = new Node(remaining);
+                node.addChild(child);
+                return child;
+            }
+
+            Node child = node.children[idx];
+            int common = commonPrefixLength(child.prefix, remaining);
+
+            // 기존 노드의 접두사 일부만 겹치면 분할한다.
+            if(common < child.prefix.length()) {
+                Node split = new Node(child.prefix.substring(0, common));
+                child.prefix = child.prefix.substring(common);
+                split.addChild(child);
+                node.children[idx] = split;
+                child = split;
+            }
+
+            remaining = remaining.substring(common);
+            node = child;
+        }
+        return node;
+    }
+
+    private Object match(Node node, String path, int pos, int end, int slot) {
+        if(pos == end) {
+            Object value = node.values[slot];
+            if(value != null) return value;
+        } else {
+            // 1. 정적 자식
+            int idx = node.indexOf(path.charAt(pos));
+            if(idx >= 0) {
+                Node child = node.children[idx];
+                int len = child.prefix.length();
+                if(pos + len <= end && path.regionMatches(pos, child.prefix, 0, len)) {
+                    Object value = match(child, path, pos + len, end, slot);
+                    if(value != null) return value;
+                }
+            }
+
+            // 2. 경로 변수 자식 (비어있지 않은 세그먼트 하나)
+            if(node.variableChild != null) {
+                int segmentEnd = pos;
+                while(segmentEnd < end && path.charAt(segmentEnd) != '/')
+                    segmentEnd++;
+
+                if(segmentEnd > pos) {
+                    Object value = match(node.variableChild, path, segmentEnd, end, slot);
+                    if(value != null) return value;
+                }
+            }
+        }
+
+        // 3. 나머지 경로 자식
+        if(node.catchAllChild != null)
+            return node.catchAllChild.values[slot];
+
+        return null;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while(i < max && a.charAt(i) == b.charAt(i))
+            i++;
+        return i;
+    }
+
+    /**
+     * 트리 노드.
+     *
+     * <p>정적 자식은 첫 글자 배열({@code indices})과 자식 배열을 나란히 유지하여
+     * 분기 시 별도의 객체 조회 없이 선형 탐색한다.</p>
+     */
+    private static final class Node {
+        private String prefix;
+        private char[] indices = new char[0];
+        private Node[] children = new Node[0];
+        private Node variableChild;
+        private Node catchAllChild;
+        private final Object[] values = new Object[METHOD_COUNT];
+
+        private Node(String prefix) {
+            this.prefix = prefix;
+        }
+
+        private int indexOf(char c) {
+            char[] idx = indices;
+            for(int i = 0; i < idx.length; i++)
+                if(idx[i] == c) return i;
+            return -1;
+        }
+
+        private void addChild(Node child) {
+            int n = indices.length;
+            indices = Arrays.copyOf(indices, n + 1);
+            children = Arrays.copyOf(children, n + 1);
+            indices[n] = child.prefix.charAt(0);
+            children[n] = child;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.framework.web.method;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+
+/**
+ * 컨트롤러 메서드 파라미터에 전달할 값을 요청으로부터 만들어내는 전략 인터페이스다.
+ *
+ * <p>
+ * {@link #supportsParameter(MethodParameter)}는 {@link InvocableHandlerMethod} 생성 시점에
+ * 파라미터마다 한 번 호출되어 담당 resolver를 결정하고 {@link #prepare(MethodParameter)}로 특화하며,
+ * 요청 처리 중에는 특화된 resolver의 {@link #resolveArgument}만 호출된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/method/support/HandlerMethodArgumentResolver.java">Spring HandlerMethodArgumentResolver</a>
+ */
+public interface HandlerMethodArgumentResolver {
+
+    /**
+     * 주어진 파라미터를 이 resolver가 처리할 수 있는지 여부를 반환한다.
+     *
+     * @param parameter 메서드 파라미터
+     * @return 처리 가능하면 true
+     */
+    boolean supportsParameter(MethodParameter parameter);
+
+    /**
+     * 파라미터 하나에 특화된 resolver를 만든다.
+     *
+     * <p>
+     * {@link #supportsParameter(MethodParameter)}가 {@code true}를 반환한 파라미터에 대해
+     * {@link InvocableHandlerMethod} 생성 시점에 한 번 호출된다.
+     * 파라미터 이름, 변환기, 기본값처럼 요청마다 동일한 정보를 미리 계산해 두는 용도이며,
+     * 기본 구현은 자기 자신을 반환한다.
+     * </p>
+     *
+     * @param parameter 메서드 파라미터
+     * @return 해당 파라미터 전용 resolver
+     * @throws IllegalStateException 파라미터 선언이 올바르지 않은 경우
+     */
+    default HandlerMethodArgumentResolver prepare(MethodParameter parameter) {
+        return this;
+    }
+
+    /**
+     * 현재 요청으로부터 파라미터 값을 만들어낸다.
+     *
+     * @param parameter 메서드 파라미터
+     * @param request   현재 HTTP 요청
+     * @param response  현재 HTTP 응답
+     * @return 메서드에 전달할 인자 값
+     * @throws Exception 인자 생성 중 발생한 예외
+     */
+    Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception;
+}
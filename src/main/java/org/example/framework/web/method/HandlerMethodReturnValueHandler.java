@@ -0,0 +1,36 @@
+package org.example.framework.web.method;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+
+/**
+ * 컨트롤러 메서드의 반환값을 HTTP 응답으로 기록하는 전략 인터페이스다.
+ *
+ * <p>
+ * 담당 handler는 메서드의 선언된 반환 타입을 기준으로
+ * {@link InvocableHandlerMethod} 생성 시점에 한 번 결정된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/method/support/HandlerMethodReturnValueHandler.java">Spring HandlerMethodReturnValueHandler</a>
+ */
+public interface HandlerMethodReturnValueHandler {
+
+    /**
+     * 주어진 반환 타입을 이 handler가 처리할 수 있는지 여부를 반환한다.
+     *
+     * @param returnType 메서드 반환 타입 정보
+     * @return 처리 가능하면 true
+     */
+    boolean supportsReturnType(MethodParameter returnType);
+
+    /**
+     * 반환값을 응답에 기록한다.
+     *
+     * @param returnValue 컨트롤러 메서드의 반환값
+     * @param returnType  메서드 반환 타입 정보
+     * @param request     현재 HTTP 요청
+     * @param response    현재 HTTP 응답
+     * @throws Exception 응답 기록 중 발생한 예외
+     */
+    void handleReturnValue(Object returnValue, MethodParameter returnType, HttpRequest request, HttpResponse response) throws Exception;
+}
@@ -0,0 +1,204 @@
+package org.example.framework.web.method;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.bulkhead.BulkheadExecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 요청 처리에 필요한 모든 준비를 마친 상태로 컴파일된 {@link HandlerMethod}이다.
+ *
+ * <p>
+ * 생성 시점에 다음 작업을 한 번만 수행한다.
+ * <ul>
+ *     <li>파라미터별 {@link MethodParameter} 생성, 담당 {@link HandlerMethodArgumentResolver} 결정 및 파라미터 전용 resolver 준비</li>
+ *     <li>반환 타입을 처리할 {@link HandlerMethodReturnValueHandler} 결정</li>
+ *     <li>컨트롤러 Bean에 바인딩된 {@link MethodHandle} 생성</li>
+ * </ul>
+ * 요청 처리 시에는 미리 결정된 resolver 배열을 순회해 인자를 만들고
+ * {@link MethodHandle#invokeExact}로 메서드를 호출하므로,
+ * {@code setAccessible}, {@link Method#invoke}, 파라미터 타입 비교, 반환값 {@code instanceof} 분기가
+ * 요청 경로에서 사라진다.
+ * </p>
+ *
+ * <p>
+ * 지원하지 않는 파라미터나 반환 타입이 있으면 생성 시점에 {@link IllegalStateException}이 발생한다.
+ * 인스턴스는 생성 이후 변경되지 않으므로 여러 요청 스레드가 공유해도 안전하다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/method/support/InvocableHandlerMethod.java">Spring InvocableHandlerMethod</a>
+ */
+public class InvocableHandlerMethod extends HandlerMethod {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final MethodParameter[] parameters;
+    private final HandlerMethodArgumentResolver[] resolvers;
+    private final MethodParameter returnType;
+
+    /** 반환 타입이 {@code void}면 {@code null} */
+    private final HandlerMethodReturnValueHandler returnValueHandler;
+
+    /** {@code (Object[])Object} 형태로 맞춰진, Bean이 바인딩된 호출 핸들 */
+    private final MethodHandle invoker;
+
+    /** 메서드를 실행할 라우트 전용 실행기, 없으면 호출한 스레드에서 실행한다. */
+    private final BulkheadExecutor bulkhead;
+
+    /**
+     * Handler 메서드를 컴파일한다.
+     *
+     * @param handlerMethod       대상 Handler 메서드
+     * @param argumentResolvers   후보 인자 resolver 목록 (앞에 있는 것이 우선)
+     * @param returnValueHandlers 후보 반환값 handler 목록 (앞에 있는 것이 우선)
+     * @throws IllegalStateException 지원하지 않는 파라미터/반환 타입이 있거나 메서드에 접근할 수 없는 경우
+     */
+    public InvocableHandlerMethod(HandlerMethod handlerMethod,
+                                  List<HandlerMethodArgumentResolver> argumentResolvers,
+                                  List<HandlerMethodReturnValueHandler> returnValueHandlers) {
+        this(handlerMethod, argumentResolvers, returnValueHandlers, null);
+    }
+
+    /**
+     * Handler 메서드를 컴파일한다.
+     *
+     * @param handlerMethod       대상 Handler 메서드
+     * @param argumentResolvers   후보 인자 resolver 목록 (앞에 있는 것이 우선)
+     * @param returnValueHandlers 후보 반환값 handler 목록 (앞에 있는 것이 우선)
+     * @param bulkhead            메서드를 실행할 라우트 전용 실행기, {@code null}이면 호출한 스레드에서 실행한다.
+     * @throws IllegalStateException 지원하지 않는 파라미터/반환 타입이 있거나 메서드에 접근할 수 없는 경우
+     */
+    public InvocableHandlerMethod(HandlerMethod handlerMethod,
+                                  List<HandlerMethodArgumentResolver> argumentResolvers,
+                                  List<HandlerMethodReturnValueHandler> returnValueHandlers,
+                                  BulkheadExecutor bulkhead) {
+        super(handlerMethod.getBean(), handlerMethod.getMethod(), handlerMethod.getPattern());
+
+        Method method = handlerMethod.getMethod();
+        int count = method.getParameterCount();
+
+        this.parameters = new MethodParameter[count];
+        this.resolvers = new HandlerMethodArgumentResolver[count];
+        for(int i = 0; i < count; i++) {
+            parameters[i] = MethodParameter.forParameter(handlerMethod, i);
+            resolvers[i] = findResolver(parameters[i], argumentResolvers);
+        }
+
+        this.returnType = MethodParameter.forReturnType(handlerMethod);
+        this.returnValueHandler = method.getReturnType() == void.class
+                ? null
+                : findReturnValueHandler(returnType, returnValueHandlers);
+
+        this.invoker = createInvoker(handlerMethod.getBean(), method);
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * 요청으로부터 인자를 만들어 메서드를 호출한다.
+     *
+     * @param request  현재 HTTP 요청
+     * @param response 현재 HTTP 응답
+     * @return 메서드 반환값, {@code void} 메서드면 {@code null}
+     * @throws Exception 인자 생성 또는 메서드 실행 중 발생한 예외 (원본 예외 그대로)
+     */
+    public Object invokeForRequest(HttpRequest request, HttpResponse response) throws Exception {
+        Object[] args = resolveArguments(request, response);
+
+        try {
+            return (Object) invoker.invokeExact(args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to invoke handler method: " + getMethod(), t);
+        }
+    }
+
+    /**
+     * 메서드를 호출하고 반환값을 응답에 기록한다.
+     *
+     * @param request  현재 HTTP 요청
+     * @param response 현재 HTTP 응답
+     * @return 메서드 반환값, {@code void} 메서드면 {@code null}
+     * @throws Exception 처리 중 발생한 예외
+     */
+    public Object invokeAndHandle(HttpRequest request, HttpResponse response) throws Exception {
+        Object returnValue = invokeForRequest(request, response);
+
+        if(returnValueHandler != null)
+            returnValueHandler.handleReturnValue(returnValue, returnType, request, response);
+
+        return returnValue;
+    }
+
+    public MethodParameter[] getMethodParameters() {
+        return parameters.clone();
+    }
+
+    public MethodParameter getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return 메서드를 실행할 라우트 전용 실행기, 없으면 {@code null}
+     */
+    public BulkheadExecutor getBulkhead() {
+        return bulkhead;
+    }
+
+    private Object[] resolveArguments(HttpRequest request, HttpResponse response) throws Exception {
+        int count = resolvers.length;
+        if(count == 0)
+            return NO_ARGS;
+
+        Object[] args = new Object[count];
+        for(int i = 0; i < count; i++)
+            args[i] = resolvers[i].resolveArgument(parameters[i], request, response);
+        return args;
+    }
+
+    private static HandlerMethodArgumentResolver findResolver(MethodParameter parameter,
+                                                              List<HandlerMethodArgumentResolver> candidates) {
+        for(HandlerMethodArgumentResolver resolver : candidates) {
+            if(resolver.supportsParameter(parameter))
+                return resolver.prepare(parameter);
+        }
+        throw new IllegalStateException(
+                "Unsupported parameter type: " + parameter.getParameterType().getName() + " in " + parameter
+        );
+    }
+
+    private static HandlerMethodReturnValueHandler findReturnValueHandler(MethodParameter returnType,
+                                                                          List<HandlerMethodReturnValueHandler> candidates) {
+        for(HandlerMethodReturnValueHandler handler : candidates) {
+            if(handler.supportsReturnType(returnType))
+                return handler;
+        }
+        throw new IllegalStateException(
+                "Unsupported return type: " + returnType.getParameterType() + " in method: " + returnType.getMethod()
+        );
+    }
+
+    /**
+     * Bean에 바인딩되고 인자 배열을 펼쳐 받는 {@code (Object[])Object} 형태의 핸들을 만든다.
+     *
+     * <p>public이 아닌 컨트롤러 클래스도 호출할 수 있도록 접근 검사는 이 시점에 한 번만 해제한다.</p>
+     */
+    private static MethodHandle createInvoker(Object bean, Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(bean);
+
+            return handle
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot create invoker for " + method, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.framework.web.method;
+
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.mapping.route.RoutePattern;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+
+/**
+ * 컨트롤러 메서드의 파라미터 하나(또는 반환 타입)를 설명하는 메타데이터 객체이다.
+ *
+ * <p>
+ * 타입, 제네릭 타입, 어노테이션, 이름 등 리플렉션으로 얻는 정보를
+ * {@link InvocableHandlerMethod} 생성 시점에 한 번 읽어 보관한다.
+ * 요청 처리 중에는 이 객체만 참조하므로 리플렉션 조회가 반복되지 않는다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-core/src/main/java/org/springframework/core/MethodParameter.java">Spring MethodParameter</a>
+ */
+public final class MethodParameter {
+
+    /** 반환 타입을 나타내는 파라미터 인덱스 */
+    public static final int RETURN_TYPE_INDEX = -1;
+
+    private final HandlerMethod handlerMethod;
+    private final int index;
+    private final Class<?> parameterType;
+    private final Type genericParameterType;
+    private final Annotation[] annotations;
+    private final String parameterName;
+
+    private MethodParameter(HandlerMethod handlerMethod, int index, Class<?> parameterType,
+                            Type genericParameterType, Annotation[] annotations, String parameterName) {
+        this.handlerMethod = handlerMethod;
+        this.index = index;
+        this.parameterType = parameterType;
+        this.genericParameterType = genericParameterType;
+        this.annotations = annotations;
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * 지정한 위치의 메서드 파라미터 정보를 생성한다.
+     *
+     * @param handlerMethod 대상 Handler 메서드
+     * @param index         파라미터 인덱스
+     */
+    public static MethodParameter forParameter(HandlerMethod handlerMethod, int index) {
+        Parameter parameter = handlerMethod.getMethod().getParameters()[index];
+        return new MethodParameter(
+                handlerMethod,
+                index,
+                parameter.getType(),
+                parameter.getParameterizedType(),
+                parameter.getAnnotations(),
+                parameter.isNamePresent() ? parameter.getName() : null
+        );
+    }
+
+    /**
+     * 메서드 반환 타입 정보를 생성한다.
+     *
+     * @param handlerMethod 대상 Handler 메서드
+     */
+    public static MethodParameter forReturnType(HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        return new MethodParameter(
+                handlerMethod,
+                RETURN_TYPE_INDEX,
+                method.getReturnType(),
+                method.getGenericReturnType(),
+                method.getAnnotations(),
+                null
+        );
+    }
+
+    public HandlerMethod getHandlerMethod() {
+        return handlerMethod;
+    }
+
+    public Method getMethod() {
+        return handlerMethod.getMethod();
+    }
+
+    /**
+     * 파라미터 인덱스를 반환한다.
+     *
+     * @return 파라미터 인덱스, 반환 타입이면 {@link #RETURN_TYPE_INDEX}
+     */
+    public int getParameterIndex() {
+        return index;
+    }
+
+    public Class<?> getParameterType() {
+        return parameterType;
+    }
+
+    public Type getGenericParameterType() {
+        return genericParameterType;
+    }
+
+    /**
+     * 파라미터에 선언된 어노테이션을 조회한다.
+     *
+     * @param annotationType 어노테이션 타입
+     * @return 어노테이션, 없으면 {@code null}
+     */
+    public <A extends Annotation> A getParameterAnnotation(Class<A> annotationType) {
+        for(Annotation annotation : annotations) {
+            if(annotationType.isInstance(annotation))
+                return annotationType.cast(annotation);
+        }
+        return null;
+    }
+
+    public boolean hasParameterAnnotation(Class<? extends Annotation> annotationType) {
+        return getParameterAnnotation(annotationType) != null;
+    }
+
+    /**
+     * 컴파일된 파라미터 이름을 반환한다.
+     *
+     * @return 파라미터 이름, 클래스 파일에 이름 정보가 없으면 {@code null}
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Handler가 등록된 경로 패턴을 반환한다.
+     *
+     * @return 경로 패턴, 매핑을 거치지 않은 Handler면 {@code null}
+     */
+    public RoutePattern getRoutePattern() {
+        return handlerMethod.getPattern();
+    }
+
+    @Override
+    public String toString() {
+        String position = index == RETURN_TYPE_INDEX ? "return type" : "parameter " + index;
+        return position + " of " + handlerMethod.getMethod();
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.PathVariable;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * {@link PathVariable}이 선언된 파라미터에 경로 변수 값을 바인딩한다.
+ *
+ * <p>
+ * 변수 이름은 {@link #prepare(MethodParameter)}에서 Handler의 {@link RoutePattern} 내 인덱스로 변환되며,
+ * 요청 처리 시에는 요청 경로에서 해당 세그먼트의 오프셋만 계산해 바로 변환한다.
+ * 경로 변수 값은 퍼센트 디코딩되며 {@code +}는 그대로 유지된다.
+ * </p>
+ *
+ * <p>
+ * 값을 변환할 수 없으면 {@link HttpStatus#BAD_REQUEST}로 응답한다.
+ * </p>
+ */
+public class PathVariableMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(PathVariable.class);
+    }
+
+    /**
+     * @throws IllegalStateException 매핑 경로에 해당 변수가 없거나, 지원하지 않는 타입인 경우
+     */
+    @Override
+    public HandlerMethodArgumentResolver prepare(MethodParameter parameter) {
+        PathVariable annotation = parameter.getParameterAnnotation(PathVariable.class);
+        String name = RawValueConverter.resolveName(annotation.value(), parameter);
+        RawValueConverter converter = RawValueConverter.require(parameter);
+
+        RoutePattern pattern = parameter.getRoutePattern();
+        int index = pattern != null ? pattern.indexOf(name) : -1;
+        if(index < 0)
+            throw new IllegalStateException("Missing path variable '" + name + "' in route " + pattern + ": " + parameter);
+
+        return new BoundPathVariable(name, pattern, index, converter);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+        return prepare(parameter).resolveArgument(parameter, request, response);
+    }
+
+    /**
+     * 파라미터 하나에 대해 미리 계산된 바인딩 정보
+     */
+    private record BoundPathVariable(String name, RoutePattern pattern, int index, RawValueConverter converter)
+            implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(PathVariable.class);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) {
+            String path = request.getPath();
+            try {
+                return converter.convert(path, pattern.variableStart(path, index), pattern.variableEnd(path, index), false);
+            } catch (IllegalArgumentException e) {
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Failed to convert path variable '" + name + "'");
+            }
+        }
+    }
+}
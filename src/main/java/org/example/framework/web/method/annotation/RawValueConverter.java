@@ -0,0 +1,90 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.util.UriUtils;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * 퍼센트 인코딩된 원본 문자열 구간을 파라미터 타입의 값으로 변환한다.
+ *
+ * <p>
+ * 숫자와 불리언은 부분 문자열을 만들지 않고 원본 구간에서 바로 해석한다.
+ * 메서드 호출 인자가 {@code Object[]}로 전달되므로 최종 값은 박싱되지만,
+ * {@link Integer#valueOf(int)} 등의 캐시 범위 값은 새로 할당되지 않는다.
+ * </p>
+ */
+enum RawValueConverter {
+
+    STRING {
+        @Override
+        Object convert(String raw, int from, int to, boolean plusAsSpace) {
+            return UriUtils.decode(raw, from, to, plusAsSpace);
+        }
+    },
+    INT {
+        @Override
+        Object convert(String raw, int from, int to, boolean plusAsSpace) {
+            return UriUtils.parseInt(raw, from, to, plusAsSpace);
+        }
+    },
+    LONG {
+        @Override
+        Object convert(String raw, int from, int to, boolean plusAsSpace) {
+            return UriUtils.parseLong(raw, from, to, plusAsSpace);
+        }
+    },
+    BOOLEAN {
+        @Override
+        Object convert(String raw, int from, int to, boolean plusAsSpace) {
+            return UriUtils.parseBoolean(raw, from, to, plusAsSpace);
+        }
+    };
+
+    /**
+     * 구간을 변환한다.
+     *
+     * @throws IllegalArgumentException 값 형식이 타입과 맞지 않는 경우
+     */
+    abstract Object convert(String raw, int from, int to, boolean plusAsSpace);
+
+    /**
+     * 파라미터 타입에 맞는 변환기를 반환한다.
+     *
+     * @return 변환기, 지원하지 않는 타입이면 {@code null}
+     */
+    static RawValueConverter forType(Class<?> type) {
+        if(type == String.class) return STRING;
+        if(type == int.class || type == Integer.class) return INT;
+        if(type == long.class || type == Long.class) return LONG;
+        if(type == boolean.class || type == Boolean.class) return BOOLEAN;
+        return null;
+    }
+
+    /**
+     * 어노테이션 값이나 메서드 파라미터 이름으로부터 바인딩 이름을 결정한다.
+     *
+     * @throws IllegalStateException 이름을 결정할 수 없는 경우
+     */
+    static String resolveName(String declared, MethodParameter parameter) {
+        if(!declared.isEmpty())
+            return declared;
+        if(parameter.getParameterName() != null)
+            return parameter.getParameterName();
+        throw new IllegalStateException(
+                "Name for argument not specified, and parameter name information not available (compile with -parameters): " + parameter
+        );
+    }
+
+    /**
+     * 변환기를 결정한다.
+     *
+     * @throws IllegalStateException 지원하지 않는 타입인 경우
+     */
+    static RawValueConverter require(MethodParameter parameter) {
+        RawValueConverter converter = forType(parameter.getParameterType());
+        if(converter == null)
+            throw new IllegalStateException(
+                    "Unsupported parameter type: " + parameter.getParameterType().getName() + " in " + parameter
+            );
+        return converter;
+    }
+}
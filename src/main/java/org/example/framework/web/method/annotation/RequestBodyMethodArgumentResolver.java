@@ -0,0 +1,113 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.RequestBody;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.json.JsonBinder;
+import org.example.framework.web.json.JsonMapper;
+import org.example.framework.web.json.JsonParseException;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * {@link RequestBody}가 선언된 파라미터에 JSON 요청 본문을 바인딩한다.
+ *
+ * <p>
+ * 파라미터의 제네릭 타입에 맞는 {@link JsonBinder}는 {@link #prepare(MethodParameter)}에서 한 번 조회되며,
+ * 요청 처리 시에는 본문 스트림을 {@link org.example.framework.web.json.JsonReader}로 읽어 대상 객체를 바로 채운다.
+ * 본문 전체를 {@link String}으로 변환하거나 중간 트리를 만들지 않는다.
+ * </p>
+ *
+ * <p>
+ * 다음 경우 오류로 응답한다.
+ * <ul>
+ *     <li>필수 본문이 비어 있거나, JSON 형식이 잘못되었거나, 타입이 맞지 않는 경우 - {@link HttpStatus#BAD_REQUEST}</li>
+ *     <li>{@code Content-Type}이 JSON이 아닌 경우 - {@link HttpStatus#UNSUPPORTED_MEDIA_TYPE}</li>
+ * </ul>
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/RequestResponseBodyMethodProcessor.java">Spring RequestResponseBodyMethodProcessor</a>
+ */
+public class RequestBodyMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(RequestBody.class);
+    }
+
+    /**
+     * @throws IllegalStateException 파라미터 타입을 JSON으로 바인딩할 수 없는 경우
+     */
+    @Override
+    public HandlerMethodArgumentResolver prepare(MethodParameter parameter) {
+        RequestBody annotation = parameter.getParameterAnnotation(RequestBody.class);
+        JsonBinder<?> binder;
+        try {
+            binder = JsonMapper.getInstance().binderFor(parameter.getGenericParameterType());
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Cannot bind request body to " + parameter, e);
+        }
+        return new BoundRequestBody(binder, annotation.required(), parameter.getParameterType().isPrimitive());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+        return prepare(parameter).resolveArgument(parameter, request, response);
+    }
+
+    /**
+     * {@code application/json} 또는 {@code +json} 접미사를 가진 미디어 타입인지 확인한다.
+     * 헤더가 없으면 JSON으로 간주한다.
+     */
+    static boolean isJsonContentType(String contentType) {
+        if(contentType == null)
+            return true;
+
+        int end = contentType.indexOf(';');
+        String mediaType = (end < 0 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+        return mediaType.equals("application/json") || mediaType.endsWith("+json");
+    }
+
+    /**
+     * 파라미터 하나에 대해 미리 조회된 binder
+     */
+    private record BoundRequestBody(JsonBinder<?> binder, boolean required, boolean primitive)
+            implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(RequestBody.class);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+            HttpBody body = request.getBody();
+            if(body.isEmpty()) {
+                if(required || primitive)
+                    throw new HttpException(HttpStatus.BAD_REQUEST, "Required request body is missing");
+                return null;
+            }
+
+            if(!isJsonContentType(request.getHeader().getFirst("Content-Type")))
+                throw new HttpException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                        "Content-Type '" + request.getHeader().getFirst("Content-Type") + "' is not supported");
+
+            Object value;
+            try(InputStream in = body.getInputStream()) {
+                value = JsonMapper.getInstance().readValue(in, binder);
+            } catch (JsonParseException e) {
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Malformed JSON request body: " + e.getMessage());
+            }
+
+            if(value == null && (required || primitive))
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Required request body is missing");
+            return value;
+        }
+    }
+}
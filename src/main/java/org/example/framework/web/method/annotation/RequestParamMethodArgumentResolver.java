@@ -0,0 +1,98 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.RequestParam;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.protocol.model.QueryParameters;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * {@link RequestParam}이 선언된 파라미터에 쿼리 파라미터 값을 바인딩한다.
+ *
+ * <p>
+ * 파라미터 이름, 변환기, 기본값(변환 완료된 값)은 {@link #prepare(MethodParameter)}에서
+ * 한 번 결정되며, 요청 처리 시에는 쿼리 문자열의 오프셋 구간을 바로 변환한다.
+ * 쿼리 문자열이 없는 요청은 파라미터 파싱 자체를 건너뛴다.
+ * </p>
+ *
+ * <p>
+ * 필수 파라미터가 없거나 값을 변환할 수 없으면 {@link HttpStatus#BAD_REQUEST}로 응답한다.
+ * </p>
+ */
+public class RequestParamMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(RequestParam.class);
+    }
+
+    /**
+     * @throws IllegalStateException 이름을 결정할 수 없거나, 지원하지 않는 타입이거나,
+     *                               기본값을 변환할 수 없거나, 기본값 없는 선택적 primitive 파라미터인 경우
+     */
+    @Override
+    public HandlerMethodArgumentResolver prepare(MethodParameter parameter) {
+        RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+        String name = RawValueConverter.resolveName(annotation.value(), parameter);
+        RawValueConverter converter = RawValueConverter.require(parameter);
+
+        Object defaultValue = null;
+        if(!RequestParam.NO_DEFAULT.equals(annotation.defaultValue())) {
+            String declared = annotation.defaultValue();
+            try {
+                defaultValue = converter.convert(declared, 0, declared.length(), false);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid defaultValue '" + declared + "' for " + parameter, e);
+            }
+        }
+
+        boolean required = annotation.required() && defaultValue == null;
+        if(!required && defaultValue == null && parameter.getParameterType().isPrimitive())
+            throw new IllegalStateException("Optional primitive parameter '" + name + "' must declare a defaultValue: " + parameter);
+
+        return new BoundRequestParam(name, converter, required, defaultValue);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+        return prepare(parameter).resolveArgument(parameter, request, response);
+    }
+
+    /**
+     * 파라미터 하나에 대해 미리 계산된 바인딩 정보
+     */
+    private record BoundRequestParam(String name, RawValueConverter converter, boolean required, Object defaultValue)
+            implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(RequestParam.class);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) {
+            int index = -1;
+            QueryParameters query = null;
+
+            if(request.getQueryString() != null) {
+                query = request.getQueryParameters();
+                index = query.indexOf(name);
+            }
+
+            if(index < 0 || (defaultValue != null && query.valueStart(index) == query.valueEnd(index))) {
+                if(required)
+                    throw new HttpException(HttpStatus.BAD_REQUEST, "Required request parameter '" + name + "' is not present");
+                return defaultValue;
+            }
+
+            try {
+                return converter.convert(query.getQuery(), query.valueStart(index), query.valueEnd(index), true);
+            } catch (IllegalArgumentException e) {
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Failed to convert request parameter '" + name + "'");
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.RequestPart;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+import org.example.framework.web.multipart.MultipartFile;
+import org.example.framework.web.multipart.MultipartRequest;
+import org.example.framework.web.multipart.MultipartResolver;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@link RequestPart}가 선언된 파라미터에 멀티파트 파트를 바인딩한다.
+ *
+ * <p>
+ * 본문은 첫 번째 {@code @RequestPart} 파라미터를 처리할 때 {@link MultipartResolver#resolve(HttpRequest)}로 한 번 파싱되고,
+ * 나머지 파라미터는 요청 속성에 저장된 결과를 재사용한다.
+ * 파트 이름과 바인딩 방식은 {@link #prepare(MethodParameter)}에서 한 번 결정된다.
+ * </p>
+ *
+ * <p>
+ * 다음 경우 오류로 응답한다.
+ * <ul>
+ *     <li>필수 파트가 없는 경우 - {@link HttpStatus#BAD_REQUEST}</li>
+ *     <li>{@code Content-Type}이 {@code multipart/form-data}가 아닌 경우 - {@link HttpStatus#UNSUPPORTED_MEDIA_TYPE}</li>
+ *     <li>업로드 한도를 넘은 경우 - {@link HttpStatus#CONTENT_TOO_LARGE}</li>
+ * </ul>
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/RequestPartMethodArgumentResolver.java">Spring RequestPartMethodArgumentResolver</a>
+ */
+public class RequestPartMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MultipartResolver multipartResolver;
+
+    public RequestPartMethodArgumentResolver(MultipartResolver multipartResolver) {
+        this.multipartResolver = multipartResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(RequestPart.class);
+    }
+
+    /**
+     * @throws IllegalStateException 이름을 결정할 수 없거나 지원하지 않는 타입인 경우
+     */
+    @Override
+    public HandlerMethodArgumentResolver prepare(MethodParameter parameter) {
+        RequestPart annotation = parameter.getParameterAnnotation(RequestPart.class);
+        String name = RawValueConverter.resolveName(annotation.value(), parameter);
+        return new BoundRequestPart(multipartResolver, name, bindingOf(parameter), annotation.required());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+        return prepare(parameter).resolveArgument(parameter, request, response);
+    }
+
+    private static Binding bindingOf(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        if(type == MultipartFile.class)
+            return Binding.FILE;
+        if(type == String.class)
+            return Binding.STRING;
+        if(type == byte[].class)
+            return Binding.BYTES;
+        if(type == List.class && parameter.getGenericParameterType() instanceof ParameterizedType list) {
+            Type element = list.getActualTypeArguments()[0];
+            if(element == MultipartFile.class)
+                return Binding.FILES;
+        }
+        throw new IllegalStateException("Unsupported @RequestPart type: " + parameter.getGenericParameterType() + " in " + parameter);
+    }
+
+    /**
+     * 파트를 파라미터 값으로 바꾸는 방식
+     */
+    private enum Binding {
+        FILE, FILES, STRING, BYTES
+    }
+
+    /**
+     * 파라미터 하나에 대해 미리 계산된 바인딩 정보
+     */
+    private record BoundRequestPart(MultipartResolver multipartResolver, String name, Binding binding, boolean required)
+            implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(RequestPart.class);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) throws Exception {
+            MultipartRequest multipart = multipartResolver.resolve(request);
+            if(binding == Binding.FILES) {
+                List<MultipartFile> files = multipart.getFiles(name);
+                if(files.isEmpty() && required)
+                    throw missing();
+                return files;
+            }
+
+            MultipartFile part = multipart.getFile(name);
+            if(part == null) {
+                if(required)
+                    throw missing();
+                return null;
+            }
+
+            return switch(binding) {
+                case STRING -> part.getValue();
+                case BYTES -> part.getBytes();
+                default -> part;
+            };
+        }
+
+        private HttpException missing() {
+            return new HttpException(HttpStatus.BAD_REQUEST, "Required request part '" + name + "' is not present");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.method.HandlerMethodReturnValueHandler;
+import org.example.framework.web.method.MethodParameter;
+import org.example.framework.web.response.ErrorResponse;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link CompletionStage}({@link java.util.concurrent.CompletableFuture} 포함) 반환값을 비동기로 처리한다.
+ *
+ * <p>
+ * 반환 즉시 요청을 비동기 처리로 전환하므로 컨트롤러를 실행한 워커 스레드는 결과를 기다리지 않고 반납된다.
+ * 결과가 도착하면 그 값을 응답에 기록하고 {@link AsyncContext}를 완료하며, 이때 컨테이너가 응답을 전송한다.
+ * <ul>
+ *     <li>문자열 결과 - 그대로 본문에 기록</li>
+ *     <li>그 외 객체 - JSON으로 직렬화 ({@link JsonReturnValueHandler}와 동일)</li>
+ *     <li>{@link HttpException}으로 완료 - 해당 상태 코드의 오류 응답</li>
+ *     <li>그 외 예외로 완료 - {@link HttpStatus#INTERNAL_SERVER_ERROR}</li>
+ *     <li>제한 시간 초과 - {@link HttpStatus#SERVICE_UNAVAILABLE}, 결과가 {@link Future}면 취소를 요청한다.</li>
+ * </ul>
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/DeferredResultMethodReturnValueHandler.java">Spring DeferredResultMethodReturnValueHandler</a>
+ */
+public class CompletionStageReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    /** 비동기 요청 제한 시간 (밀리초), 0 이하면 제한 없음 */
+    private volatile long timeout;
+
+    public CompletionStageReturnValueHandler() {
+        this(AsyncContext.DEFAULT_TIMEOUT);
+    }
+
+    public CompletionStageReturnValueHandler(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, HttpRequest request, HttpResponse response) {
+        if(returnValue == null)
+            return;
+
+        CompletionStage<?> stage = (CompletionStage<?>) returnValue;
+        AsyncContext asyncContext = request.startAsync(response);
+        asyncContext.setTimeout(timeout);
+        asyncContext.setTimeoutHandler(() -> {
+            if(stage instanceof Future<?> future)
+                future.cancel(true);
+            writeError(request, response, new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "Async request timed out"));
+        });
+
+        stage.whenComplete((value, ex) -> asyncContext.complete(() -> {
+            if(ex != null)
+                writeError(request, response, unwrap(ex));
+            else
+                writeValue(response, value);
+        }));
+    }
+
+    private static void writeValue(HttpResponse response, Object value) {
+        if(value instanceof CharSequence text)
+            response.writeBody(text.toString());
+        else if(value != null)
+            response.writeJson(value);
+    }
+
+    private static void writeError(HttpRequest request, HttpResponse response, Throwable ex) {
+        HttpException httpException = ex instanceof HttpException e
+                ? e
+                : new HttpException(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+        response.setStatus(httpException.getStatus());
+        response.writeJson(ErrorResponse.from(httpException, request.getPath()));
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        while((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null)
+            ex = ex.getCause();
+        if(ex instanceof CancellationException)
+            return new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "Async request was cancelled");
+        return ex;
+    }
+}
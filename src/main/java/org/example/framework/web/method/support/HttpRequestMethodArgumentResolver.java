@@ -0,0 +1,22 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * {@link HttpRequest} 타입 파라미터에 현재 요청 객체를 그대로 전달한다.
+ */
+public class HttpRequestMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == HttpRequest.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) {
+        return request;
+    }
+}
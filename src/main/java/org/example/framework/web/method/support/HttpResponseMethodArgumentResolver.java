@@ -0,0 +1,22 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * {@link HttpResponse} 타입 파라미터에 현재 응답 객체를 그대로 전달한다.
+ */
+public class HttpResponseMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == HttpResponse.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) {
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.json.JsonMapper;
+import org.example.framework.web.method.HandlerMethodReturnValueHandler;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * 객체 반환값을 JSON으로 직렬화하여 응답 본문에 기록한다.
+ *
+ * <p>
+ * 레코드, POJO, {@link java.util.Map}, 컬렉션, 배열, {@link java.util.Optional}처럼
+ * JSON 객체나 배열로 표현되는 타입을 대상으로 한다.
+ * 숫자, 불리언, 문자, 열거형 같은 단일 값 타입은 응답 형식이 모호하므로 지원하지 않는다.
+ * </p>
+ *
+ * @see JsonMapper
+ */
+public class JsonReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        Class<?> type = returnType.getParameterType();
+
+        return !type.isPrimitive()
+                && !CharSequence.class.isAssignableFrom(type)
+                && !Number.class.isAssignableFrom(type)
+                && type != Boolean.class
+                && type != Character.class
+                && !type.isEnum();
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, HttpRequest request, HttpResponse response) {
+        if(returnValue != null)
+            response.writeJson(returnValue);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.MethodParameter;
+import org.example.framework.web.multipart.MultipartResolver;
+import org.example.framework.web.multipart.MultipartStream;
+
+/**
+ * {@link MultipartStream} 타입 파라미터에 요청 본문을 파트 단위로 읽는 스트림을 전달한다.
+ *
+ * <p>
+ * 파트를 임시 파일에 저장하지 않으므로 핸들러가 {@link MultipartStream.Part#transferTo(java.nio.channels.WritableByteChannel)}로
+ * 원하는 채널에 바로 기록할 수 있다. 스트림은 핸들러가 반환되기 전에 읽어야 한다.
+ * </p>
+ */
+public class MultipartStreamMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MultipartResolver multipartResolver;
+
+    public MultipartStreamMethodArgumentResolver(MultipartResolver multipartResolver) {
+        this.multipartResolver = multipartResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == MultipartStream.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, HttpRequest request, HttpResponse response) {
+        return multipartResolver.openStream(request);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.method.HandlerMethodReturnValueHandler;
+import org.example.framework.web.method.MethodParameter;
+import org.example.framework.web.sse.SseEmitter;
+
+/**
+ * {@link SseEmitter} 반환값을 처리한다.
+ *
+ * <p>
+ * {@code text/event-stream} 헤더를 설정하고 요청을 비동기 스트리밍 응답으로 전환한다.
+ * 컨테이너는 컨트롤러 반환 직후 헤더를 전송하고 워커 스레드를 반납하며,
+ * 이후 이벤트는 {@link SseEmitter}가 연결에 직접 기록한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/ResponseBodyEmitterReturnValueHandler.java">Spring ResponseBodyEmitterReturnValueHandler</a>
+ */
+public class SseEmitterReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    /** 제한 시간을 지정하지 않은 emitter에 적용할 값 (밀리초), 0 이하면 제한 없음 */
+    private volatile long timeout;
+
+    public SseEmitterReturnValueHandler() {
+        this(AsyncContext.DEFAULT_TIMEOUT);
+    }
+
+    public SseEmitterReturnValueHandler(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return SseEmitter.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, HttpRequest request, HttpResponse response) {
+        if(returnValue == null)
+            return;
+
+        response.getHeader().set("Content-Type", "text/event-stream; charset=UTF-8");
+        response.getHeader().set("Cache-Control", "no-cache");
+        // 중간 프록시(nginx)가 이벤트를 모아 두지 않도록 한다.
+        response.getHeader().set("X-Accel-Buffering", "no");
+
+        ((SseEmitter) returnValue).initialize(request.startAsync(response), timeout);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.web.method.HandlerMethodReturnValueHandler;
+import org.example.framework.web.method.MethodParameter;
+
+/**
+ * {@link String} 반환값을 응답 본문에 그대로 기록한다.
+ */
+public class StringReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return returnType.getParameterType() == String.class;
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, HttpRequest request, HttpResponse response) {
+        if(returnValue != null)
+            response.writeBody((String) returnValue);
+    }
+}
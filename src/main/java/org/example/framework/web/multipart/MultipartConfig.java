@@ -0,0 +1,47 @@
+package org.example.framework.web.multipart;
+
+import java.nio.file.Path;
+
+/**
+ * 멀티파트 업로드 처리 한도와 임시 파일 위치
+ *
+ * <p>
+ * 한도를 넘으면 본문을 끝까지 읽지 않고 {@code 413 Content Too Large}로 응답한다.
+ * 메모리에는 {@link #fileSizeThreshold()} 이하의 일반 필드만 올라가므로,
+ * 요청 하나가 쓰는 힙은 {@code fileSizeThreshold * maxParts}를 넘지 않는다.
+ * </p>
+ *
+ * @param location          임시 파일을 만들 디렉터리
+ * @param maxFileSize       파트 하나의 최대 크기 (바이트)
+ * @param maxRequestSize    요청 본문 전체의 최대 크기 (바이트)
+ * @param fileSizeThreshold 메모리에 보관할 일반 필드의 최대 크기 (바이트), 넘으면 임시 파일로 옮긴다
+ * @param maxParts          최대 파트 수
+ * @see <a href="https://jakarta.ee/specifications/servlet/6.0/apidocs/jakarta.servlet/jakarta/servlet/multipartconfigelement">Jakarta MultipartConfigElement</a>
+ */
+public record MultipartConfig(Path location, long maxFileSize, long maxRequestSize, int fileSizeThreshold, int maxParts) {
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 10L * 1024 * 1024;
+    public static final long DEFAULT_MAX_REQUEST_SIZE = 50L * 1024 * 1024;
+    public static final int DEFAULT_FILE_SIZE_THRESHOLD = 16 * 1024;
+    public static final int DEFAULT_MAX_PARTS = 100;
+
+    /**
+     * @throws IllegalStateException 한도가 0 이하이거나 서로 맞지 않는 경우
+     */
+    public MultipartConfig {
+        if(location == null)
+            throw new IllegalStateException("Multipart location must not be null");
+        if(maxFileSize <= 0 || maxRequestSize <= 0 || maxParts <= 0)
+            throw new IllegalStateException("Multipart limits must be positive");
+        if(fileSizeThreshold < 0 || fileSizeThreshold > maxFileSize)
+            throw new IllegalStateException("File size threshold must be between 0 and maxFileSize: " + fileSizeThreshold);
+    }
+
+    /**
+     * 시스템 임시 디렉터리와 기본 한도를 사용하는 설정
+     */
+    public static MultipartConfig defaults() {
+        return new MultipartConfig(Path.of(System.getProperty("java.io.tmpdir")),
+                DEFAULT_MAX_FILE_SIZE, DEFAULT_MAX_REQUEST_SIZE, DEFAULT_FILE_SIZE_THRESHOLD, DEFAULT_MAX_PARTS);
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.framework.web.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * 파싱이 끝난 멀티파트 파트 하나
+ *
+ * <p>
+ * 작은 일반 필드는 메모리에, 파일과 큰 필드는 임시 파일에 보관된다.
+ * 임시 파일은 요청 처리가 끝나면 삭제되므로, 보관하려면 {@link #transferTo(Path)}로 옮겨야 한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/multipart/MultipartFile.java">Spring MultipartFile</a>
+ */
+public final class MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+
+    /** 메모리에 있으면 데이터, 아니면 {@code null} */
+    private final byte[] data;
+
+    /** 임시 파일, 메모리에 있거나 이미 옮겼으면 {@code null} */
+    private Path file;
+
+    private MultipartFile(String name, String originalFilename, String contentType, long size, byte[] data, Path file) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.data = data;
+        this.file = file;
+    }
+
+    static MultipartFile inMemory(String name, String originalFilename, String contentType, byte[] data) {
+        return new MultipartFile(name, originalFilename, contentType, data.length, data, null);
+    }
+
+    static MultipartFile onDisk(String name, String originalFilename, String contentType, long size, Path file) {
+        return new MultipartFile(name, originalFilename, contentType, size, null, file);
+    }
+
+    /** 폼 필드 이름 */
+    public String getName() {
+        return name;
+    }
+
+    /** 클라이언트가 보낸 파일 이름, 일반 필드면 {@code null}. 경로로 사용하기 전에 검증해야 한다. */
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    /** 파트의 {@code Content-Type}, 없으면 {@code null} */
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isInMemory() {
+        return data != null;
+    }
+
+    /**
+     * 내용을 모두 읽어 반환한다. 임시 파일에 있으면 파일 크기만큼 메모리를 사용한다.
+     */
+    public byte[] getBytes() throws IOException {
+        return data != null ? data.clone() : Files.readAllBytes(requireFile());
+    }
+
+    public InputStream getInputStream() throws IOException {
+        return data != null ? new ByteArrayInputStream(data) : Files.newInputStream(requireFile());
+    }
+
+    /**
+     * 일반 필드의 값을 문자열로 반환한다. 파트의 {@code charset}이 없으면 UTF-8로 해석한다.
+     */
+    public String getValue() {
+        try {
+            return new String(getBytes(), charset());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 내용을 대상 경로로 옮긴다. 임시 파일에 있으면 복사 없이 이동한다.
+     *
+     * @param dest 대상 파일 (이미 있으면 덮어쓴다)
+     * @throws IllegalStateException 이미 옮겼거나 삭제된 경우
+     */
+    public void transferTo(Path dest) throws IOException {
+        if(data != null) {
+            Files.write(dest, data);
+            return;
+        }
+        Files.move(requireFile(), dest, StandardCopyOption.REPLACE_EXISTING);
+        file = null;
+    }
+
+    /**
+     * 남아 있는 임시 파일을 삭제한다.
+     */
+    void delete() throws IOException {
+        if(file != null) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+    }
+
+    private Path requireFile() {
+        if(file == null)
+            throw new IllegalStateException("Multipart file '" + name + "' has already been moved or deleted");
+        return file;
+    }
+
+    private Charset charset() {
+        if(contentType != null) {
+            int idx = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+            if(idx >= 0) {
+                String value = contentType.substring(idx + 8).split(";", 2)[0].trim().replace("\"", "");
+                try {
+                    return Charset.forName(value);
+                } catch (IllegalArgumentException ignored) {
+                    // 알 수 없는 charset은 기본값으로 해석한다.
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
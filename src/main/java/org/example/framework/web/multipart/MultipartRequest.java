@@ -0,0 +1,71 @@
+package org.example.framework.web.multipart;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 하나의 멀티파트 본문을 모두 파싱한 결과
+ *
+ * <p>
+ * 같은 이름의 파트는 도착 순서대로 보관된다.
+ * 요청 처리가 끝나면 {@link org.example.framework.web.DispatcherServlet}이 {@link #cleanup()}으로 임시 파일을 삭제한다.
+ * </p>
+ */
+public final class MultipartRequest {
+
+    private static final Logger log = LoggerFactory.getLogger(MultipartRequest.class);
+
+    private final Map<String, List<MultipartFile>> parts;
+
+    MultipartRequest(Map<String, List<MultipartFile>> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * @return 이름이 같은 첫 번째 파트, 없으면 {@code null}
+     */
+    public MultipartFile getFile(String name) {
+        List<MultipartFile> values = parts.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    /**
+     * @return 이름이 같은 모든 파트, 없으면 빈 목록
+     */
+    public List<MultipartFile> getFiles(String name) {
+        return Collections.unmodifiableList(parts.getOrDefault(name, List.of()));
+    }
+
+    /**
+     * @return 이름이 같은 첫 번째 파트의 문자열 값, 없으면 {@code null}
+     */
+    public String getParameter(String name) {
+        MultipartFile part = getFile(name);
+        return part == null ? null : part.getValue();
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(parts.keySet());
+    }
+
+    /**
+     * 옮겨지지 않은 임시 파일을 모두 삭제한다.
+     */
+    public void cleanup() {
+        for(List<MultipartFile> values : parts.values()) {
+            for(MultipartFile part : values) {
+                try {
+                    part.delete();
+                } catch (IOException e) {
+                    log.warn("[Multipart] Failed to delete temporary file for '{}'", part.getName(), e);
+                }
+            }
+        }
+    }
+}
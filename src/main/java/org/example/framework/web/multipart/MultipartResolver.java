@@ -0,0 +1,163 @@
+package org.example.framework.web.multipart;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code multipart/form-data} 요청을 {@link MultipartStream} 또는 {@link MultipartRequest}로 만든다.
+ *
+ * <p>
+ * {@link #resolve(HttpRequest)}는 본문을 한 번 읽어 모든 파트를 보관하고 결과를 요청 속성에 저장하므로,
+ * 한 핸들러에 {@link org.example.framework.annotation.RequestPart} 파라미터가 여러 개여도 본문은 한 번만 파싱된다.
+ * 파일 이름이 있는 파트와 {@link MultipartConfig#fileSizeThreshold()}를 넘는 필드는
+ * 임시 파일로 바로 흘려보내므로 힙 사용량이 업로드 크기에 비례하지 않는다.
+ * </p>
+ *
+ * <p>
+ * {@code Content-Length}가 {@link MultipartConfig#maxRequestSize()}를 넘으면 본문을 읽지 않고 바로
+ * {@code 413}으로 응답한다. 읽지 않은 본문은 컨테이너가 버리거나 연결을 닫는다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-web/src/main/java/org/springframework/web/multipart/support/StandardServletMultipartResolver.java">Spring StandardServletMultipartResolver</a>
+ */
+public class MultipartResolver {
+
+    /** 파싱한 {@link MultipartRequest}를 보관하는 요청 속성 */
+    public static final String MULTIPART_REQUEST_ATTRIBUTE = MultipartResolver.class.getName() + ".MULTIPART_REQUEST";
+
+    /** 본문을 이미 읽기 시작했음을 나타내는 요청 속성 */
+    private static final String CONSUMED_ATTRIBUTE = MultipartResolver.class.getName() + ".CONSUMED";
+
+    private volatile MultipartConfig config;
+
+    public MultipartResolver() {
+        this(MultipartConfig.defaults());
+    }
+
+    public MultipartResolver(MultipartConfig config) {
+        this.config = config;
+    }
+
+    public MultipartConfig getConfig() {
+        return config;
+    }
+
+    public void setConfig(MultipartConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * {@code Content-Type}이 {@code multipart/form-data}인지 확인한다.
+     */
+    public static boolean isMultipart(HttpRequest request) {
+        String contentType = request.getHeader().getFirst("Content-Type");
+        return contentType != null && contentType.regionMatches(true, 0, "multipart/form-data", 0, 19);
+    }
+
+    /**
+     * 본문을 파트 단위로 직접 읽는 스트림을 연다. 핸들러가 파트를 원하는 채널로 바로 보낼 때 사용한다.
+     *
+     * @throws HttpException 멀티파트 요청이 아니거나({@link HttpStatus#UNSUPPORTED_MEDIA_TYPE}),
+     *                       선언된 길이가 한도를 넘은 경우({@link HttpStatus#CONTENT_TOO_LARGE})
+     * @throws IllegalStateException 본문을 이미 읽은 경우
+     */
+    public MultipartStream openStream(HttpRequest request) {
+        if(!isMultipart(request))
+            throw new HttpException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Content-Type '" + request.getHeader().getFirst("Content-Type") + "' is not multipart/form-data");
+        if(request.getAttribute(CONSUMED_ATTRIBUTE) != null)
+            throw new IllegalStateException("Multipart body has already been consumed for " + request.getPath());
+
+        MultipartConfig config = this.config;
+        long length = request.getBody().getContentLengthLong();
+        if(length > config.maxRequestSize())
+            throw new HttpException(HttpStatus.CONTENT_TOO_LARGE,
+                    "Multipart request of " + length + " bytes exceeds " + config.maxRequestSize() + " bytes");
+
+        request.setAttribute(CONSUMED_ATTRIBUTE, Boolean.TRUE);
+        String boundary = boundary(request.getHeader().getFirst("Content-Type"));
+        return new MultipartStream(request.getBody().getInputStream(), boundary, config);
+    }
+
+    /**
+     * 본문의 모든 파트를 읽어 보관한다. 같은 요청에서 다시 호출하면 저장된 결과를 반환한다.
+     *
+     * @throws HttpException 형식이 잘못되었거나 한도를 넘은 경우
+     */
+    public MultipartRequest resolve(HttpRequest request) throws IOException {
+        Object resolved = request.getAttribute(MULTIPART_REQUEST_ATTRIBUTE);
+        if(resolved != null)
+            return (MultipartRequest) resolved;
+
+        MultipartStream stream = openStream(request);
+        MultipartConfig config = this.config;
+        Map<String, List<MultipartFile>> parts = new LinkedHashMap<>();
+        MultipartRequest result = new MultipartRequest(parts);
+
+        // 중간에 실패해도 이미 만든 임시 파일이 요청 종료 시 삭제되도록 먼저 등록한다.
+        request.setAttribute(MULTIPART_REQUEST_ATTRIBUTE, result);
+
+        MultipartStream.Part part;
+        while((part = stream.next()) != null) {
+            MultipartFile file = store(part, config);
+            parts.computeIfAbsent(part.getName(), k -> new ArrayList<>()).add(file);
+        }
+        return result;
+    }
+
+    /**
+     * 요청에서 만든 임시 파일을 삭제한다.
+     */
+    public static void cleanup(HttpRequest request) {
+        if(request.getAttribute(MULTIPART_REQUEST_ATTRIBUTE) instanceof MultipartRequest multipart)
+            multipart.cleanup();
+    }
+
+    /**
+     * 작은 일반 필드는 메모리에 두고, 나머지는 임계값까지 읽은 바이트부터 임시 파일로 이어 쓴다.
+     */
+    private static MultipartFile store(MultipartStream.Part part, MultipartConfig config) throws IOException {
+        InputStream in = part.getInputStream();
+        byte[] head = in.readNBytes(config.fileSizeThreshold() + 1);
+        if(!part.isFile() && head.length <= config.fileSizeThreshold())
+            return MultipartFile.inMemory(part.getName(), null, part.getContentType(), head);
+
+        Path file = Files.createTempFile(config.location(), "upload-", ".tmp");
+        try(OutputStream out = Files.newOutputStream(file)) {
+            out.write(head);
+            long size = head.length + in.transferTo(out);
+            return MultipartFile.onDisk(part.getName(), part.getFilename(), part.getContentType(), size, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * {@code Content-Type}에서 {@code boundary} 파라미터를 꺼낸다.
+     */
+    static String boundary(String contentType) {
+        for(String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if(trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                String value = trimmed.substring(9);
+                if(value.length() >= 2 && value.startsWith("\"") && value.endsWith("\""))
+                    value = value.substring(1, value.length() - 1);
+                return value;
+            }
+        }
+        throw new HttpException(HttpStatus.BAD_REQUEST, "Missing boundary in multipart Content-Type");
+    }
+}
@@ -0,0 +1,447 @@
+package org.example.framework.web.multipart;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpHeader;
+import org.example.framework.was.protocol.model.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code multipart/form-data} 본문을 앞에서부터 한 번만 읽으며 파트 단위로 나누는 파서
+ *
+ * <p>
+ * 고정 크기 버퍼 하나로 경계({@code CRLF--boundary})를 찾는다.
+ * 경계가 보이지 않으면 경계 길이 - 1 바이트만 남기고 나머지를 바로 파트 본문으로 내보내므로,
+ * 파트가 아무리 커도 사용하는 메모리는 {@link #BUFFER_SIZE}로 일정하다.
+ * 이미 검사한 위치는 다시 검사하지 않는다.
+ * </p>
+ *
+ * <p>
+ * {@link #next()}로 파트를 차례로 얻고, 각 파트의 {@link Part#getInputStream()}을 읽거나
+ * {@link Part#transferTo(WritableByteChannel)}로 핸들러가 준 채널에 바로 흘려보낸다.
+ * 다 읽지 않은 파트는 다음 {@link #next()}에서 버려진다.
+ * </p>
+ *
+ * <p>
+ * 다음 경우 {@link HttpException}이 발생한다.
+ * <ul>
+ *     <li>경계나 파트 헤더 형식이 잘못되었거나 본문이 중간에 끝난 경우 - {@link HttpStatus#BAD_REQUEST}</li>
+ *     <li>파트 크기, 파트 수, 전체 크기, 파트 헤더 크기가 한도를 넘은 경우 - {@link HttpStatus#CONTENT_TOO_LARGE}</li>
+ * </ul>
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7578">RFC 7578 multipart/form-data</a>
+ * @see <a href="https://github.com/apache/commons-fileupload/blob/master/commons-fileupload2-core/src/main/java/org/apache/commons/fileupload2/core/MultipartInput.java">Commons FileUpload MultipartInput</a>
+ */
+public class MultipartStream {
+
+    /** 읽기 버퍼 크기 (바이트) */
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    /** 파트 하나의 헤더 최대 크기 (바이트) */
+    static final int MAX_HEADER_SIZE = 8 * 1024;
+
+    /** RFC 2046 경계 최대 길이 */
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private final InputStream in;
+    private final MultipartConfig config;
+
+    /** {@code CRLF--boundary} */
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+
+    /** 이 위치 앞에서는 경계가 시작되지 않음이 확인되었다 */
+    private int scanned;
+
+    /** 입력에서 읽은 총 바이트 수 */
+    private long total;
+    private int parts;
+    private boolean finished;
+
+    /** 아직 끝까지 읽히지 않았을 수 있는 현재 파트 (처음에는 프리앰블) */
+    private PartInputStream current;
+
+    /**
+     * @param in       본문 스트림
+     * @param boundary {@code Content-Type}의 {@code boundary} 파라미터
+     * @param config   처리 한도
+     * @throws HttpException 경계가 비어 있거나 70자를 넘는 경우 ({@link HttpStatus#BAD_REQUEST})
+     */
+    public MultipartStream(InputStream in, String boundary, MultipartConfig config) {
+        if(boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH)
+            throw new HttpException(HttpStatus.BAD_REQUEST, "Invalid multipart boundary: " + boundary);
+
+        this.in = in;
+        this.config = config;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+
+        // 첫 경계 앞에는 CRLF가 없으므로 버퍼에 미리 넣어 두고 모든 경계를 같은 방식으로 찾는다.
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+        current = new PartInputStream(null, Long.MAX_VALUE);
+    }
+
+    /**
+     * 다음 파트로 이동한다. 이전 파트에서 읽지 않은 본문은 버린다.
+     *
+     * @return 다음 파트, 마지막 경계에 도달했으면 {@code null}
+     * @throws HttpException 형식이 잘못되었거나 한도를 넘은 경우
+     */
+    public Part next() throws IOException {
+        if(finished)
+            return null;
+
+        current.drain();
+        head += delimiter.length;
+
+        ensure(2);
+        if(buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        // 경계 뒤에 올 수 있는 공백(transport padding)을 건너뛴다.
+        while(true) {
+            ensure(1);
+            if(buffer[head] != ' ' && buffer[head] != '\t')
+                break;
+            head++;
+        }
+        ensure(2);
+        if(buffer[head] != '\r' || buffer[head + 1] != '\n')
+            throw new HttpException(HttpStatus.BAD_REQUEST, "Malformed multipart boundary line");
+        head += 2;
+
+        if(++parts > config.maxParts())
+            throw new HttpException(HttpStatus.CONTENT_TOO_LARGE, "Multipart request exceeds " + config.maxParts() + " parts");
+
+        Part part = new Part(readHeaders());
+        current = part.body;
+        return part;
+    }
+
+    /**
+     * 빈 줄이 나올 때까지 파트 헤더를 읽는다.
+     */
+    private HttpHeader readHeaders() throws IOException {
+        HttpHeader headers = new HttpHeader();
+        int size = 0;
+        while(true) {
+            int end = indexOfLineEnd();
+            int length = end - head;
+            size += length + 2;
+            if(size > MAX_HEADER_SIZE)
+                throw new HttpException(HttpStatus.CONTENT_TOO_LARGE, "Multipart part headers exceed " + MAX_HEADER_SIZE + " bytes");
+
+            String line = new String(buffer, head, length, StandardCharsets.UTF_8);
+            head = end + 2;
+            if(line.isEmpty())
+                return headers;
+
+            int colon = line.indexOf(':');
+            if(colon <= 0)
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Malformed multipart header: " + line);
+            headers.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+        }
+    }
+
+    private int indexOfLineEnd() throws IOException {
+        int from = head;
+        while(true) {
+            for(int i = from; i < tail - 1; i++) {
+                if(buffer[i] == '\r' && buffer[i + 1] == '\n')
+                    return i;
+            }
+            from = Math.max(head, tail - 1);
+            int before = head;
+            if(tail - head >= MAX_HEADER_SIZE)
+                throw new HttpException(HttpStatus.CONTENT_TOO_LARGE, "Multipart part headers exceed " + MAX_HEADER_SIZE + " bytes");
+            if(!fill())
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Unexpected end of multipart body in part headers");
+            from -= before - head;
+        }
+    }
+
+    /**
+     * 버퍼에 최소 {@code count} 바이트가 남아 있도록 채운다.
+     */
+    private void ensure(int count) throws IOException {
+        while(tail - head < count) {
+            if(!fill())
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Unexpected end of multipart body");
+        }
+    }
+
+    /**
+     * 남은 데이터를 버퍼 앞으로 옮기고 입력에서 더 읽는다.
+     *
+     * @return 입력이 끝났으면 {@code false}
+     */
+    private boolean fill() throws IOException {
+        if(head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            scanned = Math.max(0, scanned - head);
+            head = 0;
+        }
+
+        int n = in.read(buffer, tail, buffer.length - tail);
+        if(n < 0)
+            return false;
+
+        tail += n;
+        total += n;
+        if(total > config.maxRequestSize())
+            throw new HttpException(HttpStatus.CONTENT_TOO_LARGE, "Multipart request exceeds " + config.maxRequestSize() + " bytes");
+        return true;
+    }
+
+    /**
+     * 현재 버퍼에서 경계의 시작 위치를 찾는다. 이미 검사한 위치는 건너뛴다.
+     *
+     * @return 경계 시작 위치, 없으면 -1
+     */
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        byte first = delimiter[0];
+        for(int i = Math.max(head, scanned); i <= last; i++) {
+            if(buffer[i] != first)
+                continue;
+            int j = 1;
+            while(j < delimiter.length && buffer[i + j] == delimiter[j])
+                j++;
+            if(j == delimiter.length)
+                return i;
+        }
+        scanned = Math.max(head, last + 1);
+        return -1;
+    }
+
+    /**
+     * 다음 경계 직전까지만 읽는 파트 본문 스트림
+     */
+    private final class PartInputStream extends InputStream {
+
+        private final String name;
+        private final long limit;
+        private long size;
+        private boolean ended;
+
+        PartInputStream(String name, long limit) {
+            this.name = name;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if(ended)
+                return -1;
+            if(len == 0)
+                return 0;
+
+            while(true) {
+                int at = indexOfDelimiter();
+                if(at == head) {
+                    ended = true;
+                    return -1;
+                }
+
+                // 경계가 없으면 경계의 앞부분일 수 있는 끝 바이트는 남겨 둔다.
+                int available = at > 0 ? at - head : tail - head - (delimiter.length - 1);
+                if(available <= 0) {
+                    if(!fill())
+                        throw new HttpException(HttpStatus.BAD_REQUEST, "Unexpected end of multipart body");
+                    continue;
+                }
+
+                int n = Math.min(len, available);
+                System.arraycopy(buffer, head, b, off, n);
+                head += n;
+                size += n;
+                if(size > limit)
+                    throw new HttpException(HttpStatus.CONTENT_TOO_LARGE,
+                            "Multipart part '" + name + "' exceeds " + limit + " bytes");
+                return n;
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            byte[] scratch = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            while(skipped < n) {
+                int read = read(scratch, 0, (int) Math.min(n - skipped, scratch.length));
+                if(read < 0)
+                    break;
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        void drain() throws IOException {
+            while(!ended) {
+                int at = indexOfDelimiter();
+                if(at == head) {
+                    ended = true;
+                    return;
+                }
+                int available = at > 0 ? at - head : tail - head - (delimiter.length - 1);
+                if(available > 0) {
+                    head += available;
+                    size += available;
+                    if(size > limit)
+                        throw new HttpException(HttpStatus.CONTENT_TOO_LARGE,
+                                "Multipart part '" + name + "' exceeds " + limit + " bytes");
+                } else if(!fill()) {
+                    throw new HttpException(HttpStatus.BAD_REQUEST, "Unexpected end of multipart body");
+                }
+            }
+        }
+    }
+
+    /**
+     * 파트 하나의 헤더와 본문
+     *
+     * <p>
+     * 본문은 한 번만 읽을 수 있으며, {@link MultipartStream#next()}를 호출하면 더 이상 읽을 수 없다.
+     * </p>
+     */
+    public final class Part {
+
+        private final HttpHeader headers;
+        private final String name;
+        private final String filename;
+        private final PartInputStream body;
+
+        private Part(HttpHeader headers) {
+            String disposition = headers.getFirst("Content-Disposition");
+            if(disposition == null || !disposition.regionMatches(true, 0, "form-data", 0, 9))
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Missing Content-Disposition: form-data in multipart part");
+
+            this.headers = headers;
+            this.name = dispositionParameter(disposition, "name");
+            if(name == null)
+                throw new HttpException(HttpStatus.BAD_REQUEST, "Missing name in multipart Content-Disposition");
+
+            String encoded = dispositionParameter(disposition, "filename*");
+            this.filename = encoded != null ? decodeExtValue(encoded) : dispositionParameter(disposition, "filename");
+            this.body = new PartInputStream(name, config.maxFileSize());
+        }
+
+        /** 폼 필드 이름 */
+        public String getName() {
+            return name;
+        }
+
+        /** 업로드된 파일 이름, 일반 필드면 {@code null} */
+        public String getFilename() {
+            return filename;
+        }
+
+        /** 파일 파트인지 여부 */
+        public boolean isFile() {
+            return filename != null;
+        }
+
+        /** 파트의 {@code Content-Type}, 없으면 {@code null} */
+        public String getContentType() {
+            return headers.getFirst("Content-Type");
+        }
+
+        public HttpHeader getHeaders() {
+            return headers;
+        }
+
+        /**
+         * 파트 본문 스트림. 다음 경계에서 끝난다.
+         */
+        public InputStream getInputStream() {
+            return body;
+        }
+
+        /**
+         * 파트 본문을 중간 파일 없이 채널에 기록한다.
+         *
+         * @param target 핸들러가 준 채널 (파일, 소켓 등)
+         * @return 기록한 바이트 수
+         * @throws HttpException 파트가 최대 크기를 넘은 경우 ({@link HttpStatus#CONTENT_TOO_LARGE})
+         */
+        public long transferTo(WritableByteChannel target) throws IOException {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            ByteBuffer wrapper = ByteBuffer.wrap(chunk);
+            long written = 0;
+            int n;
+            while((n = body.read(chunk, 0, chunk.length)) > 0) {
+                wrapper.clear().limit(n);
+                while(wrapper.hasRemaining())
+                    target.write(wrapper);
+                written += n;
+            }
+            return written;
+        }
+    }
+
+    /**
+     * {@code Content-Disposition}에서 파라미터 값을 꺼낸다. 따옴표와 역슬래시 이스케이프를 해제한다.
+     */
+    static String dispositionParameter(String disposition, String parameter) {
+        int i = disposition.indexOf(';');
+        while(i >= 0 && i < disposition.length()) {
+            int start = i + 1;
+            int eq = disposition.indexOf('=', start);
+            if(eq < 0)
+                return null;
+
+            String key = disposition.substring(start, eq).trim();
+            int pos = eq + 1;
+            while(pos < disposition.length() && disposition.charAt(pos) == ' ')
+                pos++;
+
+            StringBuilder value = new StringBuilder();
+            if(pos < disposition.length() && disposition.charAt(pos) == '"') {
+                pos++;
+                while(pos < disposition.length() && disposition.charAt(pos) != '"') {
+                    char c = disposition.charAt(pos++);
+                    if(c == '\\' && pos < disposition.length())
+                        c = disposition.charAt(pos++);
+                    value.append(c);
+                }
+                pos = disposition.indexOf(';', pos);
+            } else {
+                int end = disposition.indexOf(';', pos);
+                value.append(disposition, pos, end < 0 ? disposition.length() : end);
+                pos = end;
+            }
+
+            if(key.equalsIgnoreCase(parameter))
+                return parameter.endsWith("*") ? value.toString() : value.toString().trim();
+            i = pos;
+        }
+        return null;
+    }
+
+    /**
+     * RFC 5987 {@code charset'lang'value} 형식의 값을 해석한다. UTF-8만 지원한다.
+     */
+    private static String decodeExtValue(String value) {
+        int first = value.indexOf('\'');
+        int second = first < 0 ? -1 : value.indexOf('\'', first + 1);
+        if(second < 0 || !value.substring(0, first).equalsIgnoreCase("UTF-8"))
+            throw new HttpException(HttpStatus.BAD_REQUEST, "Unsupported filename* encoding: " + value);
+        return URLDecoder.decode(value.substring(second + 1).replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+}
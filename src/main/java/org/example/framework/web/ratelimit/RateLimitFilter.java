@@ -0,0 +1,102 @@
+package org.example.framework.web.ratelimit;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+import org.example.framework.web.response.ErrorResponse;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 클라이언트별 토큰 버킷으로 요청 속도를 제한하는 필터이다.
+ *
+ * <p>
+ * 기본 클라이언트 키는 연결의 상대 IP 주소({@link java.net.InetAddress})이며, 문자열로 바꾸지 않고 그대로 키로 쓴다.
+ * 프록시 뒤에서 실행하거나 API 키 단위로 제한하려면 {@link #RateLimitFilter(TokenBucketTable, Function)}로 키를 바꾼다.
+ * 키를 정할 수 없는 요청({@code null})은 제한하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 토큰이 없으면 핸들러를 호출하지 않고 {@code 429 Too Many Requests}와
+ * 다음 토큰이 생길 때까지의 초({@code Retry-After})로 응답한다.
+ * 허용된 요청에는 버킷 조회와 CAS 한 번만 더해진다.
+ * </p>
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc6585#section-4">RFC 6585 4. 429 Too Many Requests</a>
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc9110#section-10.2.3">RFC 9110 10.2.3 Retry-After</a>
+ */
+public class RateLimitFilter implements Filter {
+
+    private final TokenBucketTable buckets;
+    private final Function<HttpRequest, Object> keyResolver;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * 연결의 상대 IP 주소별로 제한한다.
+     */
+    public RateLimitFilter(TokenBucketTable buckets) {
+        this(buckets, RateLimitFilter::remoteAddressKey);
+    }
+
+    /**
+     * @param keyResolver 요청에서 클라이언트 키를 꺼내는 함수, {@code null}을 반환하면 제한하지 않는다
+     */
+    public RateLimitFilter(TokenBucketTable buckets, Function<HttpRequest, Object> keyResolver) {
+        this.buckets = buckets;
+        this.keyResolver = keyResolver;
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        Object key = keyResolver.apply(request);
+        if(key == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = buckets.tryAcquire(key, System.nanoTime());
+        if(waitNanos == 0) {
+            allowed.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        throttled.increment();
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeader().set("Retry-After", Long.toString(retryAfter));
+        response.writeJson(new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.code(),
+                HttpStatus.TOO_MANY_REQUESTS.reason(),
+                "Rate limit exceeded",
+                request.getPath(),
+                System.currentTimeMillis()
+        ));
+    }
+
+    public TokenBucketTable getBuckets() {
+        return buckets;
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    /**
+     * {@code 429}로 거절한 요청 수
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    private static Object remoteAddressKey(HttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null ? null : remoteAddress.getAddress();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.framework.web.ratelimit;
+
+/**
+ * 클라이언트별 요청 속도 제한 설정
+ *
+ * <p>
+ * {@code ratePerSecond}가 0이면 제한하지 않는다. 기본값은 제한 없음이다.
+ * </p>
+ *
+ * @param ratePerSecond 클라이언트 하나가 초당 보낼 수 있는 요청 수, 0이면 제한하지 않는다
+ * @param burst         순간적으로 몰아서 보낼 수 있는 요청 수
+ * @param idleTimeout   이 시간 동안 요청이 없던 클라이언트의 버킷을 정리한다 (밀리초)
+ */
+public record RateLimitSettings(double ratePerSecond, int burst, long idleTimeout) {
+
+    public static final long DEFAULT_IDLE_TIMEOUT = 60_000;
+
+    private static final RateLimitSettings DISABLED = new RateLimitSettings(0, 1, DEFAULT_IDLE_TIMEOUT);
+
+    /**
+     * @throws IllegalStateException 속도가 음수이거나 burst, 유휴 시간이 0 이하인 경우
+     */
+    public RateLimitSettings {
+        if(ratePerSecond < 0 || burst <= 0 || idleTimeout <= 0)
+            throw new IllegalStateException("Invalid rate limit: rate=" + ratePerSecond + ", burst=" + burst + ", idle=" + idleTimeout);
+    }
+
+    public static RateLimitSettings disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return ratePerSecond > 0;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.framework.web.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클라이언트 키별 토큰 버킷을 보관하는 표이다.
+ *
+ * <p>
+ * 버킷 하나는 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 모두 채워지는 이론적 시각" {@code long} 하나만 가진다.
+ * 요청마다 그 값을 {@code max(tat, now) + 간격}으로 CAS 갱신하며, 갱신 결과가 {@code now + 간격 × burst}를 넘으면 거절한다.
+ * 초당 {@code rate}개씩 채워지고 최대 {@code burst}개까지 모이는 토큰 버킷과 같은 결과를 잠금 없이 얻는다.
+ * </p>
+ *
+ * <p>
+ * 키는 해시로 고른 stripe({@link ConcurrentHashMap})에 나눠 저장한다. 이미 있는 버킷의 조회는 잠금 없이 이루어진다.
+ * 오래 쓰이지 않은 버킷은 평균 {@link #SWEEP_INTERVAL}번의 요청마다 stripe 하나씩 돌아가며 정리하므로 별도 스레드가 필요 없다.
+ * 정리 여부는 스레드별 난수로 정하여 모든 요청이 공유 카운터 하나를 갱신하는 경합을 피한다.
+ * 마지막 요청 이후 유휴 시간이 지난 버킷은 이미 가득 찬 상태이므로, 정리와 동시에 도착한 요청이 새 버킷을 만들어도 결과는 같다.
+ * </p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Generic_cell_rate_algorithm">Generic cell rate algorithm</a>
+ */
+public class TokenBucketTable {
+
+    /** 평균 이 횟수의 요청마다 stripe 하나를 정리한다. */
+    static final int SWEEP_INTERVAL = 1024;
+
+    /**
+     * 클라이언트 하나의 버킷. 버킷이 가득 차는 이론적 시각(나노초)만 보관한다.
+     */
+    static final class Bucket {
+
+        private static final VarHandle TAT;
+
+        static {
+            try {
+                TAT = MethodHandles.lookup().findVarHandle(Bucket.class, "tat", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        @SuppressWarnings("unused")
+        private volatile long tat;
+
+        Bucket(long now) {
+            this.tat = now;
+        }
+    }
+
+    /**
+     * 키를 나눠 저장하는 맵 하나. 제네릭 배열을 만들 수 없으므로 배열 원소로 감싼다.
+     */
+    private static final class Stripe {
+        final ConcurrentHashMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+    }
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long idleNanos;
+    private final Stripe[] stripes;
+    private final int mask;
+    private final AtomicInteger sweepCursor = new AtomicInteger();
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst         최대로 모을 수 있는 토큰 수
+     * @param idleMillis    이 시간 동안 요청이 없던 버킷은 정리한다
+     * @throws IllegalStateException 값이 양수가 아닌 경우
+     */
+    public TokenBucketTable(double ratePerSecond, int burst, long idleMillis) {
+        this(ratePerSecond, burst, idleMillis, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    TokenBucketTable(double ratePerSecond, int burst, long idleMillis, int concurrency) {
+        if(ratePerSecond <= 0 || burst <= 0 || idleMillis <= 0)
+            throw new IllegalStateException("Invalid rate limit: rate=" + ratePerSecond + ", burst=" + burst + ", idle=" + idleMillis);
+
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstNanos = intervalNanos * burst;
+        // 유휴 시간이 버킷을 가득 채우는 시간보다 짧으면 덜 찬 버킷을 지워 한도가 느슨해진다.
+        this.idleNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleMillis), burstNanos);
+
+        int size = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for(int i = 0; i < size; i++)
+            stripes[i] = new Stripe();
+        this.mask = size - 1;
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 꺼낸다.
+     *
+     * @param key 클라이언트 키
+     * @param now 현재 시각 ({@link System#nanoTime()})
+     * @return 허용되면 {@code 0}, 거절되면 다음 토큰이 생길 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(Object key, long now) {
+        if(ThreadLocalRandom.current().nextInt(SWEEP_INTERVAL) == 0)
+            sweep(now);
+
+        ConcurrentHashMap<Object, Bucket> stripe = stripeOf(key);
+        Bucket bucket = stripe.get(key);
+        if(bucket == null)
+            bucket = stripe.computeIfAbsent(key, k -> new Bucket(now));
+
+        while(true) {
+            long tat = (long) Bucket.TAT.getVolatile(bucket);
+            long next = Math.max(tat, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+            if(excess > 0)
+                return excess;
+            if(Bucket.TAT.compareAndSet(bucket, tat, next))
+                return 0;
+        }
+    }
+
+    /**
+     * stripe 하나에서 유휴 시간이 지난 버킷을 정리한다.
+     */
+    void sweep(long now) {
+        stripes[sweepCursor.getAndIncrement() & mask].buckets.values().removeIf(bucket -> now - (long) Bucket.TAT.getVolatile(bucket) > idleNanos);
+    }
+
+    /**
+     * 보관 중인 버킷 수
+     */
+    public int size() {
+        int size = 0;
+        for(Stripe stripe : stripes)
+            size += stripe.buckets.size();
+        return size;
+    }
+
+    private ConcurrentHashMap<Object, Bucket> stripeOf(Object key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask].buckets;
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.framework.web.resource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL 패턴 하나에 대한 정적 리소스 위치와 캐시 정책을 표현하는 등록 정보이다.
+ *
+ * <p>
+ * 리소스 위치는 파일 시스템 경로 또는 {@code classpath:} 접두사로 지정한다.
+ * 미리 압축된 형제 파일({@code .gz}, {@code .br})을 확인해야 하므로 클래스패스 위치는 디렉터리처럼 탐색할 수 있어야 하며,
+ * JAR 안의 위치는 zip 파일 시스템으로 열어 같은 방식으로 찾는다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/config/annotation/ResourceHandlerRegistration.java">Spring ResourceHandlerRegistration</a>
+ */
+public class ResourceHandlerRegistration {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final List<String> pathPatterns;
+    private final List<String> locations = new ArrayList<>();
+    private int cachePeriod = -1;
+    private boolean compressedVariants = true;
+
+    ResourceHandlerRegistration(String... pathPatterns) {
+        for(String pattern : pathPatterns) {
+            if(!pattern.endsWith("/**"))
+                throw new IllegalStateException("Resource handler pattern must end with '/**': " + pattern);
+        }
+        this.pathPatterns = Arrays.asList(pathPatterns);
+    }
+
+    /**
+     * 리소스를 찾을 위치를 추가한다. 앞에 추가한 위치부터 찾는다.
+     *
+     * @param locations 디렉터리 경로 또는 {@code classpath:static/} 형식의 위치
+     */
+    public ResourceHandlerRegistration addResourceLocations(String... locations) {
+        this.locations.addAll(Arrays.asList(locations));
+        return this;
+    }
+
+    /**
+     * 버전이 붙지 않은 리소스의 {@code Cache-Control: max-age}를 설정한다.
+     * 파일 이름에 콘텐츠 해시가 있는 리소스는 이 값과 관계없이 1년 동안 캐시된다.
+     *
+     * @param seconds 캐시 기간(초), 0이면 {@code no-cache}, 음수면 헤더를 보내지 않는다.
+     */
+    public ResourceHandlerRegistration setCachePeriod(int seconds) {
+        this.cachePeriod = seconds;
+        return this;
+    }
+
+    /**
+     * 형제 파일이 없을 때 압축 변형을 처음 요청 시 만들어 캐시할지 설정한다. (기본 {@code true})
+     */
+    public ResourceHandlerRegistration setCompressedVariants(boolean compressedVariants) {
+        this.compressedVariants = compressedVariants;
+        return this;
+    }
+
+    List<String> getPathPatterns() {
+        return pathPatterns;
+    }
+
+    ResourceHttpRequestHandler toHandler() {
+        if(locations.isEmpty())
+            throw new IllegalStateException("No resource locations for " + pathPatterns);
+
+        List<Path> roots = new ArrayList<>();
+        for(String location : locations) {
+            Path root = resolve(location);
+            if(root != null)
+                roots.add(root);
+        }
+        return new ResourceHttpRequestHandler(pathPatterns.getFirst(), roots, cachePeriod, compressedVariants);
+    }
+
+    /**
+     * 위치 문자열을 디렉터리 경로로 변환한다.
+     *
+     * @return 디렉터리 경로, 클래스패스에 없는 위치면 {@code null}
+     * @throws IllegalStateException 디렉터리로 탐색할 수 없는 위치인 경우
+     */
+    private static Path resolve(String location) {
+        if(!location.startsWith(CLASSPATH_PREFIX))
+            return Path.of(location).toAbsolutePath().normalize();
+
+        String name = location.substring(CLASSPATH_PREFIX.length());
+        URL url = Thread.currentThread().getContextClassLoader().getResource(name);
+        if(url == null)
+            return null;
+
+        try {
+            URI uri = url.toURI();
+            if("jar".equals(url.getProtocol()))
+                openJarFileSystem(uri);
+            else if(!"file".equals(url.getProtocol()))
+                throw new IllegalStateException("Unsupported resource location: " + location + " (" + url + ")");
+
+            Path root = Path.of(uri).normalize();
+            if(!Files.isDirectory(root))
+                throw new IllegalStateException("Resource location is not a directory: " + location);
+            return root;
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid resource location: " + location, e);
+        }
+    }
+
+    /**
+     * JAR 내부 위치를 {@link Path}로 다룰 수 있도록 zip 파일 시스템을 연다.
+     * 파일 시스템은 리소스 핸들러가 서버 수명 동안 사용하므로 닫지 않으며, 같은 JAR는 이미 열린 것을 쓴다.
+     */
+    private static void openJarFileSystem(URI uri) {
+        try {
+            FileSystems.newFileSystem(uri, Map.of());
+        } catch (FileSystemAlreadyExistsException ignored) {
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open resource location: " + uri, e);
+        }
+    }
+}
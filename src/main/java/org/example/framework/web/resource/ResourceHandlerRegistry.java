@@ -0,0 +1,62 @@
+package org.example.framework.web.resource;
+
+import org.example.framework.web.HttpRequestHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정적 리소스 핸들러 등록을 수집하는 레지스트리이다.
+ *
+ * <p>
+ * {@link org.example.framework.web.config.WebMvcConfigurer#addResourceHandlers(ResourceHandlerRegistry)}에서
+ * URL 패턴과 리소스 위치를 등록하며, 초기화 이후에는 읽기 전용으로 사용된다.
+ * </p>
+ *
+ * <pre>
+ * registry.addResourceHandler("/static/**")
+ *         .addResourceLocations("classpath:static/")
+ *         .setCachePeriod(3600);
+ * </pre>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/config/annotation/ResourceHandlerRegistry.java">Spring ResourceHandlerRegistry</a>
+ */
+public class ResourceHandlerRegistry {
+
+    private final List<ResourceHandlerRegistration> registrations = new ArrayList<>();
+
+    /**
+     * 정적 리소스를 제공할 URL 패턴을 등록한다. 패턴은 {@code /**}로 끝나야 한다.
+     *
+     * @param pathPatterns URL 패턴 (예: {@code /static/**})
+     * @return 리소스 위치와 캐시 정책을 설정할 등록 정보
+     */
+    public ResourceHandlerRegistration addResourceHandler(String... pathPatterns) {
+        ResourceHandlerRegistration registration = new ResourceHandlerRegistration(pathPatterns);
+        registrations.add(registration);
+        return registration;
+    }
+
+    public boolean isEmpty() {
+        return registrations.isEmpty();
+    }
+
+    /**
+     * 등록된 URL 패턴별 리소스 핸들러를 등록 순서대로 반환한다.
+     *
+     * @throws IllegalStateException 패턴이 중복되었거나 리소스 위치가 없는 경우
+     */
+    public Map<String, HttpRequestHandler> getHandlerMappings() {
+        Map<String, HttpRequestHandler> mappings = new LinkedHashMap<>();
+        for(ResourceHandlerRegistration registration : registrations) {
+            ResourceHttpRequestHandler handler = registration.toHandler();
+            for(String pattern : registration.getPathPatterns()) {
+                if(mappings.put(pattern, handler) != null)
+                    throw new IllegalStateException("Duplicate resource handler pattern: " + pattern);
+            }
+        }
+        return mappings;
+    }
+}
@@ -0,0 +1,321 @@
+package org.example.framework.web.resource;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.util.ContentCodingUtils;
+import org.example.framework.util.UriUtils;
+import org.example.framework.was.protocol.model.FileBody;
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.utils.HttpDateUtil;
+import org.example.framework.web.HttpRequestHandler;
+import org.example.framework.web.mapping.route.RoutePattern;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 등록된 위치에서 정적 리소스를 찾아 응답하는 Handler이다.
+ *
+ * <p>
+ * 압축 변형 선택 ({@code Accept-Encoding}의 q 값 순서, 같으면 br 우선)
+ * <ol>
+ *     <li>형제 파일 {@code 파일.br}, {@code 파일.gz}가 원본보다 새로우면 그대로 보낸다.</li>
+ *     <li>gzip 형제 파일이 없으면 처음 요청될 때 최고 압축 수준으로 만들어 메모리에 캐시한다.
+ *         원본이 바뀌면 (수정 시각, 크기) 다시 만든다.</li>
+ *     <li>맞는 변형이 없으면 원본을 보낸다.</li>
+ * </ol>
+ * 압축 가능한 형식이거나 형제 파일이 있으면 {@code Vary: Accept-Encoding}을 붙인다.
+ * 이렇게 하면 압축은 요청마다가 아니라 리소스마다 한 번만 일어난다.
+ * </p>
+ *
+ * <p>
+ * 파일 이름에 콘텐츠 해시가 있는 리소스(예: {@code app-3f2a9c1e.js}, {@code app.3f2a9c1e.js})는
+ * 내용이 바뀌면 URL도 바뀌므로 {@code Cache-Control: public, max-age=31536000, immutable}로 응답한다.
+ * </p>
+ *
+ * <p>
+ * 파일에서 읽는 변형은 {@link FileBody}로 보내 메모리에 올리지 않으며, Range 요청은 요청된 구간만 읽는다.
+ * 수정 시각과 크기로 만든 강한 ETag와 Last-Modified를 붙이므로 조건부 요청에 본문 해시가 필요 없다.
+ * </p>
+ *
+ * <p>
+ * 요청 경로는 디코딩 후 {@code ..}, 역슬래시, NUL을 거부하고, 정규화한 경로가 리소스 위치 밖이면 404로 응답한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/resource/ResourceHttpRequestHandler.java">Spring ResourceHttpRequestHandler</a>
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/resource/EncodedResourceResolver.java">Spring EncodedResourceResolver</a>
+ */
+public class ResourceHttpRequestHandler implements HttpRequestHandler {
+
+    /** 1년 (초) */
+    static final int VERSIONED_MAX_AGE = 31_536_000;
+
+    /** 이보다 작은 파일은 압축 변형을 만들지 않는다. */
+    static final int MIN_COMPRESS_SIZE = 1024;
+
+    /** 이보다 큰 파일의 압축 변형은 메모리에 캐시하지 않는다. */
+    static final int MAX_CACHED_SIZE = 4 * 1024 * 1024;
+
+    private static final Pattern VERSIONED = Pattern.compile(".+[-.][0-9a-fA-F]{8,64}\\.[A-Za-z0-9]+$");
+
+    private static final Map<String, String> MEDIA_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html"),
+            Map.entry("htm", "text/html"),
+            Map.entry("css", "text/css"),
+            Map.entry("js", "application/javascript"),
+            Map.entry("mjs", "application/javascript"),
+            Map.entry("json", "application/json"),
+            Map.entry("map", "application/json"),
+            Map.entry("txt", "text/plain"),
+            Map.entry("xml", "application/xml"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("wasm", "application/wasm"),
+            Map.entry("pdf", "application/pdf")
+    );
+
+    private final RoutePattern pattern;
+    private final int pathIndex;
+    private final List<Path> locations;
+    private final int cachePeriod;
+    private final boolean compressedVariants;
+
+    /** 원본 경로별로 만들어 둔 gzip 변형 */
+    private final Map<Path, GeneratedVariant> generated = new ConcurrentHashMap<>();
+
+    /**
+     * @param pattern            {@code /**}로 끝나는 URL 패턴
+     * @param locations          리소스를 찾을 디렉터리 (앞에서부터 찾는다)
+     * @param cachePeriod        버전 없는 리소스의 캐시 기간(초), 음수면 헤더 없음
+     * @param compressedVariants gzip 형제 파일이 없을 때 압축 변형을 만들지 여부
+     */
+    public ResourceHttpRequestHandler(String pattern, List<Path> locations, int cachePeriod, boolean compressedVariants) {
+        this.pattern = RoutePattern.parse(pattern);
+        this.pathIndex = this.pattern.indexOf(RoutePattern.CATCH_ALL);
+        this.locations = List.copyOf(locations);
+        this.cachePeriod = cachePeriod;
+        this.compressedVariants = compressedVariants;
+    }
+
+    @Override
+    public void handleRequest(HttpRequest request, HttpResponse response) throws Exception {
+        Path file = resolve(request.getPath());
+        if(file == null)
+            throw new HttpException(HttpStatus.NOT_FOUND, "No static resource " + request.getPath());
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        String contentType = contentType(file);
+        List<String> acceptEncoding = request.getHeader().get("Accept-Encoding");
+
+        Encoded encoded = selectVariant(file, attributes, contentType, acceptEncoding);
+        if(encoded.varies())
+            response.getHeader().put("Vary", "Accept-Encoding");
+        if(encoded.coding() != null)
+            response.getHeader().set("Content-Encoding", encoded.coding());
+
+        response.getHeader().set("Content-Type", contentType);
+        response.getHeader().set("Last-Modified", HttpDateUtil.format(attributes.lastModifiedTime().toMillis()));
+        applyCacheControl(file, response);
+
+        HttpBody body = encoded.data() != null
+                ? HttpBody.wrap(encoded.data(), encoded.data().length)
+                : FileBody.of(encoded.file());
+        response.getHeader().set("ETag", etag(attributes, encoded.coding(), body.getContentLengthLong()));
+        response.setBody(body);
+    }
+
+    /**
+     * 원본의 수정 시각과 변형의 크기, 인코딩으로 강한 ETag를 만든다.
+     * 본문을 해시하지 않아도 되고, 변형마다 값이 달라 {@code If-Range}에 쓸 수 있다.
+     */
+    static String etag(BasicFileAttributes attributes, String coding, long length) {
+        String tag = Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(length);
+        return "\"" + (coding != null ? tag + "-" + coding : tag) + "\"";
+    }
+
+    /**
+     * 요청 경로에서 리소스 파일을 찾는다.
+     *
+     * @return 읽을 수 있는 일반 파일, 없거나 허용되지 않는 경로면 {@code null}
+     */
+    Path resolve(String requestPath) {
+        int start = pattern.variableStart(requestPath, pathIndex);
+        int end = pattern.variableEnd(requestPath, pathIndex);
+        if(start >= end)
+            return null;
+
+        String relative;
+        try {
+            relative = UriUtils.decode(requestPath, start, end, false);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if(!isSafe(relative))
+            return null;
+
+        for(Path location : locations) {
+            Path file = location.resolve(relative).normalize();
+            if(file.startsWith(location) && Files.isRegularFile(file) && Files.isReadable(file))
+                return file;
+        }
+        return null;
+    }
+
+    private static boolean isSafe(String relative) {
+        if(relative.startsWith("/") || relative.indexOf('\\') >= 0 || relative.indexOf('\0') >= 0)
+            return false;
+        for(String segment : relative.split("/")) {
+            if(segment.equals(".."))
+                return false;
+        }
+        return true;
+    }
+
+    private Encoded selectVariant(Path file, BasicFileAttributes attributes, String contentType,
+                                  List<String> acceptEncoding) throws IOException {
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Path br = sibling(file, ".br", lastModified);
+        Path gz = sibling(file, ".gz", lastModified);
+
+        boolean compressible = ContentCodingUtils.isCompressible(contentType);
+        boolean varies = br != null || gz != null || compressible;
+
+        double brQuality = br != null ? ContentCodingUtils.quality(acceptEncoding, "br") : 0;
+        double gzipQuality = ContentCodingUtils.quality(acceptEncoding, "gzip");
+
+        if(brQuality > 0 && brQuality >= gzipQuality)
+            return new Encoded(br, null, "br", true);
+
+        if(gzipQuality > 0) {
+            if(gz != null)
+                return new Encoded(gz, null, "gzip", true);
+
+            if(compressedVariants && compressible
+                    && attributes.size() >= MIN_COMPRESS_SIZE && attributes.size() <= MAX_CACHED_SIZE) {
+                byte[] data = generatedGzip(file, attributes);
+                if(data != null)
+                    return new Encoded(file, data, "gzip", true);
+            }
+        }
+
+        if(brQuality > 0)
+            return new Encoded(br, null, "br", true);
+        return new Encoded(file, null, null, varies);
+    }
+
+    /**
+     * 원본보다 늦게 수정된 형제 파일을 찾는다. 원본이 더 새로우면 낡은 변형으로 보고 무시한다.
+     */
+    private static Path sibling(Path file, String suffix, long lastModified) throws IOException {
+        Path sibling = file.resolveSibling(file.getFileName() + suffix);
+        if(!Files.isRegularFile(sibling) || Files.getLastModifiedTime(sibling).toMillis() < lastModified)
+            return null;
+        return sibling;
+    }
+
+    /**
+     * 캐시된 gzip 변형을 반환한다. 없거나 원본이 바뀌었으면 한 번만 만든다.
+     *
+     * @return 압축 결과, 압축해도 작아지지 않는 파일이면 {@code null}
+     */
+    private byte[] generatedGzip(Path file, BasicFileAttributes attributes) throws IOException {
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        GeneratedVariant cached = generated.get(file);
+        if(cached != null && cached.matches(lastModified, size))
+            return cached.data();
+
+        try {
+            // 같은 파일을 동시에 요청해도 압축은 한 번만 수행한다.
+            return generated.compute(file, (key, current) -> {
+                if(current != null && current.matches(lastModified, size))
+                    return current;
+                return new GeneratedVariant(lastModified, size, gzip(key, size));
+            }).data();
+        } catch (IllegalStateException e) {
+            if(e.getCause() instanceof IOException io)
+                throw io;
+            throw e;
+        }
+    }
+
+    private static byte[] gzip(Path file, long size) {
+        try {
+            byte[] original = Files.readAllBytes(file);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) (size / 4) + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+                gzip.write(original);
+            }
+            return out.size() < original.length ? out.toByteArray() : null;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress " + file, e);
+        }
+    }
+
+    private void applyCacheControl(Path file, HttpResponse response) {
+        if(isVersioned(file.getFileName().toString()))
+            response.getHeader().set("Cache-Control", "public, max-age=" + VERSIONED_MAX_AGE + ", immutable");
+        else if(cachePeriod > 0)
+            response.getHeader().set("Cache-Control", "max-age=" + cachePeriod);
+        else if(cachePeriod == 0)
+            response.getHeader().set("Cache-Control", "no-cache");
+    }
+
+    /**
+     * 파일 이름에 8~64자리 16진수 콘텐츠 해시가 있는지 확인한다.
+     */
+    static boolean isVersioned(String fileName) {
+        return VERSIONED.matcher(fileName).matches();
+    }
+
+    static String contentType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String mediaType = dot < 0 ? null : MEDIA_TYPES.get(name.substring(dot + 1).toLowerCase());
+        if(mediaType == null)
+            return "application/octet-stream";
+        return mediaType.startsWith("text/") || mediaType.equals("application/javascript") || mediaType.equals("application/json")
+                ? mediaType + "; charset=UTF-8"
+                : mediaType;
+    }
+
+    /**
+     * 선택된 변형
+     *
+     * @param file   보낼 파일 (생성된 변형이면 원본)
+     * @param data   메모리에 캐시된 본문, 파일에서 읽으면 {@code null}
+     * @param coding Content-Encoding 값, 원본이면 {@code null}
+     * @param varies {@code Vary: Accept-Encoding}이 필요한지 여부
+     */
+    private record Encoded(Path file, byte[] data, String coding, boolean varies) {}
+
+    /**
+     * 원본의 수정 시각과 크기를 기준으로 만들어 둔 압축 변형
+     *
+     * @param data 압축 결과, 압축 효과가 없으면 {@code null}
+     */
+    private record GeneratedVariant(long lastModified, long size, byte[] data) {
+        boolean matches(long lastModified, long size) {
+            return this.lastModified == lastModified && this.size == size;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.framework.web.schedule;
+
+/**
+ * 요청 실행 순서를 정하는 우선순위 등급
+ *
+ * <p>
+ * 대기 중인 요청이 있으면 {@link PriorityRequestScheduler}는 비어 있지 않은 등급끼리 가중치 비율로 실행 자리를 나눈다.
+ * 높은 등급이 더 자주 선택되지만 낮은 등급도 가중치만큼은 반드시 선택되므로 굶지 않는다.
+ * </p>
+ */
+public enum PriorityClass {
+
+    /** 로드밸런서 상태 확인처럼 늦어지면 노드가 제외되는 요청 */
+    CRITICAL(8),
+
+    /** 지연 시간에 민감한 사용자 요청 */
+    HIGH(4),
+
+    /** 기본 등급 */
+    NORMAL(2),
+
+    /** 대량 처리처럼 늦어져도 되는 요청 */
+    LOW(1);
+
+    private final int weight;
+
+    PriorityClass(int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    /**
+     * 헤더 값을 등급으로 변환한다. 대소문자를 구분하지 않는다.
+     *
+     * @return 등급, 알 수 없는 값이면 {@code null}
+     */
+    public static PriorityClass parse(String value) {
+        if(value == null)
+            return null;
+        for(PriorityClass priority : values())
+            if(priority.name().equalsIgnoreCase(value.trim()))
+                return priority;
+        return null;
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.framework.web.schedule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정해진 수의 실행 자리를 우선순위 등급별 대기열로 나눠 주는 스케줄러이다.
+ *
+ * <p>
+ * 자리가 남아 있고 기다리는 요청이 없으면 바로 실행한다.
+ * 자리가 없으면 등급별 FIFO 대기열에서 기다리며, 자리가 반납될 때마다
+ * 비어 있지 않은 등급 중 하나를 가중치 기반 smooth weighted round-robin으로 골라 맨 앞 요청에 자리를 넘긴다.
+ * 예를 들어 모든 등급이 대기 중이면 {@code 8:4:2:1} 비율로 선택되므로,
+ * 높은 등급은 대량 요청 뒤에서 기다리지 않고 낮은 등급도 최소 비율만큼은 실행된다.
+ * </p>
+ *
+ * <p>
+ * 대기는 {@link ReentrantLock}의 {@link Condition}으로 하므로 가상 스레드에서 기다려도 캐리어 스레드를 붙잡지 않는다.
+ * 최대 대기 시간을 넘긴 요청은 대기열에서 빠지고 거절된다.
+ * </p>
+ *
+ * @see <a href="https://github.com/phusion/nginx/commit/27e94984486058d73157038f7950a0a36ecc6e35">nginx smooth weighted round-robin</a>
+ */
+public class PriorityRequestScheduler {
+
+    private static final PriorityClass[] CLASSES = PriorityClass.values();
+
+    private static final class Waiter {
+        final PriorityClass priority;
+        final Condition condition;
+        boolean granted;
+
+        Waiter(PriorityClass priority, Condition condition) {
+            this.priority = priority;
+            this.condition = condition;
+        }
+    }
+
+    private final int permits;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<ArrayDeque<Waiter>> queues;
+    private final int[] currentWeights = new int[CLASSES.length];
+    private final LongAdder[] granted = new LongAdder[CLASSES.length];
+    private final LongAdder timeouts = new LongAdder();
+
+    private int available;
+    private int waiting;
+
+    /**
+     * @param permits       동시에 실행할 요청 수
+     * @param maxWaitMillis 실행 자리를 기다리는 최대 시간 (밀리초)
+     * @throws IllegalStateException 값이 양수가 아닌 경우
+     */
+    public PriorityRequestScheduler(int permits, long maxWaitMillis) {
+        if(permits <= 0 || maxWaitMillis <= 0)
+            throw new IllegalStateException("Invalid scheduler settings: permits=" + permits + ", maxWait=" + maxWaitMillis);
+        this.permits = permits;
+        this.available = permits;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.queues = new ArrayList<>(CLASSES.length);
+        for(int i = 0; i < CLASSES.length; i++) {
+            queues.add(new ArrayDeque<>());
+            granted[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 실행 자리를 얻을 때까지 기다린다.
+     *
+     * @return 자리를 얻었으면 {@code true}, 최대 대기 시간을 넘겼으면 {@code false}
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public boolean acquire(PriorityClass priority) throws InterruptedException {
+        lock.lock();
+        try {
+            if(available > 0 && waiting == 0) {
+                available--;
+                granted[priority.ordinal()].increment();
+                return true;
+            }
+
+            Waiter waiter = new Waiter(priority, lock.newCondition());
+            queues.get(priority.ordinal()).addLast(waiter);
+            waiting++;
+
+            long remaining = maxWaitNanos;
+            try {
+                while(!waiter.granted && remaining > 0)
+                    remaining = waiter.condition.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                if(waiter.granted)
+                    handOff();
+                else
+                    dequeue(waiter);
+                throw e;
+            }
+
+            if(waiter.granted)
+                return true;
+            dequeue(waiter);
+            timeouts.increment();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 자리를 반납하고, 기다리는 요청이 있으면 다음 요청에 넘긴다.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            handOff();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 잠금을 가진 상태에서 호출한다. */
+    private void handOff() {
+        Waiter next = pollNext();
+        if(next == null) {
+            available++;
+            return;
+        }
+        next.granted = true;
+        granted[next.priority.ordinal()].increment();
+        next.condition.signal();
+    }
+
+    /**
+     * 비어 있지 않은 등급 중 누적 가중치가 가장 큰 등급을 고르고, 고른 등급의 누적값에서 전체 가중치를 뺀다.
+     */
+    private Waiter pollNext() {
+        if(waiting == 0)
+            return null;
+
+        int total = 0;
+        int best = -1;
+        for(int i = 0; i < CLASSES.length; i++) {
+            if(queues.get(i).isEmpty())
+                continue;
+            currentWeights[i] += CLASSES[i].weight();
+            total += CLASSES[i].weight();
+            if(best < 0 || currentWeights[i] > currentWeights[best])
+                best = i;
+        }
+        currentWeights[best] -= total;
+        waiting--;
+        return queues.get(best).pollFirst();
+    }
+
+    private void dequeue(Waiter waiter) {
+        if(queues.get(waiter.priority.ordinal()).remove(waiter))
+            waiting--;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public int getAvailablePermits() {
+        lock.lock();
+        try {
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등급별 대기 중인 요청 수
+     */
+    public int getQueueLength(PriorityClass priority) {
+        lock.lock();
+        try {
+            return queues.get(priority.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등급별로 실행 자리를 얻은 누적 요청 수
+     */
+    public long getGrantedCount(PriorityClass priority) {
+        return granted[priority.ordinal()].sum();
+    }
+
+    /**
+     * 최대 대기 시간을 넘겨 거절된 요청 수
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.framework.web.schedule;
+
+import org.example.framework.annotation.RequestPriority;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.interceptor.HandlerInterceptor;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 요청을 우선순위 등급별로 {@link PriorityRequestScheduler}에 줄 세우는 인터셉터이다.
+ *
+ * <p>
+ * 등급은 라우트의 {@link RequestPriority}, 요청 헤더, 기본 등급 순으로 정한다.
+ * 요청 헤더는 클라이언트가 마음대로 보낼 수 있으므로 기본으로는 보지 않으며,
+ * 헤더 이름과 함께 신뢰할 요청을 고르는 조건을 지정한 경우에만 그 조건을 만족하는 요청의 헤더를 따른다.
+ * {@code preHandle}에서 실행 자리를 얻을 때까지 기다리고 {@code afterCompletion}에서 반납한다.
+ * 비동기 요청(SSE 등)은 처리 스레드가 반환되는 {@code afterConcurrentHandlingStarted}에서 반납하므로,
+ * 오래 열려 있는 스트림이 자리를 붙잡지 않는다.
+ * 최대 대기 시간을 넘기면 {@code 503}으로 응답한다.
+ * </p>
+ *
+ * <p>
+ * 연결 처리 스레드가 요청을 읽고 분류한 뒤 이 단계에서 기다리므로,
+ * BIO 워커 풀에서는 실행 자리 수를 워커 수보다 작게 두어야 남은 워커가 새 요청을 읽어 등급을 매길 수 있다.
+ * 가상 스레드 모드에서는 연결마다 스레드가 있으므로 모든 대기가 이 스케줄러에서 일어난다.
+ * 다른 인터셉터보다 먼저 등록해야 대기 시간이 다른 인터셉터의 처리 시간에 포함되지 않는다.
+ * </p>
+ *
+ * <pre>{@code
+ * // 라우트 선언으로만 분류
+ * registry.addInterceptor(new PrioritySchedulingInterceptor(new PriorityRequestScheduler(16, 2000)));
+ * // 같은 호스트의 게이트웨이가 붙인 헤더도 따름
+ * registry.addInterceptor(new PrioritySchedulingInterceptor(new PriorityRequestScheduler(16, 2000),
+ *         "X-Request-Priority", PrioritySchedulingInterceptor.loopbackOnly()));
+ * }</pre>
+ */
+public class PrioritySchedulingInterceptor implements HandlerInterceptor {
+
+    /** 실행 자리를 얻은 요청에 남기는 요청 속성 이름 */
+    static final String PERMIT_ATTRIBUTE = PrioritySchedulingInterceptor.class.getName() + ".PERMIT";
+
+    private final PriorityRequestScheduler scheduler;
+    private final String headerName;
+    private final Predicate<HttpRequest> trustedSource;
+    private final PriorityClass defaultPriority;
+
+    /** Handler별로 조회한 라우트 등급. 선언이 없는 라우트도 다시 조회하지 않도록 {@link RouteClass#NONE}으로 기록한다. */
+    private final Map<Object, RouteClass> routeClasses = new ConcurrentHashMap<>();
+
+    private record RouteClass(PriorityClass priority) {
+        static final RouteClass NONE = new RouteClass(null);
+    }
+
+    /**
+     * 라우트 선언으로만 등급을 정하고, 선언이 없으면 {@link PriorityClass#NORMAL}로 처리한다.
+     *
+     * @param scheduler 실행 자리를 나눠 줄 스케줄러
+     */
+    public PrioritySchedulingInterceptor(PriorityRequestScheduler scheduler) {
+        this(scheduler, null, null, PriorityClass.NORMAL);
+    }
+
+    /**
+     * @param scheduler     실행 자리를 나눠 줄 스케줄러
+     * @param headerName    등급을 지정하는 요청 헤더 이름
+     * @param trustedSource 헤더를 따를 요청인지 판단하는 조건
+     */
+    public PrioritySchedulingInterceptor(PriorityRequestScheduler scheduler, String headerName, Predicate<HttpRequest> trustedSource) {
+        this(scheduler, headerName, trustedSource, PriorityClass.NORMAL);
+    }
+
+    /**
+     * @param headerName      등급을 지정하는 요청 헤더 이름, {@code null}이면 헤더를 보지 않는다
+     * @param trustedSource   헤더를 따를 요청인지 판단하는 조건, {@code headerName}이 있으면 필수
+     * @param defaultPriority 라우트와 헤더 모두 등급을 지정하지 않았을 때의 등급
+     * @throws IllegalStateException 헤더 이름만 있고 신뢰 조건이 없는 경우
+     */
+    public PrioritySchedulingInterceptor(PriorityRequestScheduler scheduler, String headerName,
+                                         Predicate<HttpRequest> trustedSource, PriorityClass defaultPriority) {
+        if(headerName != null && trustedSource == null)
+            throw new IllegalStateException("Priority header '" + headerName + "' requires a trusted source condition");
+        this.scheduler = scheduler;
+        this.headerName = headerName;
+        this.trustedSource = trustedSource;
+        this.defaultPriority = defaultPriority;
+    }
+
+    /**
+     * 같은 호스트(루프백 주소)에서 들어온 요청만 신뢰하는 조건. 앞단 프록시가 같은 호스트에 있을 때 쓴다.
+     */
+    public static Predicate<HttpRequest> loopbackOnly() {
+        return request -> {
+            InetSocketAddress remote = request.getRemoteAddress();
+            return remote != null && remote.getAddress() != null && remote.getAddress().isLoopbackAddress();
+        };
+    }
+
+    public PriorityRequestScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @throws HttpException 최대 대기 시간을 넘긴 경우 ({@link HttpStatus#SERVICE_UNAVAILABLE})
+     */
+    @Override
+    public boolean preHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        if(!scheduler.acquire(resolvePriority(request, handler)))
+            throw new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "Timed out waiting for an execution slot");
+
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        releasePermit(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) throws Exception {
+        releasePermit(request);
+    }
+
+    private void releasePermit(HttpRequest request) {
+        if(request.getAttribute(PERMIT_ATTRIBUTE) == null)
+            return;
+        request.setAttribute(PERMIT_ATTRIBUTE, null);
+        scheduler.release();
+    }
+
+    /**
+     * 라우트, 신뢰할 요청의 헤더, 기본 등급 순으로 등급을 정한다.
+     */
+    PriorityClass resolvePriority(HttpRequest request, Object handler) {
+        PriorityClass priority = routeClasses.computeIfAbsent(handler, PrioritySchedulingInterceptor::routeClassOf).priority();
+        if(priority != null)
+            return priority;
+
+        if(headerName != null && trustedSource.test(request)) {
+            priority = PriorityClass.parse(request.getHeader().getFirst(headerName));
+            if(priority != null)
+                return priority;
+        }
+        return defaultPriority;
+    }
+
+    private static RouteClass routeClassOf(Object handler) {
+        if(!(handler instanceof HandlerMethod handlerMethod))
+            return RouteClass.NONE;
+
+        RequestPriority annotation = handlerMethod.getMethod().getAnnotation(RequestPriority.class);
+        if(annotation == null)
+            annotation = handlerMethod.getMethod().getDeclaringClass().getAnnotation(RequestPriority.class);
+        return annotation == null ? RouteClass.NONE : new RouteClass(annotation.value());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.framework.web.sse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 {@link SseEmitter}에 같은 이벤트를 전송한다.
+ *
+ * <p>
+ * 이벤트는 구독자 수와 관계없이 한 번만 인코딩하고, 같은 바이트 배열을 모든 구독자가 공유한다.
+ * 전송은 구독자별 대기열에 넣는 것으로 끝나므로 {@link #broadcast(SseEvent)}는 느린 클라이언트를 기다리지 않으며,
+ * 구독자별 이벤트 순서는 유지된다.
+ * </p>
+ *
+ * <p>
+ * 연결이 닫힌 emitter(정상 종료, 오류, 제한 시간 초과)는 자동으로 제거된다.
+ * </p>
+ */
+public class SseBroadcaster {
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 구독자를 추가한다.
+     *
+     * @return 전달받은 emitter (컨트롤러에서 바로 반환할 수 있도록)
+     */
+    public SseEmitter add(SseEmitter emitter) {
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        return emitter;
+    }
+
+    /**
+     * 데이터만 있는 이벤트를 모든 구독자에게 전송한다.
+     *
+     * @see #broadcast(SseEvent)
+     */
+    public void broadcast(Object data) {
+        broadcast(SseEvent.of(data));
+    }
+
+    /**
+     * 이벤트를 한 번 인코딩하여 모든 구독자의 전송 대기열에 넣는다.
+     */
+    public void broadcast(SseEvent event) {
+        if(emitters.isEmpty())
+            return;
+
+        byte[] frame = event.encode();
+        for(SseEmitter emitter : emitters)
+            emitter.enqueue(frame);
+    }
+
+    /**
+     * 모든 구독자의 연결을 정상 종료한다.
+     */
+    public void completeAll() {
+        for(SseEmitter emitter : emitters)
+            emitter.complete();
+    }
+
+    public int size() {
+        return emitters.size();
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.framework.web.sse;
+
+import org.example.framework.was.container.AsyncContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 하나의 연결로 Server-Sent Events를 계속 전송하는 컨트롤러 반환 타입이다.
+ *
+ * <p>
+ * 컨트롤러가 반환하면 요청은 비동기 스트리밍 응답으로 전환되어 {@code text/event-stream} 헤더만 먼저 전송되고,
+ * 워커 스레드는 반납된다. 이후 어떤 스레드에서든 {@link #send(Object)}로 이벤트를 보낼 수 있으며,
+ * 이벤트마다 소켓까지 flush된다. {@link #complete()}를 호출하거나 제한 시간이 지나면 연결이 닫힌다.
+ * </p>
+ *
+ * <p>
+ * 연결당 스레드를 두지 않는다.
+ * <ul>
+ *     <li>{@link #send(Object)} - 호출한 스레드에서 바로 기록한다.</li>
+ *     <li>{@link SseBroadcaster} 전송과 하트비트 - 대기열에 넣고, 쌓인 프레임이 있을 때만 가상 스레드 하나가 순서대로 비운다.</li>
+ *     <li>하트비트 타이머 - 모든 emitter가 하나의 스케줄러 스레드를 공유한다.</li>
+ * </ul>
+ * 기록은 가상 스레드가 캐리어 스레드에 고정되지 않도록 {@code synchronized} 대신 {@link ReentrantLock}으로 보호한다.
+ * </p>
+ *
+ * <p>
+ * 하트비트는 마지막 기록 이후 {@link #setHeartbeatInterval(long)}만큼 아무것도 보내지 않았을 때 주석 프레임({@code :})을 보낸다.
+ * 중간 프록시의 유휴 연결 종료를 막고, 끊긴 클라이언트를 기록 실패로 감지하는 역할을 한다.
+ * </p>
+ *
+ * <pre>
+ * &#64;RequestMapping(value = "/metrics/stream", method = HttpMethod.GET)
+ * public SseEmitter stream() {
+ *     return broadcaster.add(new SseEmitter());
+ * }
+ * </pre>
+ *
+ * @see SseBroadcaster
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/SseEmitter.java">Spring SseEmitter</a>
+ */
+public class SseEmitter {
+
+    private static final Logger log = LoggerFactory.getLogger(SseEmitter.class);
+
+    /** 기본 하트비트 간격 (밀리초) */
+    public static final long DEFAULT_HEARTBEAT_INTERVAL = 15_000;
+
+    /** 제한 시간 (밀리초), {@code null}이면 서버의 비동기 요청 제한 시간을 따른다. */
+    private final Long timeout;
+    private volatile long heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+
+    /** 연결 출력 기록을 보호한다. */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /** 연결의 출력 스트림, 컨테이너가 헤더를 전송하기 전에는 {@code null} */
+    private OutputStream out;
+
+    /** 출력 스트림이 열리기 전에 보낸 프레임 */
+    private List<byte[]> early = new ArrayList<>();
+
+    private final Queue<byte[]> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile AsyncContext asyncContext;
+    private volatile long lastWriteNanos;
+    private volatile ScheduledFuture<?> heartbeatTask;
+
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Runnable> timeoutCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Throwable>> errorCallbacks = new CopyOnWriteArrayList<>();
+
+    public SseEmitter() {
+        this.timeout = null;
+    }
+
+    /**
+     * @param timeout 제한 시간 (밀리초), 0 이하면 제한 없음
+     */
+    public SseEmitter(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public Long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 하트비트 간격을 설정한다. 컨트롤러가 반환하기 전에만 반영된다.
+     *
+     * @param heartbeatInterval 밀리초, 0 이하면 하트비트를 보내지 않음
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * 데이터만 있는 이벤트를 전송한다.
+     *
+     * @see #send(SseEvent)
+     */
+    public void send(Object data) throws IOException {
+        send(SseEvent.of(data));
+    }
+
+    /**
+     * 이벤트를 인코딩하여 호출한 스레드에서 전송하고 flush한다.
+     * 연결이 열리기 전이면 모아 두었다가 헤더 직후에 전송한다.
+     *
+     * @throws IOException 클라이언트 연결이 끊긴 경우 (emitter는 오류로 완료된다)
+     * @throws IllegalStateException 이미 완료된 경우
+     */
+    public void send(SseEvent event) throws IOException {
+        sendEncoded(event.encode());
+    }
+
+    /**
+     * 이벤트 스트림을 정상 종료하고 연결을 닫는다. 여러 번 호출해도 한 번만 처리된다.
+     */
+    public void complete() {
+        if(!completed.compareAndSet(false, true))
+            return;
+
+        AsyncContext context = asyncContext;
+        if(context != null)
+            context.complete();
+    }
+
+    /**
+     * 오류로 이벤트 스트림을 종료한다. 오류 콜백을 실행한 뒤 연결을 닫는다.
+     */
+    public void completeWithError(Throwable ex) {
+        if(completed.get())
+            return;
+        for(Consumer<Throwable> callback : errorCallbacks)
+            callback.accept(ex);
+        complete();
+    }
+
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 연결이 닫힐 때(정상 종료, 오류, 제한 시간 초과 모두) 실행할 작업을 등록한다.
+     * 이미 닫혔으면 바로 실행한다.
+     */
+    public void onCompletion(Runnable callback) {
+        completionCallbacks.add(callback);
+        AsyncContext context = asyncContext;
+        if(context != null && context.isCompleted() && completionCallbacks.remove(callback))
+            callback.run();
+    }
+
+    public void onTimeout(Runnable callback) {
+        timeoutCallbacks.add(callback);
+    }
+
+    public void onError(Consumer<Throwable> callback) {
+        errorCallbacks.add(callback);
+    }
+
+    /**
+     * 비동기 스트리밍 응답과 연결한다. {@link org.example.framework.web.method.support.SseEmitterReturnValueHandler}가 호출한다.
+     *
+     * @param context        이 요청의 비동기 컨텍스트
+     * @param defaultTimeout 생성 시 제한 시간을 지정하지 않은 경우 사용할 값
+     */
+    public void initialize(AsyncContext context, long defaultTimeout) {
+        this.asyncContext = context;
+        context.setTimeout(timeout != null ? timeout : defaultTimeout);
+        context.setTimeoutHandler(() -> {
+            for(Runnable callback : timeoutCallbacks)
+                callback.run();
+        });
+        context.addListener(this::onContextCompleted);
+        context.startStreaming(this::open);
+
+        // 반환 전에 complete()가 호출된 경우
+        if(completed.get())
+            context.complete();
+    }
+
+    /**
+     * 인코딩된 프레임을 호출한 스레드에서 전송한다.
+     */
+    void sendEncoded(byte[] frame) throws IOException {
+        if(completed.get())
+            throw new IllegalStateException("SseEmitter has already completed");
+
+        writeLock.lock();
+        try {
+            if(out == null) {
+                early.add(frame);
+                return;
+            }
+            write(frame);
+        } catch (IOException e) {
+            completeWithError(e);
+            throw e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 인코딩된 프레임을 대기열에 넣고 호출한 스레드는 바로 반환한다.
+     * 대기열은 한 번에 하나의 가상 스레드가 순서대로 비우므로, 느린 클라이언트가 다른 구독자를 막지 않는다.
+     */
+    void enqueue(byte[] frame) {
+        if(completed.get())
+            return;
+        outbound.add(frame);
+        if(draining.compareAndSet(false, true))
+            Thread.ofVirtual().name("sse-writer").start(this::drain);
+    }
+
+    private void drain() {
+        do {
+            try {
+                byte[] frame;
+                while((frame = outbound.poll()) != null)
+                    sendEncoded(frame);
+            } catch (IOException | IllegalStateException e) {
+                outbound.clear();
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 중에 들어온 프레임이 있으면 이어서 처리한다.
+        } while(!outbound.isEmpty() && !completed.get() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * 컨테이너가 헤더를 전송한 뒤 연결의 출력 스트림을 넘겨준다.
+     */
+    private void open(OutputStream stream) {
+        writeLock.lock();
+        try {
+            out = stream;
+            for(byte[] frame : early)
+                out.write(frame);
+            early = null;
+            out.flush();
+            lastWriteNanos = System.nanoTime();
+        } catch (IOException e) {
+            completeWithError(e);
+            return;
+        } finally {
+            writeLock.unlock();
+        }
+
+        long interval = heartbeatInterval;
+        if(interval > 0 && !completed.get()) {
+            heartbeatTask = HeartbeatScheduler.INSTANCE.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+            if(completed.get())
+                heartbeatTask.cancel(false);
+        }
+    }
+
+    private void heartbeat() {
+        if(System.nanoTime() - lastWriteNanos >= TimeUnit.MILLISECONDS.toNanos(heartbeatInterval))
+            enqueue(SseEvent.HEARTBEAT);
+    }
+
+    private void write(byte[] frame) throws IOException {
+        out.write(frame);
+        out.flush();
+        lastWriteNanos = System.nanoTime();
+    }
+
+    private void onContextCompleted() {
+        completed.set(true);
+        outbound.clear();
+
+        ScheduledFuture<?> task = heartbeatTask;
+        if(task != null)
+            task.cancel(false);
+
+        for(Runnable callback : completionCallbacks) {
+            if(!completionCallbacks.remove(callback))
+                continue;
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.warn("[SseEmitter] completion callback failed", e);
+            }
+        }
+    }
+
+    /**
+     * 모든 emitter가 공유하는 하트비트 타이머. 기록은 하지 않고 대기열에 넣기만 한다.
+     */
+    private static final class HeartbeatScheduler {
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "sse-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
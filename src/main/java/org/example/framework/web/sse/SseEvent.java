@@ -0,0 +1,174 @@
+package org.example.framework.web.sse;
+
+import org.example.framework.web.json.JsonMapper;
+import org.example.framework.web.json.JsonWriter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Server-Sent Events 이벤트 하나를 표현한다.
+ *
+ * <p>
+ * {@link #encode()}는 {@code text/event-stream} 형식의 프레임을 UTF-8 바이트로 만든다.
+ * <pre>
+ * id: 7
+ * event: metrics
+ * retry: 3000
+ * data: {"count":1}
+ *
+ * </pre>
+ * 문자열 데이터는 줄마다 {@code data:} 필드로 나누어 기록하고,
+ * 그 외 객체는 {@link JsonMapper}로 한 줄 JSON을 만들어 기록한다. (JSON 문자열 안의 줄바꿈은 이스케이프된다.)
+ * </p>
+ *
+ * <p>
+ * 불변 객체이며, 인코딩 결과는 구독자 수와 관계없이 {@link SseBroadcaster}에서 한 번만 만든다.
+ * </p>
+ *
+ * @see <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html#event-stream-interpretation">HTML Living Standard - Server-sent events</a>
+ * @see <a href="https://github.com/spring-projects/spring-framework/blob/main/spring-webmvc/src/main/java/org/springframework/web/servlet/mvc/method/annotation/SseEmitter.java">Spring SseEmitter.SseEventBuilder</a>
+ */
+public final class SseEvent {
+
+    private static final byte[] DATA = "data:".getBytes(StandardCharsets.US_ASCII);
+
+    /** 연결 유지를 위한 주석 프레임 */
+    static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final String id;
+    private final String name;
+    private final Long retry;
+    private final String comment;
+    private final Object data;
+
+    private SseEvent(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.retry = builder.retry;
+        this.comment = builder.comment;
+        this.data = builder.data;
+    }
+
+    /**
+     * 데이터만 있는 이벤트를 만든다.
+     */
+    public static SseEvent of(Object data) {
+        return builder().data(data).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    /**
+     * 이벤트를 {@code text/event-stream} 프레임으로 인코딩한다.
+     *
+     * @return 빈 줄로 끝나는 UTF-8 프레임
+     */
+    public byte[] encode() {
+        JsonWriter out = new JsonWriter(data instanceof CharSequence text ? text.length() + 32 : 128);
+
+        if(comment != null)
+            writeLines(out, ":", comment);
+        if(id != null)
+            writeLines(out, "id:", id);
+        if(name != null)
+            writeLines(out, "event:", name);
+        if(retry != null)
+            writeLines(out, "retry:", retry.toString());
+
+        if(data instanceof CharSequence text) {
+            writeLines(out, "data:", text);
+        } else if(data != null) {
+            out.writeRaw(DATA);
+            JsonMapper.getInstance().write(out, data);
+            out.writeByte((byte) '\n');
+        }
+
+        out.writeByte((byte) '\n');
+        return out.toByteArray();
+    }
+
+    /**
+     * 값의 줄마다 {@code field} 한 줄을 기록한다. {@code \r\n}, {@code \r}, {@code \n}을 모두 줄 구분으로 본다.
+     */
+    private static void writeLines(JsonWriter out, String field, CharSequence value) {
+        int start = 0;
+        int length = value.length();
+        for(int i = 0; i <= length; i++) {
+            char c = i < length ? value.charAt(i) : '\n';
+            if(c != '\n' && c != '\r')
+                continue;
+
+            out.writeAscii(field);
+            writeUtf8(out, value, start, i);
+            out.writeByte((byte) '\n');
+
+            if(c == '\r' && i + 1 < length && value.charAt(i + 1) == '\n')
+                i++;
+            start = i + 1;
+        }
+    }
+
+    private static void writeUtf8(JsonWriter out, CharSequence value, int from, int to) {
+        if(from < to)
+            out.writeRaw(value.subSequence(from, to).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@link SseEvent} 빌더
+     */
+    public static final class Builder {
+        private String id;
+        private String name;
+        private Long retry;
+        private String comment;
+        private Object data;
+
+        private Builder() {}
+
+        /** 클라이언트가 재연결할 때 {@code Last-Event-ID}로 보내는 값 */
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        /** 클라이언트의 {@code addEventListener}에 쓰이는 이벤트 이름 */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /** 연결이 끊겼을 때 클라이언트의 재연결 대기 시간 (밀리초) */
+        public Builder retry(long retryMillis) {
+            this.retry = retryMillis;
+            return this;
+        }
+
+        public Builder comment(String comment) {
+            this.comment = comment;
+            return this;
+        }
+
+        public Builder data(Object data) {
+            this.data = data;
+            return this;
+        }
+
+        public SseEvent build() {
+            return new SseEvent(this);
+        }
+    }
+}
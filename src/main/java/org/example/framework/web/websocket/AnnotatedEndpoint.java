@@ -0,0 +1,206 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.annotation.OnClose;
+import org.example.framework.annotation.OnError;
+import org.example.framework.annotation.OnMessage;
+import org.example.framework.annotation.OnOpen;
+import org.example.framework.annotation.WebSocketEndpoint;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * {@link WebSocketEndpoint} Bean의 콜백 메서드를 미리 컴파일해 둔 실행기이다.
+ *
+ * <p>
+ * 등록 시점에 메서드마다 파라미터 종류를 결정하고 {@link MethodHandle}로 변환하므로,
+ * 메시지마다 리플렉션 조회나 타입 검사를 하지 않는다.
+ * </p>
+ */
+final class AnnotatedEndpoint {
+
+    private final String path;
+    private final int maxMessageSize;
+
+    private final Callback onOpen;
+    private final Callback onText;
+    private final Callback onBinary;
+    private final Callback onClose;
+    private final Callback onError;
+
+    private AnnotatedEndpoint(String path, int maxMessageSize, Callback onOpen, Callback onText,
+                              Callback onBinary, Callback onClose, Callback onError) {
+        this.path = path;
+        this.maxMessageSize = maxMessageSize;
+        this.onOpen = onOpen;
+        this.onText = onText;
+        this.onBinary = onBinary;
+        this.onClose = onClose;
+        this.onError = onError;
+    }
+
+    /**
+     * Bean의 콜백 메서드를 분석하여 실행기를 만든다.
+     *
+     * @throws IllegalStateException 같은 종류의 콜백이 중복되었거나 지원하지 않는 파라미터가 있는 경우
+     */
+    static AnnotatedEndpoint of(Object bean, WebSocketEndpoint annotation) {
+        Callback onOpen = null, onText = null, onBinary = null, onClose = null, onError = null;
+
+        for(Method method : bean.getClass().getDeclaredMethods()) {
+            if(method.isAnnotationPresent(OnOpen.class))
+                onOpen = unique(onOpen, Callback.compile(bean, method, OnOpen.class));
+            if(method.isAnnotationPresent(OnClose.class))
+                onClose = unique(onClose, Callback.compile(bean, method, OnClose.class));
+            if(method.isAnnotationPresent(OnError.class))
+                onError = unique(onError, Callback.compile(bean, method, OnError.class));
+            if(method.isAnnotationPresent(OnMessage.class)) {
+                Callback callback = Callback.compile(bean, method, OnMessage.class);
+                if(callback.has(Param.BINARY))
+                    onBinary = unique(onBinary, callback);
+                else if(callback.has(Param.TEXT))
+                    onText = unique(onText, callback);
+                else
+                    throw new IllegalStateException("@OnMessage method needs a String or byte[] parameter: " + method);
+            }
+        }
+
+        return new AnnotatedEndpoint(annotation.value(), annotation.maxMessageSize(), onOpen, onText, onBinary, onClose, onError);
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    boolean acceptsText() {
+        return onText != null;
+    }
+
+    boolean acceptsBinary() {
+        return onBinary != null;
+    }
+
+    void onOpen(WebSocketSession session) throws Throwable {
+        if(onOpen != null)
+            onOpen.invoke(session, null, 0, null);
+    }
+
+    /**
+     * @return 메서드의 반환값 (응답으로 보낼 메시지), 없으면 {@code null}
+     */
+    Object onText(WebSocketSession session, String text) throws Throwable {
+        return onText.invoke(session, text, 0, null);
+    }
+
+    Object onBinary(WebSocketSession session, byte[] data) throws Throwable {
+        return onBinary.invoke(session, data, 0, null);
+    }
+
+    void onClose(WebSocketSession session, int code, String reason) throws Throwable {
+        if(onClose != null)
+            onClose.invoke(session, reason, code, null);
+    }
+
+    /**
+     * @return 오류 콜백이 있어 처리했으면 {@code true}
+     */
+    boolean onError(WebSocketSession session, Throwable error) throws Throwable {
+        if(onError == null)
+            return false;
+        onError.invoke(session, null, 0, error);
+        return true;
+    }
+
+    private static Callback unique(Callback existing, Callback callback) {
+        if(existing != null)
+            throw new IllegalStateException("Duplicate WebSocket callback: " + callback.method);
+        return callback;
+    }
+
+    /**
+     * 콜백 파라미터 종류
+     */
+    private enum Param {
+        SESSION, TEXT, BINARY, CODE, ERROR
+    }
+
+    /**
+     * 컴파일된 콜백 메서드 하나
+     */
+    private static final class Callback {
+        private final Method method;
+        private final Param[] params;
+
+        /** {@code (Object[])Object} */
+        private final MethodHandle handle;
+
+        private Callback(Method method, Param[] params, MethodHandle handle) {
+            this.method = method;
+            this.params = params;
+            this.handle = handle;
+        }
+
+        static Callback compile(Object bean, Method method, Class<? extends Annotation> kind) {
+            Class<?>[] types = method.getParameterTypes();
+            Param[] params = new Param[types.length];
+            for(int i = 0; i < types.length; i++)
+                params[i] = resolve(types[i], kind, method);
+
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                        .bindTo(bean)
+                        .asSpreader(Object[].class, types.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                return new Callback(method, params, handle);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot access WebSocket callback " + method, e);
+            }
+        }
+
+        private static Param resolve(Class<?> type, Class<? extends Annotation> kind, Method method) {
+            if(type == WebSocketSession.class)
+                return Param.SESSION;
+            if(type == String.class && (kind == OnMessage.class || kind == OnClose.class))
+                return Param.TEXT;
+            if(type == byte[].class && kind == OnMessage.class)
+                return Param.BINARY;
+            if((type == int.class || type == Integer.class) && kind == OnClose.class)
+                return Param.CODE;
+            if(Throwable.class.isAssignableFrom(type) && kind == OnError.class)
+                return Param.ERROR;
+            throw new IllegalStateException("Unsupported parameter " + type.getSimpleName()
+                    + " for @" + kind.getSimpleName() + " method " + method);
+        }
+
+        boolean has(Param param) {
+            for(Param p : params)
+                if(p == param)
+                    return true;
+            return false;
+        }
+
+        /**
+         * @param message 텍스트 메시지, 바이너리 메시지 또는 Close 이유
+         */
+        Object invoke(WebSocketSession session, Object message, int code, Throwable error) throws Throwable {
+            Object[] args = new Object[params.length];
+            for(int i = 0; i < params.length; i++) {
+                args[i] = switch (params[i]) {
+                    case SESSION -> session;
+                    case TEXT, BINARY -> message;
+                    case CODE -> code;
+                    case ERROR -> error;
+                };
+            }
+            return (Object) handle.invokeExact(args);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.was.protocol.websocket.WebSocketFrame;
+import org.example.framework.was.protocol.websocket.WebSocketFrameWriter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 인코딩된 WebSocket 프레임.
+ *
+ * <p>
+ * 서버 프레임은 마스킹하지 않으므로 같은 메시지는 모든 연결에서 바이트가 동일하다.
+ * 브로드캐스트할 메시지를 한 번만 인코딩하여 {@link WebSocketSession#send(PreparedFrame)}로 공유한다.
+ * </p>
+ */
+public final class PreparedFrame {
+
+    private final byte[] bytes;
+
+    private PreparedFrame(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static PreparedFrame text(String text) {
+        return new PreparedFrame(WebSocketFrameWriter.encode(true, WebSocketFrame.TEXT, text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static PreparedFrame binary(byte[] data) {
+        return new PreparedFrame(WebSocketFrameWriter.encode(true, WebSocketFrame.BINARY, data));
+    }
+
+    /**
+     * 인코딩된 프레임 (수정하면 안 된다)
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+}
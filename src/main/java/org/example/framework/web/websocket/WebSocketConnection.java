@@ -0,0 +1,243 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.exception.was.WebSocketProtocolException;
+import org.example.framework.was.container.HttpUpgradeHandler;
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.websocket.WebSocketFrame;
+import org.example.framework.was.protocol.websocket.WebSocketFrameParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 업그레이드된 연결 하나에서 WebSocket 프레임을 읽고 엔드포인트로 전달한다.
+ *
+ * <p>
+ * 처리 규칙 (RFC 6455)
+ * <ul>
+ *     <li>분할된 메시지는 {@link WebSocketFrame#CONTINUATION} 프레임을 이어 붙여 하나로 전달한다.
+ *         조립 중에도 제어 프레임은 끼어들 수 있다.</li>
+ *     <li>Ping에는 같은 페이로드의 Pong으로 응답한다.</li>
+ *     <li>Close를 받으면 같은 상태 코드로 Close를 돌려보낸 뒤 연결을 닫는다.</li>
+ *     <li>텍스트 메시지가 올바른 UTF-8이 아니면 1007, 메시지가 최대 크기를 넘으면 1009로 닫는다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 소켓 읽기 제한 시간이 지날 때까지 프레임이 없으면 Ping을 보내고,
+ * 다음 제한 시간까지도 아무 프레임이 없으면 끊긴 연결로 보고 닫는다.
+ * </p>
+ */
+final class WebSocketConnection implements HttpUpgradeHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketConnection.class);
+    private static final byte[] EMPTY = new byte[0];
+
+    private final AnnotatedEndpoint endpoint;
+    private final HttpRequest handshakeRequest;
+
+    /** 상대가 보낸 Close 프레임의 이유, 없으면 {@code null} */
+    private String closeReason;
+
+    WebSocketConnection(AnnotatedEndpoint endpoint, HttpRequest handshakeRequest) {
+        this.endpoint = endpoint;
+        this.handshakeRequest = handshakeRequest;
+    }
+
+    @Override
+    public void init(InputStream in, OutputStream out) throws IOException {
+        WebSocketSession session = new WebSocketSession(handshakeRequest, out);
+        WebSocketFrameParser parser = new WebSocketFrameParser(in, endpoint.getMaxMessageSize());
+
+        int closeCode = WebSocketFrame.ABNORMAL_CLOSURE;
+        try {
+            endpoint.onOpen(session);
+            closeCode = readLoop(session, parser);
+        } catch (WebSocketProtocolException e) {
+            closeCode = e.getCloseCode();
+            closeReason = e.getMessage();
+            handleError(session, e);
+            closeQuietly(session, closeCode, closeReason);
+        } catch (IOException e) {
+            log.debug("[WebSocket] connection {} lost: {}", session.getId(), e.getMessage());
+        } catch (Throwable t) {
+            closeCode = WebSocketFrame.INTERNAL_ERROR;
+            handleError(session, t);
+            closeQuietly(session, closeCode, null);
+        } finally {
+            session.markClosed();
+            try {
+                endpoint.onClose(session, closeCode, closeReason);
+            } catch (Throwable t) {
+                log.warn("[WebSocket] @OnClose failed", t);
+            }
+        }
+    }
+
+    /**
+     * 연결이 닫힐 때까지 프레임을 읽는다.
+     *
+     * @return 연결이 닫힌 상태 코드
+     */
+    private int readLoop(WebSocketSession session, WebSocketFrameParser parser) throws Throwable {
+        MessageBuffer message = new MessageBuffer(endpoint.getMaxMessageSize());
+        boolean awaitingPong = false;
+
+        while(true) {
+            WebSocketFrame frame;
+            try {
+                frame = parser.parse();
+            } catch (SocketTimeoutException e) {
+                if(awaitingPong || session.isCloseSent())
+                    return WebSocketFrame.GOING_AWAY;
+                session.ping(EMPTY);
+                awaitingPong = true;
+                continue;
+            }
+
+            if(frame == null)
+                return WebSocketFrame.ABNORMAL_CLOSURE;
+            awaitingPong = false;
+
+            switch (frame.opcode()) {
+                case WebSocketFrame.PING -> session.pong(frame.payload());
+                case WebSocketFrame.PONG -> {}
+                case WebSocketFrame.CLOSE -> {
+                    int code = readCloseCode(frame.payload());
+                    closeQuietly(session, code == WebSocketFrame.NO_STATUS_RECEIVED ? WebSocketFrame.NORMAL_CLOSURE : code, null);
+                    return code;
+                }
+                case WebSocketFrame.TEXT, WebSocketFrame.BINARY -> {
+                    if(message.active())
+                        throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "New message started before the previous one finished");
+                    // 분할되지 않은 메시지는 버퍼를 거치지 않는다.
+                    if(frame.fin()) {
+                        deliver(session, frame.opcode(), frame.payload());
+                    } else {
+                        message.start(frame.opcode());
+                        message.append(frame.payload());
+                    }
+                }
+                default -> { // CONTINUATION
+                    if(!message.active())
+                        throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Continuation frame without a message");
+                    message.append(frame.payload());
+                    if(frame.fin())
+                        deliver(session, message.opcode, message.finish());
+                }
+            }
+        }
+    }
+
+    private void deliver(WebSocketSession session, int opcode, byte[] payload) throws Throwable {
+        // 서버가 Close를 보낸 뒤 도착한 데이터는 버린다.
+        if(session.isCloseSent())
+            return;
+
+        Object reply;
+        if(opcode == WebSocketFrame.TEXT) {
+            if(!endpoint.acceptsText())
+                throw new WebSocketProtocolException(WebSocketFrame.UNSUPPORTED_DATA, "Text messages are not supported");
+            reply = endpoint.onText(session, decodeUtf8(payload));
+        } else {
+            if(!endpoint.acceptsBinary())
+                throw new WebSocketProtocolException(WebSocketFrame.UNSUPPORTED_DATA, "Binary messages are not supported");
+            reply = endpoint.onBinary(session, payload);
+        }
+
+        if(reply instanceof String text)
+            session.sendText(text);
+        else if(reply instanceof byte[] data)
+            session.sendBinary(data);
+    }
+
+    private int readCloseCode(byte[] payload) throws WebSocketProtocolException {
+        if(payload.length == 0)
+            return WebSocketFrame.NO_STATUS_RECEIVED;
+        if(payload.length == 1)
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Close frame payload must be 0 or at least 2 bytes");
+
+        int code = (payload[0] & 0xFF) << 8 | (payload[1] & 0xFF);
+        if(code < 1000 || code == WebSocketFrame.NO_STATUS_RECEIVED || code == WebSocketFrame.ABNORMAL_CLOSURE
+                || (code > 1011 && code < 3000) || code > 4999)
+            throw new WebSocketProtocolException(WebSocketFrame.PROTOCOL_ERROR, "Invalid close code " + code);
+
+        closeReason = payload.length > 2 ? decodeUtf8(Arrays.copyOfRange(payload, 2, payload.length)) : null;
+        return code;
+    }
+
+    private static String decodeUtf8(byte[] data) throws WebSocketProtocolException {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(data))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            throw new WebSocketProtocolException(WebSocketFrame.INVALID_PAYLOAD, "Text message is not valid UTF-8");
+        }
+    }
+
+    private void handleError(WebSocketSession session, Throwable error) {
+        try {
+            if(!endpoint.onError(session, error))
+                log.warn("[WebSocket] {} error on {}", endpoint.getPath(), session.getId(), error);
+        } catch (Throwable t) {
+            log.warn("[WebSocket] @OnError failed", t);
+        }
+    }
+
+    private static void closeQuietly(WebSocketSession session, int code, String reason) {
+        try {
+            session.close(code, reason);
+        } catch (IOException e) {
+            // 연결이 이미 끊긴 경우
+        }
+    }
+
+    /**
+     * 분할 프레임을 이어 붙이는 버퍼. 연결마다 하나를 재사용한다.
+     */
+    private static final class MessageBuffer {
+        private final int maxSize;
+        private byte[] buf = EMPTY;
+        private int size;
+        private int opcode = -1;
+
+        MessageBuffer(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        boolean active() {
+            return opcode != -1;
+        }
+
+        void start(int opcode) {
+            this.opcode = opcode;
+            this.size = 0;
+        }
+
+        void append(byte[] data) throws WebSocketProtocolException {
+            if(data.length > maxSize - size)
+                throw new WebSocketProtocolException(WebSocketFrame.MESSAGE_TOO_BIG, "Message exceeds " + maxSize + " bytes");
+            if(size + data.length > buf.length)
+                buf = Arrays.copyOf(buf, Math.min(maxSize, Math.max(size + data.length, buf.length * 2)));
+            System.arraycopy(data, 0, buf, size, data.length);
+            size += data.length;
+        }
+
+        byte[] finish() {
+            opcode = -1;
+            return Arrays.copyOf(buf, size);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.annotation.Component;
+import org.example.framework.annotation.WebSocketEndpoint;
+import org.example.framework.core.ApplicationContext;
+import org.example.framework.core.lifecycle.ApplicationContextAware;
+import org.example.framework.core.lifecycle.SmartInitializingSingleton;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link WebSocketEndpoint} Bean을 경로별로 보관한다.
+ *
+ * <p>
+ * 모든 singleton Bean 생성이 끝난 뒤 한 번 구성되며,
+ * 이후 {@link WebSocketUpgradeFilter}가 요청 경로로 읽기 전용 조회만 수행한다.
+ * </p>
+ */
+@Component
+public class WebSocketEndpointRegistry implements ApplicationContextAware, SmartInitializingSingleton {
+
+    private ApplicationContext context;
+    private final Map<String, AnnotatedEndpoint> endpoints = new HashMap<>();
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * {@link WebSocketEndpoint} Bean을 찾아 콜백 메서드를 컴파일한다.
+     *
+     * @throws IllegalStateException 같은 경로의 엔드포인트가 중복되었거나 콜백 선언이 잘못된 경우
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for(Object bean : context.getBeansWithAnnotation(WebSocketEndpoint.class).values())
+            register(bean);
+    }
+
+    /**
+     * 엔드포인트 Bean을 등록한다.
+     */
+    public void register(Object bean) {
+        WebSocketEndpoint annotation = bean.getClass().getAnnotation(WebSocketEndpoint.class);
+        if(annotation == null)
+            throw new IllegalStateException(bean.getClass().getName() + " is not annotated with @WebSocketEndpoint");
+
+        if(endpoints.putIfAbsent(annotation.value(), AnnotatedEndpoint.of(bean, annotation)) != null)
+            throw new IllegalStateException("Duplicate WebSocket endpoint " + annotation.value());
+    }
+
+    /**
+     * @return 경로에 등록된 엔드포인트, 없으면 {@code null}
+     */
+    AnnotatedEndpoint find(String path) {
+        return endpoints.get(path);
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.websocket.WebSocketFrame;
+import org.example.framework.was.protocol.websocket.WebSocketFrameWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WebSocket 연결 하나를 표현한다. 엔드포인트 메서드에 전달되며 메시지 전송과 종료를 담당한다.
+ *
+ * <p>
+ * 전송 메서드는 어떤 스레드에서든 호출할 수 있다.
+ * <ul>
+ *     <li>{@link #sendText(String)}, {@link #send(PreparedFrame)} - 호출한 스레드에서 바로 기록하고 flush한다.</li>
+ *     <li>{@link #sendAsync(PreparedFrame)} - 대기열에 넣고 반환한다. 쌓인 프레임이 있을 때만 가상 스레드 하나가 순서대로 비운다.
+ *         여러 세션에 브로드캐스트할 때 느린 클라이언트가 다른 세션을 막지 않는다.</li>
+ * </ul>
+ * 기록은 가상 스레드가 캐리어 스레드에 고정되지 않도록 {@link ReentrantLock}으로 보호한다.
+ * </p>
+ *
+ * @see <a href="https://github.com/jakartaee/websocket/blob/main/api/client/src/main/java/jakarta/websocket/Session.java">Jakarta WebSocket Session</a>
+ */
+public class WebSocketSession {
+
+    private final String id = UUID.randomUUID().toString();
+    private final HttpRequest handshakeRequest;
+    private final OutputStream out;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private final Queue<byte[]> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicBoolean closeSent = new AtomicBoolean();
+    private volatile boolean open = true;
+
+    WebSocketSession(HttpRequest handshakeRequest, OutputStream out) {
+        this.handshakeRequest = handshakeRequest;
+        this.out = out;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 핸드셰이크 요청의 경로를 반환한다.
+     */
+    public String getPath() {
+        return handshakeRequest.getPath();
+    }
+
+    /**
+     * 핸드셰이크 요청의 쿼리 파라미터를 반환한다.
+     */
+    public String getParameter(String name) {
+        return handshakeRequest.getParameter(name);
+    }
+
+    /**
+     * 연결별 상태를 보관하는 속성 맵
+     */
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Close 프레임을 주고받기 전이면 {@code true}
+     */
+    public boolean isOpen() {
+        return open && !closeSent.get();
+    }
+
+    public void sendText(String text) throws IOException {
+        sendFrame(WebSocketFrameWriter.encode(true, WebSocketFrame.TEXT, text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void sendBinary(byte[] data) throws IOException {
+        sendFrame(WebSocketFrameWriter.encode(true, WebSocketFrame.BINARY, data));
+    }
+
+    /**
+     * 미리 인코딩된 프레임을 호출한 스레드에서 전송한다.
+     */
+    public void send(PreparedFrame frame) throws IOException {
+        sendFrame(frame.bytes());
+    }
+
+    /**
+     * 미리 인코딩된 프레임을 전송 대기열에 넣는다. 전송 실패는 연결 종료로 처리된다.
+     */
+    public void sendAsync(PreparedFrame frame) {
+        if(!isOpen())
+            return;
+        outbound.add(frame.bytes());
+        if(draining.compareAndSet(false, true))
+            Thread.ofVirtual().name("websocket-writer").start(this::drain);
+    }
+
+    public void ping(byte[] data) throws IOException {
+        writeControl(WebSocketFrameWriter.encode(true, WebSocketFrame.PING, data));
+    }
+
+    /**
+     * 정상 종료(1000)를 요청한다.
+     */
+    public void close() throws IOException {
+        close(WebSocketFrame.NORMAL_CLOSURE, null);
+    }
+
+    /**
+     * Close 프레임을 보낸다. 이후 데이터 메시지는 보낼 수 없으며, 상대의 Close 프레임을 받으면 연결이 닫힌다.
+     */
+    public void close(int code, String reason) throws IOException {
+        if(!closeSent.compareAndSet(false, true))
+            return;
+        write(WebSocketFrameWriter.encodeClose(code, reason));
+    }
+
+    void pong(byte[] data) throws IOException {
+        writeControl(WebSocketFrameWriter.encode(true, WebSocketFrame.PONG, data));
+    }
+
+    boolean isCloseSent() {
+        return closeSent.get();
+    }
+
+    /**
+     * 연결이 끝났음을 표시한다. 대기 중인 비동기 전송은 버린다.
+     */
+    void markClosed() {
+        open = false;
+        outbound.clear();
+    }
+
+    private void sendFrame(byte[] frame) throws IOException {
+        if(!isOpen())
+            throw new IOException("WebSocket session " + id + " is closed");
+        write(frame);
+    }
+
+    private void writeControl(byte[] frame) throws IOException {
+        if(open)
+            write(frame);
+    }
+
+    private void write(byte[] frame) throws IOException {
+        writeLock.lock();
+        try {
+            out.write(frame);
+            out.flush();
+        } catch (IOException e) {
+            markClosed();
+            throw e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                byte[] frame;
+                while((frame = outbound.poll()) != null)
+                    sendFrame(frame);
+            } catch (IOException e) {
+                outbound.clear();
+            } finally {
+                draining.set(false);
+            }
+        } while(!outbound.isEmpty() && isOpen() && draining.compareAndSet(false, true));
+    }
+}
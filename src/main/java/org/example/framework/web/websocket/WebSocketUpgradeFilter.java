@@ -0,0 +1,61 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpResponse;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.protocol.websocket.WebSocketHandshake;
+import org.example.framework.web.filter.Filter;
+import org.example.framework.web.filter.FilterChain;
+
+/**
+ * 등록된 WebSocket 엔드포인트 경로로 들어온 업그레이드 요청을 처리하는 필터
+ *
+ * <p>
+ * 핸드셰이크가 올바르면 {@code 101 Switching Protocols}와 {@code Sec-WebSocket-Accept}를 설정하고
+ * {@link HttpRequest#upgrade}로 {@link WebSocketConnection}을 등록한다. 이후 연결은 컨테이너가 전환한다.
+ * 업그레이드 요청이 아니거나 엔드포인트가 없는 경로는 그대로 다음 필터로 넘긴다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code Sec-WebSocket-Version}이 13이 아니면 - 426, 지원 버전을 헤더로 알린다.</li>
+ *     <li>{@code Sec-WebSocket-Key}가 올바르지 않으면 - 400</li>
+ * </ul>
+ *
+ * @see <a href="https://github.com/apache/tomcat/blob/main/java/org/apache/tomcat/websocket/server/WsFilter.java">Apache Tomcat WsFilter</a>
+ */
+public class WebSocketUpgradeFilter implements Filter {
+
+    private final WebSocketEndpointRegistry registry;
+
+    public WebSocketUpgradeFilter(WebSocketEndpointRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws Exception {
+        AnnotatedEndpoint endpoint;
+        if(!WebSocketHandshake.isUpgradeRequest(request) || (endpoint = registry.find(request.getPath())) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if(!WebSocketHandshake.VERSION.equals(request.getHeader().getFirst("Sec-WebSocket-Version"))) {
+            response.setStatus(HttpStatus.UPGRADE_REQUIRED);
+            response.getHeader().set("Sec-WebSocket-Version", WebSocketHandshake.VERSION);
+            return;
+        }
+
+        String key = request.getHeader().getFirst("Sec-WebSocket-Key");
+        if(!WebSocketHandshake.isValidKey(key)) {
+            response.setStatus(HttpStatus.BAD_REQUEST);
+            response.writeBody("Invalid Sec-WebSocket-Key");
+            return;
+        }
+
+        response.setStatus(HttpStatus.SWITCHING_PROTOCOLS);
+        response.getHeader().set("Upgrade", "websocket");
+        response.getHeader().set("Connection", "Upgrade");
+        response.getHeader().set("Sec-WebSocket-Accept", WebSocketHandshake.acceptKey(key));
+        request.upgrade(new WebSocketConnection(endpoint, request));
+    }
+}
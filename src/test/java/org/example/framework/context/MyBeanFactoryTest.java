@@ -1,8 +1,10 @@
 package org.example.framework.context;
 
 import org.example.framework.annotation.Autowired;
+import org.example.framework.annotation.PreDestroy;
 import org.example.framework.context.beanDefinition.BeanDefinition;
 import org.example.framework.context.beanDefinition.ClassBeanDefinition;
+import org.example.framework.context.scope.RequestScope;
 import org.example.framework.core.BeanDefinitionRegistry;
 import org.example.framework.core.BeanFactory;
 import org.example.framework.exception.bean.BeanCreationException;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -59,6 +62,36 @@ class MyBeanFactoryTest {
         public B(A a) {}
     }
 
+    public interface Counter {
+        int next();
+    }
+
+    static class RequestCounter implements Counter {
+        static final AtomicInteger destroyed = new AtomicInteger();
+        private int count;
+
+        public RequestCounter() {}
+
+        @Override
+        public int next() {
+            return ++count;
+        }
+
+        @PreDestroy
+        void destroy() {
+            destroyed.incrementAndGet();
+        }
+    }
+
+    static class CounterClient {
+        private final Counter counter;
+
+        @Autowired
+        public CounterClient(Counter counter) {
+            this.counter = counter;
+        }
+    }
+
     @BeforeEach
     void given() {
         registry = new MyBeanDefinitionRegistry();
@@ -314,4 +347,57 @@ class MyBeanFactoryTest {
 
         assertThrows(BeanCreationException.class, () -> factory.getBean("a"));
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("REQUEST 스코프 테스트")
+    class RequestScopeTests {
+
+        @BeforeEach
+        void registerRequestBean() {
+            registry.registerBeanDefinition("requestCounter", new ClassBeanDefinition(RequestCounter.class, ScopeType.REQUEST));
+            RequestCounter.destroyed.set(0);
+        }
+
+        @Test
+        @DisplayName("요청 밖에서 조회하면 IllegalStateException 예외 발생")
+        void should_Throw_When_No_Request_Scope() {
+            assertThrows(IllegalStateException.class, () -> factory.getBean("requestCounter"));
+        }
+
+        @Test
+        @DisplayName("같은 요청에서는 같은 인스턴스, 다른 요청에서는 다른 인스턴스를 반환하고 요청이 끝나면 파기한다")
+        void should_Share_Instance_Within_Request() {
+            RequestScope first = new RequestScope();
+            Object a;
+            try(RequestScope.Binding ignored = first.bind()) {
+                a = factory.getBean("requestCounter");
+                assertSame(a, factory.getBean("requestCounter"));
+            }
+            first.close();
+            assertEquals(1, RequestCounter.destroyed.get());
+
+            RequestScope second = new RequestScope();
+            try(RequestScope.Binding ignored = second.bind()) {
+                assertNotSame(a, factory.getBean("requestCounter"));
+            }
+            second.close();
+            assertEquals(2, RequestCounter.destroyed.get());
+        }
+
+        @Test
+        @DisplayName("싱글톤에는 호출마다 현재 요청의 인스턴스를 조회하는 프록시가 주입된다")
+        void should_Inject_Scoped_Proxy_Into_Singleton() {
+            registry.registerBeanDefinition("counterClient", new ClassBeanDefinition(CounterClient.class, ScopeType.SINGLETON));
+            CounterClient client = factory.getBean(CounterClient.class);
+
+            try(RequestScope scope = new RequestScope(); RequestScope.Binding ignored = scope.bind()) {
+                assertEquals(1, client.counter.next());
+                assertEquals(2, client.counter.next());
+            }
+            try(RequestScope scope = new RequestScope(); RequestScope.Binding ignored = scope.bind()) {
+                assertEquals(1, client.counter.next());
+            }
+            assertThrows(IllegalStateException.class, client.counter::next);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.framework.context.scope;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestScopeTest {
+
+    @Test
+    @DisplayName("bind한 동안만 current로 조회되고, 닫으면 이전 스코프로 돌아간다")
+    void bind_restoresPrevious() {
+        RequestScope outer = new RequestScope();
+        RequestScope inner = new RequestScope();
+
+        try(RequestScope.Binding ignored = outer.bind()) {
+            try(RequestScope.Binding ignored2 = inner.bind()) {
+                assertSame(inner, RequestScope.current());
+            }
+            assertSame(outer, RequestScope.current());
+        }
+        assertNull(RequestScope.current());
+    }
+
+    @Test
+    @DisplayName("같은 이름의 빈은 한 번만 만든다")
+    void get_createsOnce() {
+        RequestScope scope = new RequestScope();
+        AtomicInteger created = new AtomicInteger();
+
+        Object first = scope.get("bean", () -> "bean-" + created.incrementAndGet(), null);
+        Object second = scope.get("bean", () -> "bean-" + created.incrementAndGet(), null);
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(1, scope.size());
+    }
+
+    @Test
+    @DisplayName("wrap으로 감싼 작업은 다른 스레드에서도 같은 스코프를 쓰고, 끝나면 연결이 풀린다")
+    void wrap_propagatesToChildTask() throws Exception {
+        RequestScope scope = new RequestScope();
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Object parent;
+            Object child;
+            try(RequestScope.Binding ignored = scope.bind()) {
+                parent = scope.get("bean", Object::new, null);
+                child = executor.submit(RequestScope.wrap(() -> RequestScope.current().get("bean", Object::new, null))).get();
+            }
+
+            assertSame(parent, child);
+            assertNull(executor.submit(RequestScope::current).get());
+        }
+    }
+
+    @Test
+    @DisplayName("close는 파기 작업을 생성 역순으로 한 번만 실행하고, 이후 새 빈을 만들 수 없다")
+    void close_destroysInReverseOrder() {
+        RequestScope scope = new RequestScope();
+        List<Object> destroyed = new ArrayList<>();
+        scope.get("a", () -> "a", destroyed::add);
+        scope.get("b", () -> "b", destroyed::add);
+
+        scope.close();
+        scope.close();
+
+        assertEquals(List.of("b", "a"), destroyed);
+        assertTrue(scope.isClosed());
+        assertThrows(IllegalStateException.class, () -> scope.get("c", () -> "c", null));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.framework.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XxHash64Test {
+
+    private static long hash(byte[] data) {
+        XxHash64 hash = new XxHash64();
+        hash.update(data, 0, data.length);
+        return hash.getValue();
+    }
+
+    @Test
+    @DisplayName("참조 구현과 같은 값을 낸다")
+    void referenceValues() {
+        assertEquals(0xEF46DB3751D8E999L, hash(new byte[0]));
+        assertEquals(0xD24EC4F1A98C6E5BL, hash("a".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(0x44BC2CF5AD770999L, hash("abc".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("나누어 넣어도 한 번에 넣은 것과 같은 값을 내고, reset 후 다시 쓸 수 있다")
+    void incremental() {
+        byte[] data = new byte[1000];
+        new Random(42).nextBytes(data);
+        long expected = hash(data);
+
+        XxHash64 hash = new XxHash64();
+        for(int step : new int[]{1, 7, 31, 32, 33, 100}) {
+            hash.reset();
+            for(int off = 0; off < data.length; off += step)
+                hash.update(data, off, Math.min(step, data.length - off));
+            assertEquals(expected, hash.getValue(), "step=" + step);
+        }
+
+        data[999] ^= 1;
+        assertNotEquals(expected, hash(data));
+    }
+}
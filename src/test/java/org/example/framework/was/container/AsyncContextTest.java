@@ -0,0 +1,140 @@
+package org.example.framework.was.container;
+
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncContextTest {
+
+    private HttpRequest request;
+    private HttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/async");
+        response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("startAsync는 요청당 한 번만 호출할 수 있다")
+    void should_start_async_only_once() {
+        AsyncContext asyncContext = request.startAsync(response);
+
+        assertTrue(request.isAsyncStarted());
+        assertSame(asyncContext, request.getAsyncContext());
+        assertThrows(IllegalStateException.class, () -> request.startAsync(response));
+    }
+
+    @Test
+    @DisplayName("complete는 처음 호출한 쪽만 응답을 작성하고 리스너는 그 뒤에 실행된다")
+    void should_complete_exactly_once() {
+        AsyncContext asyncContext = request.startAsync(response);
+        List<String> calls = new ArrayList<>();
+        asyncContext.addListener(() -> calls.add("listener"));
+
+        assertTrue(asyncContext.complete(() -> calls.add("first")));
+        assertFalse(asyncContext.complete(() -> calls.add("second")));
+
+        assertEquals(List.of("first", "listener"), calls);
+        assertTrue(asyncContext.isCompleted());
+    }
+
+    @Test
+    @DisplayName("완료 후 등록한 리스너는 바로 실행된다")
+    void should_run_listener_added_after_completion() {
+        AsyncContext asyncContext = request.startAsync(response);
+        asyncContext.complete();
+
+        AtomicInteger calls = new AtomicInteger();
+        asyncContext.addListener(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("리스너 실행 중 다른 스레드에서 등록한 리스너는 겹치지 않고 등록 순서대로 이어서 실행된다")
+    void should_queue_listener_added_while_draining() throws Exception {
+        AsyncContext asyncContext = request.startAsync(response);
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        asyncContext.addListener(() -> {
+            if(running.incrementAndGet() > 1)
+                overlapped.set(true);
+            firstStarted.countDown();
+            try {
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            calls.add("first");
+            running.decrementAndGet();
+        });
+
+        Thread completer = new Thread(asyncContext::complete);
+        completer.start();
+        assertTrue(firstStarted.await(1, TimeUnit.SECONDS));
+
+        asyncContext.addListener(() -> {
+            if(running.incrementAndGet() > 1)
+                overlapped.set(true);
+            calls.add("late");
+            running.decrementAndGet();
+        });
+        assertTrue(calls.isEmpty());
+
+        releaseFirst.countDown();
+        completer.join(1_000);
+
+        assertFalse(overlapped.get());
+        assertEquals(List.of("first", "late"), calls);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 완료되지 않으면 타임아웃 작업으로 완료된다")
+    void should_complete_with_timeout_handler() throws InterruptedException {
+        AsyncContext asyncContext = request.startAsync(response);
+        CountDownLatch completed = new CountDownLatch(1);
+        asyncContext.setTimeout(50);
+        asyncContext.setTimeoutHandler(() -> response.setStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        asyncContext.addListener(completed::countDown);
+
+        asyncContext.startTimeout();
+
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        // 늦게 도착한 결과는 무시된다.
+        assertFalse(asyncContext.complete(() -> response.setStatus(HttpStatus.OK)));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("제한 시간 전에 완료되면 타임아웃 작업은 실행되지 않는다")
+    void should_not_time_out_after_completion() throws InterruptedException {
+        AsyncContext asyncContext = request.startAsync(response);
+        AtomicInteger timeouts = new AtomicInteger();
+        asyncContext.setTimeout(30);
+        asyncContext.setTimeoutHandler(timeouts::incrementAndGet);
+
+        asyncContext.startTimeout();
+        assertTrue(asyncContext.complete());
+
+        Thread.sleep(100);
+        assertEquals(0, timeouts.get());
+    }
+}
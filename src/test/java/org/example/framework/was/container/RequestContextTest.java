@@ -0,0 +1,118 @@
+package org.example.framework.was.container;
+
+import org.example.framework.exception.http.DeadlineExceededException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestContextTest {
+
+    private static HttpRequest request(String timeoutHeader) {
+        HttpHeader header = new HttpHeader();
+        if(timeoutHeader != null)
+            header.put(RequestContext.TIMEOUT_HEADER, timeoutHeader);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/test");
+    }
+
+    @Test
+    @DisplayName("설정과 헤더가 모두 없으면 기한이 없다")
+    void of_withoutTimeout() {
+        RequestContext context = RequestContext.of(request(null), 0);
+
+        assertFalse(context.hasDeadline());
+        assertEquals(Long.MAX_VALUE, context.remainingMillis());
+        assertTrue(context.isActive());
+    }
+
+    @Test
+    @DisplayName("헤더는 설정된 기한을 줄일 수만 있다")
+    void of_headerOnlyShortens() {
+        assertTrue(RequestContext.of(request("100"), 10_000).remainingMillis() <= 100);
+        assertTrue(RequestContext.of(request("60000"), 1_000).remainingMillis() <= 1_000);
+        assertTrue(RequestContext.of(request("100"), 0).remainingMillis() <= 100);
+    }
+
+    @Test
+    @DisplayName("잘못된 헤더 값은 무시한다")
+    void of_ignoresInvalidHeader() {
+        assertFalse(RequestContext.of(request("soon"), 0).hasDeadline());
+        assertFalse(RequestContext.of(request("-5"), 0).hasDeadline());
+    }
+
+    @Test
+    @DisplayName("기한이 지나면 checkActive가 DeadlineExceededException을 던진다")
+    void checkActive_afterDeadline() throws InterruptedException {
+        RequestContext context = RequestContext.withTimeout(1);
+        Thread.sleep(5);
+
+        assertTrue(context.isExpired());
+        assertEquals(0, context.remainingMillis());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, assertThrows(DeadlineExceededException.class, context::checkActive).getStatus());
+    }
+
+    @Test
+    @DisplayName("attach한 동안만 current로 조회되고, 닫으면 이전 컨텍스트로 돌아간다")
+    void attach_bindsCurrentThread() {
+        RequestContext outer = RequestContext.create();
+        RequestContext inner = RequestContext.create();
+
+        try(RequestContext.Scope ignored = outer.attach()) {
+            try(RequestContext.Scope ignored2 = inner.attach()) {
+                assertSame(inner, RequestContext.current());
+            }
+            assertSame(outer, RequestContext.current());
+        }
+        assertNull(RequestContext.current());
+    }
+
+    @Test
+    @DisplayName("취소하면 연결된 스레드가 인터럽트되고, 닫을 때 인터럽트 상태가 지워진다")
+    void cancel_interruptsAttachedThread() throws Exception {
+        RequestContext context = RequestContext.create();
+        CountDownLatch attached = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean clearedAfterClose = new AtomicBoolean();
+
+        Thread worker = Thread.ofVirtual().start(() -> {
+            try(RequestContext.Scope ignored = context.attach()) {
+                attached.countDown();
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    // 처리 코드가 인터럽트 상태를 복원한 채로 반환하는 경우
+                    Thread.currentThread().interrupt();
+                }
+            }
+            clearedAfterClose.set(!Thread.currentThread().isInterrupted());
+        });
+
+        assertTrue(attached.await(1, TimeUnit.SECONDS));
+        context.cancel();
+        worker.join(1_000);
+
+        assertTrue(interrupted.get());
+        assertTrue(clearedAfterClose.get());
+        assertThrows(CancellationException.class, context::checkActive);
+    }
+
+    @Test
+    @DisplayName("연결을 끊은 뒤의 취소는 스레드를 인터럽트하지 않는다")
+    void cancel_afterClose() {
+        RequestContext context = RequestContext.create();
+        context.attach().close();
+
+        context.cancel();
+
+        assertTrue(context.isCancelled());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.framework.was.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisconnectMonitorInputStreamTest {
+
+    @Test
+    @DisplayName("감시 중 상대가 연결을 닫으면 콜백이 호출된다")
+    void watch_detectsDisconnect() throws Exception {
+        PipedOutputStream client = new PipedOutputStream();
+        DisconnectMonitorInputStream in = new DisconnectMonitorInputStream(new PipedInputStream(client));
+        CountDownLatch disconnected = new CountDownLatch(1);
+
+        in.watch(disconnected::countDown);
+        client.close();
+
+        assertTrue(disconnected.await(1, TimeUnit.SECONDS));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    @DisplayName("감시 중 도착한 바이트는 보관되었다가 다음 read가 돌려준다")
+    void watch_keepsPipelinedByte() throws Exception {
+        PipedOutputStream client = new PipedOutputStream();
+        DisconnectMonitorInputStream in = new DisconnectMonitorInputStream(new PipedInputStream(client));
+        CountDownLatch disconnected = new CountDownLatch(1);
+
+        in.watch(disconnected::countDown);
+        client.write("GET / HTTP/1.1".getBytes(StandardCharsets.US_ASCII));
+        client.flush();
+        in.unwatch();
+
+        byte[] buffer = new byte[32];
+        int n = in.read(buffer, 0, buffer.length);
+        StringBuilder received = new StringBuilder(new String(buffer, 0, n, StandardCharsets.US_ASCII));
+        while(received.length() < 14) {
+            n = in.read(buffer, 0, buffer.length);
+            received.append(new String(buffer, 0, n, StandardCharsets.US_ASCII));
+        }
+
+        assertEquals("GET / HTTP/1.1", received.toString());
+        assertEquals(1, disconnected.getCount());
+    }
+
+    @Test
+    @DisplayName("unwatch 이후의 연결 종료는 콜백을 호출하지 않는다")
+    void unwatch_suppressesCallback() throws Exception {
+        PipedOutputStream client = new PipedOutputStream();
+        DisconnectMonitorInputStream in = new DisconnectMonitorInputStream(new PipedInputStream(client));
+        CountDownLatch disconnected = new CountDownLatch(1);
+
+        in.watch(disconnected::countDown);
+        in.unwatch();
+        client.close();
+
+        assertEquals(-1, in.read());
+        assertFalse(disconnected.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("이미 받은 바이트가 있으면 감시하지 않는다")
+    void watch_skipsWhenDataBuffered() throws IOException {
+        PipedOutputStream client = new PipedOutputStream();
+        DisconnectMonitorInputStream in = new DisconnectMonitorInputStream(new PipedInputStream(client));
+        client.write('G');
+        client.close();
+
+        in.watch(() -> fail("should not probe"));
+
+        assertEquals('G', in.read());
+    }
+}
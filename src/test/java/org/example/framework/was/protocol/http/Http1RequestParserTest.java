@@ -1,11 +1,15 @@
 package org.example.framework.was.protocol.http;
 
 import org.example.framework.exception.was.HttpParsingException;
+import org.example.framework.exception.was.RequestLimitExceededException;
 import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.core.RequestLimits;
 import org.example.framework.was.protocol.http.http1.Http1RequestParser;
 import org.example.framework.was.protocol.model.HttpHeader;
 import org.example.framework.was.protocol.model.HttpMethod;
 import org.example.framework.was.protocol.model.HttpRequest;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.protocol.model.StreamingBody;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -213,4 +217,64 @@ class Http1RequestParserTest {
          });
 
     }
+
+    @Test
+    @DisplayName("multipart/form-data 본문은 읽지 않고 StreamingBody로 넘기며, 그 뒤의 바이트는 다음 요청으로 남는다")
+    void should_Stream_Multipart_Body() throws Exception {
+        String rawRequest = "POST /upload HTTP/1.1\r\n" +
+                "Content-Type: multipart/form-data; boundary=x\r\n" +
+                "Content-Length: 5\r\n" +
+                "\r\n" +
+                "12345GET /next HTTP/1.1\r\n\r\n";
+        InputStream inputStream = new ByteArrayInputStream(rawRequest.getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = parser.parse(inputStream);
+
+        StreamingBody body = assertInstanceOf(StreamingBody.class, request.getBody());
+        assertEquals(5, body.getContentLengthLong());
+        assertEquals("12", new String(body.getInputStream().readNBytes(2), StandardCharsets.UTF_8));
+        assertTrue(body.discard(1024));
+        assertEquals(-1, body.getInputStream().read());
+        assertEquals("/next", parser.parse(inputStream).getPath());
+    }
+
+    @Test
+    @DisplayName("요청 라인, 헤더 크기, 헤더 수, 본문 크기가 한도를 넘으면 남은 입력을 읽지 않고 414/431/413")
+    void should_Reject_Requests_Over_Limits() {
+        Http1RequestParser limited = new Http1RequestParser(new RequestLimits(32, 64, 3, 10));
+
+        String longLine = "GET /" + "a".repeat(40) + " HTTP/1.1\r\n\r\n";
+        assertEquals(HttpStatus.URI_TOO_LONG, assertThrows(RequestLimitExceededException.class,
+                () -> limited.parse(new ByteArrayInputStream(longLine.getBytes(StandardCharsets.US_ASCII)))).getStatus());
+
+        String manyHeaders = "GET / HTTP/1.1\r\nA: 1\r\nB: 2\r\nC: 3\r\nD: 4\r\n\r\n";
+        assertEquals(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE, assertThrows(RequestLimitExceededException.class,
+                () -> limited.parse(new ByteArrayInputStream(manyHeaders.getBytes(StandardCharsets.US_ASCII)))).getStatus());
+
+        String largeHeaders = "GET / HTTP/1.1\r\nCookie: " + "c".repeat(40) + "\r\nX: " + "x".repeat(20) + "\r\n\r\n";
+        assertEquals(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE, assertThrows(RequestLimitExceededException.class,
+                () -> limited.parse(new ByteArrayInputStream(largeHeaders.getBytes(StandardCharsets.US_ASCII)))).getStatus());
+
+        String largeBody = "POST / HTTP/1.1\r\nContent-Length: 11\r\n\r\n" + "b".repeat(11);
+        ByteArrayInputStream bodyStream = new ByteArrayInputStream(largeBody.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(HttpStatus.CONTENT_TOO_LARGE, assertThrows(RequestLimitExceededException.class,
+                () -> limited.parse(bodyStream)).getStatus());
+        assertEquals(11, bodyStream.available());
+    }
+
+    @Test
+    @DisplayName("한도와 같은 크기의 요청 라인과 헤더는 허용하고, 잘못된 Content-Length는 400으로 처리한다")
+    void should_Accept_Requests_At_Limits() throws Exception {
+        Http1RequestParser limited = new Http1RequestParser(new RequestLimits(18, 17, 1, 10));
+
+        String exact = "GET /abcd HTTP/1.1\r\nHost: example.com\r\n\r\n";
+        HttpRequest request = limited.parse(new ByteArrayInputStream(exact.getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("/abcd", request.getPath());
+        assertEquals("example.com", request.getHeader().getFirst("Host"));
+
+        String invalid = "POST / HTTP/1.1\r\nContent-Length: -1\r\n\r\n";
+        HttpParsingException e = assertThrows(HttpParsingException.class,
+                () -> parser.parse(new ByteArrayInputStream(invalid.getBytes(StandardCharsets.US_ASCII))));
+        assertFalse(e instanceof RequestLimitExceededException);
+    }
 }
\ No newline at end of file
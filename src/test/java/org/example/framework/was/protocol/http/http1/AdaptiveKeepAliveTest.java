@@ -0,0 +1,61 @@
+package org.example.framework.was.protocol.http.http1;
+
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveKeepAliveTest {
+
+    private final AdaptiveKeepAlive policy = new AdaptiveKeepAlive(new KeepAliveSettings(1_000, 21_000, 100, 10));
+
+    @Test
+    @DisplayName("여유가 있으면 최대, 부하가 높으면 최소 유휴 시간을 쓰고 그 사이는 선형으로 줄인다")
+    void idleTimeoutFollowsLoad() {
+        assertEquals(21_000, policy.decide(1, 0, 0.2).timeout());
+        assertEquals(11_000, policy.decide(1, 0, 0.65).timeout());
+        assertEquals(1_000, policy.decide(1, 0, 0.9).timeout());
+    }
+
+    @Test
+    @DisplayName("열린 연결 수와 워커 부하 중 큰 값을 부하로 본다")
+    void loadFromConnectionsAndWorkers() {
+        for(int i = 0; i < 6; i++)
+            policy.connectionOpened();
+        assertEquals(0.6, policy.load(), 1e-9);
+
+        policy.setWorkerLoad(() -> 0.9);
+        assertEquals(0.9, policy.load(), 1e-9);
+
+        policy.connectionClosed();
+        assertEquals(5, policy.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("부하가 높으면 드물게 요청하는 연결부터 닫고, 수용량에 도달하면 모두 닫는다")
+    void closesLeastActiveUnderPressure() {
+        long fast = TimeUnit.MILLISECONDS.toNanos(50);
+        long slow = TimeUnit.MILLISECONDS.toNanos(900);
+
+        assertTrue(policy.decide(5, slow, 0.5).keepAlive());
+
+        // pressure 0.5 -> 허용 간격은 유휴 시간(1초)의 절반
+        assertTrue(policy.decide(5, fast, 0.9).keepAlive());
+        assertFalse(policy.decide(5, slow, 0.9).keepAlive());
+
+        assertFalse(policy.decide(1, 0, 1.0).keepAlive());
+    }
+
+    @Test
+    @DisplayName("최대 요청 수에 이르면 닫고, 그 전에는 남은 요청 수를 헤더로 알린다")
+    void maxRequests() {
+        AdaptiveKeepAlive.Decision decision = policy.decide(99, 0, 0);
+        assertTrue(decision.keepAlive());
+        assertEquals("timeout=21, max=1", decision.headerValue());
+
+        assertFalse(policy.decide(100, 0, 0).keepAlive());
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.framework.was.protocol.http.http1;
+
+import org.example.framework.was.protocol.core.KeepAliveSettings;
+import org.example.framework.was.protocol.core.RequestLimits;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.example.framework.was.protocol.model.StreamingBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Http1ProtocolHandlerTest {
+
+    private static final String UPLOAD = "POST /upload HTTP/1.1\r\n" +
+            "Content-Type: text/plain\r\n" +
+            "Content-Length: 5\r\n" +
+            "Expect: 100-continue\r\n" +
+            "\r\n" +
+            "hello";
+
+    private static ByteArrayInputStream in(String raw) {
+        return new ByteArrayInputStream(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("핸들러가 본문을 읽을 때만 100 Continue를 보내고, 그 뒤에 최종 응답을 보낸다")
+    void continueOnRead() throws Exception {
+        AtomicReference<String> received = new AtomicReference<>();
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> {
+            assertTrue(((StreamingBody) request.getBody()).isContinuePending());
+            received.set(request.getBody().getAsString("UTF-8"));
+            response.writeBody("ok");
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertTrue(handler.processOnce(in(UPLOAD), out));
+
+        String written = out.toString(StandardCharsets.US_ASCII);
+        assertEquals("hello", received.get());
+        assertTrue(written.startsWith("HTTP/1.1 100 Continue\r\n\r\nHTTP/1.1 200 OK\r\n"), written);
+    }
+
+    @Test
+    @DisplayName("본문을 읽기 전에 거절하면 100 Continue 없이 최종 응답만 보내고 연결을 닫는다")
+    void rejectBeforeRead() throws Exception {
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> {
+            response.setStatus(HttpStatus.CONTENT_TOO_LARGE);
+            response.writeBody("too large");
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(handler.processOnce(in(UPLOAD), out));
+
+        String written = out.toString(StandardCharsets.US_ASCII);
+        assertTrue(written.startsWith("HTTP/1.1 413 Content Too Large\r\n"), written);
+        assertTrue(written.contains("Connection: close"), written);
+        assertFalse(written.contains("100 Continue"));
+    }
+
+    @Test
+    @DisplayName("100-continue 외의 기대값은 서블릿을 호출하지 않고 417로 응답한다")
+    void unsupportedExpectation() throws Exception {
+        AtomicBoolean called = new AtomicBoolean();
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> called.set(true));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(handler.processOnce(in(UPLOAD.replace("100-continue", "fast-lane")), out));
+
+        assertFalse(called.get());
+        assertTrue(out.toString(StandardCharsets.US_ASCII).startsWith("HTTP/1.1 417 Expectation Failed\r\n"));
+    }
+
+    @Test
+    @DisplayName("417 응답 본문에 요청의 Expect 값을 그대로 담지 않는다")
+    void unsupportedExpectationDoesNotEchoHeader() throws Exception {
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> {});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(handler.processOnce(in(UPLOAD.replace("100-continue", "<script>alert(1)</script>")), out));
+
+        String written = out.toString(StandardCharsets.UTF_8);
+        assertTrue(written.startsWith("HTTP/1.1 417 Expectation Failed\r\n"), written);
+        assertFalse(written.contains("<script>"), written);
+        assertFalse(written.contains("alert(1)"), written);
+    }
+
+    @Test
+    @DisplayName("HTTP/1.0 요청의 Expect는 무시하고 본문을 바로 읽는다")
+    void http10IgnoresExpect() throws Exception {
+        AtomicReference<String> received = new AtomicReference<>();
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> {
+            assertFalse(request.getBody() instanceof StreamingBody);
+            received.set(request.getBody().getAsString("UTF-8"));
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        handler.processOnce(in(UPLOAD.replace("HTTP/1.1", "HTTP/1.0")), out);
+
+        assertEquals("hello", received.get());
+        assertFalse(out.toString(StandardCharsets.US_ASCII).contains("100 Continue"));
+    }
+
+    @Test
+    @DisplayName("파싱 한도를 넘으면 서블릿을 호출하지 않고 미리 인코딩된 응답을 보낸 뒤 연결을 닫는다")
+    void limitExceeded() throws Exception {
+        AtomicBoolean called = new AtomicBoolean();
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> called.set(true),
+                new RequestLimits(64, 64, 10, 4));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(handler.processOnce(in(UPLOAD), out));
+
+        assertFalse(called.get());
+        String written = out.toString(StandardCharsets.US_ASCII);
+        assertTrue(written.startsWith("HTTP/1.1 413 Content Too Large\r\n"), written);
+        assertTrue(written.contains("Content-Length: 0\r\n") && written.endsWith("Connection: close\r\n\r\n"), written);
+    }
+
+    @Test
+    @DisplayName("연결을 유지하면 Keep-Alive 헤더로 유휴 시간과 남은 요청 수를 알린다")
+    void advertisesKeepAlive() throws Exception {
+        AdaptiveKeepAlive policy = new AdaptiveKeepAlive(new KeepAliveSettings(1_000, 10_000, 2, 100));
+        Http1ProtocolHandler handler = new Http1ProtocolHandler(
+                (request, response) -> response.writeBody("ok"), RequestLimits.defaults(), policy);
+        String get = "GET / HTTP/1.1\r\nHost: a\r\n\r\n";
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        assertTrue(handler.processOnce(in(get), first));
+        assertTrue(first.toString(StandardCharsets.US_ASCII).contains("Keep-Alive: timeout=10, max=1\r\n"), first.toString());
+        assertEquals(10_000, handler.getIdleTimeout());
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        assertFalse(handler.processOnce(in(get), second), "max requests reached");
+        String written = second.toString(StandardCharsets.US_ASCII);
+        assertTrue(written.contains("Connection: close"), written);
+        assertFalse(written.contains("Keep-Alive"), written);
+    }
+
+    @Test
+    @DisplayName("수용량을 넘으면 Connection: close로 응답하고 짧은 유휴 시간을 쓴다")
+    void closesUnderPressure() throws Exception {
+        AdaptiveKeepAlive policy = new AdaptiveKeepAlive(new KeepAliveSettings(1_000, 10_000, 100, 100));
+        policy.setWorkerLoad(() -> 1.2);
+        Http1ProtocolHandler handler = new Http1ProtocolHandler(
+                (request, response) -> response.writeBody("ok"), RequestLimits.defaults(), policy);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(handler.processOnce(in("GET / HTTP/1.1\r\nHost: a\r\n\r\n"), out));
+        assertTrue(out.toString(StandardCharsets.US_ASCII).contains("Connection: close"), out.toString());
+        assertEquals(1_000, handler.getIdleTimeout());
+    }
+
+    @Test
+    @DisplayName("연결의 상대 주소를 요청에 기록한다")
+    void recordsRemoteAddress() throws Exception {
+        AtomicReference<InetSocketAddress> received = new AtomicReference<>();
+        Http1ProtocolHandler handler = new Http1ProtocolHandler((request, response) -> received.set(request.getRemoteAddress()));
+        InetSocketAddress remote = new InetSocketAddress("127.0.0.1", 54321);
+        handler.setRemoteAddress(remote);
+
+        handler.processOnce(in("GET / HTTP/1.1\r\nHost: a\r\n\r\n"), new ByteArrayOutputStream());
+
+        assertEquals(remote, received.get());
+    }
+}
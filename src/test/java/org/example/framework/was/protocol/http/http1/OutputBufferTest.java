@@ -137,6 +137,26 @@ class OutputBufferTest {
         assertTrue(result.contains("X-Custom-Header: ShouldBeIncludedWhenHeadersAreDuplicated\r\n"));
     }
 
+    @Test
+    @DisplayName("304 응답에는 Content-Length와 기본 Content-Type을 작성하지 않아야 한다")
+    void should_omit_body_headers_for_not_modified() throws HttpWritingException, IOException {
+        // given
+        HttpHeader header = new HttpHeader();
+        header.put("ETag", "W/\"abc\"");
+        HttpResponse response = new HttpResponse(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.NOT_MODIFIED);
+
+        // when
+        buffer.sendHeaders(response);
+        buffer.flush();
+
+        // then
+        String result = stream.toString(StandardCharsets.UTF_8);
+        assertTrue(result.startsWith("HTTP/1.1 304 Not Modified\r\n"));
+        assertTrue(result.contains("Etag: W/\"abc\"\r\n"));
+        assertFalse(result.contains("Content-Length"));
+        assertFalse(result.contains("Content-Type"));
+    }
+
     @Test
     @DisplayName("writeInternal 호출 시 버퍼 크기(8192)를 초과하면 자동으로 flushInternal을 호출해야 한다")
     void should_auto_flushInternal_when_overflow() throws HttpWritingException, IOException {
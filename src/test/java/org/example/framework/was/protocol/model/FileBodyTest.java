@@ -0,0 +1,96 @@
+package org.example.framework.was.protocol.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileBodyTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file(int size) throws Exception {
+        byte[] data = new byte[size];
+        for(int i = 0; i < size; i++)
+            data[i] = (byte) (i % 251);
+        return Files.write(dir.resolve("export.bin"), data);
+    }
+
+    @Test
+    @DisplayName("요청한 구간만 기록하며, 전체 기록과 getData는 파일 내용과 같다")
+    void region() throws Exception {
+        Path path = file(100_000);
+        FileBody body = FileBody.of(path);
+        byte[] expected = Files.readAllBytes(path);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out, 70_000, 20_000);
+        assertArrayEquals(Arrays.copyOfRange(expected, 70_000, 90_000), out.toByteArray());
+
+        out.reset();
+        body.writeTo(out);
+        assertArrayEquals(expected, out.toByteArray());
+        assertArrayEquals(expected, body.getData());
+        assertEquals(100_000, body.getContentLengthLong());
+        assertTrue(body.isRepeatable());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> body.writeTo(out, 99_999, 2));
+    }
+
+    @Test
+    @DisplayName("대상이 WritableByteChannel이면 채널로 기록한다")
+    void channelTarget() throws Exception {
+        Path path = file(10_000);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        class ChannelStream extends OutputStream implements WritableByteChannel {
+            int channelWrites;
+
+            @Override
+            public void write(int b) {
+                fail("stream write");
+            }
+
+            @Override
+            public int write(ByteBuffer src) {
+                channelWrites++;
+                int n = src.remaining();
+                byte[] bytes = new byte[n];
+                src.get(bytes);
+                received.writeBytes(bytes);
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+        }
+
+        ChannelStream target = new ChannelStream();
+        FileBody.of(path).writeTo(target, 1_000, 5_000);
+
+        assertTrue(target.channelWrites > 0);
+        assertArrayEquals(Arrays.copyOfRange(Files.readAllBytes(path), 1_000, 6_000), received.toByteArray());
+    }
+
+    @Test
+    @DisplayName("전송 전에 파일이 줄어들면 EOFException을 던진다")
+    void truncated() throws Exception {
+        Path path = file(1_000);
+        FileBody body = FileBody.of(path);
+        Files.write(path, new byte[10]);
+
+        assertThrows(EOFException.class, () -> body.writeTo(new ByteArrayOutputStream()));
+    }
+}
@@ -4,6 +4,8 @@ import org.example.framework.was.protocol.HttpProtocolVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class HttpRequestTest {
@@ -49,4 +51,35 @@ class HttpRequestTest {
         assertSame(body, request.getBody());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("요청 대상에서 경로와 쿼리 문자열을 분리한다")
+    void should_split_path_and_query_string() {
+        HttpRequest request = new HttpRequest(
+                new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/posts/1?sort=desc&page=2"
+        );
+
+        assertEquals("/posts/1", request.getPath());
+        assertEquals("sort=desc&page=2", request.getQueryString());
+        assertEquals("/posts/1?sort=desc&page=2", request.getRequestTarget());
+        assertNull(new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/posts").getQueryString());
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터는 퍼센트 디코딩되며 같은 이름의 값을 모두 조회할 수 있다")
+    void should_decode_query_parameters() {
+        HttpRequest request = new HttpRequest(
+                new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET,
+                "/search?q=%ED%95%9C%EA%B8%80+java&tag=a&&tag=b&flag&na%6De=x"
+        );
+
+        QueryParameters query = request.getQueryParameters();
+
+        assertEquals("한글 java", request.getParameter("q"));
+        assertEquals(List.of("a", "b"), query.getAll("tag"));
+        assertEquals("", query.getFirst("flag"));
+        assertEquals("x", query.getFirst("name"));
+        assertNull(query.getFirst("missing"));
+        assertEquals(5, query.size());
+        assertSame(query, request.getQueryParameters());
+    }
+}
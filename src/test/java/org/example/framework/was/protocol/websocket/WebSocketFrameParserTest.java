@@ -0,0 +1,122 @@
+package org.example.framework.was.protocol.websocket;
+
+import org.example.framework.exception.was.WebSocketProtocolException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebSocketFrameParserTest {
+
+    private static final byte[] MASK = {0x37, (byte) 0xfa, 0x21, 0x3d};
+
+    private static WebSocketFrameParser parser(byte[]... frames) {
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        for(byte[] frame : frames)
+            all.writeBytes(frame);
+        return new WebSocketFrameParser(new ByteArrayInputStream(all.toByteArray()), 1 << 20);
+    }
+
+    private static byte[] clientFrame(boolean fin, int opcode, byte[] payload) {
+        return WebSocketFrameWriter.encode(fin, opcode, payload, 0, payload.length, MASK);
+    }
+
+    @Test
+    @DisplayName("RFC 6455 5.7 예시의 마스킹된 \"Hello\" 프레임을 읽는다")
+    void should_parse_rfc_example() throws IOException {
+        byte[] frame = {(byte) 0x81, (byte) 0x85, 0x37, (byte) 0xfa, 0x21, 0x3d, 0x7f, (byte) 0x9f, 0x4d, 0x51, 0x58};
+
+        WebSocketFrame parsed = parser(frame).parse();
+
+        assertTrue(parsed.fin());
+        assertEquals(WebSocketFrame.TEXT, parsed.opcode());
+        assertEquals("Hello", new String(parsed.payload(), StandardCharsets.UTF_8));
+        assertArrayEquals(frame, clientFrame(true, WebSocketFrame.TEXT, "Hello".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("16비트, 64비트 확장 길이 프레임을 마스킹 해제하여 읽는다")
+    void should_parse_extended_lengths() throws IOException {
+        byte[] medium = new byte[300];
+        byte[] large = new byte[70_000];
+        for(int i = 0; i < large.length; i++)
+            large[i] = (byte) (i * 31);
+        System.arraycopy(large, 0, medium, 0, medium.length);
+
+        WebSocketFrameParser parser = parser(clientFrame(true, WebSocketFrame.BINARY, medium), clientFrame(true, WebSocketFrame.BINARY, large));
+
+        assertArrayEquals(medium, parser.parse().payload());
+        assertArrayEquals(large, parser.parse().payload());
+        assertNull(parser.parse());
+    }
+
+    @Test
+    @DisplayName("분할된 프레임 사이에 제어 프레임을 읽을 수 있다")
+    void should_parse_fragments_and_control_frames() throws IOException {
+        WebSocketFrameParser parser = parser(
+                clientFrame(false, WebSocketFrame.TEXT, "Hel".getBytes(StandardCharsets.UTF_8)),
+                clientFrame(true, WebSocketFrame.PING, new byte[]{1}),
+                clientFrame(true, WebSocketFrame.CONTINUATION, "lo".getBytes(StandardCharsets.UTF_8)));
+
+        WebSocketFrame first = parser.parse();
+        assertFalse(first.fin());
+        assertEquals(WebSocketFrame.PING, parser.parse().opcode());
+        WebSocketFrame last = parser.parse();
+        assertTrue(last.fin());
+        assertEquals(WebSocketFrame.CONTINUATION, last.opcode());
+    }
+
+    @Test
+    @DisplayName("마스킹되지 않은 클라이언트 프레임은 1002로 거부한다")
+    void should_reject_unmasked_frame() {
+        WebSocketProtocolException e = assertThrows(WebSocketProtocolException.class,
+                () -> parser(WebSocketFrameWriter.encode(true, WebSocketFrame.TEXT, new byte[]{'a'})).parse());
+        assertEquals(WebSocketFrame.PROTOCOL_ERROR, e.getCloseCode());
+    }
+
+    @Test
+    @DisplayName("분할되었거나 125바이트를 넘는 제어 프레임은 거부한다")
+    void should_reject_invalid_control_frames() {
+        assertThrows(WebSocketProtocolException.class, () -> parser(clientFrame(false, WebSocketFrame.PING, new byte[0])).parse());
+        assertThrows(WebSocketProtocolException.class, () -> parser(clientFrame(true, WebSocketFrame.PING, new byte[126])).parse());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 프레임은 페이로드를 읽지 않고 1009로 거부한다")
+    void should_reject_too_big_frame() {
+        byte[] frame = clientFrame(true, WebSocketFrame.BINARY, new byte[200]);
+        WebSocketFrameParser parser = new WebSocketFrameParser(new ByteArrayInputStream(frame), 100);
+
+        WebSocketProtocolException e = assertThrows(WebSocketProtocolException.class, parser::parse);
+        assertEquals(WebSocketFrame.MESSAGE_TOO_BIG, e.getCloseCode());
+    }
+
+    @Test
+    @DisplayName("프레임 중간에 스트림이 끝나면 EOFException을 던진다")
+    void should_fail_on_truncated_frame() {
+        byte[] frame = clientFrame(true, WebSocketFrame.TEXT, "Hello".getBytes(StandardCharsets.UTF_8));
+        assertThrows(EOFException.class, () -> parser(Arrays.copyOf(frame, frame.length - 1)).parse());
+    }
+
+    @Test
+    @DisplayName("Close 프레임은 상태 코드와 이유를 기록한다")
+    void should_encode_close_frame() {
+        byte[] frame = WebSocketFrameWriter.encodeClose(WebSocketFrame.NORMAL_CLOSURE, "bye");
+        assertArrayEquals(new byte[]{(byte) 0x88, 5, 0x03, (byte) 0xE8, 'b', 'y', 'e'}, frame);
+    }
+
+    @Test
+    @DisplayName("Sec-WebSocket-Accept 값을 계산한다 (RFC 6455 1.3 예시)")
+    void should_compute_accept_key() {
+        assertEquals("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=", WebSocketHandshake.acceptKey("dGhlIHNhbXBsZSBub25jZQ=="));
+        assertTrue(WebSocketHandshake.isValidKey("dGhlIHNhbXBsZSBub25jZQ=="));
+        assertFalse(WebSocketHandshake.isValidKey("short"));
+    }
+}
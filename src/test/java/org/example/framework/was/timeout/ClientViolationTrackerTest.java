@@ -0,0 +1,49 @@
+package org.example.framework.was.timeout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientViolationTrackerTest {
+
+    private static final long WINDOW = 1_000;
+
+    private final ClientViolationTracker tracker = new ClientViolationTracker(3, WINDOW);
+    private final InetAddress address = InetAddress.getLoopbackAddress();
+
+    @Test
+    @DisplayName("구간 안에서 위반이 한도에 이르면 그 시점부터 구간 길이만큼 차단한다")
+    void blocksWithinWindow() {
+        assertFalse(tracker.record(address, 0));
+        assertFalse(tracker.record(address, 100));
+        assertTrue(tracker.record(address, 900));
+
+        assertTrue(tracker.isBlocked(address, 1_500));
+        assertTrue(tracker.isBlocked(address, 1_900));
+        assertFalse(tracker.isBlocked(address, 1_901));
+    }
+
+    @Test
+    @DisplayName("구간이 지나면 위반 횟수를 다시 센다")
+    void windowExpires() {
+        tracker.record(address, 0);
+        tracker.record(address, 100);
+
+        assertFalse(tracker.record(address, 1_200));
+        assertFalse(tracker.isBlocked(address, 1_200));
+    }
+
+    @Test
+    @DisplayName("구간이 지난 기록을 지운다")
+    void purge() {
+        tracker.record(address, 0);
+        tracker.purge(500);
+        assertEquals(1, tracker.size());
+
+        tracker.purge(1_001);
+        assertEquals(0, tracker.size());
+    }
+}
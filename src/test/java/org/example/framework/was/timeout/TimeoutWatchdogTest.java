@@ -0,0 +1,182 @@
+package org.example.framework.was.timeout;
+
+import org.example.framework.was.protocol.core.RequestProgressListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeoutWatchdogTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConnectionTimeouts timeouts = new ConnectionTimeouts(10_000, 100, 5_000, 10_000, 2, 60_000);
+
+    private TimeoutWatchdog watchdog;
+    private ServerSocket serverSocket;
+    private Socket client;
+    private Socket server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        watchdog = new TimeoutWatchdog(timeouts);
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        connect();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+        serverSocket.close();
+    }
+
+    private void connect() throws IOException {
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        server = serverSocket.accept();
+    }
+
+    private void send(String data) throws IOException {
+        client.getOutputStream().write(data.getBytes(StandardCharsets.US_ASCII));
+        client.getOutputStream().flush();
+    }
+
+    @Test
+    @DisplayName("헤더를 기한 안에 끝내지 않으면 첫 바이트 기준으로 연결을 닫는다")
+    void headerDeadline() throws IOException {
+        ConnectionGuard guard = watchdog.register(server);
+        InputStream in = guard.wrap(server.getInputStream());
+
+        watchdog.check(System.nanoTime() + 60 * SECOND);
+        assertFalse(server.isClosed(), "idle keep-alive wait is left to SO_TIMEOUT");
+
+        send("GET / HT");
+        in.readNBytes(8);
+        long firstByte = System.nanoTime();
+
+        watchdog.check(firstByte + 9 * SECOND);
+        assertFalse(server.isClosed());
+
+        watchdog.check(firstByte + 11 * SECOND);
+        assertTrue(server.isClosed());
+        assertEquals(0, watchdog.size());
+    }
+
+    @Test
+    @DisplayName("헤더를 마치면 헤더 기한 대신 본문 전송률을 본다")
+    void headersCompleteEndsHeaderDeadline() throws IOException {
+        ConnectionGuard guard = watchdog.register(server);
+        InputStream in = guard.wrap(server.getInputStream());
+
+        send("GET / HTTP/1.1\r\n\r\n");
+        in.readNBytes(18);
+        ((RequestProgressListener) in).headersComplete();
+
+        // 핸들러가 본문을 읽지 않고 처리 중인 시간은 세지 않는다.
+        watchdog.check(System.nanoTime() + 60 * SECOND);
+        assertFalse(server.isClosed());
+    }
+
+    @Test
+    @DisplayName("본문 read에서 기다린 시간 대비 받은 바이트가 최소 전송률보다 적으면 연결을 닫는다")
+    void slowBody() throws Exception {
+        ConnectionGuard guard = watchdog.register(server);
+        InputStream in = guard.wrap(server.getInputStream());
+
+        send("POST / HTTP/1.1\r\n\r\n");
+        in.readNBytes(19);
+        ((RequestProgressListener) in).headersComplete();
+
+        CompletableFuture<Void> reading = CompletableFuture.runAsync(() -> {
+            try {
+                in.read(new byte[16]);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // read가 시작될 때까지 기다린다.
+        while(guard.check(System.nanoTime() + 6 * SECOND) == null)
+            Thread.onSpinWait();
+
+        long now = System.nanoTime();
+        watchdog.check(now + 4 * SECOND);
+        assertFalse(server.isClosed(), "grace period");
+
+        watchdog.check(now + 6 * SECOND);
+        assertTrue(server.isClosed());
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> reading.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(SocketException.class, e.getCause().getCause());
+    }
+
+    @Test
+    @DisplayName("write가 쓰기 제한보다 오래 머무르면 업그레이드된 연결도 닫는다")
+    void writeTimeout() throws Exception {
+        ConnectionGuard guard = watchdog.register(server);
+        guard.upgraded();
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        OutputStream out = guard.wrap(blocking);
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                out.write('x');
+            } catch (IOException ignored) {
+            }
+        });
+        writing.await();
+
+        watchdog.check(System.nanoTime() + 11 * SECOND);
+        assertTrue(server.isClosed());
+
+        release.countDown();
+        writer.join();
+    }
+
+    @Test
+    @DisplayName("위반이 한도에 이른 주소는 차단된다")
+    void blocksRepeatOffender() throws IOException {
+        InetAddress address = server.getInetAddress();
+
+        for(int i = 0; i < timeouts.maxViolations(); i++) {
+            assertFalse(watchdog.isBlocked(address));
+
+            ConnectionGuard guard = watchdog.register(server);
+            InputStream in = guard.wrap(server.getInputStream());
+            send("G");
+            in.read();
+            watchdog.check(System.nanoTime() + 11 * SECOND);
+            assertTrue(server.isClosed());
+
+            client.close();
+            connect();
+        }
+        assertTrue(watchdog.isBlocked(address));
+    }
+}
@@ -4,7 +4,10 @@ import org.example.framework.was.protocol.HttpProtocolVersion;
 import org.example.framework.was.protocol.model.*;
 import org.example.framework.web.adapter.HandlerAdapter;
 import org.example.framework.web.interceptor.HandlerExecutionChain;
+import org.example.framework.web.interceptor.HandlerInterceptor;
 import org.example.framework.web.mapping.HandlerMapping;
+import org.example.framework.web.schedule.PriorityRequestScheduler;
+import org.example.framework.web.schedule.PrioritySchedulingInterceptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -126,4 +129,73 @@ class DispatcherServletTest {
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("실행 체인에 미리 결정된 Adapter가 있으면 Adapter 탐색 없이 사용한다")
+    void dispatch_precomputedAdapter() throws Exception {
+        Object handler = new Object();
+        HandlerAdapter precomputed = mock(HandlerAdapter.class);
+        HandlerExecutionChain chain = new HandlerExecutionChain(handler, List.of(), precomputed);
+
+        when(handlerMapping.getHandler(request)).thenReturn(chain);
+
+        dispatcher.service(request, response);
+
+        verify(precomputed).handle(request, response, handler);
+        verify(handlerAdapter, never()).supports(any());
+    }
+
+    @Test
+    @DisplayName("preHandle이 false를 반환하면 이전까지 통과한 인터셉터의 afterCompletion만 한 번 호출된다")
+    void dispatch_preHandleRejected() throws Exception {
+        Object handler = new Object();
+        HandlerInterceptor first = mock(HandlerInterceptor.class);
+        HandlerInterceptor second = mock(HandlerInterceptor.class);
+        when(first.preHandle(request, response, handler)).thenReturn(true);
+        when(second.preHandle(request, response, handler)).thenReturn(false);
+
+        HandlerExecutionChain chain = new HandlerExecutionChain(handler, List.of(first, second), handlerAdapter);
+        when(handlerMapping.getHandler(request)).thenReturn(chain);
+
+        dispatcher.service(request, response);
+
+        verify(handlerAdapter, never()).handle(any(), any(), any());
+        verify(first, times(1)).afterCompletion(request, response, handler, null);
+        verify(second, never()).afterCompletion(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("열려 있는 SSE 같은 비동기 요청은 실행 자리를 붙잡지 않아 일반 요청이 처리된다")
+    void dispatch_asyncReleasesSchedulingPermit() throws Exception {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(2, 100);
+        PrioritySchedulingInterceptor interceptor = new PrioritySchedulingInterceptor(scheduler);
+        Object streamHandler = new Object();
+        Object plainHandler = new Object();
+
+        when(handlerMapping.getHandler(any())).thenAnswer(invocation -> {
+            HttpRequest current = invocation.getArgument(0);
+            Object handler = current.getPath().equals("/events") ? streamHandler : plainHandler;
+            return new HandlerExecutionChain(handler, List.of(interceptor), handlerAdapter);
+        });
+        // 완료되지 않는 스트림: 비동기로 전환한 채 반환한다.
+        doAnswer(invocation -> {
+            HttpRequest current = invocation.getArgument(0);
+            current.startAsync(invocation.getArgument(1));
+            return null;
+        }).when(handlerAdapter).handle(any(), any(), eq(streamHandler));
+
+        for(int i = 0; i < 5; i++) {
+            HttpRequest events = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/events");
+            HttpResponse eventsResponse = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+            dispatcher.service(events, eventsResponse);
+            assertTrue(events.isAsyncStarted());
+        }
+
+        dispatcher.service(request, response);
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        verify(handlerAdapter).handle(request, response, plainHandler);
+        assertEquals(2, scheduler.getAvailablePermits());
+        assertEquals(0, scheduler.getTimeoutCount());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.framework.web.adapter;
 
+import org.example.framework.annotation.Bulkhead;
 import org.example.framework.was.protocol.HttpProtocolVersion;
 import org.example.framework.was.protocol.model.*;
 import org.example.framework.web.HandlerMethod;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +31,19 @@ class RequestMappingHandlerAdapterTest {
 
         public void invalidParam(Integer value) {
         }
+
+        @Bulkhead("slow")
+        public String isolated() {
+            return "isolated";
+        }
+    }
+
+    @Bulkhead("slow")
+    static class IsolatedController {
+
+        public String handle() {
+            return "isolated";
+        }
     }
 
     private RequestMappingHandlerAdapter adapter;
@@ -124,4 +139,22 @@ class RequestMappingHandlerAdapterTest {
                 () -> adapter.handle(request, response, hm)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("실행기 레지스트리 없이 @Bulkhead를 선언하면 컴파일 시 예외가 발생한다")
+    void prepare_bulkheadWithoutRegistry() throws NoSuchMethodException {
+        Method method = AdapterTestController.class.getMethod("isolated");
+        HandlerMethod hm = new HandlerMethod(controller, method);
+
+        assertThrows(IllegalStateException.class, () -> adapter.prepare(hm));
+    }
+
+    @Test
+    @DisplayName("Bean이 프록시여도 컨트롤러 클래스에 선언한 @Bulkhead를 찾는다")
+    void prepare_classBulkheadOnProxiedBean() throws NoSuchMethodException {
+        Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Runnable.class}, (p, m, args) -> null);
+        HandlerMethod hm = new HandlerMethod(proxy, IsolatedController.class.getMethod("handle"));
+
+        assertThrows(IllegalStateException.class, () -> adapter.prepare(hm));
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.framework.web.bulkhead;
+
+import org.example.framework.exception.http.DeadlineExceededException;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.container.RequestContext;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadExecutorTest {
+
+    private BulkheadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if(executor != null)
+            executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업은 전용 스레드에서 실행되고 결과가 반환된다")
+    void execute_runsOnBulkheadThread() throws Exception {
+        executor = new BulkheadExecutor("test", 1, 0);
+
+        String threadName = executor.execute(() -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("bulkhead-test-"));
+    }
+
+    @Test
+    @DisplayName("작업이 던진 예외는 원본 그대로 전달된다")
+    void execute_rethrowsOriginalException() {
+        executor = new BulkheadExecutor("test", 1, 0);
+
+        IOException thrown = assertThrows(IOException.class, () -> executor.execute(() -> {
+            throw new IOException("boom");
+        }));
+        assertEquals("boom", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 가득 차면 503으로 거절한다")
+    void execute_rejectsWhenFull() throws Exception {
+        executor = new BulkheadExecutor("test", 1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread occupant = Thread.ofVirtual().start(() -> {
+            try {
+                executor.execute(() -> {
+                    started.countDown();
+                    return release.await(5, TimeUnit.SECONDS);
+                });
+            } catch (Exception ignored) {
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        HttpException thrown = assertThrows(HttpException.class, () -> executor.execute(() -> "rejected"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, thrown.getStatus());
+        assertEquals(1, executor.getRejectedCount());
+
+        release.countDown();
+        occupant.join(5000);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 넘긴 작업도 결과를 기다려 받는다")
+    void execute_fromVirtualThread() throws Exception {
+        executor = new BulkheadExecutor("test", 2, 4);
+        AtomicReference<String> result = new AtomicReference<>();
+
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                result.set(executor.execute(() -> "done"));
+            } catch (Exception e) {
+                result.set(e.toString());
+            }
+        });
+        caller.join(5000);
+
+        assertEquals("done", result.get());
+    }
+
+    @Test
+    @DisplayName("요청의 기한까지만 기다리고, 넘기면 작업을 인터럽트한다")
+    void execute_stopsAtDeadline() throws Exception {
+        executor = new BulkheadExecutor("test", 1, 0);
+        RequestContext context = RequestContext.withTimeout(50);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try(RequestContext.Scope ignored = context.attach()) {
+            DeadlineExceededException thrown = assertThrows(DeadlineExceededException.class, () -> executor.execute(() -> {
+                assertSame(context, RequestContext.current());
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }));
+            assertEquals(HttpStatus.GATEWAY_TIMEOUT, thrown.getStatus());
+        }
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("잘못된 크기는 설정 오류로 처리한다")
+    void invalidSize() {
+        assertThrows(IllegalStateException.class, () -> new BulkheadExecutor("test", 0, 0));
+        assertThrows(IllegalStateException.class, () -> new BulkheadExecutor("test", 1, -1));
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.filter.DefaultFilterChain;
+import org.example.framework.web.filter.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheFilterTest {
+
+    private ResponseCacheFilter filter;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCacheFilter(8L * 1024 * 1024, 1024 * 1024);
+        filter.register("/items/{id}", 60_000, "Accept-Encoding");
+        calls = new AtomicInteger();
+    }
+
+    private static HttpRequest request(String target, String acceptEncoding) {
+        HttpHeader header = new HttpHeader();
+        if(acceptEncoding != null)
+            header.put("Accept-Encoding", acceptEncoding);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, target);
+    }
+
+    private HttpResponse get(String target, String acceptEncoding, FilterChain controller) throws Exception {
+        HttpRequest request = request(target, acceptEncoding);
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> {
+            calls.incrementAndGet();
+            controller.doFilter(req, res);
+        }).doFilter(request, response);
+        return response;
+    }
+
+    private HttpResponse get(String target) throws Exception {
+        return get(target, "gzip", (req, res) -> {
+            res.writeBody("item " + req.getPath() + " #" + calls.get());
+            res.getHeader().set("Content-Type", "text/plain; charset=UTF-8");
+        });
+    }
+
+    @Test
+    @DisplayName("적중하면 컨트롤러를 호출하지 않고 저장된 상태, 헤더, 본문과 Age로 응답한다")
+    void hit() throws Exception {
+        HttpResponse first = get("/items/1");
+        HttpResponse second = get("/items/1");
+
+        assertEquals(1, calls.get());
+        assertEquals("item /items/1 #1", second.getBody().getAsString("UTF-8"));
+        assertEquals("text/plain; charset=UTF-8", second.getHeader().getFirst("Content-Type"));
+        assertEquals(first.getHeader().getFirst("Content-Length"), second.getHeader().getFirst("Content-Length"));
+        assertEquals("0", second.getHeader().getFirst("Age"));
+        assertEquals(1, filter.getMetrics().getHitCount());
+
+        // 경로가 다르면 다른 항목이다.
+        get("/items/2");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("varyBy 헤더 값이 다르면 따로 저장한다")
+    void varyBy() throws Exception {
+        get("/items/1", "gzip", (req, res) -> res.writeBody("gzip"));
+        get("/items/1", null, (req, res) -> res.writeBody("identity"));
+
+        assertEquals(2, calls.get());
+        assertEquals("identity", get("/items/1", null, (req, res) -> fail()).getBody().getAsString("UTF-8"));
+        assertEquals("gzip", get("/items/1", "gzip", (req, res) -> fail()).getBody().getAsString("UTF-8"));
+    }
+
+    @Test
+    @DisplayName("저장된 ETag가 If-None-Match와 일치하면 적중 시 본문 없이 304로 응답한다")
+    void notModifiedOnHit() throws Exception {
+        get("/items/1", "gzip", (req, res) -> {
+            res.writeBody("tagged");
+            res.getHeader().set("ETag", "W/\"t1\"");
+        });
+
+        HttpRequest request = request("/items/1", "gzip");
+        request.getHeader().put("If-None-Match", "W/\"t1\"");
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> fail()).doFilter(request, response);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatus());
+        assertTrue(response.getBody().isEmpty());
+        assertEquals("W/\"t1\"", response.getHeader().getFirst("ETag"));
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 컨트롤러를 다시 호출한다")
+    void expiry() throws Exception {
+        filter.register("/short", 30, "Accept-Encoding");
+        get("/short");
+        get("/short");
+        assertEquals(1, calls.get());
+
+        Thread.sleep(60);
+        assertEquals("item /short #2", get("/short").getBody().getAsString("UTF-8"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("200이 아니거나 Set-Cookie, no-store, private이 있는 응답과 캐시 대상이 아닌 경로는 저장하지 않는다")
+    void notCacheable() throws Exception {
+        List<FilterChain> controllers = List.of(
+                (req, res) -> res.setStatus(HttpStatus.NOT_FOUND),
+                (req, res) -> res.getHeader().put("Set-Cookie", "session=1"),
+                (req, res) -> res.getHeader().put("Cache-Control", "no-store"),
+                (req, res) -> res.getHeader().put("Cache-Control", "max-age=0, Private"));
+
+        for(FilterChain controller : controllers) {
+            calls.set(0);
+            get("/items/1", null, controller);
+            get("/items/1", null, controller);
+            assertEquals(2, calls.get());
+        }
+
+        calls.set(0);
+        get("/other");
+        get("/other");
+        assertEquals(2, calls.get());
+        assertEquals(0, filter.size());
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 도착한 요청은 컨트롤러를 한 번만 호출한다")
+    void singleFlight() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for(int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return get("/items/1", "gzip", (req, res) -> {
+                        Thread.sleep(200);
+                        res.writeBody("slow");
+                    }).getBody().getAsString("UTF-8");
+                }));
+            }
+            start.countDown();
+
+            for(Future<String> result : results)
+                assertEquals("slow", result.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 완료된 뒤에 저장한다")
+    void async() throws Exception {
+        HttpRequest request = request("/items/1", "gzip");
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> req.startAsync(res)).doFilter(request, response);
+        assertEquals(0, filter.size());
+
+        request.getAsyncContext().complete(() -> response.writeBody("async"));
+        assertEquals("async", get("/items/1", "gzip", (req, res) -> fail()).getBody().getAsString("UTF-8"));
+    }
+}
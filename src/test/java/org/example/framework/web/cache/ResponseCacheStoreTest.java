@@ -0,0 +1,116 @@
+package org.example.framework.web.cache;
+
+import org.example.framework.was.protocol.model.HttpBody;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheStoreTest {
+
+    private static final long TTL = 60_000_000_000L;
+    private static final String[] NO_HEADERS = new String[0];
+
+    private final ResponseCacheMetrics metrics = new ResponseCacheMetrics();
+
+    private static HttpBody body(int size, int fill) {
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) fill);
+        return new HttpBody(data);
+    }
+
+    /**
+     * 필터와 같이 조회(미스) 후 저장한다.
+     */
+    private static boolean miss(ResponseCacheStore store, String key, HttpBody body) throws Exception {
+        assertNull(store.get(key, 0));
+        return store.put(key, HttpStatus.OK, NO_HEADERS, body, 0, TTL);
+    }
+
+    @Test
+    @DisplayName("여러 청크에 나뉜 본문을 그대로 돌려준다")
+    void roundTrip() throws Exception {
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, 64 * 1024, metrics);
+        byte[] data = new byte[10_000];
+        for(int i = 0; i < data.length; i++)
+            data[i] = (byte) i;
+
+        assertTrue(miss(store, "a", new HttpBody(data)));
+        CachedResponse entry = store.get("a", 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CachedResponseBody(entry).writeTo(out);
+        assertArrayEquals(data, out.toByteArray());
+        assertEquals(3 * SlabAllocator.CHUNK_SIZE, store.usedBytes());
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 구간만 기록할 수 있고, 기록 후에는 다시 쓸 수 없다")
+    void region() throws Exception {
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, 64 * 1024, metrics);
+        byte[] data = new byte[10_000];
+        for(int i = 0; i < data.length; i++)
+            data[i] = (byte) i;
+        miss(store, "a", new HttpBody(data));
+
+        CachedResponseBody body = new CachedResponseBody(store.get("a", 0));
+        assertFalse(body.isRepeatable());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out, 4000, 5000);
+        assertArrayEquals(Arrays.copyOfRange(data, 4000, 9000), out.toByteArray());
+        assertThrows(IllegalStateException.class, () -> body.writeTo(out));
+    }
+
+    @Test
+    @DisplayName("자주 조회된 항목은 한 번씩만 조회된 항목들이 몰려와도 밀려나지 않는다")
+    void frequencyAdmission() throws Exception {
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, 64 * 1024, metrics);
+        assertTrue(miss(store, "hot", body(100, 1)));
+        for(int i = 0; i < 10; i++)
+            store.get("hot", 0).release();
+
+        for(int i = 0; i < 1_000; i++)
+            miss(store, "cold-" + i, body(100, 2));
+
+        assertTrue(metrics.getEvictionCount() > 0);
+        assertTrue(store.size() <= 256);
+        assertNotNull(store.get("hot", 0));
+    }
+
+    @Test
+    @DisplayName("전송 중인 항목은 교체되어도 전송이 끝날 때까지 청크를 반납하지 않는다")
+    void referenceCounting() throws Exception {
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, 64 * 1024, metrics);
+        miss(store, "a", body(8192, 7));
+        CachedResponse inFlight = store.get("a", 0);
+
+        store.put("a", HttpStatus.OK, NO_HEADERS, body(4096, 9), 0, TTL);
+        assertEquals(3 * SlabAllocator.CHUNK_SIZE, store.usedBytes());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CachedResponseBody body = new CachedResponseBody(inFlight);
+        body.writeTo(out);
+        assertArrayEquals(body(8192, 7).getData(), out.toByteArray());
+        assertEquals(SlabAllocator.CHUNK_SIZE, store.usedBytes());
+        assertThrows(IllegalStateException.class, body::getData);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 조회 시 제거되고, 최대 크기를 넘는 본문은 저장하지 않는다")
+    void expiryAndRejection() throws Exception {
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, 64 * 1024, metrics);
+        store.put("a", HttpStatus.OK, NO_HEADERS, body(10, 1), 0, 100);
+
+        assertNotNull(store.get("a", 99));
+        assertNull(store.get("a", 100));
+        assertEquals(0, store.size());
+
+        assertFalse(store.put("big", HttpStatus.OK, NO_HEADERS, body(64 * 1024 + 1, 1), 0, TTL));
+        assertEquals(1, metrics.getRejectedCount());
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.util.ContentCodingUtils;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.filter.DefaultFilterChain;
+import org.example.framework.web.filter.impl.CompressionFilter.Encoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionFilterTest {
+
+    private static final String JSON = "{\"items\":[" + "{\"name\":\"squat\",\"weight\":180},".repeat(100) + "{}]}";
+
+    private static HttpRequest request(String acceptEncoding) {
+        HttpHeader header = new HttpHeader();
+        if(acceptEncoding != null)
+            header.put("Accept-Encoding", acceptEncoding);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/items");
+    }
+
+    private static HttpResponse filterString(CompressionFilter filter, HttpRequest request, String contentType, String body) throws Exception {
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> {
+            res.writeBody(body);
+            res.getHeader().set("Content-Type", contentType);
+        }).doFilter(request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하면 본문을 gzip으로 압축하고 Content-Encoding, Vary를 설정한다")
+    void gzip() throws Exception {
+        CompressionFilter filter = new CompressionFilter();
+        HttpResponse response = filterString(filter, request("gzip, deflate"), "application/json", JSON);
+
+        assertEquals("gzip", response.getHeader().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader().getFirst("Vary"));
+        assertEquals(String.valueOf(response.getBody().getContentLengthLong()), response.getHeader().getFirst("Content-Length"));
+
+        byte[] restored = new GZIPInputStream(new ByteArrayInputStream(response.getBody().getData())).readAllBytes();
+        assertEquals(JSON, new String(restored, StandardCharsets.UTF_8));
+
+        assertEquals(1, filter.getMetrics().getCompressedCount());
+        assertTrue(filter.getMetrics().getCompressionRatio() > 5);
+    }
+
+    @Test
+    @DisplayName("deflate만 허용하면 zlib 형식으로 압축하고, Deflater를 재사용해도 결과가 같다")
+    void deflateReused() throws Exception {
+        CompressionFilter filter = new CompressionFilter();
+        for(int i = 0; i < 3; i++) {
+            HttpResponse response = filterString(filter, request("deflate"), "text/plain; charset=UTF-8", JSON);
+
+            assertEquals("deflate", response.getHeader().getFirst("Content-Encoding"));
+            byte[] restored = new InflaterInputStream(new ByteArrayInputStream(response.getBody().getData())).readAllBytes();
+            assertEquals(JSON, new String(restored, StandardCharsets.UTF_8));
+        }
+        assertEquals(3, filter.getMetrics().getCompressedCount());
+    }
+
+    @Test
+    @DisplayName("작은 본문, 이미 압축된 형식, 지원하지 않는 인코딩은 압축하지 않는다")
+    void skip() throws Exception {
+        CompressionFilter filter = new CompressionFilter();
+
+        HttpResponse small = filterString(filter, request("gzip"), "application/json", "{}");
+        assertNull(small.getHeader().getFirst("Content-Encoding"));
+
+        HttpResponse image = filterString(filter, request("gzip"), "image/png", JSON);
+        assertNull(image.getHeader().getFirst("Content-Encoding"));
+        assertNull(image.getHeader().getFirst("Vary"));
+
+        HttpResponse identity = filterString(filter, request("br"), "application/json", JSON);
+        assertNull(identity.getHeader().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", identity.getHeader().getFirst("Vary"));
+        assertEquals(JSON, identity.getBody().getAsString("UTF-8"));
+
+        HttpResponse none = filterString(filter, request(null), "application/json", JSON);
+        assertNull(none.getHeader().getFirst("Content-Encoding"));
+
+        assertEquals(0, filter.getMetrics().getCompressedCount());
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 완료 시점에 압축하고, 스트리밍 응답은 건드리지 않는다")
+    void async() throws Exception {
+        CompressionFilter filter = new CompressionFilter();
+
+        HttpRequest request = request("gzip");
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> req.startAsync(res)).doFilter(request, response);
+        assertNull(response.getHeader().getFirst("Content-Encoding"));
+
+        request.getAsyncContext().complete(() -> response.writeBody(JSON));
+        assertEquals("gzip", response.getHeader().getFirst("Content-Encoding"));
+
+        HttpRequest streamingRequest = request("gzip");
+        HttpResponse streaming = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), (req, res) -> {
+            AsyncContext context = req.startAsync(res);
+            context.startStreaming(out -> {});
+        }).doFilter(streamingRequest, streaming);
+        streamingRequest.getAsyncContext().complete(() -> streaming.writeBody(JSON));
+        assertNull(streaming.getHeader().getFirst("Content-Encoding"));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q 값과 와일드카드를 반영한다")
+    void negotiate() {
+        assertEquals(Encoding.GZIP, CompressionFilter.negotiate(List.of("gzip, deflate, br")));
+        assertEquals(Encoding.DEFLATE, CompressionFilter.negotiate(List.of("gzip;q=0.5, deflate")));
+        assertEquals(Encoding.DEFLATE, CompressionFilter.negotiate(List.of("gzip;q=0, *")));
+        assertEquals(Encoding.GZIP, CompressionFilter.negotiate(List.of("*")));
+        assertNull(CompressionFilter.negotiate(List.of("identity")));
+        assertNull(CompressionFilter.negotiate(List.of("*;q=0")));
+        assertNull(CompressionFilter.negotiate(List.of()));
+    }
+
+    @Test
+    @DisplayName("압축 가능한 Content-Type을 판별한다")
+    void compressibleTypes() {
+        assertTrue(ContentCodingUtils.isCompressible(null));
+        assertTrue(ContentCodingUtils.isCompressible("text/html; charset=utf-8"));
+        assertTrue(ContentCodingUtils.isCompressible("application/problem+json"));
+        assertFalse(ContentCodingUtils.isCompressible("text/event-stream"));
+        assertFalse(ContentCodingUtils.isCompressible("application/gzip"));
+        assertFalse(ContentCodingUtils.isCompressible("image/jpeg"));
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.was.container.Servlet;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.filter.DefaultFilterChain;
+import org.example.framework.web.filter.impl.RangeFilter.ByteRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeFilterTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private final RangeFilter filter = new RangeFilter();
+
+    private static HttpRequest request(String... headers) {
+        HttpHeader header = new HttpHeader();
+        for(int i = 0; i < headers.length; i += 2)
+            header.put(headers[i], headers[i + 1]);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/export");
+    }
+
+    private HttpResponse filter(HttpRequest request, Servlet controller) throws Exception {
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), controller).doFilter(request, response);
+        return response;
+    }
+
+    private HttpResponse filter(HttpRequest request) throws Exception {
+        return filter(request, (req, res) -> {
+            res.writeBody(CONTENT);
+            res.getHeader().set("Content-Type", "text/plain");
+            res.getHeader().set("ETag", "\"v1\"");
+            res.getHeader().set("Last-Modified", "Mon, 19 Oct 2026 10:00:00 GMT");
+        });
+    }
+
+    private static String written(HttpResponse response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        assertEquals(response.getBody().getContentLengthLong(), out.size());
+        assertEquals(String.valueOf(out.size()), response.getHeader().getFirst("Content-Length"));
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("범위 하나는 206과 Content-Range, 해당 구간만으로 응답한다")
+    void singleRange() throws Exception {
+        HttpResponse response = filter(request("Range", "bytes=10-15"));
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes 10-15/36", response.getHeader().getFirst("Content-Range"));
+        assertEquals("abcdef", written(response));
+
+        assertEquals("wxyz", written(filter(request("Range", "bytes=-4"))));
+        assertEquals("uvwxyz", written(filter(request("Range", "bytes=30-"))));
+        assertEquals("bytes 30-35/36", filter(request("Range", "bytes=30-100")).getHeader().getFirst("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("범위가 여러 개면 multipart/byteranges로 응답한다")
+    void multipleRanges() throws Exception {
+        HttpResponse response = filter(request("Range", "bytes=0-1, 34-"));
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatus());
+
+        String contentType = response.getHeader().getFirst("Content-Type");
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="), contentType);
+        String boundary = contentType.substring(contentType.indexOf('=') + 1);
+
+        String expected = "--" + boundary + "\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 0-1/36\r\n\r\n"
+                + "01"
+                + "\r\n--" + boundary + "\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 34-35/36\r\n\r\n"
+                + "yz"
+                + "\r\n--" + boundary + "--\r\n";
+        assertEquals(expected, written(response));
+    }
+
+    @Test
+    @DisplayName("만족할 수 있는 범위가 없으면 416, 형식이 잘못되었으면 범위를 무시한다")
+    void unsatisfiableAndInvalid() throws Exception {
+        HttpResponse unsatisfiable = filter(request("Range", "bytes=36-40"));
+        assertEquals(HttpStatus.RANGE_NOT_SATISFIABLE, unsatisfiable.getStatus());
+        assertEquals("bytes */36", unsatisfiable.getHeader().getFirst("Content-Range"));
+        assertTrue(unsatisfiable.getBody().isEmpty());
+
+        for(String invalid : List.of("items=0-1", "bytes=5-1", "bytes=a-b", "bytes=-", "bytes=0-1," + "2-3,".repeat(20))) {
+            HttpResponse response = filter(request("Range", invalid));
+            assertEquals(HttpStatus.OK, response.getStatus(), invalid);
+            assertEquals("bytes", response.getHeader().getFirst("Accept-Ranges"));
+        }
+    }
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 범위는 합친다")
+    void coalesce() {
+        assertEquals(List.of(new ByteRange(0, 9)), ByteRange.parse("bytes=5-9, 0-4", 36));
+        assertEquals(List.of(new ByteRange(0, 20)), ByteRange.parse("bytes=0-10, 5-20", 36));
+        assertEquals(List.of(new ByteRange(20, 21), new ByteRange(0, 1)), ByteRange.parse("bytes=20-21, 0-1", 36));
+    }
+
+    @Test
+    @DisplayName("If-Range가 강한 ETag 또는 Last-Modified와 같을 때만 범위를 적용한다")
+    void ifRange() throws Exception {
+        assertEquals(HttpStatus.PARTIAL_CONTENT, filter(request("Range", "bytes=0-1", "If-Range", "\"v1\"")).getStatus());
+        assertEquals(HttpStatus.OK, filter(request("Range", "bytes=0-1", "If-Range", "\"v0\"")).getStatus());
+        assertEquals(HttpStatus.OK, filter(request("Range", "bytes=0-1", "If-Range", "W/\"v1\"")).getStatus());
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT,
+                filter(request("Range", "bytes=0-1", "If-Range", "Mon, 19 Oct 2026 10:00:00 GMT")).getStatus());
+        assertEquals(HttpStatus.OK,
+                filter(request("Range", "bytes=0-1", "If-Range", "Mon, 19 Oct 2026 09:00:00 GMT")).getStatus());
+    }
+
+    @Test
+    @DisplayName("다시 기록할 수 없는 바디는 범위 하나만 지원하고 여러 범위에는 전체를 보낸다")
+    void nonRepeatableBody() throws Exception {
+        Servlet controller = (req, res) -> res.setBody(new HttpBody(CONTENT.getBytes(StandardCharsets.US_ASCII)) {
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+        });
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, filter(request("Range", "bytes=0-1"), controller).getStatus());
+        HttpResponse multiple = filter(request("Range", "bytes=0-1, 5-6"), controller);
+        assertEquals(HttpStatus.OK, multiple.getStatus());
+        assertEquals(CONTENT, written(multiple));
+    }
+
+    @Test
+    @DisplayName("파일 바디는 요청된 구간만 원본에서 읽는다")
+    void regionIsDelegated() throws Exception {
+        long[] requested = new long[2];
+        Servlet controller = (req, res) -> res.setBody(new HttpBody(CONTENT.getBytes(StandardCharsets.US_ASCII)) {
+            @Override
+            public void writeTo(OutputStream out) {
+                fail("whole body must not be written");
+            }
+
+            @Override
+            public void writeTo(OutputStream out, long offset, long count) throws IOException {
+                requested[0] = offset;
+                requested[1] = count;
+                super.writeTo(out, offset, count);
+            }
+        });
+
+        assertEquals("klmn", written(filter(request("Range", "bytes=20-23"), controller)));
+        assertArrayEquals(new long[]{20, 4}, requested);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.framework.web.filter.impl;
+
+import org.example.framework.was.container.Servlet;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.filter.DefaultFilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShallowEtagHeaderFilterTest {
+
+    private final ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+
+    private static HttpRequest request(HttpMethod method, String ifNoneMatch) {
+        HttpHeader header = new HttpHeader();
+        if(ifNoneMatch != null)
+            header.put("If-None-Match", ifNoneMatch);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, method, "/items");
+    }
+
+    private HttpResponse filter(HttpRequest request, Servlet controller) throws Exception {
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        new DefaultFilterChain(List.of(filter), controller).doFilter(request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("본문 해시로 약한 ETag를 붙이고, If-None-Match가 일치하면 본문 없는 304로 바꾼다")
+    void generated() throws Exception {
+        Servlet controller = (req, res) -> res.writeBody("{\"squat\":180}");
+
+        HttpResponse first = filter(request(HttpMethod.GET, null), controller);
+        String etag = first.getHeader().getFirst("ETag");
+        assertTrue(etag.matches("W/\"[0-9a-f]{16}\""), etag);
+        assertEquals(HttpStatus.OK, first.getStatus());
+
+        HttpResponse second = filter(request(HttpMethod.GET, "\"other\", " + etag), controller);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatus());
+        assertEquals(etag, second.getHeader().getFirst("ETag"));
+        assertTrue(second.getBody().isEmpty());
+
+        HttpResponse changed = filter(request(HttpMethod.GET, etag), (req, res) -> res.writeBody("{\"squat\":200}"));
+        assertEquals(HttpStatus.OK, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader().getFirst("ETag"));
+    }
+
+    @Test
+    @DisplayName("핸들러가 ETag를 먼저 확인하면 렌더링 없이 304로 끝나고, 필터는 본문을 해시하지 않는다")
+    void handlerSupplied() throws Exception {
+        AtomicInteger rendered = new AtomicInteger();
+        Servlet controller = (req, res) -> {
+            if(res.checkNotModified(req, "\"v3\""))
+                return;
+            rendered.incrementAndGet();
+            res.writeBody("version 3");
+        };
+
+        HttpResponse full = filter(request(HttpMethod.GET, "W/\"v2\""), controller);
+        assertEquals("\"v3\"", full.getHeader().getFirst("ETag"));
+        assertEquals(1, rendered.get());
+
+        HttpResponse notModified = filter(request(HttpMethod.GET, "W/\"v3\""), controller);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatus());
+        assertEquals(1, rendered.get());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, filter(request(HttpMethod.GET, "*"), controller).getStatus());
+    }
+
+    @Test
+    @DisplayName("GET, HEAD가 아니거나 200이 아니거나 no-store인 응답에는 ETag를 붙이지 않는다")
+    void skipped() throws Exception {
+        assertNull(filter(request(HttpMethod.POST, null), (req, res) -> res.writeBody("created"))
+                .getHeader().getFirst("ETag"));
+        assertNull(filter(request(HttpMethod.GET, null), (req, res) -> res.setStatus(HttpStatus.NOT_FOUND))
+                .getHeader().getFirst("ETag"));
+        assertNull(filter(request(HttpMethod.GET, null), (req, res) -> {
+            res.writeBody("secret");
+            res.getHeader().put("Cache-Control", "no-store");
+        }).getHeader().getFirst("ETag"));
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 완료된 뒤에 ETag를 계산한다")
+    void async() throws Exception {
+        HttpRequest request = request(HttpMethod.GET, null);
+        HttpResponse response = filter(request, (req, res) -> req.startAsync(res));
+        assertNull(response.getHeader().getFirst("ETag"));
+
+        request.getAsyncContext().complete(() -> response.writeBody("async"));
+        assertNotNull(response.getHeader().getFirst("ETag"));
+    }
+}
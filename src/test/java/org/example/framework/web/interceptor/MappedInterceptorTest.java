@@ -0,0 +1,65 @@
+package org.example.framework.web.interceptor;
+
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedInterceptorTest {
+
+    private final HandlerInterceptor interceptor = new HandlerInterceptor() {};
+
+    private boolean matches(List<String> includes, List<String> excludes, String route) {
+        return new MappedInterceptor(interceptor, includes, excludes).matches(RoutePattern.parse(route));
+    }
+
+    @Test
+    @DisplayName("포함 패턴이 없으면 모든 라우트에 적용된다")
+    void should_match_all_routes_without_patterns() {
+        assertTrue(matches(List.of(), List.of(), "/health"));
+        assertTrue(matches(List.of(), List.of(), "/posts/{id}"));
+        assertTrue(matches(List.of(), List.of(), "/static/**"));
+    }
+
+    @Test
+    @DisplayName("** 는 0개 이상의 세그먼트와 매칭된다")
+    void should_match_any_segments() {
+        List<String> includes = List.of("/api/**");
+
+        assertTrue(matches(includes, List.of(), "/api"));
+        assertTrue(matches(includes, List.of(), "/api/users/{id}"));
+        assertTrue(matches(includes, List.of(), "/api/files/**"));
+        assertFalse(matches(includes, List.of(), "/health"));
+    }
+
+    @Test
+    @DisplayName("* 와 {name} 은 세그먼트 하나와 매칭되고, 정적 세그먼트는 경로 변수와 매칭되지 않는다")
+    void should_match_single_segment() {
+        assertTrue(matches(List.of("/posts/*"), List.of(), "/posts/{id}"));
+        assertTrue(matches(List.of("/posts/{postId}"), List.of(), "/posts/new"));
+        assertFalse(matches(List.of("/posts/*"), List.of(), "/posts/{id}/comments"));
+        assertFalse(matches(List.of("/posts/new"), List.of(), "/posts/{id}"));
+        assertFalse(matches(List.of("/static/*"), List.of(), "/static/**"));
+    }
+
+    @Test
+    @DisplayName("제외 패턴은 포함 패턴보다 우선한다")
+    void should_prefer_exclude_patterns() {
+        List<String> includes = List.of("/**");
+        List<String> excludes = List.of("/health/**");
+
+        assertTrue(matches(includes, excludes, "/holiday"));
+        assertFalse(matches(includes, excludes, "/health"));
+        assertFalse(matches(includes, excludes, "/health/sbd"));
+    }
+
+    @Test
+    @DisplayName("/ 로 시작하지 않는 패턴은 허용하지 않는다")
+    void should_reject_invalid_pattern() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedInterceptor(interceptor, List.of("api/**"), List.of()));
+    }
+}
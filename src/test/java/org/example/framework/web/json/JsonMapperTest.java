@@ -0,0 +1,158 @@
+package org.example.framework.web.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMapperTest {
+
+    private final JsonMapper mapper = JsonMapper.getInstance();
+
+    enum Role { ADMIN, USER }
+
+    record Address(String city, int zip) {}
+
+    record User(long id, String name, boolean active, double score, Role role, Address address, List<String> tags) {}
+
+    public static class Product {
+        private String name;
+        private int price;
+        private boolean soldOut;
+
+        public Product(String name, int price, boolean soldOut) {
+            this.name = name;
+            this.price = price;
+            this.soldOut = soldOut;
+        }
+
+        public String getName() { return name; }
+        public int getPrice() { return price; }
+        public boolean isSoldOut() { return soldOut; }
+    }
+
+    public static class Node {
+        private Node next;
+
+        public Node getNext() { return next; }
+    }
+
+    @Test
+    @DisplayName("레코드는 컴포넌트 순서대로 직렬화된다")
+    void should_write_record_in_component_order() {
+        User user = new User(1L, "kim", true, 4.5, Role.ADMIN, new Address("Seoul", 12345), List.of("a", "b"));
+
+        assertEquals(
+                "{\"id\":1,\"name\":\"kim\",\"active\":true,\"score\":4.5,\"role\":\"ADMIN\","
+                        + "\"address\":{\"city\":\"Seoul\",\"zip\":12345},\"tags\":[\"a\",\"b\"]}",
+                mapper.writeValueAsString(user)
+        );
+    }
+
+    @Test
+    @DisplayName("POJO는 public getter를 필드 선언 순서대로 직렬화한다")
+    void should_write_pojo_getters_in_field_order() {
+        assertEquals(
+                "{\"name\":\"pen\",\"price\":1000,\"soldOut\":false}",
+                mapper.writeValueAsString(new Product("pen", 1000, false))
+        );
+    }
+
+    @Test
+    @DisplayName("null 속성과 null 값은 null 리터럴로 기록된다")
+    void should_write_null() {
+        assertEquals("null", mapper.writeValueAsString(null));
+        assertEquals("{\"city\":null,\"zip\":0}", mapper.writeValueAsString(new Address(null, 0)));
+    }
+
+    @Test
+    @DisplayName("Map, Set, Optional, 중첩 컬렉션을 직렬화한다")
+    void should_write_collections_and_maps() {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("list", List.of(1, 2L, 3.25));
+        map.put(7, new LinkedHashSet<>(List.of("x")));
+        map.put("opt", Optional.empty());
+        map.put("dec", new BigDecimal("1.50"));
+        map.put("nested", Map.of("k", List.of()));
+
+        assertEquals(
+                "{\"list\":[1,2,3.25],\"7\":[\"x\"],\"opt\":null,\"dec\":1.50,\"nested\":{\"k\":[]}}",
+                mapper.writeValueAsString(map)
+        );
+    }
+
+    @Test
+    @DisplayName("원시 타입 배열과 객체 배열을 직렬화한다")
+    void should_write_arrays() {
+        assertEquals("[1,-2,2147483647]", mapper.writeValueAsString(new int[]{1, -2, Integer.MAX_VALUE}));
+        assertEquals("[-9223372036854775808]", mapper.writeValueAsString(new long[]{Long.MIN_VALUE}));
+        assertEquals("[true,false]", mapper.writeValueAsString(new boolean[]{true, false}));
+        assertEquals("[null,1.5]", mapper.writeValueAsString(new double[]{Double.NaN, 1.5}));
+        assertEquals("[\"USER\",null]", mapper.writeValueAsString(new Object[]{Role.USER, null}));
+    }
+
+    @Test
+    @DisplayName("특수 문자는 이스케이프되고 비 ASCII 문자는 UTF-8로 인코딩된다")
+    void should_escape_and_encode_utf8() {
+        String value = "\"a\\b\"\n\t\u0001한글😀";
+
+        JsonWriter out = new JsonWriter();
+        mapper.write(out, value);
+
+        assertEquals("\"\\\"a\\\\b\\\"\\n\\t\\u0001한글😀\"", out.toString());
+        assertEquals(out.size(), out.toByteArray().length);
+    }
+
+    @Test
+    @DisplayName("직렬화 결과는 복사 없이 HttpBody로 넘겨진다")
+    void should_hand_over_buffer_as_body() {
+        JsonWriter out = new JsonWriter(16);
+        mapper.write(out, List.of("long enough to grow the buffer"));
+
+        assertEquals(out.toString(), out.toBody().getAsString("UTF-8"));
+        assertEquals(out.size(), out.toBody().getContentLengthLong());
+    }
+
+    @Test
+    @DisplayName("순환 참조는 최대 깊이에서 IllegalStateException으로 중단된다")
+    void should_fail_on_cyclic_reference() {
+        Node node = new Node();
+        node.next = node;
+
+        List<Object> self = new ArrayList<>();
+        self.add(self);
+
+        assertThrows(IllegalStateException.class, () -> mapper.writeValueAsString(node));
+        assertThrows(IllegalStateException.class, () -> mapper.writeValueAsString(self));
+    }
+
+    @Test
+    @DisplayName("같은 타입의 직렬화기는 한 번만 생성되어 재사용된다")
+    void should_cache_serializer_per_type() {
+        assertSame(mapper.serializerFor(User.class), mapper.serializerFor(User.class));
+    }
+
+    @Test
+    @DisplayName("직렬화한 JSON을 다시 바인딩하면 같은 레코드가 된다")
+    void should_round_trip_record() throws Exception {
+        User user = new User(7L, "lee \"q\"", false, -0.25, Role.USER, new Address("부산", 48000), List.of("x"));
+
+        assertEquals(user, mapper.readValue(mapper.writeValueAsString(user), User.class));
+    }
+
+    @Test
+    @DisplayName("Object 타입은 Map, List, 숫자, 문자열로 바인딩된다")
+    void should_bind_natural_types() throws Exception {
+        Object value = mapper.readValue("{\"a\":[1,3000000000,1.5,\"s\",false,null]}", Object.class);
+
+        assertEquals(Map.of("a", java.util.Arrays.asList(1, 3000000000L, 1.5, "s", false, null)), value);
+    }
+}
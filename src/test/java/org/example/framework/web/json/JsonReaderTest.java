@@ -0,0 +1,108 @@
+package org.example.framework.web.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("토큰을 순서대로 읽는다")
+    void should_read_tokens_in_order() throws IOException {
+        JsonReader in = reader(" {\"a\" : [1, -2.5, true, null, \"x\"], \"b\": {}} ");
+
+        in.beginObject();
+        assertEquals("a", in.nextName());
+        in.beginArray();
+        assertEquals(1, in.nextInt());
+        assertEquals(-2.5, in.nextDouble());
+        assertTrue(in.nextBoolean());
+        in.nextNull();
+        assertEquals("x", in.nextString());
+        assertFalse(in.hasNext());
+        in.endArray();
+        assertEquals("b", in.nextName());
+        in.beginObject();
+        in.endObject();
+        in.endObject();
+        in.endDocument();
+    }
+
+    @Test
+    @DisplayName("이스케이프와 UTF-8 멀티바이트 문자를 디코딩한다")
+    void should_decode_escapes_and_utf8() throws IOException {
+        assertEquals("\"\\/\b\f\n\r\té한글😀", reader("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9한글😀\"").nextString());
+    }
+
+    @Test
+    @DisplayName("버퍼 경계에 걸친 토큰도 읽는다")
+    void should_read_across_buffer_boundaries() throws IOException {
+        String text = "가".repeat(5000);
+        // 한 번에 1바이트씩만 돌려주는 스트림
+        InputStream slow = new ByteArrayInputStream(("[\"" + text + "\", 12345678901234]").getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        JsonReader in = new JsonReader(slow);
+        in.beginArray();
+        assertEquals(text, in.nextString());
+        assertEquals(12345678901234L, in.nextLong());
+        in.endArray();
+        in.endDocument();
+    }
+
+    @Test
+    @DisplayName("정수 범위와 형식을 검사한다")
+    void should_validate_integers() throws IOException {
+        assertEquals(Long.MIN_VALUE, reader("-9223372036854775808").nextLong());
+        assertEquals(1000, reader("1e3").nextInt());
+        assertThrows(JsonParseException.class, () -> reader("2147483648").nextInt());
+        assertThrows(JsonParseException.class, () -> reader("1.5").nextLong());
+    }
+
+    @Test
+    @DisplayName("중첩 값을 객체 생성 없이 건너뛴다")
+    void should_skip_nested_values() throws IOException {
+        JsonReader in = reader("{\"skip\": {\"a\": [1, {\"b\": \"}\"}]}, \"keep\": 7}");
+
+        in.beginObject();
+        assertEquals("skip", in.nextName());
+        in.skipValue();
+        assertEquals("keep", in.nextName());
+        assertEquals(7, in.nextInt());
+        in.endObject();
+    }
+
+    @Test
+    @DisplayName("문법 오류는 위치와 함께 JsonParseException으로 보고된다")
+    void should_report_syntax_errors() {
+        assertThrows(JsonParseException.class, () -> { JsonReader in = reader("[1 2]"); in.beginArray(); in.nextInt(); in.nextInt(); });
+        assertThrows(JsonParseException.class, () -> { JsonReader in = reader("{\"a\" 1}"); in.beginObject(); in.nextName(); in.nextInt(); });
+        assertThrows(JsonParseException.class, () -> reader("\"unterminated").nextString());
+        assertThrows(JsonParseException.class, () -> reader("tru").nextBoolean());
+
+        JsonParseException e = assertThrows(JsonParseException.class, () -> { JsonReader in = reader("[1] x"); in.skipValue(); in.endDocument(); });
+        assertTrue(e.getMessage().contains("offset"));
+    }
+
+    @Test
+    @DisplayName("최대 중첩 깊이를 넘으면 실패한다")
+    void should_limit_nesting_depth() {
+        String deep = "[".repeat(JsonWriter.MAX_DEPTH + 1);
+
+        assertThrows(JsonParseException.class, () -> reader(deep).skipValue());
+    }
+}
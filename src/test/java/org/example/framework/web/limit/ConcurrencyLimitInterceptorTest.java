@@ -0,0 +1,124 @@
+package org.example.framework.web.limit;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    /** 한도를 바꾸지 않고 표본만 세는 알고리즘 */
+    static class FixedLimit implements LimitAlgorithm {
+        final int limit;
+        int samples;
+        int drops;
+
+        FixedLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long rttNanos, int inflight, boolean dropped) {
+            samples++;
+            if(dropped)
+                drops++;
+        }
+    }
+
+    private static HttpRequest request() {
+        return new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/test");
+    }
+
+    private static HttpResponse response() {
+        return new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 503으로 거절하고, 끝난 요청은 자리를 돌려준다")
+    void rejectsOverLimit() throws Exception {
+        FixedLimit algorithm = new FixedLimit(1);
+        ConcurrencyLimitInterceptor interceptor = ConcurrencyLimitInterceptor.global(() -> algorithm);
+        Object handler = new Object();
+
+        HttpRequest first = request();
+        HttpResponse firstResponse = response();
+        assertTrue(interceptor.preHandle(first, firstResponse, handler));
+
+        HttpException rejected = assertThrows(HttpException.class, () -> interceptor.preHandle(request(), response(), handler));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+
+        interceptor.afterCompletion(first, firstResponse, handler, null);
+        assertTrue(interceptor.preHandle(request(), response(), handler));
+
+        AdaptiveConcurrencyLimiter limiter = interceptor.getLimiters().get("*");
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(1, algorithm.samples);
+    }
+
+    @Test
+    @DisplayName("503 응답은 과부하 표본으로, 그 밖의 예외는 표본 없이 반영한다")
+    void classifiesFailures() throws Exception {
+        FixedLimit algorithm = new FixedLimit(10);
+        ConcurrencyLimitInterceptor interceptor = ConcurrencyLimitInterceptor.global(() -> algorithm);
+        Object handler = new Object();
+
+        HttpRequest overloaded = request();
+        HttpResponse overloadedResponse = response();
+        interceptor.preHandle(overloaded, overloadedResponse, handler);
+        interceptor.afterCompletion(overloaded, overloadedResponse, handler,
+                new HttpException(HttpStatus.SERVICE_UNAVAILABLE, "full"));
+
+        HttpRequest failed = request();
+        HttpResponse failedResponse = response();
+        interceptor.preHandle(failed, failedResponse, handler);
+        interceptor.afterCompletion(failed, failedResponse, handler, new IllegalArgumentException("bad"));
+
+        assertEquals(1, algorithm.samples);
+        assertEquals(1, algorithm.drops);
+        assertEquals(0, interceptor.getLimiters().get("*").getInflight());
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 처리 스레드가 반환될 때 표본 없이 자리를 돌려준다")
+    void asyncReleasesWithoutSample() throws Exception {
+        FixedLimit algorithm = new FixedLimit(1);
+        ConcurrencyLimitInterceptor interceptor = ConcurrencyLimitInterceptor.global(() -> algorithm);
+        Object handler = new Object();
+
+        HttpRequest stream = request();
+        HttpResponse streamResponse = response();
+        assertTrue(interceptor.preHandle(stream, streamResponse, handler));
+        stream.startAsync(streamResponse);
+        interceptor.afterConcurrentHandlingStarted(stream, streamResponse, handler);
+
+        AdaptiveConcurrencyLimiter limiter = interceptor.getLimiters().get("*");
+        assertEquals(0, limiter.getInflight());
+        assertTrue(interceptor.preHandle(request(), response(), handler));
+
+        // 스트림이 끝나도 자리를 다시 돌려주거나 표본을 남기지 않는다.
+        stream.getAsyncContext().complete();
+        interceptor.afterCompletion(stream, streamResponse, handler, null);
+        assertEquals(1, limiter.getInflight());
+        assertEquals(0, algorithm.samples);
+    }
+
+    @Test
+    @DisplayName("라우트별 모드는 Handler마다 한도를 따로 둔다")
+    void perRouteIsolation() throws Exception {
+        ConcurrencyLimitInterceptor interceptor = ConcurrencyLimitInterceptor.perRoute(() -> new FixedLimit(1));
+
+        assertTrue(interceptor.preHandle(request(), response(), "slow"));
+        assertTrue(interceptor.preHandle(request(), response(), "fast"));
+        assertThrows(HttpException.class, () -> interceptor.preHandle(request(), response(), "slow"));
+
+        assertEquals(2, interceptor.getLimiters().size());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.framework.web.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Gradient2LimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("지연 시간이 안정적이면 한도를 늘린다")
+    void increasesWhenStable() {
+        Gradient2Limit limit = new Gradient2Limit(20, 1, 1000, 100);
+
+        for(int i = 0; i < 20; i++)
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    @DisplayName("단기 지연 시간이 장기 평균보다 크게 늘면 한도를 줄인다")
+    void decreasesWhenLatencyRises() {
+        Gradient2Limit limit = new Gradient2Limit(100, 1, 1000, 100);
+        for(int i = 0; i < 100; i++)
+            limit.onSample(10 * MILLIS, 100, false);
+        int before = limit.getLimit();
+
+        for(int i = 0; i < 10; i++)
+            limit.onSample(100 * MILLIS, limit.getLimit(), false);
+
+        assertTrue(limit.getLimit() < before);
+    }
+
+    @Test
+    @DisplayName("처리 중 요청이 한도의 절반에 못 미치면 한도를 유지한다")
+    void keepsLimitWhenAppLimited() {
+        Gradient2Limit limit = new Gradient2Limit(20, 1, 1000, 100);
+
+        limit.onSample(10 * MILLIS, 1, false);
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("과부하로 실패한 요청은 한도를 줄인다")
+    void dropBacksOff() {
+        Gradient2Limit limit = new Gradient2Limit(20, 1, 1000, 100);
+
+        limit.onSample(10 * MILLIS, 20, true);
+
+        assertEquals(18, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("잘못된 범위는 설정 오류로 처리한다")
+    void invalidRange() {
+        assertThrows(IllegalStateException.class, () -> new Gradient2Limit(0, 1, 10, 100));
+        assertThrows(IllegalStateException.class, () -> new Gradient2Limit(20, 1, 10, 100));
+        assertThrows(IllegalStateException.class, () -> new Gradient2Limit(5, 1, 10, 0));
+    }
+}
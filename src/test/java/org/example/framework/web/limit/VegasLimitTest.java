@@ -0,0 +1,58 @@
+package org.example.framework.web.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VegasLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("지연 시간이 최소값에 머물면 한도를 늘린다")
+    void increasesWithoutQueueing() {
+        VegasLimit limit = new VegasLimit(20, 1, 1000);
+        limit.onSample(10 * MILLIS, 20, false);
+
+        for(int i = 0; i < 10; i++)
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 늘어나 대기열이 쌓이면 한도를 줄인다")
+    void decreasesWhenQueueing() {
+        VegasLimit limit = new VegasLimit(100, 1, 1000);
+        limit.onSample(10 * MILLIS, 100, false);
+
+        for(int i = 0; i < 10; i++)
+            limit.onSample(40 * MILLIS, limit.getLimit(), false);
+
+        assertTrue(limit.getLimit() < 100);
+    }
+
+    @Test
+    @DisplayName("처리 중 요청이 한도의 절반에 못 미치면 한도를 유지한다")
+    void keepsLimitWhenAppLimited() {
+        VegasLimit limit = new VegasLimit(20, 1, 1000);
+        limit.onSample(10 * MILLIS, 1, false);
+
+        limit.onSample(10 * MILLIS, 1, false);
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("과부하로 실패한 요청은 한도를 줄이며 하한 아래로 내려가지 않는다")
+    void dropDecreasesToMinimum() {
+        VegasLimit limit = new VegasLimit(5, 2, 1000);
+        limit.onSample(10 * MILLIS, 5, false);
+
+        for(int i = 0; i < 10; i++)
+            limit.onSample(20 * MILLIS, 5, true);
+
+        assertEquals(2, limit.getLimit());
+    }
+}
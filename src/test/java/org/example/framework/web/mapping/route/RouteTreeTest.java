@@ -0,0 +1,135 @@
+package org.example.framework.web.mapping.route;
+
+import org.example.framework.was.protocol.model.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteTreeTest {
+
+    private RouteTree<String> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new RouteTree<>();
+    }
+
+    private void add(HttpMethod method, String pattern) {
+        tree.insert(method, RoutePattern.parse(pattern), method + " " + pattern);
+    }
+
+    private String find(HttpMethod method, String path) {
+        return tree.find(method, path, RoutePattern.pathEnd(path));
+    }
+
+    @Test
+    @DisplayName("공통 접두사를 공유하는 정적 경로를 각각 정확히 찾는다")
+    void should_find_static_routes_sharing_prefix() {
+        add(HttpMethod.GET, "/health");
+        add(HttpMethod.GET, "/health/sbd");
+        add(HttpMethod.GET, "/holiday");
+
+        assertEquals("GET /health", find(HttpMethod.GET, "/health"));
+        assertEquals("GET /health/sbd", find(HttpMethod.GET, "/health/sbd"));
+        assertEquals("GET /holiday", find(HttpMethod.GET, "/holiday"));
+        assertNull(find(HttpMethod.GET, "/hol"));
+        assertNull(find(HttpMethod.GET, "/health/"));
+    }
+
+    @Test
+    @DisplayName("HTTP 메서드별로 다른 실행 대상을 보관한다")
+    void should_keep_values_per_method() {
+        add(HttpMethod.GET, "/test");
+        add(HttpMethod.POST, "/test");
+
+        assertEquals("GET /test", find(HttpMethod.GET, "/test"));
+        assertEquals("POST /test", find(HttpMethod.POST, "/test"));
+        assertNull(find(HttpMethod.PUT, "/test"));
+    }
+
+    @Test
+    @DisplayName("경로 변수는 세그먼트 하나를 소비하며 정적 경로가 우선한다")
+    void should_prefer_static_over_variable() {
+        add(HttpMethod.GET, "/posts/{id}");
+        add(HttpMethod.GET, "/posts/new");
+        add(HttpMethod.GET, "/posts/{id}/comments");
+
+        assertEquals("GET /posts/new", find(HttpMethod.GET, "/posts/new"));
+        assertEquals("GET /posts/{id}", find(HttpMethod.GET, "/posts/42"));
+        assertEquals("GET /posts/{id}", find(HttpMethod.GET, "/posts/newer"));
+        assertEquals("GET /posts/{id}/comments", find(HttpMethod.GET, "/posts/42/comments"));
+        assertNull(find(HttpMethod.GET, "/posts/"));
+    }
+
+    @Test
+    @DisplayName("정적 분기에서 매칭에 실패하면 경로 변수 분기로 되돌아가 재시도한다")
+    void should_backtrack_to_variable_branch() {
+        add(HttpMethod.GET, "/posts/new/draft");
+        add(HttpMethod.GET, "/posts/{id}/comments");
+
+        assertEquals("GET /posts/{id}/comments", find(HttpMethod.GET, "/posts/new/comments"));
+    }
+
+    @Test
+    @DisplayName("** 세그먼트는 나머지 경로 전체와 매칭된다")
+    void should_match_catch_all() {
+        add(HttpMethod.GET, "/static/**");
+        add(HttpMethod.GET, "/static/index.html");
+
+        assertEquals("GET /static/index.html", find(HttpMethod.GET, "/static/index.html"));
+        assertEquals("GET /static/**", find(HttpMethod.GET, "/static/css/app.css"));
+        assertEquals("GET /static/**", find(HttpMethod.GET, "/static/"));
+    }
+
+    @Test
+    @DisplayName("쿼리 문자열은 라우팅에 영향을 주지 않는다")
+    void should_ignore_query_string() {
+        add(HttpMethod.GET, "/posts/{id}");
+
+        assertEquals("GET /posts/{id}", find(HttpMethod.GET, "/posts/7?sort=desc"));
+    }
+
+    @Test
+    @DisplayName("동일한 메서드와 경로 구조가 중복 등록되면 기존 값을 반환한다")
+    void should_report_duplicate_route() {
+        assertNull(tree.insert(HttpMethod.GET, RoutePattern.parse("/posts/{id}"), "first"));
+        assertEquals("first", tree.insert(HttpMethod.GET, RoutePattern.parse("/posts/{postId}"), "second"));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    @DisplayName("경로 변수 값은 매칭된 요청 경로에서 오프셋으로 추출된다")
+    void should_extract_variables_from_path() {
+        RoutePattern pattern = RoutePattern.parse("/users/{userId}/posts/{postId}");
+        String path = "/users/seungmin/posts/123?page=2";
+
+        int postId = pattern.indexOf("postId");
+        assertEquals("seungmin", pattern.getVariable(path, "userId"));
+        assertEquals("123", path.substring(pattern.variableStart(path, postId), pattern.variableEnd(path, postId)));
+        assertNull(pattern.getVariable(path, "unknown"));
+
+        RoutePattern catchAll = RoutePattern.parse("/static/**");
+        assertEquals("css/app.css", catchAll.getVariable("/static/css/app.css", RoutePattern.CATCH_ALL));
+    }
+
+    @Test
+    @DisplayName("세그먼트 일부만 차지하는 경로 변수나 중간의 ** 는 허용하지 않는다")
+    void should_reject_invalid_patterns() {
+        assertThrows(IllegalArgumentException.class, () -> RoutePattern.parse("/files/{name}.json"));
+        assertThrows(IllegalArgumentException.class, () -> RoutePattern.parse("/static/**/index.html"));
+        assertThrows(IllegalArgumentException.class, () -> RoutePattern.parse("/posts/{id}/{id}"));
+        assertThrows(IllegalArgumentException.class, () -> RoutePattern.parse("posts"));
+    }
+
+    @Test
+    @DisplayName("라우트 수가 많아도 모든 라우트를 정확히 찾는다")
+    void should_find_every_route_in_large_table() {
+        for(int i = 0; i < 2000; i++)
+            add(HttpMethod.GET, "/api/v1/resource" + i + "/{id}");
+
+        for(int i = 0; i < 2000; i++)
+            assertEquals("GET /api/v1/resource" + i + "/{id}", find(HttpMethod.GET, "/api/v1/resource" + i + "/x"));
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.framework.web.method;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.method.support.HttpRequestMethodArgumentResolver;
+import org.example.framework.web.method.support.HttpResponseMethodArgumentResolver;
+import org.example.framework.web.method.support.JsonReturnValueHandler;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvocableHandlerMethodTest {
+
+    static class TestController {
+
+        private int calls;
+
+        String noArgs() {
+            calls++;
+            return "no-args";
+        }
+
+        public void both(HttpResponse response, HttpRequest request) {
+            response.writeBody(request.getPath());
+        }
+
+        public Map<String, Object> map() {
+            return Map.of("key", 1);
+        }
+
+        public String fail() {
+            throw new HttpException(HttpStatus.NOT_FOUND, "missing");
+        }
+
+        public Integer unsupportedReturn() {
+            return 1;
+        }
+    }
+
+    private final List<HandlerMethodArgumentResolver> resolvers = List.of(
+            new HttpRequestMethodArgumentResolver(),
+            new HttpResponseMethodArgumentResolver()
+    );
+
+    private final List<HandlerMethodReturnValueHandler> handlers = List.of(
+            new StringReturnValueHandler(),
+            new JsonReturnValueHandler()
+    );
+
+    private TestController controller;
+    private HttpRequest request;
+    private HttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TestController();
+        request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/test");
+        response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    private InvocableHandlerMethod compile(String name, Class<?>... types) throws NoSuchMethodException {
+        HandlerMethod hm = new HandlerMethod(controller, TestController.class.getDeclaredMethod(name, types));
+        return new InvocableHandlerMethod(hm, resolvers, handlers);
+    }
+
+    @Test
+    @DisplayName("public이 아닌 메서드도 한 번 컴파일한 뒤 반복 호출할 수 있다")
+    void should_invoke_compiled_method_repeatedly() throws Exception {
+        InvocableHandlerMethod invocable = compile("noArgs");
+
+        assertEquals("no-args", invocable.invokeAndHandle(request, response));
+        assertEquals("no-args", invocable.invokeAndHandle(request, response));
+        assertEquals(2, controller.calls);
+        assertTrue(response.getBody().getAsString("UTF-8").contains("no-args"));
+    }
+
+    @Test
+    @DisplayName("파라미터 순서와 관계없이 타입에 맞는 인자를 전달한다")
+    void should_resolve_arguments_by_parameter() throws Exception {
+        InvocableHandlerMethod invocable = compile("both", HttpResponse.class, HttpRequest.class);
+
+        assertNull(invocable.invokeAndHandle(request, response));
+        assertEquals("/test", response.getBody().getAsString("UTF-8"));
+        assertEquals(2, invocable.getMethodParameters().length);
+    }
+
+    @Test
+    @DisplayName("Map 반환값은 JSON으로 응답 본문에 기록된다")
+    void should_write_map_return_value() throws Exception {
+        InvocableHandlerMethod invocable = compile("map");
+
+        invocable.invokeAndHandle(request, response);
+
+        assertEquals("{\"key\":1}", response.getBody().getAsString("UTF-8"));
+        assertEquals("application/json; charset=UTF-8", response.getHeader().getFirst("Content-Type"));
+    }
+
+    @Test
+    @DisplayName("컨트롤러에서 발생한 예외는 감싸지지 않고 그대로 전파된다")
+    void should_propagate_original_exception() throws Exception {
+        InvocableHandlerMethod invocable = compile("fail");
+
+        HttpException e = assertThrows(HttpException.class, () -> invocable.invokeForRequest(request, response));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 반환 타입은 컴파일 시점에 예외를 던진다")
+    void should_reject_unsupported_return_type_at_compile_time() {
+        assertThrows(IllegalStateException.class, () -> compile("unsupportedReturn"));
+    }
+}
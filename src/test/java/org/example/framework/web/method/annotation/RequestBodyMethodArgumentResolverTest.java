@@ -0,0 +1,134 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.RequestBody;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.InvocableHandlerMethod;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestBodyMethodArgumentResolverTest {
+
+    record Item(String name, int quantity) {}
+
+    record Order(long id, List<Item> items, Map<String, String> meta) {}
+
+    public static class Memo {
+        private String title;
+        private boolean pinned;
+
+        public void setTitle(String title) { this.title = title; }
+    }
+
+    static class BindingController {
+
+        public String order(@RequestBody Order order) {
+            return order.id() + ":" + order.items() + ":" + order.meta();
+        }
+
+        public String memo(@RequestBody(required = false) Memo memo) {
+            return memo == null ? "none" : memo.title + "/" + memo.pinned;
+        }
+
+        public String names(@RequestBody List<String> names) {
+            return String.join(",", names);
+        }
+
+        public String unsupported(@RequestBody Runnable task) {
+            return "";
+        }
+    }
+
+    private final List<HandlerMethodArgumentResolver> resolvers = List.of(new RequestBodyMethodArgumentResolver());
+
+    private InvocableHandlerMethod compile(String name) {
+        for(var method : BindingController.class.getMethods()) {
+            if(method.getName().equals(name)) {
+                HandlerMethod hm = new HandlerMethod(new BindingController(), method);
+                return new InvocableHandlerMethod(hm, resolvers, List.of(new StringReturnValueHandler()));
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private Object invoke(InvocableHandlerMethod handler, String contentType, String body) throws Exception {
+        HttpHeader header = new HttpHeader();
+        if(contentType != null)
+            header.put("Content-Type", contentType);
+        HttpBody httpBody = body == null ? HttpBody.empty() : new HttpBody(body.getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = new HttpRequest(header, httpBody, HttpProtocolVersion.HTTP_1_1, HttpMethod.POST, "/");
+        HttpResponse response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+        return handler.invokeForRequest(request, response);
+    }
+
+    @Test
+    @DisplayName("JSON 본문을 중첩 레코드, 제네릭 컬렉션, 맵으로 바인딩한다")
+    void should_bind_nested_record() throws Exception {
+        InvocableHandlerMethod handler = compile("order");
+
+        String body = """
+                {"id": 42, "unknown": {"deep": [1, {"x": null}]},
+                 "items": [{"name": "펜", "quantity": 2}, {"name": "note\\u0021"}],
+                 "meta": {"via": "app"}}
+                """;
+
+        assertEquals("42:[Item[name=펜, quantity=2], Item[name=note!, quantity=0]]:{via=app}",
+                invoke(handler, "application/json; charset=UTF-8", body));
+    }
+
+    @Test
+    @DisplayName("POJO는 setter 또는 필드로 바인딩되고, 선택적 본문이 없으면 null이 전달된다")
+    void should_bind_pojo_and_optional_body() throws Exception {
+        InvocableHandlerMethod handler = compile("memo");
+
+        assertEquals("hello/true", invoke(handler, "application/json", "{\"title\":\"hello\",\"pinned\":true}"));
+        assertEquals("none", invoke(handler, null, null));
+    }
+
+    @Test
+    @DisplayName("최상위 배열도 요소 타입에 맞춰 바인딩된다")
+    void should_bind_top_level_array() throws Exception {
+        assertEquals("a,b", invoke(compile("names"), "application/vnd.api+json", "[\"a\",\"b\"]"));
+    }
+
+    @Test
+    @DisplayName("본문 누락, JSON 형식 오류, 타입 불일치는 400으로 응답한다")
+    void should_reject_invalid_body() {
+        InvocableHandlerMethod handler = compile("order");
+
+        HttpException missing = assertThrows(HttpException.class, () -> invoke(handler, "application/json", null));
+        HttpException malformed = assertThrows(HttpException.class, () -> invoke(handler, "application/json", "{\"id\": 1,"));
+        HttpException mismatch = assertThrows(HttpException.class, () -> invoke(handler, "application/json", "{\"id\": \"x\"}"));
+        HttpException trailing = assertThrows(HttpException.class, () -> invoke(handler, "application/json", "{} {}"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, missing.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, malformed.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, mismatch.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, trailing.getStatus());
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 Content-Type은 415로 응답한다")
+    void should_reject_non_json_content_type() {
+        HttpException e = assertThrows(HttpException.class, () -> invoke(compile("order"), "text/plain", "{}"));
+
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, e.getStatus());
+    }
+
+    @Test
+    @DisplayName("바인딩할 수 없는 파라미터 타입은 등록 시점에 실패한다")
+    void should_fail_fast_for_unsupported_type() {
+        assertThrows(IllegalStateException.class, () -> compile("unsupported"));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.PathVariable;
+import org.example.framework.annotation.RequestParam;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.mapping.route.RoutePattern;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.InvocableHandlerMethod;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestParamMethodArgumentResolverTest {
+
+    static class BindingController {
+
+        public String page(@RequestParam("page") int page,
+                           @RequestParam(value = "size", defaultValue = "20") long size,
+                           @RequestParam(value = "desc", required = false) Boolean desc,
+                           @RequestParam("q") String q) {
+            return page + "/" + size + "/" + desc + "/" + q;
+        }
+
+        public String post(@PathVariable("userId") String userId, @PathVariable("postId") long postId) {
+            return userId + ":" + postId;
+        }
+
+        public String optionalPrimitive(@RequestParam(value = "n", required = false) int n) {
+            return "" + n;
+        }
+
+        public String missingVariable(@PathVariable("unknown") String unknown) {
+            return unknown;
+        }
+    }
+
+    private final List<HandlerMethodArgumentResolver> resolvers = List.of(
+            new PathVariableMethodArgumentResolver(),
+            new RequestParamMethodArgumentResolver()
+    );
+
+    private InvocableHandlerMethod compile(String name, String route) {
+        for(var method : BindingController.class.getMethods()) {
+            if(method.getName().equals(name)) {
+                HandlerMethod hm = new HandlerMethod(new BindingController(), method, RoutePattern.parse(route));
+                return new InvocableHandlerMethod(hm, resolvers, List.of(new StringReturnValueHandler()));
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private Object invoke(InvocableHandlerMethod handler, String target) throws Exception {
+        HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, target);
+        HttpResponse response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+        return handler.invokeForRequest(request, response);
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터를 primitive/래퍼/문자열 타입으로 변환하고 기본값을 적용한다")
+    void should_bind_query_parameters() throws Exception {
+        InvocableHandlerMethod handler = compile("page", "/posts");
+
+        assertEquals("3/20/true/a b", invoke(handler, "/posts?page=3&desc=on&q=a+b"));
+        assertEquals("-7/50/null/%", invoke(handler, "/posts?q=%25&size=50&page=-7"));
+        assertEquals("1/20/null/", invoke(handler, "/posts?page=1&size=&q="));
+    }
+
+    @Test
+    @DisplayName("필수 파라미터 누락이나 변환 실패는 400 응답으로 처리된다")
+    void should_reject_missing_or_invalid_parameters() {
+        InvocableHandlerMethod handler = compile("page", "/posts");
+
+        HttpException missing = assertThrows(HttpException.class, () -> invoke(handler, "/posts?q=x"));
+        assertEquals(HttpStatus.BAD_REQUEST, missing.getStatus());
+
+        HttpException invalid = assertThrows(HttpException.class, () -> invoke(handler, "/posts?page=abc&q=x"));
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatus());
+
+        HttpException overflow = assertThrows(HttpException.class, () -> invoke(handler, "/posts?page=2147483648&q=x"));
+        assertEquals(HttpStatus.BAD_REQUEST, overflow.getStatus());
+    }
+
+    @Test
+    @DisplayName("경로 변수는 라우트 패턴의 위치로 바인딩되고 퍼센트 디코딩된다")
+    void should_bind_path_variables() throws Exception {
+        InvocableHandlerMethod handler = compile("post", "/users/{userId}/posts/{postId}");
+
+        assertEquals("seung min:42", invoke(handler, "/users/seung%20min/posts/42?x=1"));
+        assertThrows(HttpException.class, () -> invoke(handler, "/users/a/posts/abc"));
+    }
+
+    @Test
+    @DisplayName("잘못된 바인딩 선언은 컴파일 시점에 예외를 던진다")
+    void should_reject_invalid_declarations() {
+        assertThrows(IllegalStateException.class, () -> compile("optionalPrimitive", "/n"));
+        assertThrows(IllegalStateException.class, () -> compile("missingVariable", "/users/{userId}"));
+    }
+}
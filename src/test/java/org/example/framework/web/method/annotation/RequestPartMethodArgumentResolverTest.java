@@ -0,0 +1,129 @@
+package org.example.framework.web.method.annotation;
+
+import org.example.framework.annotation.RequestPart;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.method.HandlerMethodArgumentResolver;
+import org.example.framework.web.method.InvocableHandlerMethod;
+import org.example.framework.web.method.support.MultipartStreamMethodArgumentResolver;
+import org.example.framework.web.method.support.StringReturnValueHandler;
+import org.example.framework.web.multipart.MultipartConfig;
+import org.example.framework.web.multipart.MultipartFile;
+import org.example.framework.web.multipart.MultipartResolver;
+import org.example.framework.web.multipart.MultipartStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPartMethodArgumentResolverTest {
+
+    private static final String BOUNDARY = "XyZ";
+
+    static class UploadController {
+
+        public String upload(@RequestPart String title, @RequestPart("file") MultipartFile file,
+                             @RequestPart List<MultipartFile> extra, @RequestPart(required = false) byte[] note) {
+            return title + "|" + file.getOriginalFilename() + ":" + file.getSize() + "|" + extra.size() + "|" + (note == null ? "-" : note.length);
+        }
+
+        public String stream(MultipartStream stream) throws Exception {
+            StringBuilder result = new StringBuilder();
+            MultipartStream.Part part;
+            while((part = stream.next()) != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                part.transferTo(Channels.newChannel(out));
+                result.append(part.getName()).append('=').append(out.size()).append(';');
+            }
+            return result.toString();
+        }
+
+        public String unsupported(@RequestPart Set<MultipartFile> files) {
+            return "";
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private InvocableHandlerMethod compile(String name) {
+        MultipartResolver resolver = new MultipartResolver(new MultipartConfig(tempDir, 1024, 4096, 64, 10));
+        List<HandlerMethodArgumentResolver> resolvers = List.of(
+                new RequestPartMethodArgumentResolver(resolver), new MultipartStreamMethodArgumentResolver(resolver));
+        for(var method : UploadController.class.getMethods()) {
+            if(method.getName().equals(name)) {
+                HandlerMethod hm = new HandlerMethod(new UploadController(), method);
+                return new InvocableHandlerMethod(hm, resolvers, List.of(new StringReturnValueHandler()));
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static Object invoke(InvocableHandlerMethod handler, String contentType, String body) throws Exception {
+        HttpHeader header = new HttpHeader();
+        header.put("Content-Type", contentType);
+        byte[] data = body.getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = new HttpRequest(header, new HttpBody(data), HttpProtocolVersion.HTTP_1_1, HttpMethod.POST, "/upload");
+        try {
+            return handler.invokeForRequest(request, new HttpResponse(HttpProtocolVersion.HTTP_1_1));
+        } finally {
+            MultipartResolver.cleanup(request);
+        }
+    }
+
+    private static String part(String disposition, String value) {
+        return "--" + BOUNDARY + "\r\nContent-Disposition: form-data; " + disposition + "\r\n\r\n" + value + "\r\n";
+    }
+
+    @Test
+    @DisplayName("필드, 파일, 파일 목록, 바이트 배열 파라미터에 파트를 바인딩하고 본문은 한 번만 파싱한다")
+    void bind() throws Exception {
+        String body = part("name=\"title\"", "hi")
+                + part("name=\"file\"; filename=\"a.txt\"", "abcd")
+                + part("name=\"extra\"; filename=\"1\"", "1")
+                + part("name=\"extra\"; filename=\"2\"", "2")
+                + "--" + BOUNDARY + "--\r\n";
+
+        assertEquals("hi|a.txt:4|2|-", invoke(compile("upload"), "multipart/form-data; boundary=" + BOUNDARY, body));
+    }
+
+    @Test
+    @DisplayName("MultipartStream 파라미터는 파트를 저장하지 않고 핸들러가 직접 읽는다")
+    void stream() throws Exception {
+        String body = part("name=\"a\"", "x".repeat(1000)) + part("name=\"b\"; filename=\"b\"", "yy") + "--" + BOUNDARY + "--";
+        assertEquals("a=1000;b=2;", invoke(compile("stream"), "multipart/form-data; boundary=" + BOUNDARY, body));
+    }
+
+    @Test
+    @DisplayName("필수 파트가 없으면 400, 멀티파트가 아니면 415, 파트가 너무 크면 413")
+    void errors() {
+        InvocableHandlerMethod upload = compile("upload");
+
+        String missing = part("name=\"title\"", "hi") + "--" + BOUNDARY + "--";
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(HttpException.class,
+                () -> invoke(upload, "multipart/form-data; boundary=" + BOUNDARY, missing)).getStatus());
+
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, assertThrows(HttpException.class,
+                () -> invoke(upload, "application/x-www-form-urlencoded", "title=hi")).getStatus());
+
+        String large = part("name=\"title\"", "t".repeat(1025)) + "--" + BOUNDARY + "--";
+        assertEquals(HttpStatus.CONTENT_TOO_LARGE, assertThrows(HttpException.class,
+                () -> invoke(upload, "multipart/form-data; boundary=" + BOUNDARY, large)).getStatus());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 파라미터 타입은 컴파일 시점에 실패한다")
+    void unsupportedType() {
+        assertThrows(IllegalStateException.class, () -> compile("unsupported"));
+    }
+}
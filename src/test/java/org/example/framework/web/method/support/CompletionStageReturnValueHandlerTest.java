@@ -0,0 +1,108 @@
+package org.example.framework.web.method.support;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.example.framework.web.method.MethodParameter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionStageReturnValueHandlerTest {
+
+    static class TestController {
+        public CompletableFuture<String> future() {
+            return null;
+        }
+
+        public String plain() {
+            return null;
+        }
+    }
+
+    private final CompletionStageReturnValueHandler handler = new CompletionStageReturnValueHandler();
+
+    private HttpRequest request;
+    private HttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/async");
+        response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    private static MethodParameter returnType(String name) throws NoSuchMethodException {
+        return MethodParameter.forReturnType(new HandlerMethod(new TestController(), TestController.class.getMethod(name)));
+    }
+
+    @Test
+    @DisplayName("CompletionStage 반환 타입만 지원한다")
+    void should_support_completion_stage() throws NoSuchMethodException {
+        assertTrue(handler.supportsReturnType(returnType("future")));
+        assertFalse(handler.supportsReturnType(returnType("plain")));
+    }
+
+    @Test
+    @DisplayName("반환 즉시 비동기 처리로 전환하고 결과가 도착하면 본문에 기록한다")
+    void should_write_result_on_completion() throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+
+        handler.handleReturnValue(future, returnType("future"), request, response);
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        assertNotNull(asyncContext);
+        assertFalse(asyncContext.isCompleted());
+
+        future.complete(Map.of("holiday", "2026-01-01"));
+
+        assertTrue(asyncContext.isCompleted());
+        assertEquals("{\"holiday\":\"2026-01-01\"}", response.getBody().getAsString("UTF-8"));
+    }
+
+    @Test
+    @DisplayName("HttpException으로 완료되면 해당 상태 코드로 응답한다")
+    void should_write_http_exception_status() throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        handler.handleReturnValue(future, returnType("future"), request, response);
+
+        future.completeExceptionally(new HttpException(HttpStatus.NOT_FOUND, "missing"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("그 외 예외로 완료되면 500으로 응답한다")
+    void should_write_internal_server_error() throws Exception {
+        handler.handleReturnValue(CompletableFuture.failedFuture(new IllegalStateException("boom")),
+                returnType("future"), request, response);
+
+        assertTrue(request.getAsyncContext().isCompleted());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 503으로 응답하고 Future를 취소한다")
+    void should_time_out_with_service_unavailable() throws Exception {
+        handler.setTimeout(50);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        handler.handleReturnValue(future, returnType("future"), request, response);
+
+        AsyncContext asyncContext = request.getAsyncContext();
+        CountDownLatch completed = new CountDownLatch(1);
+        asyncContext.addListener(completed::countDown);
+        asyncContext.startTimeout();
+
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        assertTrue(future.isCancelled());
+    }
+}
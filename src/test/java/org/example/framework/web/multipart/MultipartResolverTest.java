@@ -0,0 +1,110 @@
+package org.example.framework.web.multipart;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static HttpRequest request(byte[] body) {
+        HttpHeader header = new HttpHeader();
+        header.put("Content-Type", "multipart/form-data; boundary=\"----form7MA4YWxk\"");
+        InputStream in = new ByteArrayInputStream(body);
+        return new HttpRequest(header, new StreamingBody(in, body.length), HttpProtocolVersion.HTTP_1_1, HttpMethod.POST, "/upload");
+    }
+
+    @Test
+    @DisplayName("작은 필드는 메모리에, 파일과 큰 필드는 임시 파일에 보관하고 요청 종료 시 삭제한다")
+    void storeAndCleanup() throws Exception {
+        MultipartResolver resolver = new MultipartResolver(new MultipartConfig(tempDir, 100_000, 1_000_000, 16, 10));
+        byte[] body = MultipartStreamTest.body(
+                "name=\"title\"", "hello",
+                "name=\"memo\"", "m".repeat(17),
+                "name=\"file\"; filename=\"a.bin\"", "abc",
+                "name=\"file\"; filename=\"b.bin\"", "defg");
+        HttpRequest request = request(body);
+
+        MultipartRequest multipart = resolver.resolve(request);
+        assertSame(multipart, resolver.resolve(request));
+
+        assertTrue(multipart.getFile("title").isInMemory());
+        assertEquals("hello", multipart.getParameter("title"));
+        assertFalse(multipart.getFile("memo").isInMemory());
+        assertEquals("m".repeat(17), multipart.getParameter("memo"));
+
+        assertEquals(2, multipart.getFiles("file").size());
+        MultipartFile b = multipart.getFiles("file").get(1);
+        assertEquals("b.bin", b.getOriginalFilename());
+        assertEquals(4, b.getSize());
+        assertFalse(b.isInMemory());
+
+        Path kept = tempDir.resolve("kept.bin");
+        multipart.getFile("file").transferTo(kept);
+        assertEquals("abc", Files.readString(kept));
+        try(var files = Files.list(tempDir)) {
+            assertEquals(3, files.count());
+        }
+
+        MultipartResolver.cleanup(request);
+        try(var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("선언된 길이가 한도를 넘으면 본문을 읽지 않고 413")
+    void declaredLengthTooLarge() {
+        MultipartResolver resolver = new MultipartResolver(new MultipartConfig(tempDir, 10, 20, 0, 10));
+        HttpRequest request = request(MultipartStreamTest.body("name=\"a\"", "x"));
+
+        HttpException e = assertThrows(HttpException.class, () -> resolver.resolve(request));
+        assertEquals(HttpStatus.CONTENT_TOO_LARGE, e.getStatus());
+        assertEquals(request.getBody().getContentLengthLong(), ((StreamingBody) request.getBody()).remaining());
+    }
+
+    @Test
+    @DisplayName("실패하면 이미 만든 임시 파일도 요청 종료 시 삭제된다")
+    void cleanupAfterFailure() throws Exception {
+        MultipartResolver resolver = new MultipartResolver(new MultipartConfig(tempDir, 10, 1_000, 0, 10));
+        HttpRequest request = request(MultipartStreamTest.body(
+                "name=\"a\"; filename=\"a\"", "ok", "name=\"b\"; filename=\"b\"", "x".repeat(11)));
+
+        assertThrows(HttpException.class, () -> resolver.resolve(request));
+        MultipartResolver.cleanup(request);
+        try(var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("멀티파트가 아니면 415, 경계가 없으면 400, 스트림은 한 번만 열 수 있다")
+    void invalidRequests() {
+        MultipartResolver resolver = new MultipartResolver(new MultipartConfig(tempDir, 10, 1_000, 0, 10));
+
+        HttpHeader json = new HttpHeader();
+        json.put("Content-Type", "application/json");
+        HttpRequest notMultipart = new HttpRequest(json, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.POST, "/");
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                assertThrows(HttpException.class, () -> resolver.openStream(notMultipart)).getStatus());
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                assertThrows(HttpException.class, () -> MultipartResolver.boundary("multipart/form-data")).getStatus());
+
+        HttpRequest request = request(MultipartStreamTest.body("name=\"a\"", "x"));
+        resolver.openStream(request);
+        assertThrows(IllegalStateException.class, () -> resolver.openStream(request));
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.framework.web.multipart;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.model.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamTest {
+
+    private static final String BOUNDARY = "----form7MA4YWxk";
+
+    private static final MultipartConfig CONFIG = new MultipartConfig(Path.of("."), 1024 * 1024, 4 * 1024 * 1024, 1024, 10);
+
+    static byte[] body(Object... nameAndValue) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("preamble\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        for(int i = 0; i < nameAndValue.length; i += 2) {
+            String disposition = (String) nameAndValue[i];
+            Object value = nameAndValue[i + 1];
+            out.writeBytes(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; " + disposition + "\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(value instanceof byte[] bytes ? bytes : value.toString().getBytes(StandardCharsets.UTF_8));
+            out.writeBytes("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\nepilogue").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    /** 한 번에 최대 {@code chunk} 바이트만 돌려주는 스트림 */
+    static InputStream trickle(byte[] data, int chunk) {
+        return new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, chunk));
+            }
+        };
+    }
+
+    private static String read(MultipartStream.Part part) throws Exception {
+        return new String(part.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("프리앰블과 에필로그를 건너뛰고 필드와 파일 파트를 차례로 읽는다")
+    void parts() throws Exception {
+        byte[] data = body("name=\"title\"", "안녕", "name=\"file\"; filename=\"a.txt\"", "line1\r\nline2");
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(data), BOUNDARY, CONFIG);
+
+        MultipartStream.Part title = stream.next();
+        assertEquals("title", title.getName());
+        assertFalse(title.isFile());
+        assertEquals("안녕", read(title));
+
+        MultipartStream.Part file = stream.next();
+        assertEquals("a.txt", file.getFilename());
+        assertEquals("line1\r\nline2", read(file));
+
+        assertNull(stream.next());
+        assertNull(stream.next());
+    }
+
+    @Test
+    @DisplayName("경계가 여러 읽기에 걸쳐 나뉘어 도착해도, 경계와 비슷한 내용은 본문으로 취급한다")
+    void splitReads() throws Exception {
+        byte[] payload = new byte[50_000];
+        for(int i = 0; i < payload.length; i++)
+            payload[i] = (byte) (i % 251);
+        String tricky = "\r\n--" + BOUNDARY.substring(0, 8) + "x\r\n-";
+
+        byte[] data = body("name=\"a\"", tricky, "name=\"b\"; filename=\"b.bin\"", payload, "name=\"c\"", "");
+        for(int chunk : new int[]{1, 3, 7, 4096}) {
+            MultipartStream stream = new MultipartStream(trickle(data, chunk), BOUNDARY, CONFIG);
+            assertEquals(tricky, read(stream.next()));
+            assertArrayEquals(payload, stream.next().getInputStream().readAllBytes(), "chunk " + chunk);
+            assertEquals("", read(stream.next()));
+            assertNull(stream.next());
+        }
+    }
+
+    @Test
+    @DisplayName("읽지 않은 파트는 다음 파트로 넘어갈 때 버려진다")
+    void skipUnread() throws Exception {
+        byte[] data = body("name=\"a\"", "x".repeat(30_000), "name=\"b\"", "value");
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(data), BOUNDARY, CONFIG);
+
+        stream.next().getInputStream().read(new byte[10]);
+        assertEquals("value", read(stream.next()));
+    }
+
+    @Test
+    @DisplayName("파트를 핸들러가 준 채널로 바로 기록한다")
+    void transferToChannel() throws Exception {
+        byte[] payload = new byte[20_000];
+        Arrays.fill(payload, (byte) 7);
+        MultipartStream stream = new MultipartStream(
+                new ByteArrayInputStream(body("name=\"f\"; filename=\"f\"", payload)), BOUNDARY, CONFIG);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(payload.length, stream.next().transferTo(Channels.newChannel(out)));
+        assertArrayEquals(payload, out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("파트 크기, 파트 수, 전체 크기가 한도를 넘으면 413")
+    void limits() throws Exception {
+        MultipartConfig small = new MultipartConfig(Path.of("."), 100, 10_000, 10, 2);
+
+        MultipartStream large = new MultipartStream(
+                new ByteArrayInputStream(body("name=\"a\"", "x".repeat(101))), BOUNDARY, small);
+        MultipartStream.Part part = large.next();
+        assertEquals(HttpStatus.CONTENT_TOO_LARGE,
+                assertThrows(HttpException.class, () -> part.getInputStream().readAllBytes()).getStatus());
+
+        MultipartStream many = new MultipartStream(
+                new ByteArrayInputStream(body("name=\"a\"", "1", "name=\"b\"", "2", "name=\"c\"", "3")), BOUNDARY, small);
+        many.next();
+        many.next();
+        assertEquals(HttpStatus.CONTENT_TOO_LARGE, assertThrows(HttpException.class, many::next).getStatus());
+
+        MultipartConfig tight = new MultipartConfig(Path.of("."), 100, 200, 10, 10);
+        MultipartStream total = new MultipartStream(
+                new ByteArrayInputStream(body("name=\"a\"", "x".repeat(90), "name=\"b\"", "y".repeat(90))), BOUNDARY, tight);
+        assertThrows(HttpException.class, () -> {
+            while(total.next() != null) {
+                // 끝까지 읽는다
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("본문이 중간에 끝나거나 Content-Disposition이 없으면 400")
+    void malformed() throws Exception {
+        byte[] data = body("name=\"a\"", "value");
+        byte[] truncated = Arrays.copyOf(data, data.length - 20);
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(truncated), BOUNDARY, CONFIG);
+        MultipartStream.Part part = stream.next();
+        assertEquals(HttpStatus.BAD_REQUEST,
+                assertThrows(HttpException.class, () -> part.getInputStream().readAllBytes()).getStatus());
+
+        byte[] noDisposition = ("--" + BOUNDARY + "\r\nContent-Type: text/plain\r\n\r\nx\r\n--" + BOUNDARY + "--")
+                .getBytes(StandardCharsets.ISO_8859_1);
+        MultipartStream invalid = new MultipartStream(new ByteArrayInputStream(noDisposition), BOUNDARY, CONFIG);
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(HttpException.class, invalid::next).getStatus());
+
+        assertThrows(HttpException.class, () -> new MultipartStream(InputStream.nullInputStream(), "", CONFIG));
+    }
+
+    @Test
+    @DisplayName("Content-Disposition 파라미터의 따옴표, 이스케이프, filename*을 해석한다")
+    void dispositionParameters() throws Exception {
+        String disposition = "form-data; name=\"up\\\"load\"; filename=\"a;b.txt\"";
+        assertEquals("up\"load", MultipartStream.dispositionParameter(disposition, "name"));
+        assertEquals("a;b.txt", MultipartStream.dispositionParameter(disposition, "filename"));
+        assertNull(MultipartStream.dispositionParameter(disposition, "size"));
+
+        byte[] data = body("name=file; filename=\"fallback\"; filename*=UTF-8''%ED%95%9C+1.txt", "x");
+        MultipartStream stream = new MultipartStream(new ByteArrayInputStream(data), BOUNDARY, CONFIG);
+        assertEquals("한+1.txt", stream.next().getFilename());
+    }
+}
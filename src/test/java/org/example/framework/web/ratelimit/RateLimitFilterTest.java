@@ -0,0 +1,59 @@
+package org.example.framework.web.ratelimit;
+
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static HttpRequest request(String ip, int port) {
+        HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/test");
+        if(ip != null)
+            request.setRemoteAddress(new InetSocketAddress(ip, port));
+        return request;
+    }
+
+    private static HttpResponse response() {
+        return new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("같은 IP의 다른 연결도 한 버킷을 쓰며, 초과하면 429와 Retry-After로 응답한다")
+    void throttlesPerAddress() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new TokenBucketTable(0.5, 2, 60_000));
+        AtomicInteger calls = new AtomicInteger();
+
+        filter.doFilter(request("10.0.0.1", 1000), response(), (req, res) -> calls.incrementAndGet());
+        filter.doFilter(request("10.0.0.1", 1001), response(), (req, res) -> calls.incrementAndGet());
+
+        HttpResponse throttled = response();
+        filter.doFilter(request("10.0.0.1", 1002), throttled, (req, res) -> calls.incrementAndGet());
+
+        assertEquals(2, calls.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, throttled.getStatus());
+        assertEquals("2", throttled.getHeader().getFirst("Retry-After"));
+        assertEquals(1, filter.getThrottledCount());
+
+        filter.doFilter(request("10.0.0.2", 1000), response(), (req, res) -> calls.incrementAndGet());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("클라이언트 키가 없는 요청은 제한하지 않는다")
+    void passesWithoutKey() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new TokenBucketTable(1, 1, 60_000));
+        AtomicInteger calls = new AtomicInteger();
+
+        for(int i = 0; i < 3; i++)
+            filter.doFilter(request(null, 0), response(), (req, res) -> calls.incrementAndGet());
+
+        assertEquals(3, calls.get());
+        assertEquals(0, filter.getBuckets().size());
+    }
+}
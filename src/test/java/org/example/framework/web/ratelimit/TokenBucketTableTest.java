@@ -0,0 +1,71 @@
+package org.example.framework.web.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("burst만큼 연속으로 허용하고 그 다음 요청은 다음 토큰까지 남은 시간을 반환한다")
+    void allowsBurstThenThrottles() {
+        TokenBucketTable table = new TokenBucketTable(10, 3, 60_000);
+        long now = 1_000 * SECOND;
+
+        for(int i = 0; i < 3; i++)
+            assertEquals(0, table.tryAcquire("client", now));
+
+        assertEquals(SECOND / 10, table.tryAcquire("client", now));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 속도만큼 토큰이 다시 채워진다")
+    void refillsOverTime() {
+        TokenBucketTable table = new TokenBucketTable(10, 1, 60_000);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, table.tryAcquire("client", now));
+        assertTrue(table.tryAcquire("client", now + SECOND / 20) > 0);
+        assertEquals(0, table.tryAcquire("client", now + SECOND / 10));
+    }
+
+    @Test
+    @DisplayName("클라이언트 키마다 버킷이 따로 있다")
+    void separatesClients() {
+        TokenBucketTable table = new TokenBucketTable(1, 1, 60_000);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, table.tryAcquire("a", now));
+        assertTrue(table.tryAcquire("a", now) > 0);
+        assertEquals(0, table.tryAcquire("b", now));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 버킷은 정리된다")
+    void expiresIdleBuckets() {
+        TokenBucketTable table = new TokenBucketTable(100, 1, 1_000, 1);
+        long now = 1_000 * SECOND;
+        table.tryAcquire("a", now);
+        table.tryAcquire("b", now);
+
+        table.sweep(now + SECOND / 2);
+        table.sweep(now + SECOND / 2);
+        assertEquals(2, table.size());
+
+        table.sweep(now + 2 * SECOND);
+        table.sweep(now + 2 * SECOND);
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 설정 오류로 처리한다")
+    void invalidSettings() {
+        assertThrows(IllegalStateException.class, () -> new TokenBucketTable(0, 1, 1_000));
+        assertThrows(IllegalStateException.class, () -> new TokenBucketTable(1, 0, 1_000));
+        assertThrows(IllegalStateException.class, () -> new TokenBucketTable(1, 1, 0));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.framework.web.resource;
+
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceHandlerRegistrationTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("JAR 안의 classpath 위치에서도 정적 리소스를 제공한다")
+    void classpathLocationInJar() throws Exception {
+        Path jar = dir.resolve("app.jar");
+        try(JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("webjar/"));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("webjar/app.css"));
+            out.write("body{}".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try(URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            ResourceHttpRequestHandler handler = new ResourceHandlerRegistration("/assets/**")
+                    .addResourceLocations("classpath:webjar/")
+                    .toHandler();
+
+            HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/assets/app.css");
+            HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+            handler.handleRequest(request, response);
+
+            assertEquals("text/css; charset=UTF-8", response.getHeader().getFirst("Content-Type"));
+            assertEquals("body{}", body(response));
+            assertNull(handler.resolve("/assets/../app.jar"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    private static String body(HttpResponse response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.framework.web.resource;
+
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceHttpRequestHandlerTest {
+
+    private static final String SCRIPT = "function hello() { return 'hello, seungpring'; }\n".repeat(60);
+
+    @TempDir
+    Path root;
+
+    private ResourceHttpRequestHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(root.resolve("js"));
+        Files.writeString(root.resolve("js/app.js"), SCRIPT);
+        Files.writeString(root.resolve("js/app-3f2a9c1e.js"), SCRIPT);
+        Files.writeString(root.resolve("small.css"), "body{}");
+        Files.write(root.resolve("logo.png"), new byte[2048]);
+        Files.writeString(root.getParent().resolve("secret.txt"), "secret");
+
+        handler = new ResourceHttpRequestHandler("/static/**", List.of(root), 3600, true);
+    }
+
+    private static HttpRequest request(String path, String acceptEncoding) {
+        HttpHeader header = new HttpHeader();
+        if(acceptEncoding != null)
+            header.put("Accept-Encoding", acceptEncoding);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, path);
+    }
+
+    private HttpResponse handle(String path, String acceptEncoding) throws Exception {
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+        handler.handleRequest(request(path, acceptEncoding), response);
+        return response;
+    }
+
+    private static String gunzip(HttpResponse response) throws Exception {
+        byte[] data = new GZIPInputStream(new ByteArrayInputStream(response.getBody().getData())).readAllBytes();
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("gzip 형제 파일이 없으면 처음 요청 시 압축 변형을 만들고, 이후 요청은 같은 변형을 재사용한다")
+    void generatedVariant() throws Exception {
+        HttpResponse first = handle("/static/js/app.js", "gzip, deflate, br");
+
+        assertEquals("gzip", first.getHeader().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", first.getHeader().getFirst("Vary"));
+        assertEquals("application/javascript; charset=UTF-8", first.getHeader().getFirst("Content-Type"));
+        assertEquals("max-age=3600", first.getHeader().getFirst("Cache-Control"));
+        assertNotNull(first.getHeader().getFirst("Last-Modified"));
+        assertEquals(SCRIPT, gunzip(first));
+
+        HttpResponse second = handle("/static/js/app.js", "gzip");
+        assertArrayEquals(first.getBody().getData(), second.getBody().getData());
+    }
+
+    @Test
+    @DisplayName("원본이 바뀌면 압축 변형을 다시 만든다")
+    void regenerateWhenModified() throws Exception {
+        handle("/static/js/app.js", "gzip");
+
+        String changed = SCRIPT + "// v2\n";
+        Path file = root.resolve("js/app.js");
+        Files.writeString(file, changed);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        assertEquals(changed, gunzip(handle("/static/js/app.js", "gzip")));
+    }
+
+    @Test
+    @DisplayName("원본보다 새로운 .gz, .br 형제 파일을 q 값에 따라 그대로 보낸다")
+    void precompressedSiblings() throws Exception {
+        Path file = root.resolve("js/app.js");
+        Files.write(root.resolve("js/app.js.gz"), "GZ".getBytes());
+        Files.write(root.resolve("js/app.js.br"), "BR".getBytes());
+        FileTime newer = FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1_000);
+        Files.setLastModifiedTime(root.resolve("js/app.js.gz"), newer);
+        Files.setLastModifiedTime(root.resolve("js/app.js.br"), newer);
+
+        HttpResponse br = handle("/static/js/app.js", "gzip, br");
+        assertEquals("br", br.getHeader().getFirst("Content-Encoding"));
+        assertEquals("BR", br.getBody().getAsString("UTF-8"));
+
+        HttpResponse gzip = handle("/static/js/app.js", "gzip, br;q=0.5");
+        assertEquals("gzip", gzip.getHeader().getFirst("Content-Encoding"));
+        assertEquals("GZ", gzip.getBody().getAsString("UTF-8"));
+
+        // 원본이 더 새로우면 낡은 형제 파일은 쓰지 않는다.
+        Files.setLastModifiedTime(file, FileTime.fromMillis(newer.toMillis() + 1_000));
+        HttpResponse regenerated = handle("/static/js/app.js", "br;q=0.1, gzip");
+        assertEquals(SCRIPT, gunzip(regenerated));
+    }
+
+    @Test
+    @DisplayName("맞는 변형이 없으면 원본을 보내고, 압축할 수 없는 형식에는 Vary를 붙이지 않는다")
+    void identityFallback() throws Exception {
+        HttpResponse identity = handle("/static/js/app.js", null);
+        assertNull(identity.getHeader().getFirst("Content-Encoding"));
+        assertEquals("Accept-Encoding", identity.getHeader().getFirst("Vary"));
+        assertEquals(SCRIPT, identity.getBody().getAsString("UTF-8"));
+
+        HttpResponse small = handle("/static/small.css", "gzip");
+        assertNull(small.getHeader().getFirst("Content-Encoding"));
+        assertEquals("body{}", small.getBody().getAsString("UTF-8"));
+
+        HttpResponse image = handle("/static/logo.png", "gzip");
+        assertNull(image.getHeader().getFirst("Content-Encoding"));
+        assertNull(image.getHeader().getFirst("Vary"));
+        assertEquals("image/png", image.getHeader().getFirst("Content-Type"));
+    }
+
+    @Test
+    @DisplayName("파일에서 읽는 변형은 FileBody로 보내고, 변형마다 다른 강한 ETag를 붙인다")
+    void fileBodyAndETag() throws Exception {
+        HttpResponse identity = handle("/static/js/app.js", null);
+        assertInstanceOf(FileBody.class, identity.getBody());
+
+        String identityTag = identity.getHeader().getFirst("ETag");
+        String gzipTag = handle("/static/js/app.js", "gzip").getHeader().getFirst("ETag");
+        assertTrue(identityTag.startsWith("\"") && gzipTag.endsWith("-gzip\""), identityTag + " " + gzipTag);
+        assertNotEquals(identityTag, gzipTag);
+        assertEquals(identityTag, handle("/static/js/app.js", null).getHeader().getFirst("ETag"));
+    }
+
+    @Test
+    @DisplayName("파일 이름에 콘텐츠 해시가 있으면 1년 동안 immutable로 캐시한다")
+    void versionedAsset() throws Exception {
+        HttpResponse response = handle("/static/js/app-3f2a9c1e.js", "gzip");
+        assertEquals("public, max-age=31536000, immutable", response.getHeader().getFirst("Cache-Control"));
+
+        assertTrue(ResourceHttpRequestHandler.isVersioned("app.3f2a9c1e.css"));
+        assertFalse(ResourceHttpRequestHandler.isVersioned("app.css"));
+        assertFalse(ResourceHttpRequestHandler.isVersioned("jquery-3.7.1.js"));
+    }
+
+    @Test
+    @DisplayName("리소스 위치 밖을 가리키거나 없는 파일은 404로 응답한다")
+    void notFound() {
+        for(String path : List.of("/static/../secret.txt", "/static/%2e%2e/secret.txt", "/static/js/..%2F..%2Fsecret.txt",
+                "/static/missing.js", "/static/js", "/static/"))
+            assertEquals(HttpStatus.NOT_FOUND,
+                    assertThrows(HttpException.class, () -> handle(path, null), path).getStatus());
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.framework.web.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityRequestSchedulerTest {
+
+    private final List<PriorityClass> grants = new CopyOnWriteArrayList<>();
+
+    private void enqueue(PriorityRequestScheduler scheduler, PriorityClass priority, int count) throws InterruptedException {
+        int before = scheduler.getQueueLength(priority);
+        for(int i = 0; i < count; i++) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    if(scheduler.acquire(priority))
+                        grants.add(priority);
+                } catch (InterruptedException ignored) {
+                }
+            });
+        }
+        while(scheduler.getQueueLength(priority) < before + count)
+            Thread.onSpinWait();
+    }
+
+    private void releaseAndAwait(PriorityRequestScheduler scheduler) {
+        int before = grants.size();
+        scheduler.release();
+        while(grants.size() == before)
+            Thread.onSpinWait();
+    }
+
+    @Test
+    @DisplayName("자리가 남아 있으면 바로 실행한다")
+    void acquiresImmediately() throws InterruptedException {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(2, 1000);
+
+        assertTrue(scheduler.acquire(PriorityClass.LOW));
+        assertTrue(scheduler.acquire(PriorityClass.LOW));
+        assertEquals(0, scheduler.getAvailablePermits());
+
+        scheduler.release();
+        assertEquals(1, scheduler.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("먼저 기다린 낮은 등급보다 높은 등급에 자리를 먼저 넘긴다")
+    void higherClassFirst() throws InterruptedException {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(1, 5000);
+        scheduler.acquire(PriorityClass.NORMAL);
+
+        enqueue(scheduler, PriorityClass.LOW, 1);
+        enqueue(scheduler, PriorityClass.CRITICAL, 1);
+
+        releaseAndAwait(scheduler);
+        assertEquals(List.of(PriorityClass.CRITICAL), grants);
+
+        releaseAndAwait(scheduler);
+        assertEquals(List.of(PriorityClass.CRITICAL, PriorityClass.LOW), grants);
+    }
+
+    @Test
+    @DisplayName("높은 등급이 계속 기다려도 낮은 등급은 가중치 비율만큼 실행된다")
+    void lowerClassIsNotStarved() throws InterruptedException {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(1, 5000);
+        scheduler.acquire(PriorityClass.NORMAL);
+
+        enqueue(scheduler, PriorityClass.CRITICAL, 20);
+        enqueue(scheduler, PriorityClass.LOW, 2);
+
+        for(int i = 0; i < 9; i++)
+            releaseAndAwait(scheduler);
+
+        assertEquals(8, grants.stream().filter(p -> p == PriorityClass.CRITICAL).count());
+        assertEquals(1, grants.stream().filter(p -> p == PriorityClass.LOW).count());
+
+        for(int i = 0; i < 13; i++)
+            releaseAndAwait(scheduler);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 대기열에서 빠지고 거절된다")
+    void timesOut() throws InterruptedException {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(1, 50);
+        scheduler.acquire(PriorityClass.NORMAL);
+
+        assertFalse(scheduler.acquire(PriorityClass.HIGH));
+        assertEquals(1, scheduler.getTimeoutCount());
+        assertEquals(0, scheduler.getQueueLength(PriorityClass.HIGH));
+
+        scheduler.release();
+        assertEquals(1, scheduler.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 설정 오류로 처리한다")
+    void invalidSettings() {
+        assertThrows(IllegalStateException.class, () -> new PriorityRequestScheduler(0, 1000));
+        assertThrows(IllegalStateException.class, () -> new PriorityRequestScheduler(1, 0));
+    }
+}
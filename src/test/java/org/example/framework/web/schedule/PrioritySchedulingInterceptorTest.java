@@ -0,0 +1,114 @@
+package org.example.framework.web.schedule;
+
+import org.example.framework.annotation.RequestPriority;
+import org.example.framework.exception.http.HttpException;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.web.HandlerMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrioritySchedulingInterceptorTest {
+
+    static class PriorityTestController {
+
+        @RequestPriority(PriorityClass.CRITICAL)
+        public String probe() {
+            return "ok";
+        }
+
+        public String plain() {
+            return "ok";
+        }
+    }
+
+    @RequestPriority(PriorityClass.LOW)
+    static class BulkController {
+
+        public String export() {
+            return "ok";
+        }
+    }
+
+    private static HttpRequest request(String priority) {
+        HttpHeader header = new HttpHeader();
+        if(priority != null)
+            header.set("X-Request-Priority", priority);
+        return new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/test");
+    }
+
+    private static HttpRequest request(String priority, String remoteHost) {
+        HttpRequest request = request(priority);
+        request.setRemoteAddress(new InetSocketAddress(remoteHost, 50000));
+        return request;
+    }
+
+    private static HttpResponse response() {
+        return new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+    }
+
+    private static HandlerMethod handler(Object bean, String name) throws NoSuchMethodException {
+        return new HandlerMethod(bean, bean.getClass().getMethod(name));
+    }
+
+    @Test
+    @DisplayName("라우트 선언, 신뢰할 요청의 헤더, 기본 등급 순으로 등급을 정한다")
+    void resolvesPriority() throws Exception {
+        PrioritySchedulingInterceptor interceptor = new PrioritySchedulingInterceptor(
+                new PriorityRequestScheduler(1, 1000), "X-Request-Priority", PrioritySchedulingInterceptor.loopbackOnly());
+        PriorityTestController controller = new PriorityTestController();
+
+        assertEquals(PriorityClass.CRITICAL, interceptor.resolvePriority(request("low", "127.0.0.1"), handler(controller, "probe")));
+        assertEquals(PriorityClass.LOW, interceptor.resolvePriority(request(null, "127.0.0.1"), handler(new BulkController(), "export")));
+        assertEquals(PriorityClass.HIGH, interceptor.resolvePriority(request("High", "127.0.0.1"), handler(controller, "plain")));
+        assertEquals(PriorityClass.NORMAL, interceptor.resolvePriority(request("urgent", "127.0.0.1"), handler(controller, "plain")));
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 클라이언트가 보낸 등급 헤더는 무시한다")
+    void ignoresUntrustedHeader() throws Exception {
+        PriorityTestController controller = new PriorityTestController();
+        PrioritySchedulingInterceptor trusting = new PrioritySchedulingInterceptor(
+                new PriorityRequestScheduler(1, 1000), "X-Request-Priority", PrioritySchedulingInterceptor.loopbackOnly());
+
+        assertEquals(PriorityClass.NORMAL, trusting.resolvePriority(request("critical", "203.0.113.7"), handler(controller, "plain")));
+        assertEquals(PriorityClass.NORMAL, trusting.resolvePriority(request("critical"), handler(controller, "plain")));
+
+        PrioritySchedulingInterceptor routeOnly = new PrioritySchedulingInterceptor(new PriorityRequestScheduler(1, 1000));
+        assertEquals(PriorityClass.NORMAL, routeOnly.resolvePriority(request("critical", "127.0.0.1"), handler(controller, "plain")));
+        assertEquals(PriorityClass.CRITICAL, routeOnly.resolvePriority(request("low", "203.0.113.7"), handler(controller, "probe")));
+    }
+
+    @Test
+    @DisplayName("헤더 이름만 있고 신뢰 조건이 없으면 설정 오류이다")
+    void headerRequiresTrustedSource() {
+        assertThrows(IllegalStateException.class, () -> new PrioritySchedulingInterceptor(
+                new PriorityRequestScheduler(1, 1000), "X-Request-Priority", null));
+    }
+
+    @Test
+    @DisplayName("자리를 얻은 요청만 완료 시 자리를 반납한다")
+    void releasesOnlyAcquired() throws Exception {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(1, 50);
+        PrioritySchedulingInterceptor interceptor = new PrioritySchedulingInterceptor(scheduler);
+        Object handler = new Object();
+
+        HttpRequest first = request(null);
+        assertTrue(interceptor.preHandle(first, response(), handler));
+
+        HttpRequest second = request(null);
+        HttpException rejected = assertThrows(HttpException.class, () -> interceptor.preHandle(second, response(), handler));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+
+        interceptor.afterCompletion(second, response(), handler, rejected);
+        assertEquals(0, scheduler.getAvailablePermits());
+
+        interceptor.afterCompletion(first, response(), handler, null);
+        interceptor.afterCompletion(first, response(), handler, null);
+        assertEquals(1, scheduler.getAvailablePermits());
+    }
+}
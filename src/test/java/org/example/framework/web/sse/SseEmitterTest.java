@@ -0,0 +1,144 @@
+package org.example.framework.web.sse;
+
+import org.example.framework.was.container.AsyncContext;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseEmitterTest {
+
+    /** flush 횟수를 세는 출력 스트림 */
+    static class RecordingStream extends ByteArrayOutputStream {
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        String text() {
+            synchronized (this) {
+                return toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private AsyncContext asyncContext;
+
+    @BeforeEach
+    void setUp() {
+        HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/events");
+        HttpResponse response = new HttpResponse(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpStatus.OK);
+        asyncContext = request.startAsync(response);
+    }
+
+    private static void awaitText(RecordingStream out, String expected) throws InterruptedException {
+        for(int i = 0; i < 200 && !out.text().equals(expected); i++)
+            Thread.sleep(10);
+        assertEquals(expected, out.text());
+    }
+
+    @Test
+    @DisplayName("연결이 열리기 전에 보낸 이벤트는 열린 직후 전송된다")
+    void should_flush_early_events_on_open() throws IOException {
+        SseEmitter emitter = new SseEmitter(0);
+        emitter.initialize(asyncContext, 0);
+        emitter.send("early");
+
+        RecordingStream out = new RecordingStream();
+        asyncContext.openStream(out);
+
+        assertEquals("data:early\n\n", out.text());
+        assertTrue(asyncContext.isStreaming());
+    }
+
+    @Test
+    @DisplayName("이벤트마다 flush한다")
+    void should_flush_per_event() throws IOException {
+        SseEmitter emitter = new SseEmitter(0);
+        emitter.initialize(asyncContext, 0);
+        RecordingStream out = new RecordingStream();
+        asyncContext.openStream(out);
+        int opened = out.flushes.get();
+
+        emitter.send("a");
+        emitter.send(SseEvent.builder().name("tick").data("b").build());
+
+        assertEquals("data:a\n\nevent:tick\ndata:b\n\n", out.text());
+        assertEquals(opened + 2, out.flushes.get());
+    }
+
+    @Test
+    @DisplayName("complete는 비동기 컨텍스트를 완료하고 완료 콜백을 실행한다")
+    void should_complete_async_context() {
+        SseEmitter emitter = new SseEmitter(0);
+        AtomicInteger completions = new AtomicInteger();
+        emitter.onCompletion(completions::incrementAndGet);
+        emitter.initialize(asyncContext, 0);
+
+        emitter.complete();
+        emitter.complete();
+
+        assertTrue(asyncContext.isCompleted());
+        assertEquals(1, completions.get());
+        assertThrows(IllegalStateException.class, () -> emitter.send("late"));
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 오류로 완료된다")
+    void should_complete_with_error_on_write_failure() {
+        SseEmitter emitter = new SseEmitter(0);
+        AtomicInteger errors = new AtomicInteger();
+        emitter.onError(e -> errors.incrementAndGet());
+        emitter.initialize(asyncContext, 0);
+        asyncContext.openStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        assertThrows(IOException.class, () -> emitter.send("x"));
+        assertEquals(1, errors.get());
+        assertTrue(asyncContext.isCompleted());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트는 모든 구독자에게 같은 프레임을 순서대로 전송하고 완료된 구독자를 제거한다")
+    void should_broadcast_to_all_subscribers() throws Exception {
+        SseBroadcaster broadcaster = new SseBroadcaster();
+        RecordingStream[] outs = new RecordingStream[3];
+        SseEmitter[] emitters = new SseEmitter[3];
+
+        for(int i = 0; i < outs.length; i++) {
+            HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/events");
+            AsyncContext context = request.startAsync(new HttpResponse(HttpProtocolVersion.HTTP_1_1));
+            emitters[i] = broadcaster.add(new SseEmitter(0));
+            emitters[i].initialize(context, 0);
+            outs[i] = new RecordingStream();
+            context.openStream(outs[i]);
+        }
+
+        for(int n = 0; n < 50; n++)
+            broadcaster.broadcast(n);
+
+        StringBuilder expected = new StringBuilder();
+        for(int n = 0; n < 50; n++)
+            expected.append("data:").append(n).append("\n\n");
+        for(RecordingStream out : outs)
+            awaitText(out, expected.toString());
+
+        emitters[0].complete();
+        assertEquals(2, broadcaster.size());
+    }
+}
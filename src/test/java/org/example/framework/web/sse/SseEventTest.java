@@ -0,0 +1,36 @@
+package org.example.framework.web.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseEventTest {
+
+    private static String encode(SseEvent event) {
+        return new String(event.encode(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("필드를 text/event-stream 형식으로 인코딩하고 빈 줄로 끝낸다")
+    void should_encode_fields() {
+        SseEvent event = SseEvent.builder().id("7").name("metrics").retry(3000).data("hello").build();
+
+        assertEquals("id:7\nevent:metrics\nretry:3000\ndata:hello\n\n", encode(event));
+    }
+
+    @Test
+    @DisplayName("여러 줄 문자열은 줄마다 data 필드로 나눈다")
+    void should_split_multiline_data() {
+        assertEquals("data:a\ndata:한글\ndata:\ndata:c\n\n", encode(SseEvent.of("a\r\n한글\n\rc")));
+    }
+
+    @Test
+    @DisplayName("객체 데이터는 한 줄 JSON으로 기록한다")
+    void should_encode_object_as_json() {
+        assertEquals("data:{\"text\":\"a\\nb\"}\n\n", encode(SseEvent.of(Map.of("text", "a\nb"))));
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.framework.web.websocket;
+
+import org.example.framework.annotation.OnClose;
+import org.example.framework.annotation.OnMessage;
+import org.example.framework.annotation.OnOpen;
+import org.example.framework.annotation.WebSocketEndpoint;
+import org.example.framework.was.protocol.HttpProtocolVersion;
+import org.example.framework.was.protocol.model.*;
+import org.example.framework.was.protocol.websocket.WebSocketFrame;
+import org.example.framework.was.protocol.websocket.WebSocketFrameWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebSocketConnectionTest {
+
+    private static final byte[] MASK = {1, 2, 3, 4};
+
+    @WebSocketEndpoint(value = "/ws/echo", maxMessageSize = 16)
+    static class EchoEndpoint {
+        final List<String> events = new ArrayList<>();
+
+        @OnOpen
+        void open(WebSocketSession session) {
+            events.add("open");
+        }
+
+        @OnMessage
+        String echo(String message, WebSocketSession session) {
+            events.add("text:" + message);
+            return "echo:" + message;
+        }
+
+        @OnClose
+        void close(WebSocketSession session, int code, String reason) {
+            events.add("close:" + code + ":" + reason);
+        }
+    }
+
+    private static byte[] clientFrame(boolean fin, int opcode, byte[] payload) {
+        return WebSocketFrameWriter.encode(fin, opcode, payload, 0, payload.length, MASK);
+    }
+
+    private static byte[] text(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 서버가 보낸 (마스킹되지 않은, 짧은) 프레임을 {opcode, payload} 목록으로 읽는다. */
+    private static List<Object[]> serverFrames(byte[] bytes) {
+        List<Object[]> frames = new ArrayList<>();
+        int pos = 0;
+        while(pos < bytes.length) {
+            int opcode = bytes[pos] & 0x0F;
+            int length = bytes[pos + 1] & 0x7F;
+            byte[] payload = new byte[length];
+            System.arraycopy(bytes, pos + 2, payload, 0, length);
+            frames.add(new Object[]{opcode, payload});
+            pos += 2 + length;
+        }
+        return frames;
+    }
+
+    private static EchoEndpoint run(ByteArrayOutputStream out, byte[]... clientFrames) throws Exception {
+        EchoEndpoint bean = new EchoEndpoint();
+        AnnotatedEndpoint endpoint = AnnotatedEndpoint.of(bean, EchoEndpoint.class.getAnnotation(WebSocketEndpoint.class));
+        HttpRequest request = new HttpRequest(new HttpHeader(), HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/ws/echo");
+
+        ByteArrayOutputStream in = new ByteArrayOutputStream();
+        for(byte[] frame : clientFrames)
+            in.writeBytes(frame);
+
+        new WebSocketConnection(endpoint, request).init(new ByteArrayInputStream(in.toByteArray()), out);
+        return bean;
+    }
+
+    @Test
+    @DisplayName("분할된 메시지를 조립하여 전달하고, Ping에 Pong으로, Close에 Close로 응답한다")
+    void should_assemble_fragments_and_answer_control_frames() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        EchoEndpoint bean = run(out,
+                clientFrame(false, WebSocketFrame.TEXT, text("안녕")),
+                clientFrame(true, WebSocketFrame.PING, text("p")),
+                clientFrame(true, WebSocketFrame.CONTINUATION, text("!")),
+                clientFrame(true, WebSocketFrame.CLOSE, new byte[]{0x03, (byte) 0xE8, 'o', 'k'}));
+
+        assertEquals(List.of("open", "text:안녕!", "close:1000:ok"), bean.events);
+
+        List<Object[]> frames = serverFrames(out.toByteArray());
+        assertEquals(3, frames.size());
+        assertEquals(WebSocketFrame.PONG, frames.get(0)[0]);
+        assertEquals("p", new String((byte[]) frames.get(0)[1], StandardCharsets.UTF_8));
+        assertEquals(WebSocketFrame.TEXT, frames.get(1)[0]);
+        assertEquals("echo:안녕!", new String((byte[]) frames.get(1)[1], StandardCharsets.UTF_8));
+        assertEquals(WebSocketFrame.CLOSE, frames.get(2)[0]);
+        assertArrayEquals(new byte[]{0x03, (byte) 0xE8}, (byte[]) frames.get(2)[1]);
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 UTF-8 텍스트는 1007로 닫는다")
+    void should_close_on_invalid_utf8() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        EchoEndpoint bean = run(out, clientFrame(true, WebSocketFrame.TEXT, new byte[]{(byte) 0xC3, 0x28}));
+
+        assertTrue(bean.events.getLast().startsWith("close:1007"));
+        byte[] close = (byte[]) serverFrames(out.toByteArray()).getFirst()[1];
+        assertEquals(1007, (close[0] & 0xFF) << 8 | (close[1] & 0xFF));
+    }
+
+    @Test
+    @DisplayName("조립한 메시지가 최대 크기를 넘으면 1009로 닫는다")
+    void should_close_on_message_too_big() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        EchoEndpoint bean = run(out,
+                clientFrame(false, WebSocketFrame.TEXT, text("0123456789")),
+                clientFrame(true, WebSocketFrame.CONTINUATION, text("0123456789")));
+
+        assertTrue(bean.events.getLast().startsWith("close:1009"));
+    }
+
+    @Test
+    @DisplayName("Close 없이 연결이 끊기면 1006으로 @OnClose를 호출한다")
+    void should_report_abnormal_closure() throws Exception {
+        EchoEndpoint bean = run(new ByteArrayOutputStream(), clientFrame(true, WebSocketFrame.TEXT, text("hi")));
+
+        assertEquals(List.of("open", "text:hi", "close:1006:null"), bean.events);
+    }
+
+    @Test
+    @DisplayName("업그레이드 필터는 101과 Sec-WebSocket-Accept를 설정하고 연결 전환을 요청한다")
+    void should_upgrade_handshake_request() throws Exception {
+        WebSocketEndpointRegistry registry = new WebSocketEndpointRegistry();
+        registry.register(new EchoEndpoint());
+
+        HttpHeader header = new HttpHeader();
+        header.put("Upgrade", "websocket");
+        header.put("Connection", "keep-alive, Upgrade");
+        header.put("Sec-WebSocket-Version", "13");
+        header.put("Sec-WebSocket-Key", "dGhlIHNhbXBsZSBub25jZQ==");
+        HttpRequest request = new HttpRequest(header, HttpBody.empty(), HttpProtocolVersion.HTTP_1_1, HttpMethod.GET, "/ws/echo");
+        HttpResponse response = new HttpResponse(HttpProtocolVersion.HTTP_1_1);
+
+        new WebSocketUpgradeFilter(registry).doFilter(request, response, (req, res) -> fail("must not reach the servlet"));
+
+        assertEquals(HttpStatus.SWITCHING_PROTOCOLS, response.getStatus());
+        assertEquals("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=", response.getHeader().getFirst("Sec-WebSocket-Accept"));
+        assertNotNull(request.getUpgradeHandler());
+    }
+}